@@ -0,0 +1,102 @@
+package WizardTD;
+
+import java.util.Random;
+
+import WizardTD.Game.Game;
+import WizardTD.Game.Board.Tile;
+import WizardTD.Game.Entities.Monsters.Gremlin;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Towers.TowerManager;
+import processing.data.JSONObject;
+
+/**
+ * Builds games in a steady state for the benchmarks.
+ * <p>
+ * Monsters have plenty of health and towers do no damage, and the player
+ * has more mana than monsters can ever take, so a game neither empties
+ * nor ends while it is being measured.
+ */
+final class BenchmarkGames {
+    /**
+     * The most ticks that a monster is moved along its path before measuring,
+     * so that monsters are spread out instead of stacked on their starting tile.
+     */
+    private static final int MAX_HEAD_START = 600;
+
+    private BenchmarkGames() {}
+
+    /**
+     * Creates a config for the given layout that never spawns a wave.
+     * @param layout The map file's name.
+     * @return The config.
+     */
+    static JSONObject config(String layout) {
+        return JSONObject.parse("{"
+            + "\"layout\": \"" + layout + "\","
+            + "\"waves\": [{ \"duration\": 1, \"pre_wave_pause\": 1000000, \"monsters\": ["
+            + "  { \"type\": \"gremlin\", \"hp\": 1, \"speed\": 1, \"armour\": 0,"
+            + "    \"mana_gained_on_kill\": 0, \"quantity\": 1 }] }],"
+            + "\"initial_tower_range\": 96,"
+            + "\"initial_tower_firing_speed\": 1.5,"
+            + "\"initial_tower_damage\": 0,"
+            + "\"initial_mana\": 1000000000000,"
+            + "\"initial_mana_cap\": 1000000000000,"
+            + "\"initial_mana_gained_per_second\": 0,"
+            + "\"tower_cost\": 100,"
+            + "\"mana_pool_spell_initial_cost\": 100,"
+            + "\"mana_pool_spell_cost_increase_per_use\": 150,"
+            + "\"mana_pool_spell_cap_multiplier\": 1.5,"
+            + "\"mana_pool_spell_mana_gained_multiplier\": 1.1"
+            + "}");
+    }
+
+    /**
+     * Creates a game on the given layout with monsters spread along
+     * their paths and towers spread over the placeable tiles.
+     * @param layout The map file's name.
+     * @param monsterCount The number of monsters on the board.
+     * @param towerCount The number of towers on the board.
+     * @return The game.
+     */
+    static Game game(String layout, int monsterCount, int towerCount) {
+        Game game = new Game(config(layout), 0);
+        Random random = new Random(0);
+
+        for (int i = 0; i < monsterCount; i++) {
+            Monster monster = new Gremlin(game.getContext(), 1000, 1, 0, 0);
+            int headStart = random.nextInt(MAX_HEAD_START);
+            for (int t = 0; t < headStart; t++) {
+                monster.tick();
+            }
+            game.getMonsterStore().add(monster);
+        }
+
+        int placeable = 0;
+        for (Tile t : game.getBoard().getLevelTiles().values()) {
+            if (t.isPlaceable()) {
+                ++placeable;
+            }
+        }
+
+        // Spread the towers evenly over the placeable tiles
+        TowerManager towerManager = game.getTowerManager();
+        int step = Math.max(1, placeable / Math.max(1, towerCount));
+        int seen = 0;
+        for (Tile t : game.getBoard().getLevelTiles().values()) {
+            if (towerManager.getTowers().size() >= towerCount) {
+                break;
+            }
+            if (!t.isPlaceable() || seen++ % step != 0) {
+                continue;
+            }
+
+            towerManager.initialiseUnbuiltTower();
+            towerManager.showUnbuiltTowerAtPos(t.getCenterPos().x, t.getCenterPos().y);
+            towerManager.buildTower();
+        }
+
+        // Settle the monster store and spatial grid before measuring
+        game.tickMonsters();
+        return game;
+    }
+}
@@ -0,0 +1,109 @@
+package WizardTD;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import WizardTD.Game.GameAssets;
+import WizardTD.Game.SpriteCache;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Board.FlowField;
+import processing.core.PImage;
+
+/**
+ * Measures pathfinding, tile lookups and path sprite connection for each layout.
+ * <p>
+ * The board's sprites are loaded with an {@code App} that is never run as a sketch,
+ * so that {@code connectPaths} works on real sprites.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BoardBenchmark {
+    @Param({ "level1.txt", "level2.txt", "level3.txt", "level4.txt", "level5.txt" })
+    public String layout;
+
+    /**
+     * The number of positions looked up per {@code getTileAtPos} invocation,
+     * roughly a second of mouse movement.
+     */
+    private static final int LOOKUPS = 60;
+
+    private App app;
+    private GameAssets assets;
+    private Board board;
+    private FlowField flowField;
+    private float[] lookupX;
+    private float[] lookupY;
+
+    @Setup
+    public void setup() {
+        this.app = new App();
+        this.assets = GameAssets.load(this.app);
+        this.board = new Board(this.layout, this.assets);
+        this.flowField = new FlowField(this.board);
+
+        Random random = new Random(0);
+        this.lookupX = new float[LOOKUPS];
+        this.lookupY = new float[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.lookupX[i] = random.nextFloat() * App.LEVEL_WIDTH;
+            this.lookupY[i] = App.TOPBAR + random.nextFloat() * App.LEVEL_HEIGHT;
+        }
+    }
+
+    /**
+     * Replaces the old per-entry {@code Monster.PathFinding.getShortestPaths}.
+     */
+    @Benchmark
+    public FlowField recomputeFlowField() {
+        this.flowField.recompute();
+        return this.flowField;
+    }
+
+    @Benchmark
+    public void getTileAtPos(Blackhole blackhole) {
+        for (int i = 0; i < LOOKUPS; i++) {
+            blackhole.consume(this.board.getTileAtPos(this.lookupX[i], this.lookupY[i]));
+        }
+    }
+
+    @Benchmark
+    public Board connectPaths() {
+        this.board.connectPaths();
+        return this.board;
+    }
+
+    /**
+     * Rotates every path sprite into a new cache, which is what loading the assets costs.
+     */
+    @Benchmark
+    public SpriteCache rotatePathSprites() {
+        SpriteCache cache = new SpriteCache();
+        PImage[] sprites = {
+            this.assets.getPathStraightSprite(), this.assets.getPathBendSprite(),
+            this.assets.getPathTSprite(), this.assets.getPathCrossSprite()
+        };
+        for (PImage sprite : sprites) {
+            for (int degrees = 90; degrees < 360; degrees += 90) {
+                cache.getRotated(sprite, degrees);
+            }
+        }
+        return cache;
+    }
+}
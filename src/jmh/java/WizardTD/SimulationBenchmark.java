@@ -0,0 +1,72 @@
+package WizardTD;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import WizardTD.Game.Game;
+
+/**
+ * Measures a single tick of the game, and its monster and tower steps on their own,
+ * with fireballs that home in on their targets and with fireballs whose impacts are scheduled.
+ * <p>
+ * A new game is built for every iteration so that each one
+ * starts from the same state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SimulationBenchmark {
+    @Param({ "level1.txt", "level2.txt", "level3.txt", "level4.txt", "level5.txt" })
+    public String layout;
+    @Param({ "50", "500", "2000" })
+    public int monsterCount;
+    @Param({ "0", "10", "50" })
+    public int towerCount;
+    @Param({ "homing", "analytic" })
+    public String projectileMode;
+
+    private Game game;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        this.game = BenchmarkGames.game(this.layout, this.monsterCount, this.towerCount);
+        this.game.getTowerManager().setImpactsScheduled("analytic".equals(this.projectileMode));
+    }
+
+    @Benchmark
+    public Game gameTick() {
+        this.game.tick();
+        return this.game;
+    }
+
+    @Benchmark
+    public Game tickMonsters() {
+        this.game.tickMonsters();
+        return this.game;
+    }
+
+    /**
+     * Ticks the towers, then advances the timing wheel so that they reload and their scheduled impacts land.
+     */
+    @Benchmark
+    public Game tickTowers() {
+        this.game.tickTowers();
+        this.game.getContext().getScheduler().advance();
+        return this.game;
+    }
+}
@@ -0,0 +1,67 @@
+package WizardTD;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import WizardTD.Game.Game;
+import WizardTD.Game.GameSnapshot;
+
+/**
+ * Measures capturing a snapshot of a game, restoring a game from one and forking a game.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SnapshotBenchmark {
+    @Param({ "level1.txt" })
+    public String layout;
+    @Param({ "50", "500" })
+    public int monsterCount;
+    @Param({ "5", "20" })
+    public int towerCount;
+
+    private Game game;
+    private Game target;
+    private GameSnapshot snapshot;
+
+    @Setup
+    public void setup() {
+        this.game = BenchmarkGames.game(this.layout, this.monsterCount, this.towerCount);
+        for (int i = 0; i < 60; i++) {
+            this.game.tick();
+        }
+
+        this.snapshot = this.game.snapshot();
+        this.target = new Game(BenchmarkGames.config(this.layout), 1);
+    }
+
+    @Benchmark
+    public GameSnapshot capture() {
+        return this.game.snapshot();
+    }
+
+    @Benchmark
+    public Game restore() {
+        this.target.restore(this.snapshot);
+        return this.target;
+    }
+
+    @Benchmark
+    public Game fork() {
+        return this.game.fork();
+    }
+}
@@ -0,0 +1,104 @@
+package WizardTD;
+
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import WizardTD.Game.GameContext;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.SpatialGrid;
+
+/**
+ * Compares checking every monster against using a {@code SpatialGrid}
+ * when every tower on the board looks for a target.
+ * <p>
+ * Each benchmark is one tick's worth of targeting. The grid benchmark
+ * includes the cost of rebuilding the grid, since the game does that every tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TargetingBenchmark {
+    /**
+     * The number of towers looking for a target.
+     */
+    @Param({ "50" })
+    public int towerCount;
+    /**
+     * The number of monsters on the board.
+     */
+    @Param({ "2000" })
+    public int monsterCount;
+
+    /**
+     * The range of every tower, the default range after two upgrades.
+     */
+    private static final float RANGE = 96 + App.CELLSIZE * 2;
+
+    private final LinkedList<Monster> monsters = new LinkedList<>();
+    private final SpatialGrid grid = new SpatialGrid();
+    private float[] towerX;
+    private float[] towerY;
+
+    @Setup
+    public void setup() {
+        GameContext context = new GameContext(new Board("level1.txt"), 0);
+        Random random = new Random(0);
+
+        this.monsters.clear();
+        for (int i = 0; i < this.monsterCount; i++) {
+            Monster monster = new Monster(context, Integer.MAX_VALUE, 1, 0, 0);
+            monster.setCenterPos(random.nextFloat() * App.BOARD_WIDTH * App.CELLSIZE,
+                                 App.TOPBAR + random.nextFloat() * App.BOARD_WIDTH * App.CELLSIZE);
+            this.monsters.add(monster);
+        }
+
+        this.towerX = new float[this.towerCount];
+        this.towerY = new float[this.towerCount];
+        for (int i = 0; i < this.towerCount; i++) {
+            this.towerX[i] = (random.nextInt(App.BOARD_WIDTH) + 0.5f) * App.CELLSIZE;
+            this.towerY[i] = App.TOPBAR + (random.nextInt(App.BOARD_WIDTH) + 0.5f) * App.CELLSIZE;
+        }
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        for (int t = 0; t < this.towerCount; t++) {
+            Monster target = null;
+            for (Monster monster : this.monsters) {
+                float distance = (float)Math.hypot(monster.getCenterPos().x - this.towerX[t],
+                                                   monster.getCenterPos().y - this.towerY[t]);
+                if (distance <= RANGE && monster.isAlive()) {
+                    target = monster;
+                    break;
+                }
+            }
+            blackhole.consume(target);
+        }
+    }
+
+    @Benchmark
+    public void spatialGrid(Blackhole blackhole) {
+        this.grid.rebuild(this.monsters);
+        for (int t = 0; t < this.towerCount; t++) {
+            blackhole.consume(this.grid.getFirstInRange(this.towerX[t], this.towerY[t], RANGE));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package WizardTD;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import WizardTD.Game.GameContext;
+import WizardTD.Game.Wave;
+import WizardTD.Game.Board.Board;
+import processing.data.JSONObject;
+
+/**
+ * Measures loading a wave, which only reads its spawn specs, and creating every monster in it,
+ * which now happens as each monster is spawned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WaveBenchmark {
+    @Param({ "level1.txt", "level5.txt" })
+    public String layout;
+    @Param({ "50", "500", "2000" })
+    public int monsterCount;
+
+    private JSONObject waveConfig;
+    private GameContext context;
+
+    @Setup
+    public void setup() {
+        this.context = new GameContext(new Board(this.layout), 0);
+
+        // Split evenly between every type of monster
+        int quantity = Math.max(1, this.monsterCount / 4);
+        StringBuilder monsters = new StringBuilder();
+        for (String type : new String[] { "gremlin", "worm", "beetle", "moag" }) {
+            if (monsters.length() > 0) {
+                monsters.append(',');
+            }
+            monsters.append("{ \"type\": \"").append(type).append("\", \"hp\": 100, \"speed\": 1,")
+                    .append(" \"armour\": 0.5, \"mana_gained_on_kill\": 10, \"quantity\": ").append(quantity)
+                    .append(", \"monsters_in_moag\": 5 }");
+        }
+
+        this.waveConfig = JSONObject.parse("{ \"duration\": 10, \"pre_wave_pause\": 1, \"monsters\": ["
+                                           + monsters + "] }");
+    }
+
+    @Benchmark
+    public Wave constructWave() {
+        return new Wave(this.waveConfig);
+    }
+
+    @Benchmark
+    public void spawnWave(Blackhole bh) {
+        Wave wave = new Wave(this.waveConfig);
+        while (wave.hasMonstersLeft()) {
+            bh.consume(wave.spawnNext(this.context));
+        }
+    }
+}
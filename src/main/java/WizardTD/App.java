@@ -2,16 +2,23 @@ package WizardTD;
 
 import processing.core.PApplet;
 import processing.core.PGraphics;
-import processing.core.PImage;
 import processing.data.JSONObject;
 import processing.event.MouseEvent;
 
-import java.awt.Graphics2D;
-import java.awt.geom.AffineTransform;
-import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
 
 import WizardTD.Game.Game;
+import WizardTD.Game.GameAssets;
+import WizardTD.Game.GameSnapshot;
+import WizardTD.Game.InputLog;
+import WizardTD.Game.SimulationEngine;
+import WizardTD.Game.TickProfiler;
+import WizardTD.Game.Board.WizHouse;
 import WizardTD.Game.Player.InputManager.Keybindings;
+import WizardTD.Game.UI.UIRegion;
 
 /**
  * App is the main class from which all other code should execute.
@@ -75,6 +82,10 @@ public class App extends PApplet {
      * The default colour that all outlines use.
      */
     public static final float DEFAULT_STROKE_COLOUR = 0;
+    /**
+     * The number of ticks between each autosave.
+     */
+    public static final int AUTOSAVE_INTERVAL_TICKS = FPS * 10;
     /**
      * Holds the path to the json config file.
      */
@@ -101,25 +112,75 @@ public class App extends PApplet {
      */
     private Game game;
     /**
-     * The PGraphics layer that the background is drawn to
+     * The sprites that every game is drawn with.
+     * They are loaded once, in setup, and shared by each new game.
      */
-    private PGraphics backgroundLayer; 
+    private GameAssets assets;
     /**
-     * The PGraphics layer that the board is drawn to
+     * Runs the current game's logic.
+     * <p>
+     * The application window only observes the engine by drawing the game.
      */
-    private PGraphics mapLayer;
+    private SimulationEngine engine;
     /**
-     * The PGraphics layer that all entities are drawn to
+     * The time, in milliseconds, at which the previous frame was drawn.
      */
-    private PGraphics entityLayer; 
+    private int lastFrameMillis;
     /**
-     * The PGraphics layer that the wizard's house is drawn to
+     * The PGraphics layer that the background and board are drawn to.
+     * <p>
+     * Neither changes during a game, so they are only drawn once, when the game starts.
+     */
+    private PGraphics staticLayer;
+    /**
+     * The PGraphics layer that the wizard's house is drawn to.
+     * <p>
+     * The house is drawn once, when the game starts.
      */
     private PGraphics houseLayer;
     /**
-     * The PGraphics layer that all ui elements are drawn to
+     * The PGraphics layer that the top and side bars are drawn to.
+     * <p>
+     * Only the regions of the bars that have changed are redrawn.
      */
     private PGraphics uiLayer;
+    /**
+     * Whether an overlay was drawn over the top or side bar on the previous frame,
+     * in which case the bars have to be copied to the screen in full to erase it.
+     */
+    private boolean panelsOverlapped = false;
+    /**
+     * The path that each run's profiler stats are exported to as CSV,
+     * or null if they are not exported.
+     * <p>
+     * This is read from the optional "profile_csv" key of the config.
+     */
+    private String profileCsvPath;
+    /**
+     * The path that each run's input is saved to as an input log,
+     * or null if input is not recorded.
+     * <p>
+     * This is read from the optional "input_log" key of the config.
+     * @see InputLog
+     */
+    private String inputLogPath;
+    /**
+     * Records the current game's input, or null if input is not recorded.
+     */
+    private InputLog.Recorder inputRecorder;
+    /**
+     * The path that the current game is autosaved to as a snapshot,
+     * or null if it is not autosaved.
+     * <p>
+     * This is read from the optional "autosave" key of the config.
+     * If the file exists when the application starts, the game is restored from it.
+     * @see GameSnapshot
+     */
+    private String autosavePath;
+    /**
+     * The tick that the current game was last autosaved on.
+     */
+    private long lastAutosaveTick = 0;
 
     /**
      * This function is run once, when the program starts.
@@ -130,21 +191,23 @@ public class App extends PApplet {
 	@Override
     public void setup() {
         frameRate(FPS); 
-        backgroundLayer = createGraphics(WIDTH, HEIGHT);
-        mapLayer = createGraphics(LEVEL_WIDTH, LEVEL_HEIGHT + TOPBAR);
-        entityLayer = createGraphics(LEVEL_WIDTH, LEVEL_HEIGHT + TOPBAR);
+        staticLayer = createGraphics(WIDTH, HEIGHT);
         houseLayer = createGraphics(LEVEL_WIDTH, LEVEL_HEIGHT + TOPBAR);
         uiLayer = createGraphics(WIDTH, HEIGHT);
 
         JSONObject config = this.loadJSONObject(this.configPath);
-        Game.loadGameSprites(this);
-        game = new Game(config);
-
-        // Only have to draw the map tiles once
-        mapLayer.beginDraw();
-        game.drawMap(this, mapLayer);
-        mapLayer.endDraw();
-        
+        profileCsvPath = config.getString("profile_csv", null);
+        inputLogPath = config.getString("input_log", null);
+        autosavePath = config.getString("autosave", null);
+        assets = GameAssets.load(this);
+        game = new Game(config, assets, System.nanoTime());
+        engine = new SimulationEngine(game);
+        // A restored game did not start from its seed, so its input could not be replayed
+        if (!restoreAutosave(config)) {
+            startRecording(config);
+        }
+        lastFrameMillis = millis();
+        drawStaticLayers();
     }
 
     /**
@@ -156,8 +219,14 @@ public class App extends PApplet {
     public void keyPressed() {
         game.pressKey(this.key);
         if (this.game.isGameOver() && Keybindings.RESTART_KEY.key() == this.key) {
+            exportProfile();
+            saveInputLog();
             JSONObject config = this.loadJSONObject(this.configPath);
-            this.game = new Game(config);
+            this.game = new Game(config, this.assets, System.nanoTime());
+            this.engine = new SimulationEngine(this.game);
+            this.lastAutosaveTick = 0;
+            startRecording(config);
+            drawStaticLayers();
         }
     }
 
@@ -183,111 +252,225 @@ public class App extends PApplet {
     /**
      * Executes all logic in game.
      * This should be called in the draw() method, ensuring that it is run on every frame.
+     * <p>
+     * The game is ticked at a fixed rate, so this may execute zero or many
+     * ticks depending on the time since the previous frame and the game's speed.
      */
     public void tick() {   
-        game.tick();
+        int now = millis();
+        engine.advance((now - lastFrameMillis) / 1000f);
+        lastFrameMillis = now;
+
+        if (engine.getTickCount() - lastAutosaveTick >= AUTOSAVE_INTERVAL_TICKS) {
+            lastAutosaveTick = engine.getTickCount();
+            autosave();
+        }
     }
 
     /**
      * Draw all elements in the game by current frame.
      * The tick() method should be called in this method.
+     * <p>
+     * The window is not cleared between frames. The board is copied over from the
+     * static layer every frame, which erases the previous frame's entities,
+     * while the top and side bars are only copied over where they have changed.
      */
 	@Override
     public void draw() {
         tick();
 
-        drawBackgroundLayer();
-        drawEntityLayer();
-        drawHouseLayer();
-        drawUILayer();
-        
-        image(backgroundLayer, 0, 0);
-        image(mapLayer, 0, 0);
-        image(entityLayer, 0, 0);
-        image(houseLayer, 0, 0);
-        image(uiLayer, 0, 0);
+        TickProfiler profiler = game.getProfiler();
+        long start = profiler.begin();
+        image(staticLayer, 0, TOPBAR, LEVEL_WIDTH, LEVEL_HEIGHT, 0, TOPBAR, LEVEL_WIDTH, TOPBAR + LEVEL_HEIGHT);
+        start = profiler.lap(TickProfiler.Section.DRAW_BACKGROUND, start);
+        drawEntities();
+        start = profiler.lap(TickProfiler.Section.DRAW_ENTITIES, start);
+        drawHouse();
+        start = profiler.lap(TickProfiler.Section.DRAW_HOUSE, start);
+        drawUI();
+        profiler.end(TickProfiler.Section.DRAW_UI, start);
     }
 
     /**
-     * All graphics that are to be drawn to the background layer should be called within this method.
+     * Draws the layers that do not change during a game: the background, the board and the wizard's house.
+     * This should be called whenever a new game starts.
      */
-    private void drawBackgroundLayer() {
-        backgroundLayer.beginDraw();
-        backgroundLayer.clear();
-        backgroundLayer.fill(200, 100, 50);
-        backgroundLayer.rect(0, 0, backgroundLayer.width, backgroundLayer.height);
-        backgroundLayer.endDraw();
+    private void drawStaticLayers() {
+        staticLayer.beginDraw();
+        staticLayer.clear();
+        staticLayer.fill(200, 100, 50);
+        staticLayer.rect(0, 0, staticLayer.width, staticLayer.height);
+        game.drawMap(staticLayer);
+        staticLayer.endDraw();
+
+        houseLayer.beginDraw();
+        houseLayer.clear();
+        game.drawHouse(houseLayer);
+        houseLayer.endDraw();
     }
 
     /**
-     * All graphics that are to be drawn to the entity layer should be called within this method.
+     * Draws the game's entities straight to the window, clipped to the board.
      */
-    private void drawEntityLayer() {
-        entityLayer.beginDraw();
-        entityLayer.clear();
-        game.drawEntities(entityLayer);
-        entityLayer.endDraw();
+    private void drawEntities() {
+        pushStyle();
+        clip(0, TOPBAR, LEVEL_WIDTH, LEVEL_HEIGHT);
+        game.drawEntities(g, engine.getInterpolationAlpha());
+        noClip();
+        popStyle();
     }
 
     /**
-     * Wizard's house's draw() method should be called within this method.
-     */
-    private void drawHouseLayer() {
-        houseLayer.beginDraw();
-        houseLayer.clear();
-        game.drawHouse(houseLayer);
-        houseLayer.endDraw();
+     * Copies the part of the house layer that the wizard's house covers to the window,
+     * so that the house is drawn over the entities.
+     */
+    private void drawHouse() {
+        WizHouse house = game.getBoard().getWizHouse();
+        int left = Math.max(0, (int) Math.floor(house.getSpriteX()));
+        int top = Math.max(TOPBAR, (int) Math.floor(house.getSpriteY()));
+        int right = Math.min(LEVEL_WIDTH, (int) Math.ceil(house.getSpriteX()) + house.getSpriteSize());
+        int bottom = Math.min(TOPBAR + LEVEL_HEIGHT, (int) Math.ceil(house.getSpriteY()) + house.getSpriteSize());
+        if (right <= left || bottom <= top) {
+            return;
+        }
+
+        image(houseLayer, left, top, right - left, bottom - top, left, top, right, bottom);
     }
 
     /**
-     * All graphics that are to be drawn to the background layer should be called within this method.
+     * Redraws the parts of the top and side bars that have changed and copies them to the window,
+     * then draws the overlays over everything.
      */
-    private void drawUILayer() {
+    private void drawUI() {
         uiLayer.beginDraw();
-        uiLayer.clear();
-        game.drawUI(uiLayer);
+        List<UIRegion> redrawn = game.drawUIPanels(uiLayer);
         uiLayer.endDraw();
+
+        boolean overlapped = game.getGameUI().overlapsPanels();
+        if (overlapped || panelsOverlapped) {
+            copyUIRegion(game.getGameUI().getTopBarRegion());
+            copyUIRegion(game.getGameUI().getSideBarRegion());
+        } else {
+            for (UIRegion region : redrawn) {
+                copyUIRegion(region);
+            }
+        }
+        panelsOverlapped = overlapped;
+
+        pushStyle();
+        game.drawUIOverlays(g);
+        popStyle();
     }
 
-    public static void main(String[] args) {
-        PApplet.main("WizardTD.App");
+    /**
+     * Copies a region of the UI layer to the same place in the window.
+     * @param region The region that is copied.
+     */
+    private void copyUIRegion(UIRegion region) {
+        int x = region.getX();
+        int y = region.getY();
+        image(uiLayer, x, y, region.getWidth(), region.getHeight(),
+              x, y, x + region.getWidth(), y + region.getHeight());
+    }
+
+    /**
+     * Exports the current run's profiler stats, saves the current game's input
+     * and autosaves the current game before the application closes.
+     */
+    @Override
+    public void exit() {
+        exportProfile();
+        saveInputLog();
+        autosave();
+        super.exit();
+    }
+
+    /**
+     * Starts recording the current game's input, if the config gives a file to save it to.
+     * @param config The config that the current game was loaded from.
+     */
+    private void startRecording(JSONObject config) {
+        inputRecorder = inputLogPath == null ? null : InputLog.record(engine, config);
     }
 
     /**
-     * Source: https://stackoverflow.com/questions/37758061/rotate-a-buffered-image-in-java
-     * @param pimg The image to be rotated
-     * @param angle between 0 and 360 degrees
-     * @return the new rotated image
-     */
-    public PImage rotateImageByDegrees(PImage pimg, double angle) {
-        BufferedImage img = (BufferedImage) pimg.getNative();
-        double rads = Math.toRadians(angle);
-        double sin = Math.abs(Math.sin(rads)), cos = Math.abs(Math.cos(rads));
-        int w = img.getWidth();
-        int h = img.getHeight();
-        int newWidth = (int) Math.floor(w * cos + h * sin);
-        int newHeight = (int) Math.floor(h * cos + w * sin);
-
-        PImage result = this.createImage(newWidth, newHeight, ARGB);
-        //BufferedImage rotated = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_ARGB);
-        BufferedImage rotated = (BufferedImage) result.getNative();
-        Graphics2D g2d = rotated.createGraphics();
-        AffineTransform at = new AffineTransform();
-        at.translate((newWidth - w) / 2, (newHeight - h) / 2);
-
-        int x = w / 2;
-        int y = h / 2;
-
-        at.rotate(rads, x, y);
-        g2d.setTransform(at);
-        g2d.drawImage(img, 0, 0, null);
-        g2d.dispose();
-        for (int i = 0; i < newWidth; i++) {
-            for (int j = 0; j < newHeight; j++) {
-                result.set(i, j, rotated.getRGB(i, j));
+     * Saves the current game's input to the input log file given by the config.
+     * Nothing is saved if the config does not give a file.
+     */
+    private void saveInputLog() {
+        if (inputRecorder == null) {
+            return;
+        }
+
+        try {
+            inputRecorder.save(inputLogPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Saves a snapshot of the current game to the autosave file given by the config.
+     * <p>
+     * A finished game is not worth restoring, so its autosave is deleted instead.
+     * Nothing is saved if the config does not give a file.
+     */
+    private void autosave() {
+        if (autosavePath == null || game == null) {
+            return;
+        }
+
+        try {
+            if (game.isGameWon() || game.isGameLost()) {
+                Files.deleteIfExists(Paths.get(autosavePath));
+            } else {
+                game.snapshot().save(Paths.get(autosavePath));
             }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Replaces the current game with one restored from the autosave file given by the config,
+     * if there is one.
+     * @param config The config that the autosaved game was loaded from.
+     * @return true if the game was restored, otherwise false.
+     */
+    private boolean restoreAutosave(JSONObject config) {
+        if (autosavePath == null || !Files.exists(Paths.get(autosavePath))) {
+            return false;
+        }
+
+        try {
+            Game restored = new Game(config, assets, System.nanoTime());
+            restored.restore(GameSnapshot.load(Paths.get(autosavePath)));
+            game = restored;
+            engine = new SimulationEngine(game);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Writes the current game's profiler stats to the CSV file given by the config.
+     * Nothing is written if the config does not give a file.
+     */
+    private void exportProfile() {
+        if (profileCsvPath == null || game == null) {
+            return;
         }
 
-        return result;
+        try {
+            game.getProfiler().writeCsv(profileCsvPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public static void main(String[] args) {
+        PApplet.main("WizardTD.App");
     }
 }
@@ -0,0 +1,84 @@
+package WizardTD;
+
+import java.io.File;
+import java.util.Locale;
+
+import WizardTD.Game.AutoPlayer;
+import WizardTD.Game.Game;
+import WizardTD.Game.SimulationEngine;
+import WizardTD.Game.TowerPlan;
+import processing.data.JSONObject;
+
+/**
+ * AutoPlayRunner plays a headless game of a config with an {@code AutoPlayer},
+ * so that a new level can be stress tested without a person playing it.
+ * <p>
+ * It prints the state that the game ends in and the plan that the auto player chose,
+ * which can be saved and played again with {@code BalanceRunner}.
+ * <p>
+ * Usage: {@code AutoPlayRunner <config> [seed] [threads] [budgetMillis] [maxTicks] [planOut]}
+ */
+public final class AutoPlayRunner {
+    /**
+     * The wall-clock budget of each decision when no budget is given.
+     */
+    public static final long DEFAULT_BUDGET_MILLIS = 200;
+
+    private AutoPlayRunner() {}
+
+    /**
+     * Plays a single headless game with the auto player.
+     * <p>
+     * The game and the auto player are both seeded with {@code seed}.
+     * @param config The config that the game is loaded from.
+     * @param player The auto player that plays the game.
+     * @param seed The seed for the game's random number generator.
+     * @param maxTicks The tick limit, used to stop games that never end.
+     * @return The game once it has ended or reached the tick limit.
+     */
+    public static Game play(JSONObject config, AutoPlayer player, long seed, long maxTicks) {
+        Game game = new Game(config, seed);
+        SimulationEngine engine = new SimulationEngine(game);
+        engine.addObserver(player);
+
+        // Let the player act before the first tick, as a plan's runner does
+        player.onTick(game, 0);
+        engine.run(maxTicks);
+        return game;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: AutoPlayRunner <config> [seed] [threads] [budgetMillis] [maxTicks] [planOut]");
+            System.exit(1);
+        }
+
+        JSONObject config = SimulationEngine.loadConfig(args[0]);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long budget = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_BUDGET_MILLIS;
+        long maxTicks = args.length > 4 ? Long.parseLong(args[4]) : BalanceRunner.DEFAULT_MAX_TICKS;
+
+        long start = System.nanoTime();
+        Game game;
+        TowerPlan plan;
+        int decisions;
+        int truncated;
+        try (AutoPlayer player = new AutoPlayer(seed, threads, budget)) {
+            game = play(config, player, seed, maxTicks);
+            plan = player.getPlan();
+            decisions = player.getDecisions();
+            truncated = player.getTruncatedDecisions();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.print(ReplayRunner.describe(game));
+        System.out.println(String.format(Locale.ROOT, "%nPlan%n%s", plan.toJSON().format(2)));
+        if (args.length > 5) {
+            plan.toJSON().save(new File(args[5]), "indent=2");
+        }
+        System.out.println(String.format(Locale.ROOT,
+                                         "%nSeed %d, %d threads, %dms budget, %d decisions (%d out of budget), %.2fs",
+                                         seed, threads, budget, decisions, truncated, seconds));
+    }
+}
@@ -0,0 +1,233 @@
+package WizardTD;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import WizardTD.Game.Game;
+import WizardTD.Game.GameRandom;
+import WizardTD.Game.GameStats;
+import WizardTD.Game.SimulationEngine;
+import WizardTD.Game.TowerPlan;
+import processing.data.JSONObject;
+
+/**
+ * BalanceRunner plays many headless games of a config with a scripted
+ * {@code TowerPlan}, so that designers can see how a config is balanced
+ * without playing it by hand.
+ * <p>
+ * Every game gets its own seed and shares nothing with the others,
+ * so games are run in parallel on a {@code ForkJoinPool}.
+ * The same seed always gives the same report, whatever the thread count.
+ * <p>
+ * Usage: {@code BalanceRunner <config> <plan> [games] [seed] [threads] [maxTicks]}
+ */
+public final class BalanceRunner {
+    /**
+     * The number of games that are played when no count is given.
+     */
+    public static final int DEFAULT_GAMES = 100;
+    /**
+     * The most ticks a game is played for when no limit is given,
+     * which is an hour of game time. This stops games that never end.
+     */
+    public static final long DEFAULT_MAX_TICKS = 60L * 60 * App.FPS;
+
+    /**
+     * The results of a single game.
+     */
+    public static final class Result {
+        private final long seed;
+        private final boolean won;
+        private final boolean lost;
+        private final int leaks;
+        private final int completedActions;
+        private final GameStats stats;
+
+        private Result(long seed, Game game, int completedActions, GameStats stats) {
+            this.seed = seed;
+            this.won = game.isGameWon();
+            this.lost = game.isGameLost();
+            this.leaks = game.getLeakCount();
+            this.completedActions = completedActions;
+            this.stats = stats;
+        }
+
+        public long getSeed() { return this.seed; }
+        public boolean isWon() { return this.won; }
+        public boolean isLost() { return this.lost; }
+        public int getLeaks() { return this.leaks; }
+        public int getCompletedActions() { return this.completedActions; }
+        public GameStats getStats() { return this.stats; }
+    }
+
+    private BalanceRunner() {}
+
+    /**
+     * Plays a single headless game to completion.
+     * @param config The config that the game is loaded from.
+     * @param plan The plan that is played instead of a player.
+     * @param seed The seed for the game's random number generator.
+     * @param maxTicks The tick limit, used to stop games that never end.
+     * @return The game's results.
+     */
+    public static Result runGame(JSONObject config, TowerPlan plan, long seed, long maxTicks) {
+        Game game = new Game(config, seed);
+        SimulationEngine engine = new SimulationEngine(game);
+
+        TowerPlan.Runner runner = plan.createRunner(game);
+        GameStats stats = new GameStats(game);
+        engine.addObserver(stats);
+        engine.addObserver(runner);
+
+        // Let the plan act before the first tick, as a player would
+        runner.onTick(game, 0);
+        engine.run(maxTicks);
+        return new Result(seed, game, runner.getCompletedActions(), stats);
+    }
+
+    /**
+     * Plays many independent games in parallel.
+     * <p>
+     * The seed of each game is drawn in order from a generator seeded with
+     * {@code seed}, and results are returned in the same order, so the
+     * results do not depend on the number of threads.
+     * @param config The config that every game is loaded from.
+     * @param plan The plan that is played in every game.
+     * @param games The number of games to play.
+     * @param seed The seed that every game's seed is drawn from.
+     * @param threads The number of games that are played at once.
+     * @param maxTicks The tick limit of each game.
+     * @return The results of every game.
+     * @throws IllegalArgumentException If games or threads is not positive.
+     */
+    public static List<Result> runGames(JSONObject config, TowerPlan plan, int games,
+                                        long seed, int threads, long maxTicks) throws IllegalArgumentException {
+        if (games <= 0) throw new IllegalArgumentException("The number of games must be > 0.");
+        if (threads <= 0) throw new IllegalArgumentException("The number of threads must be > 0.");
+
+        GameRandom seeds = new GameRandom(seed);
+        long[] gameSeeds = new long[games];
+        for (int i = 0; i < games; i++) {
+            gameSeeds[i] = seeds.nextLong();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> IntStream.range(0, games)
+                                              .parallel()
+                                              .mapToObj(i -> runGame(config, plan, gameSeeds[i], maxTicks))
+                                              .collect(Collectors.toList()))
+                       .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running games", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A game failed to run", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Summarises the results of many games as a plain text report.
+     * @param results The results of every game.
+     * @return The report.
+     */
+    public static String report(List<Result> results) {
+        StringBuilder out = new StringBuilder();
+        int games = results.size();
+        int won = 0;
+        int lost = 0;
+        long leaks = 0;
+        int minLeaks = Integer.MAX_VALUE;
+        int maxLeaks = 0;
+        long actions = 0;
+        for (Result r : results) {
+            won += r.isWon() ? 1 : 0;
+            lost += r.isLost() ? 1 : 0;
+            leaks += r.getLeaks();
+            minLeaks = Math.min(minLeaks, r.getLeaks());
+            maxLeaks = Math.max(maxLeaks, r.getLeaks());
+            actions += r.getCompletedActions();
+        }
+
+        out.append(String.format(Locale.ROOT, "Games: %d%n", games));
+        out.append(String.format(Locale.ROOT, "Win rate: %.1f%% (%d won, %d lost, %d unfinished)%n",
+                                 100.0 * won / games, won, lost, games - won - lost));
+        out.append(String.format(Locale.ROOT, "Leaks per game: mean %.2f, min %d, max %d%n",
+                                 (double)leaks / games, minLeaks, maxLeaks));
+        out.append(String.format(Locale.ROOT, "Plan actions completed per game: %.2f%n",
+                                 (double)actions / games));
+
+        out.append(String.format(Locale.ROOT, "%nKill time per wave%n"));
+        out.append(String.format(Locale.ROOT, "%-6s %10s %12s%n", "Wave", "Kills", "Mean (s)"));
+        int waves = results.get(0).getStats().getTotalWaves();
+        for (int w = 0; w < waves; w++) {
+            long kills = 0;
+            long killTicks = 0;
+            for (Result r : results) {
+                kills += r.getStats().getKills(w);
+                killTicks += r.getStats().getKillTicks(w);
+            }
+            String mean = kills == 0 ? "-" : String.format(Locale.ROOT, "%.2f", (double)killTicks / kills / App.FPS);
+            out.append(String.format(Locale.ROOT, "%-6d %10d %12s%n", w + 1, kills, mean));
+        }
+
+        // Games that have ended stop contributing to the curve
+        out.append(String.format(Locale.ROOT, "%nMana curve%n"));
+        out.append(String.format(Locale.ROOT, "%-8s %8s %10s %10s %10s%n", "Time (s)", "Games", "Mean", "Min", "Max"));
+        ArrayList<float[]> curves = new ArrayList<>();
+        int longest = 0;
+        for (Result r : results) {
+            float[] samples = r.getStats().getManaSamples();
+            curves.add(samples);
+            longest = Math.max(longest, samples.length);
+        }
+        int seconds = GameStats.MANA_SAMPLE_INTERVAL / App.FPS;
+        for (int s = 0; s < longest; s++) {
+            int count = 0;
+            double sum = 0;
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+            for (float[] samples : curves) {
+                if (s >= samples.length) {
+                    continue;
+                }
+                ++count;
+                sum += samples[s];
+                min = Math.min(min, samples[s]);
+                max = Math.max(max, samples[s]);
+            }
+            out.append(String.format(Locale.ROOT, "%-8d %8d %10.1f %10.1f %10.1f%n",
+                                     (s + 1) * seconds, count, sum / count, min, max));
+        }
+        return out.toString();
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: BalanceRunner <config> <plan> [games] [seed] [threads] [maxTicks]");
+            System.exit(1);
+        }
+
+        JSONObject config = SimulationEngine.loadConfig(args[0]);
+        TowerPlan plan = TowerPlan.load(args[1]);
+        int games = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_GAMES;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        long maxTicks = args.length > 5 ? Long.parseLong(args[5]) : DEFAULT_MAX_TICKS;
+
+        long start = System.nanoTime();
+        List<Result> results = runGames(config, plan, games, seed, threads, maxTicks);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.print(report(results));
+        System.out.println(String.format(Locale.ROOT, "%nSeed %d, %d threads, %.2fs (%.1f games/s)",
+                                         seed, threads, seconds, games / seconds));
+    }
+}
@@ -0,0 +1,531 @@
+package WizardTD.Game;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import WizardTD.App;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Board.Tile;
+import WizardTD.Game.Entities.Towers.Tower;
+import WizardTD.Game.TowerPlan.Action;
+import WizardTD.Game.TowerPlan.ActionType;
+import WizardTD.Game.TowerPlan.Outcome;
+
+/**
+ * Represents the {@code AutoPlayer} class.
+ * <p>
+ * The auto player plays a game instead of a player, so that new levels can be
+ * stress tested. At the start of every wave, and every few seconds in between,
+ * it forks the game and searches ahead for its next action with a beam search.
+ * The forks of each level of the search are simulated in parallel on a {@code ForkJoinPool}.
+ * <p>
+ * An action is one of the actions of a {@link TowerPlan}: building a tower, upgrading
+ * a tower or casting the mana pool spell. Chosen actions are carried out in order, each
+ * waiting until the player can afford it, exactly as a plan's runner does. Every chosen
+ * action is recorded, and {@link #getPlan()} returns them as a plan that replays the game.
+ * <p>
+ * Each decision has a wall-clock budget. The search goes one level deeper at a time and a
+ * level that does not finish within the budget is thrown away, so the chosen action only
+ * depends on the seed and on how many whole levels were searched. With a budget that lets
+ * every search reach its full depth, the same seed always plays the same game, whatever
+ * the thread count.
+ */
+public final class AutoPlayer implements SimulationObserver, AutoCloseable {
+    /**
+     * The number of branches that are kept at each level of the search when no width is given.
+     */
+    public static final int DEFAULT_BEAM_WIDTH = 3;
+    /**
+     * The number of decisions that are searched ahead when no depth is given.
+     */
+    public static final int DEFAULT_DEPTH = 2;
+    /**
+     * The number of tiles that building on is considered at each decision when no count is given.
+     */
+    public static final int DEFAULT_CANDIDATE_TILES = 6;
+    /**
+     * The most ticks between two decisions when no interval is given.
+     */
+    public static final int DEFAULT_DECISION_INTERVAL = 5 * App.FPS;
+    /**
+     * The ticks that each branch is played on for when it is scored, when no horizon is given.
+     */
+    public static final int DEFAULT_HORIZON = 15 * App.FPS;
+
+    /**
+     * How much of the mana spent on towers counts towards a branch's score.
+     * Without it, saving mana always looks better than spending it within a short horizon.
+     */
+    private static final float INVESTMENT_WEIGHT = 0.5f;
+    /**
+     * The score of a branch where the game is won, before its mana is added.
+     */
+    private static final double WON_SCORE = 1e9;
+    /**
+     * The score of a branch where the game is lost, before the ticks it lasted are added.
+     */
+    private static final double LOST_SCORE = -1e9;
+    /**
+     * How many ticks a branch is simulated for between checks of the budget.
+     */
+    private static final int BUDGET_CHECK_INTERVAL = 64;
+
+    /**
+     * The seed that random candidate tiles are drawn with.
+     */
+    private final long seed;
+    /**
+     * The number of threads that branches are simulated on.
+     */
+    private final int threads;
+    /**
+     * The wall-clock budget of each decision, in nanoseconds.
+     */
+    private final long budgetNanos;
+    /**
+     * The pool that branches are simulated on.
+     */
+    private final ForkJoinPool pool;
+
+    private int beamWidth = DEFAULT_BEAM_WIDTH;
+    private int depth = DEFAULT_DEPTH;
+    private int candidateTiles = DEFAULT_CANDIDATE_TILES;
+    private int decisionInterval = DEFAULT_DECISION_INTERVAL;
+    private int horizon = DEFAULT_HORIZON;
+
+    /**
+     * The chosen actions that have not been carried out yet.
+     */
+    private final ArrayDeque<Action> pending = new ArrayDeque<>();
+    /**
+     * Every chosen action, in the order that they were chosen.
+     */
+    private final ArrayList<Action> chosen = new ArrayList<>();
+    /**
+     * The placeable tiles of the board, best first. Worked out on the first decision.
+     */
+    private ArrayList<Tile> rankedTiles = null;
+
+    /**
+     * The tick of the next decision.
+     */
+    private long nextDecisionTick = 0;
+    /**
+     * The number of waves that had yet to start at the last tick.
+     */
+    private int wavesLeft = -1;
+    /**
+     * The number of decisions that have been made.
+     */
+    private int decisions = 0;
+    /**
+     * The number of decisions that ran out of budget before reaching the full depth.
+     */
+    private int truncatedDecisions = 0;
+
+    /**
+     * A game that the search has played ahead to, with the actions still waiting to be carried out in it.
+     */
+    private static final class Branch {
+        private final Branch parent;
+        private final Action move;
+        private final Action firstMove;
+        private final int order;
+        private Game game;
+        private ArrayDeque<Action> pending;
+        private float invested;
+        private long ticks;
+        private double score;
+
+        private Branch(Game game, ArrayDeque<Action> pending) {
+            this.parent = null;
+            this.move = null;
+            this.firstMove = null;
+            this.order = 0;
+            this.game = game;
+            this.pending = pending;
+        }
+
+        private Branch(Branch parent, Action move, int order) {
+            this.parent = parent;
+            this.move = move;
+            this.firstMove = parent.parent == null ? move : parent.firstMove;
+            this.order = order;
+        }
+    }
+
+    /**
+     * {@code AutoPlayer}'s constructor.
+     * @param seed The seed that random candidate tiles are drawn with.
+     * @param threads The number of threads that branches are simulated on.
+     * @param budgetMillis The wall-clock budget of each decision, in milliseconds.
+     * @throws IllegalArgumentException If threads or budgetMillis is not positive.
+     */
+    public AutoPlayer(long seed, int threads, long budgetMillis) throws IllegalArgumentException {
+        if (threads <= 0) throw new IllegalArgumentException("The number of threads must be > 0.");
+        if (budgetMillis <= 0) throw new IllegalArgumentException("The decision budget must be > 0.");
+
+        this.seed = seed;
+        this.threads = threads;
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Sets the number of branches that are kept at each level of the search.
+     * @param beamWidth The beam width.
+     * @throws IllegalArgumentException If beamWidth is not positive.
+     */
+    public void setBeamWidth(int beamWidth) throws IllegalArgumentException {
+        if (beamWidth <= 0) throw new IllegalArgumentException("The beam width must be > 0.");
+        this.beamWidth = beamWidth;
+    }
+
+    /**
+     * Sets the number of decisions that are searched ahead.
+     * @param depth The depth of the search.
+     * @throws IllegalArgumentException If depth is not positive.
+     */
+    public void setDepth(int depth) throws IllegalArgumentException {
+        if (depth <= 0) throw new IllegalArgumentException("The search depth must be > 0.");
+        this.depth = depth;
+    }
+
+    /**
+     * Sets the number of tiles that building on is considered at each decision.
+     * <p>
+     * Half of them are the tiles that cover the most path, the rest are drawn at random.
+     * @param candidateTiles The number of candidate tiles.
+     * @throws IllegalArgumentException If candidateTiles is negative.
+     */
+    public void setCandidateTiles(int candidateTiles) throws IllegalArgumentException {
+        if (candidateTiles < 0) throw new IllegalArgumentException("The number of candidate tiles must be >= 0.");
+        this.candidateTiles = candidateTiles;
+    }
+
+    /**
+     * Sets the most ticks between two decisions. A decision is also made when a wave starts.
+     * @param ticks The decision interval.
+     * @throws IllegalArgumentException If ticks is not positive.
+     */
+    public void setDecisionInterval(int ticks) throws IllegalArgumentException {
+        if (ticks <= 0) throw new IllegalArgumentException("The decision interval must be > 0.");
+        this.decisionInterval = ticks;
+    }
+
+    /**
+     * Sets how many ticks each branch is played on for when it is scored.
+     * @param ticks The horizon.
+     * @throws IllegalArgumentException If ticks is negative.
+     */
+    public void setHorizon(int ticks) throws IllegalArgumentException {
+        if (ticks < 0) throw new IllegalArgumentException("The horizon must be >= 0.");
+        this.horizon = ticks;
+    }
+
+    public int getThreads() { return this.threads; }
+    /**
+     * Gets the number of decisions that have been made.
+     * @return The number of decisions.
+     */
+    public int getDecisions() { return this.decisions; }
+    /**
+     * Gets the number of decisions that ran out of budget before searching to the full depth.
+     * @return The number of truncated decisions.
+     */
+    public int getTruncatedDecisions() { return this.truncatedDecisions; }
+
+    /**
+     * Gets every action that has been chosen so far as a plan.
+     * <p>
+     * Playing the plan on a game with the same config and seed plays the same game.
+     * @return The chosen actions as a {@code TowerPlan}.
+     */
+    public TowerPlan getPlan() { return new TowerPlan(this.chosen); }
+
+    /**
+     * Makes a decision when one is due, then carries out the chosen actions that the player can afford.
+     * <p>
+     * This should also be called with a tick of 0 before the first tick, so that the player can act
+     * before the first wave.
+     */
+    @Override
+    public void onTick(Game game, long tick) {
+        if (game.isGameOver()) {
+            return;
+        }
+
+        int waves = game.getWaveManager().getWaves().size();
+        if (tick >= this.nextDecisionTick || waves != this.wavesLeft) {
+            Action action = this.decide(game, tick);
+            if (action != null) {
+                this.pending.add(action);
+                this.chosen.add(action);
+            }
+            this.nextDecisionTick = tick + this.decisionInterval;
+            this.wavesLeft = waves;
+        }
+
+        carryOut(game, this.pending);
+    }
+
+    /**
+     * Shuts down the threads that branches are simulated on.
+     */
+    @Override
+    public void close() { this.pool.shutdown(); }
+
+    /**
+     * Searches ahead for the next action.
+     * @param game The game that is played.
+     * @param tick The current tick.
+     * @return The action to take, or {@code null} if waiting is best.
+     */
+    private Action decide(Game game, long tick) {
+        long deadline = System.nanoTime() + this.budgetNanos;
+        GameRandom random = new GameRandom(this.seed + tick);
+        if (this.rankedTiles == null) {
+            this.rankedTiles = rankTiles(game);
+        }
+        ++this.decisions;
+
+        List<Branch> beam = new ArrayList<>();
+        beam.add(new Branch(game, new ArrayDeque<>(this.pending)));
+        Action best = null;
+        for (int level = 0; level < this.depth; level++) {
+            ArrayList<Branch> children = new ArrayList<>();
+            for (Branch parent : beam) {
+                if (parent.game.isGameOver()) {
+                    continue;
+                }
+                for (Action move : this.candidateMoves(parent.game, tick, random)) {
+                    children.add(new Branch(parent, move, children.size()));
+                }
+            }
+            if (children.isEmpty()) {
+                break;
+            }
+
+            List<Branch> evaluated = this.evaluate(children, deadline);
+            if (evaluated == null) {
+                ++this.truncatedDecisions;
+                break;
+            }
+
+            evaluated.sort(Comparator.comparingDouble((Branch b) -> -b.score)
+                                     .thenComparingInt(b -> b.order));
+            beam = evaluated.subList(0, Math.min(this.beamWidth, evaluated.size()));
+            best = beam.get(0).firstMove;
+        }
+        return best;
+    }
+
+    /**
+     * Simulates every branch of a level in parallel.
+     * @param children The branches to simulate.
+     * @param deadline The time, from {@code System.nanoTime()}, that the decision's budget runs out.
+     * @return The simulated branches, or {@code null} if the budget ran out first.
+     */
+    private List<Branch> evaluate(List<Branch> children, long deadline) {
+        List<Branch> evaluated;
+        try {
+            evaluated = this.pool.submit(() -> IntStream.range(0, children.size())
+                                                        .parallel()
+                                                        .mapToObj(i -> this.simulate(children.get(i), deadline))
+                                                        .collect(Collectors.toList()))
+                                 .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A branch failed to simulate", e.getCause());
+        }
+
+        return evaluated.contains(null) ? null : new ArrayList<>(evaluated);
+    }
+
+    /**
+     * Forks a branch's parent, takes the branch's move, plays on to the next decision,
+     * and then scores the branch by playing a fork of it on to the horizon.
+     * @param branch The branch to simulate.
+     * @param deadline The time that the decision's budget runs out.
+     * @return The simulated branch, or {@code null} if the budget ran out first.
+     */
+    private Branch simulate(Branch branch, long deadline) {
+        if (System.nanoTime() > deadline) {
+            return null;
+        }
+
+        Branch parent = branch.parent;
+        branch.game = parent.game.fork();
+        branch.pending = new ArrayDeque<>(parent.pending);
+        branch.invested = parent.invested;
+        branch.ticks = parent.ticks;
+        if (branch.move != null) {
+            branch.pending.add(branch.move);
+        }
+        branch.invested += carryOut(branch.game, branch.pending);
+        if (!play(branch, this.decisionInterval, deadline)) {
+            return null;
+        }
+
+        Branch ahead = new Branch(branch.game.fork(), new ArrayDeque<>(branch.pending));
+        ahead.invested = branch.invested;
+        ahead.ticks = branch.ticks;
+        if (!play(ahead, this.horizon, deadline)) {
+            return null;
+        }
+        branch.score = score(ahead);
+        return branch;
+    }
+
+    /**
+     * Plays a branch's game on, carrying out its waiting actions after every tick.
+     * @param branch The branch that is played.
+     * @param ticks The most ticks to play.
+     * @param deadline The time that the decision's budget runs out.
+     * @return {@code true} if the branch was played to the end, {@code false} if the budget ran out.
+     */
+    private static boolean play(Branch branch, int ticks, long deadline) {
+        for (int i = 0; i < ticks; i++) {
+            if (branch.game.isGameOver()) {
+                return true;
+            }
+            if (i % BUDGET_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+                return false;
+            }
+
+            branch.game.tick();
+            ++branch.ticks;
+            branch.invested += carryOut(branch.game, branch.pending);
+        }
+        return true;
+    }
+
+    /**
+     * Scores a branch. A won game beats any game that is still going, which beats any lost game.
+     * Lost games score better the longer they lasted, and other games by their mana.
+     * @param branch The branch that is scored.
+     * @return The branch's score.
+     */
+    private static double score(Branch branch) {
+        Game game = branch.game;
+        game.isGameOver();
+        if (game.isGameLost()) {
+            return LOST_SCORE + branch.ticks;
+        }
+
+        double value = game.getManaPool().getCurrentMana() + INVESTMENT_WEIGHT * branch.invested;
+        return game.isGameWon() ? WON_SCORE + value : value;
+    }
+
+    /**
+     * Carries out waiting actions in order, stopping at the first one that the player cannot afford.
+     * @param game The game that the actions are carried out on.
+     * @param pending The waiting actions, which carried out or skipped actions are removed from.
+     * @return The mana that was spent on towers.
+     */
+    private static float carryOut(Game game, ArrayDeque<Action> pending) {
+        float spent = 0;
+        while (!pending.isEmpty()) {
+            float mana = game.getManaPool().getCurrentMana();
+            Outcome outcome = TowerPlan.tryAction(game, pending.peek());
+            if (outcome == Outcome.WAITING) {
+                break;
+            }
+
+            // The mana pool spell pays for itself through faster mana, so only towers count
+            if (outcome == Outcome.DONE && pending.peek().getType() != ActionType.MANA_POOL) {
+                spent += mana - game.getManaPool().getCurrentMana();
+            }
+            pending.poll();
+        }
+        return spent;
+    }
+
+    /**
+     * Gets the moves that are searched from a game: waiting, casting the mana pool spell,
+     * each upgrade of each tower, and building on a few of the free tiles.
+     * @param game The game that the moves are taken in.
+     * @param tick The tick that the moves are chosen on.
+     * @param random Draws the random candidate tiles.
+     * @return The moves, where waiting is {@code null}.
+     */
+    private ArrayList<Action> candidateMoves(Game game, long tick, GameRandom random) {
+        ArrayList<Action> moves = new ArrayList<>();
+        moves.add(null);
+        moves.add(new Action((int)tick, ActionType.MANA_POOL, 0, 0));
+
+        for (Tower t : game.getTowerManager().getTowers()) {
+            Tile tile = game.getBoard().getTileAtPos(t.getCenterPos().x, t.getCenterPos().y);
+            int column = Board.columnOf(tile.getPos().x);
+            int row = Board.rowOf(tile.getPos().y);
+            moves.add(new Action((int)tick, ActionType.UPGRADE_RANGE, column, row));
+            moves.add(new Action((int)tick, ActionType.UPGRADE_FIRING_SPEED, column, row));
+            moves.add(new Action((int)tick, ActionType.UPGRADE_DAMAGE, column, row));
+        }
+
+        ArrayList<Tile> free = new ArrayList<>();
+        for (Tile tile : this.rankedTiles) {
+            if (!game.getTowerManager().isTileOccupied(tile)) {
+                free.add(tile);
+            }
+        }
+
+        // The best tiles first, then a partial shuffle draws the rest from the remaining tiles
+        int best = Math.min((this.candidateTiles + 1) / 2, free.size());
+        int count = Math.min(this.candidateTiles, free.size());
+        for (int i = best; i < count; i++) {
+            int j = i + random.nextInt(free.size() - i);
+            Tile swap = free.get(i);
+            free.set(i, free.get(j));
+            free.set(j, swap);
+        }
+        for (int i = 0; i < count; i++) {
+            Tile tile = free.get(i);
+            moves.add(new Action((int)tick, ActionType.BUILD,
+                                 Board.columnOf(tile.getPos().x), Board.rowOf(tile.getPos().y)));
+        }
+        return moves;
+    }
+
+    /**
+     * Ranks the tiles that can be built on by how many path tiles a new tower on them would reach.
+     * Tiles that reach no path are left out.
+     * @param game The game whose board is ranked.
+     * @return The tiles, best first.
+     */
+    private static ArrayList<Tile> rankTiles(Game game) {
+        Board board = game.getBoard();
+        float range = game.getTowerManager().getBaseTowerRange();
+        int[] coverage = new int[Board.COLUMNS * Board.ROWS];
+        ArrayList<Tile> ranked = new ArrayList<>();
+        for (int i = 0; i < coverage.length; i++) {
+            Tile tile = board.getTile(i);
+            if (tile == null || !tile.isPlaceable()) {
+                continue;
+            }
+
+            for (int j = 0; j < coverage.length; j++) {
+                Tile path = board.getTile(j);
+                if (path != null && path.isWalkable() &&
+                    tile.getCenterPos().dist(path.getCenterPos()) <= range) {
+                    ++coverage[i];
+                }
+            }
+            if (coverage[i] > 0) {
+                ranked.add(tile);
+            }
+        }
+
+        ranked.sort(Comparator.comparingInt((Tile t) -> -coverage[Board.indexOf(t.getPos().x, t.getPos().y)])
+                              .thenComparingInt(t -> Board.indexOf(t.getPos().x, t.getPos().y)));
+        return ranked;
+    }
+}
@@ -1,12 +1,13 @@
 package WizardTD.Game.Board;
 
 import java.util.HashMap;
-import java.util.Map;
+import java.util.LinkedHashMap;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.Scanner;
 
 import WizardTD.App;
+import WizardTD.Game.GameAssets;
 import WizardTD.Game.Renderable;
 import processing.core.PGraphics;
 import processing.core.PVector;
@@ -17,36 +18,77 @@ import processing.core.PVector;
  * A board consists of a 20x20 grid of tiles,
  * with exactly one {@code WizHouse} and a minimum of 
  * one viable path for monsters to follow.
+ * <p>
+ * Tiles are stored in a flat array indexed by {@code column + row * COLUMNS},
+ * so finding a tile by position or finding a tile's neighbours
+ * is a single array access.
  */
 public final class Board implements Renderable {
     /**
-     * The maximum number of tiles on this board.
-     * <p>
-     * Default is 20x20 tiles.
+     * The number of columns of tiles on the board.
+     */
+    public static final int COLUMNS = App.BOARD_WIDTH;
+    /**
+     * The number of rows of tiles on the board.
      */
-    private final int maxTilesOnBoard = 400;
+    public static final int ROWS = App.BOARD_WIDTH;
+    /**
+     * Returned by {@code indexOf} when a position is not on the board.
+     */
+    public static final int NO_TILE = -1;
+
+    /**
+     * All tiles on the board, in row-major order.
+     */
+    private final Tile[] tiles = new Tile[COLUMNS * ROWS];
     /**
      * A hashmap that pairs all tiles on the board with their position.
+     * <p>
+     * This is only kept for code that wants to look up tiles by position,
+     * the board itself uses {@code tiles}.
      */
     private final HashMap<PVector, Tile> levelTiles;
 
     /**
-     * The position of the wizard's house.
+     * The assets that the board's tiles get their sprites from.
+     */
+    private final GameAssets assets;
+
+    /**
+     * The wizard's house.
      */
-    private PVector housePos;
+    private WizHouse wizHouse;
 
     /**
      * {@code Board}'s constructor.
+     * <p>
+     * Constructs a board without sprites, for games that are never drawn.
      * On construction the board is loaded.
      * @param filename The map file's name.
      */
     public Board(String filename) {
-        this.levelTiles = new HashMap<PVector, Tile>(this.maxTilesOnBoard);    
+        this(filename, new GameAssets());
+    }
+
+    /**
+     * {@code Board}'s constructor.
+     * On construction the board is loaded.
+     * @param filename The map file's name.
+     * @param assets The assets that the board's tiles get their sprites from.
+     * @throws NullPointerException If assets is null.
+     */
+    public Board(String filename, GameAssets assets) throws NullPointerException {
+        if (assets == null) throw new NullPointerException("Board must be constructed with non-null assets.");
+
+        this.assets = assets;
+        this.levelTiles = new LinkedHashMap<PVector, Tile>(COLUMNS * ROWS);
         this.loadBoard(filename);
     }
 
     /**
-     * Gets all tiles on the board.
+     * Gets all tiles on the board, paired with their position.
+     * <p>
+     * Tiles are iterated in row-major order.
      * @return All tiles on the board.
      */
     public HashMap<PVector, Tile> getLevelTiles() { return levelTiles; }
@@ -55,7 +97,37 @@ public final class Board implements Renderable {
      * @return The wizard's house.
      * @see WizHouse
      */
-    public WizHouse getWizHouse() { return (WizHouse)levelTiles.get(housePos); }
+    public WizHouse getWizHouse() { return this.wizHouse; }
+    /**
+     * Gets the assets that the board's tiles get their sprites from.
+     * @return The board's assets.
+     */
+    public GameAssets getAssets() { return this.assets; }
+
+    /**
+     * Gets the tile at the given index.
+     * @param index The index of the tile, {@code column + row * COLUMNS}.
+     * @return The tile at the index, {@code null} if the index is not on the board.
+     */
+    public Tile getTile(int index) {
+        if (index < 0 || index >= this.tiles.length) {
+            return null;
+        }
+        return this.tiles[index];
+    }
+
+    /**
+     * Gets the tile at the given column and row.
+     * @param column The column of the tile.
+     * @param row The row of the tile.
+     * @return The tile at the column and row, {@code null} if it is not on the board.
+     */
+    public Tile getTile(int column, int row) {
+        if (column < 0 || column >= COLUMNS || row < 0 || row >= ROWS) {
+            return null;
+        }
+        return this.tiles[column + row * COLUMNS];
+    }
 
     /**
      * Loads the given map file onto the board.
@@ -99,38 +171,40 @@ public final class Board implements Renderable {
      * @param tileType The type of tile added to the board. Grass by default.
      */
     private void addTileToBoard(int x, int y, String tileType) {
+        Tile t;
         switch (tileType) {
             case "S": // Shrub
-                Shrub s = new Shrub(x, y);
-                levelTiles.put(s.getPos(), s);
+                t = new Shrub(x, y, this.assets);
                 break;
             case "X": // Path
-                Path p = new Path(x, y);
-                levelTiles.put(p.getPos(), p);
+                t = new Path(x, y, this.assets);
                 break;
             case "W": // Wizard's house
-                WizHouse w = new WizHouse(x, y);
-                this.housePos = w.getPos();
-                levelTiles.put(w.getPos(), w);
+                this.wizHouse = new WizHouse(x, y, this.assets);
+                t = this.wizHouse;
                 break;
             default: // Grass
-                Grass g = new Grass(x, y);
-                levelTiles.put(g.getPos(), g);
+                t = new Grass(x, y, this.assets);
         }
+
+        this.tiles[indexOf(x, y)] = t;
+        this.levelTiles.put(t.getPos(), t);
     }
 
     /**
      * Converts all paths on the board into their correct sprite and orientation.
-     * @param app Used to rotate the paths.
+     * <p>
+     * Every path starts again from the straight sprite, so this can be called more than once.
      */
-    public void connectPaths(App app) {
-        for (Map.Entry<PVector, Tile> entry : levelTiles.entrySet()) {
-            if (!(entry.getValue() instanceof Path)) {
+    public void connectPaths() {
+        for (Tile t : this.tiles) {
+            if (!(t instanceof Path)) {
                 continue;
             }
 
-            Path p = (Path)entry.getValue();
-            
+            Path p = (Path)t;
+            p.convertToStraight();
+
             boolean validLeftPath = getTileLeftOf(p) instanceof Path || getTileLeftOf(p) == null;
             boolean validRightPath = getTileRightOf(p) instanceof Path || getTileRightOf(p) == null;
             boolean validTopPath = getTileUpOf(p) instanceof Path || getTileUpOf(p) == null;
@@ -145,39 +219,39 @@ public final class Board implements Renderable {
             if (!validTopPath && !validBotPath) { // Left to Right
                 continue;
             } else if (!validLeftPath && !validRightPath) { // Top to bot
-                p.rotateImage(app, 90);
+                p.rotateImage(90);
                 continue;
             }
             
             // Bent paths
             if (!validBotPath && !validLeftPath) { // Top to right
                 p.convertToBend();
-                p.rotateImage(app, 180);
+                p.rotateImage(180);
                 continue;
             } else if (!validTopPath && !validLeftPath) { // Bot to right
                 p.convertToBend();
-                p.rotateImage(app, 270);
+                p.rotateImage(270);
                 continue;
             } else if (!validTopPath && !validRightPath) { // Bot to left
                 p.convertToBend();
                 continue;
             } else if (!validBotPath && !validRightPath) { // Top to left
                 p.convertToBend();
-                p.rotateImage(app, 90);
+                p.rotateImage(90);
                 continue;
             } 
 
             if (!validBotPath) { // All but left
                 p.convertToT();
-                p.rotateImage(app, 180);
+                p.rotateImage(180);
             } else if (!validTopPath) { // All but top
                 p.convertToT();
             } else if (!validRightPath) { // All but right
                 p.convertToT();
-                p.rotateImage(app, 90);
+                p.rotateImage(90);
             } else if (!validLeftPath) { // All but left
                 p.convertToT();
-                p.rotateImage(app, 270);
+                p.rotateImage(270);
             } 
         }
     }
@@ -186,16 +260,17 @@ public final class Board implements Renderable {
      * Gets the tile that is under the specified position.
      * @param x x-position.
      * @param y y-position.
-     * @return The tile under the specified position.
+     * @return The tile under the specified position, {@code null} if there isn't one.
      */
     public Tile getTileAtPos(float x, float y) {
-        for (Map.Entry<PVector, Tile> entry : levelTiles.entrySet()) {
-            if (x >= entry.getKey().x && x <= entry.getKey().x + App.CELLSIZE &&
-                y >= entry.getKey().y && y <= entry.getKey().y + App.CELLSIZE) {
-                return entry.getValue();
-            }
+        // The right and bottom edges of the board still belong to the last tile
+        if (x < 0 || x > App.LEVEL_WIDTH || y < App.TOPBAR || y > App.TOPBAR + App.LEVEL_HEIGHT) {
+            return null;
         }
-        return null;
+
+        int column = Math.min(COLUMNS - 1, (int)(x / App.CELLSIZE));
+        int row = Math.min(ROWS - 1, (int)((y - App.TOPBAR) / App.CELLSIZE));
+        return this.tiles[column + row * COLUMNS];
     }
 
     /**
@@ -204,8 +279,7 @@ public final class Board implements Renderable {
      * @return The tile right of the given tile, {@code null} if there isn't one.
      */
     public Tile getTileRightOf(Tile t) {
-        PVector rightPos = new PVector(t.getPos().x + App.CELLSIZE, t.getPos().y);
-        return levelTiles.get(rightPos);
+        return this.getTile(columnOf(t.getPos().x) + 1, rowOf(t.getPos().y));
     }
 
     /**
@@ -214,8 +288,7 @@ public final class Board implements Renderable {
      * @return The tile left of the given tile, {@code null} if there isn't one.
      */
     public Tile getTileLeftOf(Tile t) {
-        PVector leftPos = new PVector(t.getPos().x - App.CELLSIZE, t.getPos().y);
-        return levelTiles.get(leftPos);
+        return this.getTile(columnOf(t.getPos().x) - 1, rowOf(t.getPos().y));
     }
 
      /**
@@ -224,8 +297,7 @@ public final class Board implements Renderable {
      * @return The tile up from the given tile, {@code null} if there isn't one.
      */
     public Tile getTileUpOf(Tile t) {
-        PVector upPos = new PVector(t.getPos().x, t.getPos().y - App.CELLSIZE);
-        return levelTiles.get(upPos);
+        return this.getTile(columnOf(t.getPos().x), rowOf(t.getPos().y) - 1);
     }
 
      /**
@@ -234,17 +306,44 @@ public final class Board implements Renderable {
      * @return The tile below the given tile, {@code null} if there isn't one.
      */
     public Tile getTileDownOf(Tile t) {
-        PVector downPos = new PVector(t.getPos().x, t.getPos().y + App.CELLSIZE);
-        return levelTiles.get(downPos);
+        return this.getTile(columnOf(t.getPos().x), rowOf(t.getPos().y) + 1);
+    }
+
+    /**
+     * Gets the index of the tile whose top-left corner is at the given position.
+     * @param x The x-position of the tile's top-left corner.
+     * @param y The y-position of the tile's top-left corner.
+     * @return The index of the tile, {@code column + row * COLUMNS},
+     * or {@code NO_TILE} if the position is not on the board.
+     */
+    public static int indexOf(float x, float y) {
+        int column = columnOf(x);
+        int row = rowOf(y);
+        if (column < 0 || column >= COLUMNS || row < 0 || row >= ROWS) {
+            return NO_TILE;
+        }
+        return column + row * COLUMNS;
     }
 
+    /**
+     * Gets the column of a tile from the x-position of its top-left corner.
+     * @param x The x-position of the tile's top-left corner.
+     * @return The column of the tile, which may be off the board.
+     */
+    public static int columnOf(float x) { return Math.round(x / App.CELLSIZE); }
+    /**
+     * Gets the row of a tile from the y-position of its top-left corner.
+     * @param y The y-position of the tile's top-left corner.
+     * @return The row of the tile, which may be off the board.
+     */
+    public static int rowOf(float y) { return Math.round((y - App.TOPBAR) / App.CELLSIZE); }
+
     public void drawToLayer(PGraphics layer) {
-        for (Map.Entry<PVector, Tile> entry : levelTiles.entrySet()) {
-            Tile tile = entry.getValue();
+        for (Tile tile : this.tiles) {
             tile.drawToLayer(layer);
         }   
 
-        Grass gr = new Grass(this.getWizHouse().getPos().x, this.getWizHouse().getPos().y);
+        Grass gr = new Grass(this.getWizHouse().getPos().x, this.getWizHouse().getPos().y, this.assets);
         gr.drawToLayer(layer);
     }
     
@@ -0,0 +1,252 @@
+package WizardTD.Game.Board;
+
+import java.util.ArrayList;
+
+import WizardTD.App;
+import WizardTD.Game.GameAssets;
+
+/**
+ * Represents the {@code FlowField} class.
+ * <p>
+ * A flow field stores, for every tile on the board, how many steps it is
+ * from the wizard's house and which tile to step onto next to get there.
+ * <p>
+ * It is built with a single Breadth-First Search that starts at the wizard's
+ * house and works outwards over walkable tiles, so every monster can look up
+ * its next step without having a path of its own.
+ * The results are kept in flat arrays that share the board's tile indices.
+ */
+public final class FlowField {
+    /**
+     * The distance of a tile that has no walkable path to the wizard's house.
+     */
+    public static final int UNREACHABLE = -1;
+    /**
+     * The next step of a tile that has nowhere to go,
+     * either because it is the wizard's house or because it is unreachable.
+     */
+    private static final int NO_NEXT = -1;
+    /**
+     * The number of columns on the board.
+     */
+    private static final int COLUMNS = Board.COLUMNS;
+    /**
+     * The number of rows on the board.
+     */
+    private static final int ROWS = Board.ROWS;
+
+    /**
+     * The board that the flow field is built from.
+     */
+    private final Board board;
+    /**
+     * The number of steps from each tile to the wizard's house.
+     */
+    private final int[] distance = new int[COLUMNS * ROWS];
+    /**
+     * The index of the tile to step onto next from each tile.
+     */
+    private final int[] next = new int[COLUMNS * ROWS];
+    /**
+     * The queue used by the search. Each tile is added at most once,
+     * so it never needs to be bigger than the board.
+     */
+    private final int[] queue = new int[COLUMNS * ROWS];
+    /**
+     * The tiles just outside the board that monsters walk in from.
+     */
+    private final ArrayList<Tile> startingTiles = new ArrayList<>();
+
+    /**
+     * {@code FlowField}'s constructor.
+     * <p>
+     * The flow field is computed on construction.
+     * @param board The board that the flow field is built from.
+     * @throws NullPointerException If board is null.
+     */
+    public FlowField(Board board) throws NullPointerException {
+        if (board == null) {
+            throw new NullPointerException("FlowField must be constructed with a non-null board");
+        }
+
+        this.board = board;
+        this.recompute();
+    }
+
+    /**
+     * Gets the tiles just outside the board that monsters walk in from.
+     * <p>
+     * Only starting tiles that can reach the wizard's house are included.
+     * @return The tiles that monsters walk in from.
+     */
+    public ArrayList<Tile> getStartingTiles() { return this.startingTiles; }
+
+    /**
+     * Recomputes the flow field from the board.
+     * <p>
+     * This only touches each tile a handful of times, so it is cheap enough
+     * to call whenever a tile's walkable status changes.
+     */
+    public void recompute() {
+        for (int i = 0; i < this.distance.length; i++) {
+            this.distance[i] = UNREACHABLE;
+            this.next[i] = NO_NEXT;
+        }
+
+        WizHouse house = this.board.getWizHouse();
+        int houseIndex = house == null ? Board.NO_TILE : Board.indexOf(house.getPos().x, house.getPos().y);
+        if (houseIndex != Board.NO_TILE) {
+            this.search(houseIndex);
+        }
+
+        this.findStartingTiles();
+    }
+
+    /**
+     * Gets the number of steps from the given tile to the wizard's house.
+     * <p>
+     * Tiles just outside of the board are one step further than
+     * the edge tile next to them.
+     * @param t The tile that is checked.
+     * @return The number of steps to the wizard's house,
+     * or {@code UNREACHABLE} if there is no path.
+     */
+    public int getDistance(Tile t) {
+        int index = Board.indexOf(t.getPos().x, t.getPos().y);
+        if (index != Board.NO_TILE) {
+            return this.distance[index];
+        }
+
+        int edge = clampedIndexAt(t.getPos().x, t.getPos().y);
+        return this.distance[edge] == UNREACHABLE ? UNREACHABLE : this.distance[edge] + 1;
+    }
+
+    /**
+     * Gets the tile that a monster on the given tile should step onto next.
+     * <p>
+     * A tile just outside of the board steps onto the edge tile next to it.
+     * @param t The tile that the monster is on.
+     * @return The next tile towards the wizard's house, or {@code null}
+     * if the given tile is the wizard's house or cannot reach it.
+     */
+    public Tile getNextTile(Tile t) {
+        int index = Board.indexOf(t.getPos().x, t.getPos().y);
+        if (index == Board.NO_TILE) {
+            int edge = clampedIndexAt(t.getPos().x, t.getPos().y);
+            return this.distance[edge] == UNREACHABLE ? null : this.board.getTile(edge);
+        }
+
+        return this.next[index] == NO_NEXT ? null : this.board.getTile(this.next[index]);
+    }
+
+    /**
+     * Follows the flow field from the given tile to the wizard's house.
+     * <p>
+     * Monsters do not need this to move, it is for anything that wants
+     * to look at a whole path at once.
+     * @param start The tile that the path starts at.
+     * @return The tiles from start to the wizard's house, inclusive,
+     * or only the start tile if there is no path.
+     */
+    public ArrayList<Tile> getPathFrom(Tile start) {
+        ArrayList<Tile> path = new ArrayList<>(Math.max(1, this.getDistance(start) + 1));
+        path.add(start);
+
+        Tile current = this.getNextTile(start);
+        while (current != null) {
+            path.add(current);
+            current = this.getNextTile(current);
+        }
+        return path;
+    }
+
+    /**
+     * Runs a Breadth-First Search outwards from the wizard's house,
+     * filling in the distance and next step of every walkable tile it reaches.
+     * @param houseIndex The index of the wizard's house.
+     */
+    private void search(int houseIndex) {
+        int head = 0;
+        int tail = 0;
+        this.distance[houseIndex] = 0;
+        this.queue[tail++] = houseIndex;
+
+        while (head < tail) {
+            int current = this.queue[head++];
+            int column = current % COLUMNS;
+            int row = current / COLUMNS;
+
+            // Up, down, left then right
+            tail = this.visit(current, column, row - 1, tail);
+            tail = this.visit(current, column, row + 1, tail);
+            tail = this.visit(current, column - 1, row, tail);
+            tail = this.visit(current, column + 1, row, tail);
+        }
+    }
+
+    /**
+     * Adds the tile at the given coordinate to the search if it is walkable
+     * and has not been reached yet.
+     * @param from The index of the tile that the search came from.
+     * @param column The column of the tile.
+     * @param row The row of the tile.
+     * @param tail The end of the queue.
+     * @return The new end of the queue.
+     */
+    private int visit(int from, int column, int row, int tail) {
+        Tile t = this.board.getTile(column, row);
+        int index = column + row * COLUMNS;
+        if (t == null || !t.isWalkable() || this.distance[index] != UNREACHABLE) {
+            return tail;
+        }
+
+        this.distance[index] = this.distance[from] + 1;
+        this.next[index] = from;
+        this.queue[tail] = index;
+        return tail + 1;
+    }
+
+    /**
+     * Finds the tiles just outside the board that monsters walk in from.
+     * <p>
+     * Every reachable path tile on the edge of the board gets one starting tile,
+     * which is not part of the board.
+     */
+    private void findStartingTiles() {
+        this.startingTiles.clear();
+        GameAssets assets = this.board.getAssets();
+
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                int index = column + row * COLUMNS;
+                Tile t = this.board.getTile(index);
+                if (!(t instanceof Path) || this.distance[index] == UNREACHABLE) {
+                    continue;
+                }
+
+                // Monsters walk in from outside of map
+                if (row == 0) {
+                    this.startingTiles.add(new Path(t.getPos().x, t.getPos().y - App.CELLSIZE, assets));
+                } else if (row == ROWS - 1) {
+                    this.startingTiles.add(new Path(t.getPos().x, t.getPos().y + App.CELLSIZE, assets));
+                } else if (column == 0) {
+                    this.startingTiles.add(new Path(t.getPos().x - App.CELLSIZE, t.getPos().y, assets));
+                } else if (column == COLUMNS - 1) {
+                    this.startingTiles.add(new Path(t.getPos().x + App.CELLSIZE, t.getPos().y, assets));
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the board tile closest to the given position.
+     * @param x The x-position.
+     * @param y The y-position.
+     * @return The index of the closest tile on the board.
+     */
+    private static int clampedIndexAt(float x, float y) {
+        int column = Math.max(0, Math.min(COLUMNS - 1, Board.columnOf(x)));
+        int row = Math.max(0, Math.min(ROWS - 1, Board.rowOf(y)));
+        return column + row * COLUMNS;
+    }
+}
@@ -1,36 +1,23 @@
 package WizardTD.Game.Board;
 
-import WizardTD.App;
-import processing.core.PImage;
+import WizardTD.Game.GameAssets;
 
 /**
  * Represents the grass tiles.
  * Grass tiles are walkable and placeable by default.
  */
 public final class Grass extends Tile {
-    /**
-     * A static PImage of the grass class's sprite
-     */
-    private static PImage grassSprite;
-
     /**
      * Grass constructor
      * @param x The x position of the tile's top-left corner.
      * @param y The y position of the tile's top-left corner.
+     * @param assets The assets that the sprite comes from.
      */
-    public Grass(float x, float y) {
+    public Grass(float x, float y, GameAssets assets) {
         this.setPos(x, y);
-        this.setCurrentSprite(grassSprite);
+        this.setCurrentSprite(assets.getGrassSprite());
 
         this.setWalkable(false);
         this.setPlaceable(true);
     }
-
-    /**
-     * A static method that loads the grass sprite.
-     * @param app Used to load the image
-     */
-    public static void loadSprite(App app) {
-        grassSprite = app.loadImage("src/main/resources/WizardTD/grass.png");
-    }
 }
@@ -1,7 +1,6 @@
 package WizardTD.Game.Board;
 
-import WizardTD.App;
-import processing.core.PImage;
+import WizardTD.Game.GameAssets;
 
 /**
  * Represents The path tile.
@@ -11,67 +10,57 @@ import processing.core.PImage;
  */
 public final class Path extends Tile {
     /**
-     * The straight path sprite. Runs from top to bottom by default.
+     * The assets that the path's sprites come from.
+     * <p>
+     * The straight path sprite runs from top to bottom, the bent path sprite
+     * runs from left to bottom in an elbow bend, the T path sprite is shaped like a T
+     * and the cross sprite runs to all edges and is shaped like a +.
      */
-    private static PImage pathStraightSprite;
-    /**
-     * The bent path sprite. Runs from left to bottom in an elbow bend.
-     */
-    private static PImage pathBendSprite;
-    /**
-     * This path sprite is shaped like a T.
-     */
-    private static PImage pathTSprite;
-    /**
-     * The cross sprite runs to all edges and is shaped like a +.
-     */
-    private static PImage pathCrossSprite;
+    private final GameAssets assets;
 
     /**
      * Path's constructor
      * @param x The x position of the path's top-left corner.
      * @param y The y position of the path's top-left corner.
+     * @param assets The assets that the path's sprites come from.
+     * @throws NullPointerException If assets is null.
      */
-    public Path(float x, float y) {
+    public Path(float x, float y, GameAssets assets) throws NullPointerException {
+       if (assets == null) throw new NullPointerException("Path must be constructed with non-null assets.");
+
+       this.assets = assets;
        this.setPos(x, y);
-       this.setCurrentSprite(pathStraightSprite);
+       this.setCurrentSprite(assets.getPathStraightSprite());
        this.setWalkable(true);
        this.setPlaceable(false);
     }
 
     /**
-     * A static method that loads the path sprite.
-     * @param app Used to load the sprite
+     * Converts the current sprite to a straight path sprite.
      */
-    public static void loadSprite(App app) {
-        if (app == null) throw new NullPointerException("Failed to load path sprites because app is null.");
-
-        pathStraightSprite = app.loadImage("src/main/resources/WizardTD/path0.png");
-        pathBendSprite = app.loadImage("src/main/resources/WizardTD/path1.png");
-        pathTSprite = app.loadImage("src/main/resources/WizardTD/path2.png");
-        pathCrossSprite = app.loadImage("src/main/resources/WizardTD/path3.png");
-    }
-
+    public void convertToStraight() { this.setCurrentSprite(this.assets.getPathStraightSprite()); }
     /**
      * Converts the current sprite to a bent path sprite.
      */
-    public void convertToBend() { this.setCurrentSprite(pathBendSprite); }
+    public void convertToBend() { this.setCurrentSprite(this.assets.getPathBendSprite()); }
     /**
      * Converts the current sprite to a T-intersection path sprite.
      */
-    public void convertToT() { this.setCurrentSprite(pathTSprite); }
+    public void convertToT() { this.setCurrentSprite(this.assets.getPathTSprite()); }
     /**
      * Converts the current sprite to a + shaped path sprite.
      */
-    public void convertToCross() { this.setCurrentSprite(pathCrossSprite); }
+    public void convertToCross() { this.setCurrentSprite(this.assets.getPathCrossSprite()); }
 
     /**
-     * Rotates the current sprite by the specified angle.
-     * @see App#rotateImageByDegrees(PImage, double)
-     * @param app Used tfor rotatint the image.
-     * @param angle The angle betwen 0-360 degrees.
+     * Rotates the current sprite clockwise by the specified angle.
+     * <p>
+     * The rotated sprite comes from the assets' sprite cache, so paths with the same
+     * orientation share one image.
+     * @see GameAssets#getRotatedSprite(processing.core.PImage, int)
+     * @param angle The angle, a multiple of 90 degrees.
      */
-    public void rotateImage(App app, double angle) {
-        this.setCurrentSprite(app.rotateImageByDegrees(this.getCurrentSprite(), angle));
+    public void rotateImage(int angle) {
+        this.setCurrentSprite(this.assets.getRotatedSprite(this.getCurrentSprite(), angle));
     }
 }
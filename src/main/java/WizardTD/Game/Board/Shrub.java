@@ -1,7 +1,6 @@
 package WizardTD.Game.Board;
 
-import WizardTD.App;
-import processing.core.PImage;
+import WizardTD.Game.GameAssets;
 
 /**
  * Represents the shrub tile.
@@ -10,28 +9,16 @@ import processing.core.PImage;
  * and entities are unable to walk on them.
  */
 public final class Shrub extends Tile {
-    /**
-     * A static PImage of the shrub tile's sprite.
-     */
-    private static PImage shrubSprite;
-
     /**
      * Shrub's constructor
      * @param x The x position of the shrub tile's top-left corner.
      * @param y The y position of the shrub tile's top-left corner.
+     * @param assets The assets that the sprite comes from.
      */
-    public Shrub(float x, float y) {
+    public Shrub(float x, float y, GameAssets assets) {
         this.setPos(x, y);
-        this.setCurrentSprite(shrubSprite);
+        this.setCurrentSprite(assets.getShrubSprite());
         this.setWalkable(false);
         this.setPlaceable(false);
     }
-
-    /**
-     * A static method that loads the shrub sprite.
-     * @param app Used to load the sprite.
-     */
-    public static void loadSprite(App app) {
-        shrubSprite = app.loadImage("src/main/resources/WizardTD/shrub.png");
-    } 
 }
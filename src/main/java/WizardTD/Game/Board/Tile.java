@@ -1,5 +1,6 @@
 package WizardTD.Game.Board;
 
+import WizardTD.App;
 import WizardTD.Game.Renderable;
 import WizardTD.Game.Entities.Entity;
 import processing.core.PGraphics;
@@ -19,6 +20,18 @@ public abstract class Tile implements Renderable {
      * The position of the tile's top-left corner.
      */
     private PVector pos = new PVector();
+    /**
+     * The width of the tile's sprite.
+     * <p>
+     * Defaults to {@code App.CELLSIZE} for when no sprite is loaded.
+     */
+    private int width = App.CELLSIZE;
+    /**
+     * The height of the tile's sprite.
+     * <p>
+     * Defaults to {@code App.CELLSIZE} for when no sprite is loaded.
+     */
+    private int height = App.CELLSIZE;
 
     /**
      * Sets whether the tile can be walked on.
@@ -48,8 +61,8 @@ public abstract class Tile implements Renderable {
      * @see Entity#getCenterPos()
      */
     public PVector getCenterPos() {
-        float xOffset = this.currentSprite.width / 2;
-        float yOffset = this.currentSprite.height / 2;
+        float xOffset = this.width / 2;
+        float yOffset = this.height / 2;
         return new PVector(this.pos.x + xOffset, this.pos.y + yOffset);
     }
 
@@ -62,7 +75,22 @@ public abstract class Tile implements Renderable {
      * Sets the tile's sprite.
      * @param sprite The sprite that tile is changed to.
      */
-    public void setCurrentSprite(PImage sprite) { this.currentSprite = sprite; }
+    public void setCurrentSprite(PImage sprite) { 
+        this.currentSprite = sprite;
+        if (sprite != null) {
+            this.setSize(sprite.width, sprite.height);
+        }
+    }
+
+    /**
+     * Sets the size of the tile, which is used to find its center.
+     * @param width The width of the tile's sprite.
+     * @param height The height of the tile's sprite.
+     */
+    public void setSize(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
 
     /**
      * Gets the tile's walkable status.
@@ -1,8 +1,7 @@
 package WizardTD.Game.Board;
 
-import WizardTD.App;
+import WizardTD.Game.GameAssets;
 import processing.core.PGraphics;
-import processing.core.PImage;
 
 /**
  * Represents the wizard house tile.
@@ -13,32 +12,46 @@ import processing.core.PImage;
  */
 public final class WizHouse extends Tile {
     /**
-     * A static PImage of the wizard house sprite.
+     * The width and height of the wizard house sprite in pixels.
      */
-    private static PImage wizHouseSprite;
+    private static final int SPRITE_SIZE = 48;
+    /**
+     * How far the sprite is drawn up and to the left of the tile, so that it is centred on it.
+     */
+    private static final int SPRITE_OFFSET = 8;
 
     /**
      * WizHouse's constructor
      * @param x The x position of the wizard house tile's top-left corner.
      * @param y The y position of the wizard house tile's top-left corner.
+     * @param assets The assets that the sprite comes from.
      */
-    public WizHouse(float x, float y) {
+    public WizHouse(float x, float y, GameAssets assets) {
        this.setPos(x, y);
-       this.setCurrentSprite(wizHouseSprite);
+       this.setSize(SPRITE_SIZE, SPRITE_SIZE);
+       this.setCurrentSprite(assets.getWizHouseSprite());
        this.setPlaceable(false);
        this.setWalkable(true);
     }
 
-    @Override
-    public void drawToLayer(PGraphics layer) {
-        layer.image(this.getCurrentSprite(), this.getPos().x - 8, this.getPos().y - 8);
-    }
-
     /**
-     * A static method that loads the wizard house sprite.
-     * @param app Used to load the sprite.
+     * Gets the x position of the sprite's top-left corner.
+     * @return The x position that the sprite is drawn at.
      */
-    public static void loadSprite(App app) {
-        wizHouseSprite = app.loadImage("src/main/resources/WizardTD/wizard_house.png");
+    public float getSpriteX() { return this.getPos().x - SPRITE_OFFSET; }
+    /**
+     * Gets the y position of the sprite's top-left corner.
+     * @return The y position that the sprite is drawn at.
+     */
+    public float getSpriteY() { return this.getPos().y - SPRITE_OFFSET; }
+    /**
+     * Gets the width and height of the sprite in pixels.
+     * @return The size of the sprite.
+     */
+    public int getSpriteSize() { return SPRITE_SIZE; }
+
+    @Override
+    public void drawToLayer(PGraphics layer) {
+        layer.image(this.getCurrentSprite(), this.getSpriteX(), this.getSpriteY());
     }
 }
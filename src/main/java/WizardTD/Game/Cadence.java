@@ -0,0 +1,104 @@
+package WizardTD.Game;
+
+/**
+ * Represents the {@code Cadence} class.
+ * <p>
+ * A cadence works out the ticks that something repeating is due on, such as a tower's
+ * reloads or a wave's spawns, so that they can be scheduled on the game's timing wheel.
+ * Periods are given in ticks at a speed multiplier of 1, and are divided by the speed multiplier.
+ * <p>
+ * The cadence keeps the exact time of the next event, with its fraction of a tick, and each
+ * event is due on the first tick at or after its exact time. The fractions are carried from
+ * one event to the next rather than being rounded away, so periods that are not a whole number
+ * of ticks keep their average rate. At most one event is due per tick, so an event that would
+ * fall on a tick that has already passed is due on the next tick instead, and a period shorter
+ * than one tick runs at one event per tick.
+ * <p>
+ * The speed multiplier is fixed when the cadence is started. A speed multiplier of 0 or less
+ * stops the cadence, and its next event is never due.
+ */
+public final class Cadence {
+    /**
+     * The due tick of an event whose cadence has been stopped.
+     */
+    public static final long NEVER = Long.MAX_VALUE;
+    /**
+     * How far past a whole tick an exact time can be and still be due on that tick,
+     * so that rounding errors do not push an event back by a tick.
+     */
+    private static final double EPSILON = 1e-6;
+
+    /**
+     * The exact time of the next event, in ticks, or infinity if the cadence is stopped.
+     */
+    private double nextTime = 0;
+    /**
+     * The speed multiplier that the next event's time was worked out with.
+     */
+    private float speedMultiplier = 1;
+
+    /**
+     * Gets the speed multiplier that the cadence runs at.
+     * @return The speed multiplier.
+     */
+    public float getSpeedMultiplier() { return this.speedMultiplier; }
+
+    /**
+     * Gets the tick that the next event is due on.
+     * @return The first tick at or after the event's exact time, or {@code NEVER} if the cadence is stopped.
+     */
+    public long getDueTick() {
+        if (Double.isInfinite(this.nextTime)) {
+            return NEVER;
+        }
+        return (long)Math.ceil(this.nextTime - EPSILON);
+    }
+
+    /**
+     * Starts the cadence with an event on a tick.
+     * @param tick The tick of the event.
+     * @param speedMultiplier The speed multiplier that the cadence runs at.
+     */
+    public void start(long tick, float speedMultiplier) {
+        this.speedMultiplier = speedMultiplier;
+        this.nextTime = speedMultiplier > 0 ? tick : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Moves the cadence on to its next event, one period after the last.
+     * @param period The ticks between events at a speed multiplier of 1.
+     * @param tick The current tick. The next event is always due after it.
+     * @return The tick that the next event is due on, or {@code NEVER} if the cadence is stopped.
+     */
+    public long next(float period, long tick) {
+        if (this.speedMultiplier <= 0) {
+            return NEVER;
+        }
+
+        this.nextTime += (double)period / this.speedMultiplier;
+        long dueTick = this.getDueTick();
+        if (dueTick <= tick) {
+            this.nextTime = tick + 1;
+            return tick + 1;
+        }
+        return dueTick;
+    }
+
+    /**
+     * Writes the cadence to a snapshot.
+     * @param out The snapshot writer.
+     */
+    public void saveState(GameSnapshot.Writer out) {
+        out.putDouble(this.nextTime);
+        out.putFloat(this.speedMultiplier);
+    }
+
+    /**
+     * Replaces the cadence with the one read from a snapshot.
+     * @param in The snapshot reader.
+     */
+    public void restoreState(GameSnapshot.Reader in) {
+        this.nextTime = in.getDouble();
+        this.speedMultiplier = in.getFloat();
+    }
+}
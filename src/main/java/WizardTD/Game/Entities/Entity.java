@@ -1,5 +1,6 @@
 package WizardTD.Game.Entities;
 
+import processing.core.PImage;
 import processing.core.PVector;
 
 /**
@@ -15,6 +16,20 @@ public abstract class Entity {
      * The position of the entity from the center of its sprite
      */
     private PVector centerPos = new PVector();
+    /**
+     * The position of the entity's top-left corner on the previous tick.
+     * <p>
+     * This is {@code null} until the position is first saved.
+     */
+    private PVector prevPos = null;
+    /**
+     * The position that the entity's top-left corner is drawn at.
+     */
+    private final PVector renderPos = new PVector();
+    /**
+     * The position that the entity's center is drawn at.
+     */
+    private final PVector renderCenterPos = new PVector();
 
      /**
      * By how much the monster's speed is multiplied.
@@ -30,6 +45,15 @@ public abstract class Entity {
      */
     private float yOffset = 0;
 
+    /**
+     * The width of the entity's sprite.
+     */
+    private int width = 0;
+    /**
+     * The height of the entity's sprite.
+     */
+    private int height = 0;
+
     /**
      * Gets the position of the entity.
      * @return Returns the position of the entity's top-left corner.
@@ -82,6 +106,79 @@ public abstract class Entity {
      */
     public void setYOffset(float offset) { this.yOffset = offset; }
 
+    /**
+     * Gets the width of the entity's sprite.
+     * @return The width of the entity's sprite.
+     */
+    public int getWidth() { return this.width; }
+    /**
+     * Gets the height of the entity's sprite.
+     * @return The height of the entity's sprite.
+     */
+    public int getHeight() { return this.height; }
+
+    /**
+     * Sets the entity's size and offsets from the given sprite.
+     * <p>
+     * Sprites are never loaded when the game runs headless,
+     * in which case the default dimensions are used instead.
+     * @param sprite The entity's sprite, may be {@code null}.
+     * @param defaultWidth The width used if there is no sprite.
+     * @param defaultHeight The height used if there is no sprite.
+     */
+    public void setSizeFromSprite(PImage sprite, int defaultWidth, int defaultHeight) {
+        this.width = sprite != null ? sprite.width : defaultWidth;
+        this.height = sprite != null ? sprite.height : defaultHeight;
+        this.xOffset = this.width / 2;
+        this.yOffset = this.height / 2;
+    }
+
+    /**
+     * Saves the entity's current position as its previous position.
+     * <p>
+     * This should be called before every tick that is interpolated.
+     */
+    public void savePreviousPos() {
+        if (this.prevPos == null) {
+            this.prevPos = new PVector();
+        }
+        this.prevPos.set(this.pos);
+    }
+
+    /**
+     * Forgets the entity's previous position, so that it is not
+     * interpolated across a jump such as a respawn.
+     */
+    public void clearPreviousPos() { this.prevPos = null; }
+
+    /**
+     * Gets the position that the entity's top-left corner is drawn at.
+     * @return The interpolated position of the entity's top-left corner.
+     * @see #updateRenderPos(float)
+     */
+    public PVector getRenderPos() { return this.renderPos; }
+    /**
+     * Gets the position that the entity's center is drawn at.
+     * @return The interpolated position of the entity's center.
+     * @see #updateRenderPos(float)
+     */
+    public PVector getRenderCenterPos() { return this.renderCenterPos; }
+
+    /**
+     * Updates the entity's render position by interpolating between
+     * its previous and current position.
+     * @param alpha How far between the previous and current position, from 0 to 1.
+     */
+    public void updateRenderPos(float alpha) {
+        if (this.prevPos == null) {
+            this.renderPos.set(this.pos);
+        } else {
+            this.renderPos.set(this.prevPos.x + (this.pos.x - this.prevPos.x) * alpha,
+                               this.prevPos.y + (this.pos.y - this.prevPos.y) * alpha);
+        }
+        this.renderCenterPos.set(this.renderPos.x + this.xOffset, this.renderPos.y + this.yOffset);
+    }
+
     /**
      * This method is intended to execute the entity's logic every frame.
      */
@@ -0,0 +1,219 @@
+package WizardTD.Game.Entities;
+
+import java.util.Arrays;
+
+/**
+ * Represents the {@code EntityRegistry} class.
+ * <p>
+ * An entity registry hands out int handles to entities, so that other entities can refer to
+ * them without holding on to them, such as a fireball referring to its target.
+ * A handle holds the index of the entity's slot and the slot's generation. When an entity is
+ * unregistered, or its handle is renewed, the slot's generation changes, so every handle that
+ * was handed out before no longer resolves to anything. Checking a handle is O(1).
+ * <p>
+ * Handles are never 0, so {@link #NO_HANDLE} can stand in for a missing entity.
+ * A slot's generation wraps around after {@code MAX_GENERATION} reuses, after which an old
+ * handle to that slot could resolve again. Handles are only held for the few seconds that
+ * a target is chased, so this never happens in practice.
+ * @param <T> The type of entity that is registered.
+ */
+public final class EntityRegistry<T extends Entity> {
+    /**
+     * A handle that never resolves to an entity.
+     */
+    public static final int NO_HANDLE = 0;
+    /**
+     * The number of low bits of a handle that hold its slot's index.
+     */
+    private static final int INDEX_BITS = 20;
+    /**
+     * The most entities that can be registered at once.
+     */
+    public static final int MAX_ENTITIES = 1 << INDEX_BITS;
+    /**
+     * The highest generation of a slot, after which it wraps back to 1.
+     */
+    public static final int MAX_GENERATION = (1 << (Integer.SIZE - INDEX_BITS)) - 1;
+    /**
+     * Selects the index from a handle.
+     */
+    private static final int INDEX_MASK = MAX_ENTITIES - 1;
+    /**
+     * The number of slots that the registry has before it first grows.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The entity in each slot, or null if the slot is free.
+     */
+    private Object[] entities = new Object[INITIAL_CAPACITY];
+    /**
+     * The current generation of each slot.
+     */
+    private int[] generations = new int[INITIAL_CAPACITY];
+    /**
+     * The slots that have been freed, which are reused before new slots.
+     */
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    /**
+     * The number of freed slots.
+     */
+    private int freeCount = 0;
+    /**
+     * The number of slots that have ever been used.
+     */
+    private int slotCount = 0;
+    /**
+     * The number of registered entities.
+     */
+    private int size = 0;
+
+    /**
+     * Gets the number of registered entities.
+     * @return The number of entities with a valid handle.
+     */
+    public int size() { return this.size; }
+
+    /**
+     * Gets the index of a handle's slot.
+     * @param handle The handle.
+     * @return The slot's index.
+     */
+    public static int indexOf(int handle) { return handle & INDEX_MASK; }
+    /**
+     * Gets the generation of the slot that a handle was handed out for.
+     * @param handle The handle.
+     * @return The handle's generation, from 1 to {@code MAX_GENERATION}, or 0 for {@code NO_HANDLE}.
+     */
+    public static int generationOf(int handle) { return handle >>> INDEX_BITS; }
+
+    /**
+     * Registers an entity.
+     * @param entity The entity that is registered.
+     * @return The entity's handle.
+     * @throws NullPointerException If entity is null.
+     * @throws IllegalStateException If {@code MAX_ENTITIES} entities are already registered.
+     */
+    public int register(T entity) throws NullPointerException, IllegalStateException {
+        if (entity == null) throw new NullPointerException("EntityRegistry cannot register a null entity.");
+
+        int index;
+        if (this.freeCount > 0) {
+            index = this.freeSlots[--this.freeCount];
+        } else {
+            if (this.slotCount == MAX_ENTITIES) {
+                throw new IllegalStateException("EntityRegistry cannot hold more than " + MAX_ENTITIES + " entities.");
+            }
+            if (this.slotCount == this.entities.length) {
+                this.grow();
+            }
+            index = this.slotCount++;
+            this.generations[index] = 1;
+        }
+
+        this.entities[index] = entity;
+        ++this.size;
+        return this.handleOf(index);
+    }
+
+    /**
+     * Checks if a handle still refers to a registered entity.
+     * @param handle The handle.
+     * @return {@code true} if the handle resolves to an entity, otherwise {@code false}.
+     */
+    public boolean isValid(int handle) {
+        int index = indexOf(handle);
+        return handle != NO_HANDLE && index < this.slotCount &&
+               this.generations[index] == generationOf(handle) && this.entities[index] != null;
+    }
+
+    /**
+     * Gets the entity that a handle refers to.
+     * @param handle The handle.
+     * @return The entity, or {@code null} if the handle is no longer valid.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int handle) {
+        if (!this.isValid(handle)) {
+            return null;
+        }
+        return (T)this.entities[indexOf(handle)];
+    }
+
+    /**
+     * Gives a registered entity a new handle, so that every earlier handle to it is no longer valid.
+     * <p>
+     * The entity keeps its slot.
+     * @param handle The entity's current handle.
+     * @return The entity's new handle, or {@code NO_HANDLE} if the handle was not valid.
+     */
+    public int renew(int handle) {
+        if (!this.isValid(handle)) {
+            return NO_HANDLE;
+        }
+
+        int index = indexOf(handle);
+        this.generations[index] = nextGeneration(this.generations[index]);
+        return this.handleOf(index);
+    }
+
+    /**
+     * Unregisters the entity that a handle refers to, so that no handle to it is valid.
+     * @param handle The entity's handle.
+     * @return {@code true} if an entity was unregistered, or {@code false} if the handle was not valid.
+     */
+    public boolean unregister(int handle) {
+        if (!this.isValid(handle)) {
+            return false;
+        }
+
+        int index = indexOf(handle);
+        this.free(index);
+        return true;
+    }
+
+    /**
+     * Unregisters every entity. No handle handed out before is valid afterwards.
+     */
+    public void clear() {
+        for (int i = 0; i < this.slotCount; i++) {
+            if (this.entities[i] != null) {
+                this.free(i);
+            }
+        }
+    }
+
+    /**
+     * Frees a slot that holds an entity, moving it on to its next generation.
+     */
+    private void free(int index) {
+        this.entities[index] = null;
+        this.generations[index] = nextGeneration(this.generations[index]);
+        this.freeSlots[this.freeCount++] = index;
+        --this.size;
+    }
+
+    /**
+     * Gets the handle of a slot at its current generation.
+     */
+    private int handleOf(int index) {
+        return (this.generations[index] << INDEX_BITS) | index;
+    }
+
+    /**
+     * Gets the generation after the given one, skipping 0 so that a handle is never {@code NO_HANDLE}.
+     */
+    private static int nextGeneration(int generation) {
+        return generation == MAX_GENERATION ? 1 : generation + 1;
+    }
+
+    /**
+     * Doubles the number of slots.
+     */
+    private void grow() {
+        int capacity = Math.min(this.entities.length * 2, MAX_ENTITIES);
+        this.entities = Arrays.copyOf(this.entities, capacity);
+        this.generations = Arrays.copyOf(this.generations, capacity);
+        this.freeSlots = Arrays.copyOf(this.freeSlots, capacity);
+    }
+}
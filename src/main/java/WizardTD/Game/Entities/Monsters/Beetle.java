@@ -1,6 +1,7 @@
 package WizardTD.Game.Entities.Monsters;
 
-import WizardTD.App;
+import WizardTD.Game.GameContext;
+import WizardTD.Game.GameSnapshot;
 import WizardTD.Game.UI.HealthBar;
 import processing.core.PImage;
 
@@ -10,35 +11,73 @@ import processing.core.PImage;
  */
 public class Beetle extends Monster {
     /**
-     * A static PImage array that holds the death sprites for the death animation.
+     * The default beetle sprite and its rotated versions.
      */
-    private static PImage[] deathAnimImages = new PImage[5];
+    private final PImage[] rotatedSprites;
     /**
-     * A static PImage array that holds the default beetle sprite and its rotated versions.
+     * The width of the upward facing beetle sprite in pixels.
      */
-    private static PImage[] rotatedSprites = new PImage[4];
+    private static final int SPRITE_WIDTH = 31;
+    /**
+     * The height of the upward facing beetle sprite in pixels.
+     */
+    private static final int SPRITE_HEIGHT = 26;
 
     /**
      *  Beetle class's sole constructor.
+     * @param context The context of the game that the beetle is in.
      * @param initialHP The health points that the beetle spawns with.
      * @param speed The default movement speed that beetle spawns with.
      * @param armour This and the innateArmour variable are added to set the beetle's default armour.
      * @param manaOnDeath How much mana is gained on the beetle's death.
      * @throws IllegalArgumentException If initialHP param is <= 0, or if any of the other params are < 0.
      */
-    public Beetle(int initialHP, float speed, float armour, int manaOnDeath) throws IllegalArgumentException {
-        super(initialHP, speed, armour, manaOnDeath);
-        this.setXOffset(rotatedSprites[0].width / 2);
-        this.setYOffset(rotatedSprites[0].height / 2);
-        this.setCurrentSprite(rotatedSprites[0]);
-        this.setDeathAnimImages(deathAnimImages);
+    public Beetle(GameContext context, int initialHP, float speed, float armour,
+                  int manaOnDeath) throws IllegalArgumentException {
+        super(context, initialHP, speed, armour, manaOnDeath);
+        this.rotatedSprites = context.getAssets().getBeetleSprites();
+        this.setSizeFromSprite(this.rotatedSprites[0], SPRITE_WIDTH, SPRITE_HEIGHT);
+        this.setCurrentSprite(this.rotatedSprites[0]);
+        this.setDeathAnimImages(context.getAssets().getBeetleDeathImages());
         
         float height = 4;
-        this.setHealthBar(new HealthBar(this.getCenterPos(), 
-                                        rotatedSprites[0].width,
+        this.setHealthBar(new HealthBar(this.getRenderCenterPos(), 
+                                        this.getWidth(),
                                         height, initialHP));
     }
 
+    /**
+     * Resets the beetle, which faces up again.
+     */
+    @Override
+    void reset(float initialHP, float speed, float armour, int manaOnDeath) throws IllegalArgumentException {
+        super.reset(initialHP, speed, armour, manaOnDeath);
+        this.setCurrentSprite(this.rotatedSprites[0]);
+    }
+
+    /**
+     * Writes the beetle's state to a snapshot, including which way it faces.
+     * @param out The snapshot writer.
+     */
+    @Override
+    public void saveState(GameSnapshot.Writer out) {
+        super.saveState(out);
+        int facing = 0;
+        for (int i = 0; i < this.rotatedSprites.length; i++) {
+            if (this.rotatedSprites[i] == this.getCurrentSprite()) {
+                facing = i;
+                break;
+            }
+        }
+        out.putByte(facing);
+    }
+
+    @Override
+    public void restoreState(GameSnapshot.Reader in) {
+        super.restoreState(in);
+        this.setCurrentSprite(this.rotatedSprites[in.getByte()]);
+    }
+
     /**
      * Moves and rotates the beetle towards the current destination.
      */
@@ -56,37 +95,18 @@ public class Beetle extends Monster {
         float moveSpeed = this.getSpeed() * this.getSpeedMultiplier();
         if (up) {
             this.updatePos(0, -moveSpeed);
-            this.setCurrentSprite(rotatedSprites[0]);
+            this.setCurrentSprite(this.rotatedSprites[0]);
         } else if (down) {
             this.updatePos(0, moveSpeed);
-            this.setCurrentSprite(rotatedSprites[1]);
+            this.setCurrentSprite(this.rotatedSprites[1]);
         }
 
         if (left) {
             this.updatePos(-moveSpeed, 0);
-            this.setCurrentSprite(rotatedSprites[2]);
+            this.setCurrentSprite(this.rotatedSprites[2]);
         } else if (right) {
             this.updatePos(moveSpeed, 0);
-            this.setCurrentSprite(rotatedSprites[3]);
+            this.setCurrentSprite(this.rotatedSprites[3]);
         }
     }
-
-    /**
-     * Static method that loads the default and rotated beetle sprites, as well as the death sprites.
-     * This must be called before a beetle is spawned.
-     * @param app Allows us to load and rotate the images.
-     */
-    public static void loadSprites(App app) {
-        PImage beetleSprite = app.loadImage("src/main/resources/WizardTD/beetle.png");
-        rotatedSprites[0] = beetleSprite; // Upward facing sprite
-        rotatedSprites[1] = app.rotateImageByDegrees(beetleSprite, 180); // Downward facing sprite
-        rotatedSprites[2] = app.rotateImageByDegrees(beetleSprite, 270); // Left facing sprite
-        rotatedSprites[3] = app.rotateImageByDegrees(beetleSprite, 90); // Right facing sprite
-        
-        deathAnimImages[0] = app.loadImage("src/main/resources/WizardTD/gremlin3.png");
-        deathAnimImages[1] = app.loadImage("src/main/resources/WizardTD/gremlin4.png");
-        deathAnimImages[2] = app.loadImage("src/main/resources/WizardTD/gremlin4.png");
-        deathAnimImages[3] = app.loadImage("src/main/resources/WizardTD/gremlin5.png");
-        deathAnimImages[4] = app.loadImage("src/main/resources/WizardTD/gremlin5.png");
-    }
 }
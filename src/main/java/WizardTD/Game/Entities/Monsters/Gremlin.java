@@ -1,54 +1,37 @@
 package WizardTD.Game.Entities.Monsters;
 
-import WizardTD.App;
+import WizardTD.Game.GameAssets;
+import WizardTD.Game.GameContext;
 import WizardTD.Game.UI.HealthBar;
-import processing.core.PImage;
 
 /**
  * Represents the Gremlin monster.
  */
 public class Gremlin extends Monster {
     /**
-     * A static PImage of the Gremlin sprite.
+     * The width and height of the Gremlin sprite in pixels.
      */
-    private static PImage gremlinSprite;
-    /**
-     * A static PImage array for the Gremlin's death animation.
-     */
-    private static PImage[] gremlinDeathImages = new PImage[5];
+    private static final int SPRITE_SIZE = 20;
 
    /**
     * Gremlin constructor.
     * <p>
     * Constructs a Gremlin that seeks the shortest path to the wizard's house.
+    * @param context The context of the game that the gremlin is in.
     * @param initialHP The initial health points of the Gremlin.
     * @param speed The initial speed of the Gremlin.
     * @param armour The initial armour of the gremlin.
     * @param manaOnDeath The amount of mana the player gains on this monster's death.
     */
-    public Gremlin(int initialHP, float speed, float armour, int manaOnDeath) {
-        super(initialHP, speed, armour, manaOnDeath);
+    public Gremlin(GameContext context, int initialHP, float speed, float armour, int manaOnDeath) {
+        super(context, initialHP, speed, armour, manaOnDeath);
 
-        this.setCurrentSprite(gremlinSprite);
-        this.setXOffset(gremlinSprite.width / 2);
-        this.setYOffset(gremlinSprite.height / 2);
+        GameAssets assets = context.getAssets();
+        this.setCurrentSprite(assets.getGremlinSprite());
+        this.setSizeFromSprite(assets.getGremlinSprite(), SPRITE_SIZE, SPRITE_SIZE);
         
-        this.setDeathAnimImages(gremlinDeathImages);
+        this.setDeathAnimImages(assets.getGremlinDeathImages());
         float height = 4;
-        this.setHealthBar(new HealthBar(this.getCenterPos(), gremlinSprite.width, height, initialHP));
-    }
-
-    /**
-     * Loads the Gremlin's sprite and death images.
-     * @param app The app used to load the sprites.
-     */
-    public static void loadSprites(App app) {
-        gremlinSprite = app.loadImage("src/main/resources/WizardTD/gremlin.png");
-
-        gremlinDeathImages[0] = app.loadImage("src/main/resources/WizardTD/gremlin1.png");       
-        gremlinDeathImages[1] = app.loadImage("src/main/resources/WizardTD/gremlin2.png");
-        gremlinDeathImages[2] = app.loadImage("src/main/resources/WizardTD/gremlin3.png");
-        gremlinDeathImages[3] = app.loadImage("src/main/resources/WizardTD/gremlin4.png");
-        gremlinDeathImages[4] = app.loadImage("src/main/resources/WizardTD/gremlin5.png");
+        this.setHealthBar(new HealthBar(this.getRenderCenterPos(), this.getWidth(), height, initialHP));
     }
 }
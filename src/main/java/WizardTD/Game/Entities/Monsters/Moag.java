@@ -1,21 +1,31 @@
 package WizardTD.Game.Entities.Monsters;
 
 import java.util.LinkedList;
-import java.util.Random;
+import java.util.List;
 
 import WizardTD.App;
+import WizardTD.Game.GameContext;
+import WizardTD.Game.GameRandom;
+import WizardTD.Game.SpriteBatch;
+import WizardTD.Game.UI.HealthBarBatch;
 import processing.core.PGraphics;
 
 public final class Moag extends Gremlin {
-    private final int numberOfMonstersToSpawn;
+    /**
+     * The tint that the moag is drawn with, to tell it apart from gremlins.
+     * This is the colour (200, 0, 100).
+     */
+    private static final int TINT = 0xFFC80064;
+
+    private int numberOfMonstersToSpawn;
 
     int initialHP;
     float speed;
     float armour; 
     int manaOnDeath;
     
-    public Moag(int numberOfMonsters, int initialHP, float speed, float armour, int manaOnDeath) {
-        super(initialHP, speed, armour, manaOnDeath);
+    public Moag(GameContext context, int numberOfMonsters, int initialHP, float speed, float armour, int manaOnDeath) {
+        super(context, initialHP, speed, armour, manaOnDeath);
 
         numberOfMonstersToSpawn = numberOfMonsters;
         this.initialHP = initialHP;
@@ -24,27 +34,92 @@ public final class Moag extends Gremlin {
         this.manaOnDeath = manaOnDeath;
     }
 
-    public LinkedList<Monster> getMonstersInMoag()  {
-        Random rnd = new Random();
+    /**
+     * Gets the number of gremlins spawned on the moag's death.
+     * @return The number of gremlins spawned on death.
+     */
+    public int getNumberOfMonstersToSpawn() { return this.numberOfMonstersToSpawn; }
+    /**
+     * Gets the health points that each spawned gremlin starts with.
+     * @return The spawned gremlins' initial health points.
+     */
+    public int getSpawnHP() { return this.initialHP; }
+    /**
+     * Gets the speed of each spawned gremlin.
+     * @return The spawned gremlins' speed.
+     */
+    public float getSpawnSpeed() { return this.speed; }
+    /**
+     * Gets the armour of each spawned gremlin.
+     * @return The spawned gremlins' armour.
+     */
+    public float getSpawnArmour() { return this.armour; }
+    /**
+     * Gets the mana dropped by each spawned gremlin.
+     * @return The mana dropped on a spawned gremlin's death.
+     */
+    public int getSpawnManaOnDeath() { return this.manaOnDeath; }
 
+    /**
+     * Sets the gremlins that the moag spawns on death, for a moag reused by a {@code MonsterPool}.
+     * @param numberOfMonsters The number of gremlins spawned on death.
+     * @param initialHP The health points that each spawned gremlin starts with.
+     * @param speed The speed of each spawned gremlin.
+     * @param armour The armour of each spawned gremlin.
+     * @param manaOnDeath The mana dropped on a spawned gremlin's death.
+     */
+    void setSpawns(int numberOfMonsters, int initialHP, float speed, float armour, int manaOnDeath) {
+        this.numberOfMonstersToSpawn = numberOfMonsters;
+        this.initialHP = initialHP;
+        this.speed = speed;
+        this.armour = armour;
+        this.manaOnDeath = manaOnDeath;
+    }
+
+    public LinkedList<Monster> getMonstersInMoag()  {
         LinkedList<Monster> monstersToSpawnOnDeath = new LinkedList<>();
-        for (int i = 0; i < numberOfMonstersToSpawn; i++) {
-            Gremlin g = new Gremlin(initialHP, speed, armour, manaOnDeath);
-            g.setPath(this.getPath());
+        this.spawnMonstersInMoag(monstersToSpawnOnDeath);
+        return monstersToSpawnOnDeath;
+    }
+
+    /**
+     * Spawns the moag's gremlins where it died, following the same path as the moag.
+     * <p>
+     * The gremlins are acquired from the game's monster pool in one go.
+     * @param into The list that the gremlins are added to.
+     */
+    public void spawnMonstersInMoag(List<Monster> into) {
+        GameRandom rnd = this.getContext().getRandom();
+
+        int first = into.size();
+        this.getContext().getMonsterPool().acquireGremlins(numberOfMonstersToSpawn, initialHP, speed, armour,
+                                                           manaOnDeath, into);
+        for (Monster g : into.subList(first, into.size())) {
+            if (this.hasCustomPath()) {
+                g.setPath(this.getPath());
+            }
             g.setStartingTile(this.getStartingTile());
+            g.setCurrentDest(this.getCurrentDest());
             g.setMoveIter(this.getMoveIter());
 
             g.setCenterPos(this.getCenterPos().x + rnd.nextInt(App.CELLSIZE), this.getCenterPos().y + rnd.nextInt(App.CELLSIZE));
-            monstersToSpawnOnDeath.add(g);
         }
-
-        return monstersToSpawnOnDeath;
     }
 
     @Override
     public void drawToLayer(PGraphics layer) {
         layer.tint(200, 0, 100);
-        layer.image(this.getCurrentSprite(), this.getPos().x, this.getPos().y);
+        layer.image(this.getCurrentSprite(), this.getRenderPos().x, this.getRenderPos().y);
         layer.tint(255);
     }
+
+    @Override
+    public void drawSprite(SpriteBatch batch) {
+        batch.add(this.getCurrentSprite(), this.getRenderPos().x, this.getRenderPos().y, TINT);
+    }
+
+    @Override
+    public void drawHealthBar(HealthBarBatch batch) {
+        // The moag is drawn without a health bar
+    }
 }
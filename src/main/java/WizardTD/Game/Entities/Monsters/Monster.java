@@ -1,41 +1,61 @@
 package WizardTD.Game.Entities.Monsters;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Random;
 
-import WizardTD.App;
+import WizardTD.Game.Cadence;
+import WizardTD.Game.GameContext;
+import WizardTD.Game.GameSnapshot;
 import WizardTD.Game.Renderable;
-import WizardTD.Game.Board.Board;
-import WizardTD.Game.Board.Path;
+import WizardTD.Game.SpriteBatch;
+import WizardTD.Game.TimingWheel;
+import WizardTD.Game.Board.FlowField;
 import WizardTD.Game.Board.Tile;
 import WizardTD.Game.Entities.Entity;
+import WizardTD.Game.Entities.EntityRegistry;
 import WizardTD.Game.UI.HealthBar;
+import WizardTD.Game.UI.HealthBarBatch;
 import processing.core.PGraphics;
 import processing.core.PImage;
-import processing.core.PVector;
 
 /**
  * Represents the monster abstract base class.
  * <p>
  * A {@code Monster}'s goal is to reach the wizard's house by following
- * the shortest walkable path. This path is chosen at random when
- * the monster is constructed.
+ * the shortest walkable path. The tile that the monster walks in from
+ * is chosen at random when the monster is constructed, after which each
+ * step is looked up in the game's {@code FlowField}.
+ * <p>
+ * Every monster is registered in its game's monster registry when it is constructed.
+ * Towers and fireballs refer to their targets by the monster's handle, which changes
+ * whenever the monster respawns or is released to the monster pool.
+ * <p>
+ * In a game, the frames of a monster's death animation are scheduled on the game's
+ * timing wheel, so a dying monster costs nothing between frames.
  */
-public class Monster extends Entity implements Renderable {
+public class Monster extends Entity implements Renderable, TimingWheel.Task {
+    /**
+     * The context of the game that the monster is in.
+     */
+    private final GameContext context;
+    /**
+     * The flow field that every monster in the game follows to the wizard's house.
+     */
+    private final FlowField flowField;
     /**
-     * An ArrayList of ArrayLists that hold
-     * a valid path for the monster to follow.
+     * The monster's handle in the game's monster registry.
      */
-    private static ArrayList<ArrayList<Tile>> paths = new ArrayList<>();
+    private int handle;
+    /**
+     * The number of times the monster has been reused by the monster pool.
+     */
+    private int spawnCount = 0;
 
     /**
-     * The path that the monster will follow.
+     * A path that the monster follows instead of the flow field.
+     * <p>
+     * {@code null} unless one has been set.
      */
-    private ArrayList<Tile> path;
+    private ArrayList<Tile> path = null;
 
     /**
      * The monster's current sprite.
@@ -93,6 +113,30 @@ public class Monster extends Entity implements Renderable {
      * For tracking if the monster's death animation has finished.
      */
     private boolean isDead = false;
+    /**
+     * For tracking if the monster has stepped onto the last tile of its path.
+     */
+    private boolean reachedEnd = false;
+    /**
+     * Whether the monster's death animation is playing on the game's timing wheel.
+     */
+    private boolean deathAnimScheduled = false;
+    /**
+     * Whether the next frame of the death animation is scheduled.
+     */
+    private boolean deathFramePending = false;
+    /**
+     * The tick on which the next frame of the death animation is due.
+     */
+    private long deathFrameTick;
+    /**
+     * The sequence number of the next frame of the death animation on the timing wheel.
+     */
+    private long deathFrameSequence;
+    /**
+     * Works out when each frame of the death animation is shown.
+     */
+    private final Cadence deathAnimCadence = new Cadence();
 
     /**
      * Monster's constructor.
@@ -100,35 +144,124 @@ public class Monster extends Entity implements Renderable {
      * This constructor should only be used by this class's child classes.
      * <p>
      * A sprite must be set otherwise the program will crash.
+     * @param context The context of the game that the monster is in.
      * @param initialHP The monster's starting health points.
      * @param speed the monster's default speed.
      * @param armour The monster's default speed.
      * @param manaOnDeath The amount of dropped on death by the monster.
      * @throws IllegalArgumentException If initialHP param is <= 0, 
      * or if any of the other params are < 0.
+     * @throws NullPointerException If context is null.
      */
-    public Monster(float initialHP, float speed, float armour, int manaOnDeath) throws IllegalArgumentException {
+    public Monster(GameContext context, float initialHP, float speed, float armour,
+                   int manaOnDeath) throws IllegalArgumentException, NullPointerException {
+        if (context == null) throw new NullPointerException("Monster must be constructed with a non-null context");
+        checkStats(initialHP, speed, armour, manaOnDeath);
+
+        this.context = context;
+        this.flowField = context.getFlowField();
+
+        this.pickStartingTile();
+        this.currentHP = initialHP;
+        this.speed = speed;
+        this.armour = armour;
+        this.manaOnDeath = manaOnDeath;
+        this.handle = context.getMonsterRegistry().register(this);
+    }
+
+    /**
+     * Checks the stats that a monster is constructed or reset with.
+     * <p>
+     * Spawn specs are checked with this too, so that a bad config is rejected when it is loaded
+     * rather than when its monster spawns.
+     * @param initialHP The monster's starting health points.
+     * @param speed The monster's speed.
+     * @param armour The monster's armour.
+     * @param manaOnDeath The amount of mana dropped on death by the monster.
+     * @throws IllegalArgumentException If initialHP is <= 0, or if any of the other stats are < 0.
+     */
+    public static void checkStats(float initialHP, float speed, float armour,
+                                   int manaOnDeath) throws IllegalArgumentException {
         if (initialHP <= 0) throw new IllegalArgumentException("initial HP must be > 0.");
         if (speed <= 0) throw new IllegalArgumentException("Initial speed must be > 0.");
         if (armour < 0) throw new IllegalArgumentException("Armour must be >= 0.");
         if (manaOnDeath < 0) throw new IllegalArgumentException("Mana on death must be >= 0.");
+    }
 
-        Random rnd = new Random();
-        // gets a random path for the monster to follow
-        this.path = paths.get(rnd.nextInt(paths.size()));
+    /**
+     * Picks a random tile for the monster to walk in from, and moves the monster onto it.
+     */
+    private void pickStartingTile() {
+        ArrayList<Tile> startingTiles = this.flowField.getStartingTiles();
+        this.startingTile = startingTiles.get(this.context.getRandom().nextInt(startingTiles.size()));
+        this.currentDest = this.startingTile;
 
-      
-        this.startingTile = this.getPath().get(0);
+        this.setCenterPos(this.startingTile.getCenterPos().x, this.startingTile.getCenterPos().y);
+    }
 
-        this.setCenterPos(this.getStartingTile().getCenterPos().x,
-                          this.getStartingTile().getCenterPos().y);
+    /**
+     * Resets the monster to the state that a newly constructed monster with the given stats
+     * would be in, so that it can be reused by a {@link MonsterPool} once it has died.
+     * <p>
+     * Like the constructor, this picks a new starting tile with the game's random number generator,
+     * so a reused monster and a new one leave the game in the same state.
+     * The monster is registered again, with a new handle.
+     * @param initialHP The monster's starting health points.
+     * @param speed The monster's default speed.
+     * @param armour The monster's armour.
+     * @param manaOnDeath The amount of mana dropped on death by the monster.
+     * @throws IllegalArgumentException If initialHP is <= 0, or if any of the other stats are < 0.
+     */
+    void reset(float initialHP, float speed, float armour, int manaOnDeath) throws IllegalArgumentException {
+        checkStats(initialHP, speed, armour, manaOnDeath);
 
+        this.cancelDeathAnim();
+        this.path = null;
+        this.moveIter = 0;
+        this.currentFrame = 0;
+        this.deathImageIter = 0;
+        this.isDead = false;
+        this.reachedEnd = false;
+        this.setSpeedMultiplier(1);
+
+        this.pickStartingTile();
+        this.clearPreviousPos();
         this.currentHP = initialHP;
         this.speed = speed;
         this.armour = armour;
         this.manaOnDeath = manaOnDeath;
+
+        if (this.healthBar != null) {
+            this.healthBar.reset(initialHP);
+        }
+
+        EntityRegistry<Monster> registry = this.context.getMonsterRegistry();
+        registry.unregister(this.handle);
+        this.handle = registry.register(this);
+        ++this.spawnCount;
     }
 
+    /**
+     * Gets the context of the game that the monster is in.
+     * @return The monster's game context.
+     */
+    public GameContext getContext() { return this.context; }
+    /**
+     * Gets the monster's handle in the game's monster registry.
+     * @return The monster's handle, which is no longer valid once the monster has respawned
+     * or been released to the monster pool.
+     * @see EntityRegistry
+     */
+    public int getHandle() { return this.handle; }
+    /**
+     * Gets the number of times the monster has been reused by the monster pool.
+     * <p>
+     * Unlike the monster's handle, this does not change when the monster respawns,
+     * so it tells each of a pooled monster's lives apart.
+     * @return The monster's spawn count, which is 0 for a newly constructed monster.
+     */
+    public int getSpawnCount() { return this.spawnCount; }
+
     /**
      * Gets the monster's current sprite.
      * @return The monster's current sprite.
@@ -160,14 +293,28 @@ public class Monster extends Entity implements Renderable {
 
     /**
      * Gets the path that the monster is following.
+     * <p>
+     * Unless a path has been set, this follows the flow field
+     * from the monster's starting tile, so a new list is built on every call.
      * @return The path that the monster is following.
      */
-    public ArrayList<Tile> getPath() { return this.path; }
+    public ArrayList<Tile> getPath() {
+        if (this.path != null) {
+            return this.path;
+        }
+        return this.flowField.getPathFrom(this.startingTile);
+    }
     /**
-     * Sets the path that the monster will follow.
+     * Sets the path that the monster will follow instead of the flow field.
      * @param path The new path for monster to follow.
      */
     public void setPath(ArrayList<Tile> path) { this.path = path; }
+    /**
+     * Checks if the monster follows a path that was set,
+     * rather than the flow field.
+     * @return {@code true} if a path has been set, otherwise {@code false}.
+     */
+    public boolean hasCustomPath() { return this.path != null; }
 
     /**
      * Gets the monster's move iterator.
@@ -259,7 +406,13 @@ public class Monster extends Entity implements Renderable {
      * @param dest the new tile destination.
      */
     public void setCurrentDest(Tile dest) { this.currentDest = dest; }
-    
+    /**
+     * Checks if the monster has reached the end of the flow field.
+     * @return {@code true} if the monster has reached the wizard's house and has not respawned yet,
+     * otherwise {@code false}.
+     */
+    public boolean hasReachedEnd() { return this.reachedEnd; }
+
     /**
      * Checks if the monster has played its death animation.
      * @return {@code true} if the monster has finished its death animation,
@@ -302,14 +455,27 @@ public class Monster extends Entity implements Renderable {
      * destination and so on, until it reaches the wizard's house.
      */
     public void move() {
-        if (this.moveIter >= path.size()) {
+        if (this.path != null) {
+            if (this.moveIter >= this.path.size()) {
+                return;
+            }
+            this.currentDest = this.path.get(this.moveIter);
+        } else if (this.reachedEnd) {
             return;
         }
 
-        this.currentDest = path.get(this.moveIter);
         if (this.getCenterPos().dist(this.currentDest.getCenterPos()) <= speed * this.getSpeedMultiplier()) {
             this.setCenterPos(this.currentDest.getCenterPos().x, this.currentDest.getCenterPos().y);
             ++this.moveIter;
+
+            if (this.path == null) {
+                Tile next = this.flowField.getNextTile(this.currentDest);
+                if (next == null) {
+                    this.reachedEnd = true;
+                } else {
+                    this.currentDest = next;
+                }
+            }
             return;
         }
         this.moveTowardsDest();
@@ -343,12 +509,109 @@ public class Monster extends Entity implements Renderable {
         }
     }
 
+    /**
+     * Writes the monster's state to a snapshot.
+     * @param out The snapshot writer.
+     * @see GameSnapshot
+     */
+    public void saveState(GameSnapshot.Writer out) {
+        out.putFloat(this.getCenterPos().x);
+        out.putFloat(this.getCenterPos().y);
+        out.putFloat(this.getSpeedMultiplier());
+        out.putFloat(this.currentHP);
+        out.putFloat(this.speed);
+        out.putFloat(this.armour);
+        out.putFloat(this.manaOnDeath);
+        out.putInt(this.moveIter);
+        out.putInt(this.currentFrame);
+        out.putInt(this.deathImageIter);
+        out.putTile(this.startingTile);
+        out.putTile(this.currentDest);
+        out.putBoolean(this.isDead);
+        out.putBoolean(this.reachedEnd);
+        out.putFloat(this.healthBar != null ? this.healthBar.getCurrentHP() : this.currentHP);
+
+        out.putInt(this.path != null ? this.path.size() : -1);
+        if (this.path != null) {
+            for (Tile t : this.path) {
+                out.putTile(t);
+            }
+        }
+
+        out.putBoolean(this.deathAnimScheduled);
+        out.putBoolean(this.deathFramePending);
+        out.putLong(this.deathFrameTick);
+        out.putLong(this.deathFrameSequence);
+        this.deathAnimCadence.saveState(out);
+    }
+
+    /**
+     * Replaces the monster's state with the state read from a snapshot.
+     * <p>
+     * The next frame of the death animation is scheduled again on the game's timing wheel,
+     * which must have been restored to the snapshot's tick.
+     * @param in The snapshot reader.
+     * @see GameSnapshot
+     */
+    public void restoreState(GameSnapshot.Reader in) {
+        this.cancelDeathAnim();
+        float x = in.getFloat();
+        float y = in.getFloat();
+        this.setCenterPos(x, y);
+        this.clearPreviousPos();
+        this.setSpeedMultiplier(in.getFloat());
+        this.currentHP = in.getFloat();
+        this.speed = in.getFloat();
+        this.armour = in.getFloat();
+        this.manaOnDeath = in.getFloat();
+        this.moveIter = in.getInt();
+        this.currentFrame = in.getInt();
+        this.deathImageIter = in.getInt();
+        this.startingTile = in.getTile();
+        this.currentDest = in.getTile();
+        this.isDead = in.getBoolean();
+        this.reachedEnd = in.getBoolean();
+        float barHP = in.getFloat();
+        if (this.healthBar != null) {
+            this.healthBar.setCurrentHP(barHP);
+        }
+
+        int pathLength = in.getInt();
+        if (pathLength < 0) {
+            this.path = null;
+        } else {
+            this.path = new ArrayList<>(pathLength);
+            for (int i = 0; i < pathLength; i++) {
+                this.path.add(in.getTile());
+            }
+        }
+
+        this.deathAnimScheduled = in.getBoolean();
+        boolean deathFramePending = in.getBoolean();
+        this.deathFrameTick = in.getLong();
+        this.deathFrameSequence = in.getLong();
+        this.deathAnimCadence.restoreState(in);
+        if (deathFramePending) {
+            this.context.getScheduler().schedule(this, this.deathFrameTick, this.deathFrameSequence);
+            this.deathFramePending = true;
+        }
+    }
+
     /**
      * Respawns the monster at its starting tile.
+     * <p>
+     * The monster gets a new handle, so towers and fireballs stop chasing it.
      */
     public void respawn() {
+        int renewed = this.context.getMonsterRegistry().renew(this.handle);
+        if (renewed != EntityRegistry.NO_HANDLE) {
+            this.handle = renewed;
+        }
         this.moveIter = 0;
-        this.getCenterPos().set(this.startingTile.getCenterPos());
+        this.currentDest = this.startingTile;
+        this.reachedEnd = false;
+        this.setCenterPos(this.startingTile.getCenterPos().x, this.startingTile.getCenterPos().y);
+        this.clearPreviousPos();
     }
 
     public void tick() {
@@ -367,179 +630,148 @@ public class Monster extends Entity implements Renderable {
         if (isDead) {
             return;
         }
-        layer.image(this.currentSprite, this.getPos().x, this.getPos().y);
+        layer.image(this.currentSprite, this.getRenderPos().x, this.getRenderPos().y);
         healthBar.drawToLayer(layer);
     }
+
+    /**
+     * Queues the monster's sprite to be drawn with the other entities' sprites.
+     * @param batch The batch that the sprite is queued in.
+     */
+    public void drawSprite(SpriteBatch batch) {
+        if (isDead) {
+            return;
+        }
+        batch.add(this.currentSprite, this.getRenderPos().x, this.getRenderPos().y);
+    }
+
+    /**
+     * Adds the monster's health bar to the batch, so that it is drawn with the other monsters' health bars.
+     * @param batch The batch that the health bar is added to.
+     */
+    public void drawHealthBar(HealthBarBatch batch) {
+        if (isDead) {
+            return;
+        }
+        batch.add(healthBar);
+    }
     
     /**
      * Draws a new death image to the layer every four frames.
      * @param layer The layer to which the image draws to.
      */
     public void playDeathAnim(PGraphics layer) {
+        this.drawDeathAnim(layer);
+        this.tickDeathAnim();
+    }
+
+    /**
+     * Starts playing the monster's death animation on the game's timing wheel,
+     * unless it has already been started.
+     * <p>
+     * The first image is shown on the current tick. Each image after it is scheduled
+     * four ticks after the last, divided by the speed multiplier, and the monster
+     * is dead once the last image has been shown.
+     */
+    public void startDeathAnim() {
+        if (this.deathAnimScheduled || this.deathImageIter > 0 || this.isDead) {
+            return;
+        }
+
+        long tick = this.context.getScheduler().getCurrentTick() + 1;
+        ++this.deathImageIter;
+        this.deathAnimScheduled = true;
+        this.deathAnimCadence.start(tick, this.getSpeedMultiplier());
+        this.scheduleDeathFrame(this.deathAnimCadence.next(deathAnimImages.length - 1, tick));
+    }
+
+    /**
+     * Shows the next image of the death animation, and schedules the one after it.
+     * @param tick The tick that the image was due on.
+     */
+    @Override
+    public void onDue(long tick) {
+        this.deathFramePending = false;
+        ++this.deathImageIter;
         if (this.deathImageIter >= deathAnimImages.length) {
+            this.deathAnimScheduled = false;
             this.setDead(true);
             return;
         }
-        
-        layer.image(deathAnimImages[this.deathImageIter], this.getPos().x, this.getPos().y);
+        this.scheduleDeathFrame(this.deathAnimCadence.next(deathAnimImages.length - 1, tick));
+    }
 
-        if (this.currentFrame % (deathAnimImages.length - 1) == 0) {
-            ++this.deathImageIter;
+    /**
+     * Schedules the next image of the death animation, unless its cadence has been stopped.
+     */
+    private void scheduleDeathFrame(long dueTick) {
+        if (dueTick == Cadence.NEVER) {
+            return;
         }
-        this.currentFrame += this.getSpeedMultiplier();
+        this.deathFrameSequence = this.context.getScheduler().schedule(this, dueTick);
+        this.deathFrameTick = dueTick;
+        this.deathFramePending = true;
     }
 
     /**
-     * Gets an ArrayList of ArrayLists of all the paths that the monster can follow.
-     * @return The paths that the monster can follow.
+     * Cancels the next image of the death animation, if one is scheduled.
      */
-    public static ArrayList<ArrayList<Tile>> getValidPaths() { return paths; }
-    
+    private void cancelDeathFrame() {
+        if (this.deathFramePending) {
+            this.context.getScheduler().cancel(this, this.deathFrameTick);
+            this.deathFramePending = false;
+        }
+    }
+
     /**
-     * Finds all possible paths on the board for the monster to follow.
-     * @param board
+     * Stops the death animation from playing on the timing wheel.
      */
-    public static void findMonsterPaths(Board board) { 
-        paths = PathFinding.getShortestPaths(board); 
+    private void cancelDeathAnim() {
+        this.cancelDeathFrame();
+        this.deathAnimScheduled = false;
     }
 
     /**
-     * Represents the {@code Monster} class's pathfinding.
-     * <p>
-     * This private static class is used for calculating the shortest
-     * path for the monster to follow.
+     * Advances the monster's death animation by one frame.
      * <p>
-     * Breadth-First Search is the algorithm that is used for the shortest
-     * path calculations.
-     */
-    private static final class PathFinding {
-        /**
-         * Iterates over each starting tile on the board 
-         * and calculates the shortest path to the wizard's house
-         * from that tile.
-         * @param board the board used.
-         * @return The shortest path to the wizard's house 
-         * for each starting tile on the board.
-         */
-        private static ArrayList<ArrayList<Tile>> getShortestPaths(Board board) {
-            ArrayList<ArrayList<Tile>> shortestPaths = new ArrayList<>();
-        
-            for (Path startingTile : getStartingTiles(board)) {
-                shortestPaths.add(findShortestPath(board, startingTile));
-            }
-
-            return shortestPaths;
+     * This is kept separate from drawing so that monsters
+     * still finish dying when the game runs without a window.
+     * It is for monsters that are ticked by hand; in a game,
+     * the animation is played on the timing wheel by {@link #startDeathAnim()}.
+     */
+    public void tickDeathAnim() {
+        if (this.deathImageIter >= deathAnimImages.length) {
+            this.setDead(true);
+            return;
         }
 
-        /**
-         * Finds the shortest path from a given starting tile to
-         * the wizard's house.
-         * @param board The board that contains a path to the wizard's house.
-         * @param startingTile The tile that this algorithm starts at
-         * @return The shortest path to the wizard's house.
-         * @see https://stackoverflow.com/questions/69471667/two-implementation-methods-of-bfs-for-finding-the-shortest-path-which-one-is-th
-         * <p>
-         * This was referenced for the creation of this algorithm.
-         */
-        private static ArrayList<Tile> findShortestPath(Board board, Path startingTile) {
-            Tile target = board.getWizHouse();
-            HashMap<Tile, Tile> parent = new HashMap<>();
-            LinkedList<Tile> queue = new LinkedList<>();
-            queue.add(startingTile);
-            parent.put(startingTile, null);
-
-            while (!queue.isEmpty()) {
-                Tile current = queue.poll();
-
-                if (current.getPos().equals(target.getPos())) {
-                    return backTrace(parent, startingTile, target);
-                }
-
-                for (Tile t : getAdjacentTiles(board, current)) {
-                    if (!parent.containsKey(t)) {
-                        parent.put(t, current);
-                        queue.add(t);
-                    }   
-                }
-            }
-            return new ArrayList<>(); // If something goes wrong, return an empty arraylist
+        if (this.currentFrame % (deathAnimImages.length - 1) == 0) {
+            ++this.deathImageIter;
         }
+        this.currentFrame += this.getSpeedMultiplier();
+    }
 
-        /**
-         * Starting from the wizard's house, this method traces the shortest path back
-         * to the starting tile.
-         * <p>
-         * @param parent All path tiles that were found by BFS.
-         * @param start  The starting tile.
-         * @param end The wizard's house
-         * @return The shortest path from the start tile to the end tile.
-         */
-        private static ArrayList<Tile> backTrace(HashMap<Tile, Tile> parent, Path start, Tile end) {
-            ArrayList<Tile> path = new ArrayList<>();
-
-            Tile current = end;
-            path.add(current);
-            while (!path.contains(start)) {
-                Tile next = parent.get(current);
-                path.add(next);
-                current = next;
-            }
-            Collections.reverse(path);
-            return path;
+    /**
+     * Draws the current death image to the layer.
+     * @param layer The layer to which the image draws to.
+     */
+    public void drawDeathAnim(PGraphics layer) {
+        if (this.deathImageIter >= deathAnimImages.length) {
+            return;
         }
 
-        /**
-         * Gets an {@code ArrayList} of all tiles adjacent to the parent tile.
-         * @param board For getting adjacent tiles.
-         * @param parent The tile that is checked.
-         * @return An {@code ArrayList} of all tiles adjacent to the parent tile.
-         */
-        private static ArrayList<Tile> getAdjacentTiles(Board board, Tile parent) {
-            ArrayList<Tile> adjacentTiles = new ArrayList<>();
-            if (board.getTileUpOf(parent) != null && board.getTileUpOf(parent).isWalkable()) {
-                adjacentTiles.add(board.getTileUpOf(parent));
-            }
-
-            if (board.getTileDownOf(parent) != null && board.getTileDownOf(parent).isWalkable()) {
-                 adjacentTiles.add(board.getTileDownOf(parent));
-            }
-
-            if (board.getTileLeftOf(parent) != null && board.getTileLeftOf(parent).isWalkable()) {
-                adjacentTiles.add(board.getTileLeftOf(parent));
-            }
-
-            if (board.getTileRightOf(parent) != null && board.getTileRightOf(parent).isWalkable()) {
-                adjacentTiles.add(board.getTileRightOf(parent));
-            }
+        layer.image(deathAnimImages[this.deathImageIter], this.getRenderPos().x, this.getRenderPos().y);
+    }
 
-            return adjacentTiles;
+    /**
+     * Queues the current death image to be drawn with the other entities' sprites.
+     * @param batch The batch that the image is queued in.
+     */
+    public void drawDeathAnim(SpriteBatch batch) {
+        if (this.deathImageIter >= deathAnimImages.length) {
+            return;
         }
 
-        /**
-         * Gets all starting path tiles on the board.
-         * @param board The board that is checked.
-         * @return All starting path tiles on the board.
-         */
-        private static ArrayList<Path> getStartingTiles(Board board) {
-            ArrayList<Path> startingTiles = new ArrayList<>();
-            for (Map.Entry<PVector, Tile> entry : board.getLevelTiles().entrySet()) {
-                if (!(entry.getValue() instanceof Path)) {
-                    continue;
-                }
-
-                // Monsters walk in from outside of map
-                Path p = (Path)entry.getValue();
-                if (board.getTileUpOf(p) == null) {
-                    startingTiles.add(new Path(p.getPos().x, p.getPos().y - App.CELLSIZE));
-                } else if (board.getTileDownOf(p) == null) {
-                    startingTiles.add(new Path(p.getPos().x, p.getPos().y + App.CELLSIZE));
-                } else if (board.getTileLeftOf(p) == null) {
-                    startingTiles.add(new Path(p.getPos().x - App.CELLSIZE, p.getPos().y));
-                } else if (board.getTileRightOf(p) == null) {
-                    startingTiles.add(new Path(p.getPos().x + App.CELLSIZE, p.getPos().y));
-                }
-            }
-            return startingTiles;
-        }
+        batch.add(deathAnimImages[this.deathImageIter], this.getRenderPos().x, this.getRenderPos().y);
     }
 }
@@ -0,0 +1,232 @@
+package WizardTD.Game.Entities.Monsters;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import WizardTD.Game.GameContext;
+
+/**
+ * Represents the {@code MonsterPool} class.
+ * <p>
+ * Waves spawn a lot of monsters, and a moag spawns a burst of gremlins at the moment it dies.
+ * Instead of creating a new monster, with its own health bar, for each of them, monsters are
+ * acquired from the pool, which reuses monsters of the same species that have died.
+ * A reused monster is reset to exactly the state that a new one would be in.
+ * <p>
+ * Releasing a monster unregisters it from the game's monster registry, so a fireball that
+ * was still chasing it drops it, rather than following it to wherever it is spawned next.
+ * <p>
+ * The pool keeps at most {@code capacity} unused monsters of each species.
+ * If more are released than that, the extras are left for the garbage collector.
+ */
+public final class MonsterPool {
+    /**
+     * The capacity used when the game's config does not give one.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+    /**
+     * The number of species, which are indexed by {@code MonsterStore}'s type ids.
+     */
+    private static final int SPECIES = MonsterStore.TYPE_MOAG + 1;
+
+    /**
+     * The context of the game that the pool's monsters are in.
+     */
+    private final GameContext context;
+    /**
+     * The most unused monsters of each species that the pool keeps.
+     */
+    private final int capacity;
+    /**
+     * The monsters of each species that are ready to be reused.
+     */
+    private final List<ArrayDeque<Monster>> freeMonsters = new ArrayList<>(SPECIES);
+
+    /**
+     * The number of monsters of each species that have been acquired.
+     */
+    private final long[] acquireCount = new long[SPECIES];
+    /**
+     * The number of acquired monsters of each species that were reused rather than created.
+     */
+    private final long[] hitCount = new long[SPECIES];
+    /**
+     * The number of monsters of each species that have been released.
+     */
+    private final long[] releaseCount = new long[SPECIES];
+    /**
+     * The most unused monsters of each species that the pool has held at once.
+     */
+    private final int[] highWaterMark = new int[SPECIES];
+
+    /**
+     * {@code MonsterPool}'s constructor.
+     * @param context The context of the game that the pool's monsters are in.
+     * @param capacity The most unused monsters of each species that the pool keeps.
+     * @throws IllegalArgumentException If capacity is < 0.
+     * @throws NullPointerException If context is null.
+     */
+    public MonsterPool(GameContext context, int capacity) throws IllegalArgumentException, NullPointerException {
+        if (capacity < 0) throw new IllegalArgumentException("Monster pool capacity must be >= 0.");
+        if (context == null) throw new NullPointerException("MonsterPool must be constructed with a non-null context.");
+
+        this.context = context;
+        this.capacity = capacity;
+        for (int i = 0; i < SPECIES; i++) {
+            this.freeMonsters.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Gets the most unused monsters of each species that the pool keeps.
+     * @return The pool's capacity.
+     */
+    public int getCapacity() { return this.capacity; }
+    /**
+     * Gets the number of unused monsters of a species in the pool.
+     * @param type The species, as one of {@code MonsterStore}'s type ids.
+     * @return The number of monsters that are ready to be reused.
+     */
+    public int getFreeCount(byte type) { return this.freeMonsters.get(type).size(); }
+    /**
+     * Gets the number of monsters of a species that have been acquired.
+     * @param type The species, as one of {@code MonsterStore}'s type ids.
+     * @return The number of monsters acquired.
+     */
+    public long getAcquireCount(byte type) { return this.acquireCount[type]; }
+    /**
+     * Gets the number of acquired monsters of a species that were reused rather than created.
+     * @param type The species, as one of {@code MonsterStore}'s type ids.
+     * @return The number of pool hits.
+     */
+    public long getHitCount(byte type) { return this.hitCount[type]; }
+    /**
+     * Gets the number of monsters of a species that have been released.
+     * @param type The species, as one of {@code MonsterStore}'s type ids.
+     * @return The number of monsters released.
+     */
+    public long getReleaseCount(byte type) { return this.releaseCount[type]; }
+    /**
+     * Gets the most unused monsters of a species that the pool has held at once.
+     * <p>
+     * A high-water mark that stays well below the capacity means the capacity can be lowered.
+     * @param type The species, as one of {@code MonsterStore}'s type ids.
+     * @return The pool's high-water mark for the species.
+     */
+    public int getHighWaterMark(byte type) { return this.highWaterMark[type]; }
+
+    /**
+     * Gets the fraction of acquired monsters, of every species, that were reused rather than created.
+     * @return A value from 0 to 1, or 0 if nothing has been acquired.
+     */
+    public float getHitRate() {
+        long acquired = 0;
+        long hits = 0;
+        for (int i = 0; i < SPECIES; i++) {
+            acquired += this.acquireCount[i];
+            hits += this.hitCount[i];
+        }
+        if (acquired == 0) {
+            return 0;
+        }
+        return (float)hits / acquired;
+    }
+
+    /**
+     * Gets a monster that is ready to be spawned.
+     * <p>
+     * An unused monster of the species is reused if there is one, otherwise a new one is created.
+     * Either way, it picks its starting tile with the game's random number generator.
+     * @param type The species, as one of {@code MonsterStore}'s type ids, other than {@code TYPE_MONSTER}.
+     * @param initialHP The monster's starting health points.
+     * @param speed The monster's speed.
+     * @param armour The monster's armour.
+     * @param manaOnDeath The amount of mana dropped on death by the monster.
+     * @param monstersInMoag The number of gremlins that a moag spawns on death. Only used by moags.
+     * @return The monster.
+     * @throws IllegalArgumentException If the type is not a species, or if any of the stats are invalid.
+     */
+    public Monster acquire(byte type, int initialHP, float speed, float armour, int manaOnDeath,
+                           int monstersInMoag) throws IllegalArgumentException {
+        if (type <= MonsterStore.TYPE_MONSTER || type >= SPECIES) {
+            throw new IllegalArgumentException("Unknown monster type: " + type);
+        }
+
+        ++this.acquireCount[type];
+        Monster monster = this.freeMonsters.get(type).pollFirst();
+        if (monster == null) {
+            return this.create(type, initialHP, speed, armour, manaOnDeath, monstersInMoag);
+        }
+
+        ++this.hitCount[type];
+        monster.reset(initialHP, speed, armour, manaOnDeath);
+        if (type == MonsterStore.TYPE_MOAG) {
+            ((Moag)monster).setSpawns(monstersInMoag, initialHP, speed, armour, manaOnDeath);
+        }
+        return monster;
+    }
+
+    /**
+     * Gets a number of gremlins at once, such as the gremlins spawned by a moag.
+     * @param count The number of gremlins.
+     * @param initialHP Each gremlin's starting health points.
+     * @param speed Each gremlin's speed.
+     * @param armour Each gremlin's armour.
+     * @param manaOnDeath The amount of mana dropped on each gremlin's death.
+     * @param into The list that the gremlins are added to.
+     * @throws IllegalArgumentException If any of the stats are invalid.
+     */
+    public void acquireGremlins(int count, int initialHP, float speed, float armour, int manaOnDeath,
+                                List<Monster> into) throws IllegalArgumentException {
+        for (int i = 0; i < count; i++) {
+            into.add(this.acquire(MonsterStore.TYPE_GREMLIN, initialHP, speed, armour, manaOnDeath, 0));
+        }
+    }
+
+    /**
+     * Returns a monster to the pool once it has died and been removed from the board.
+     * <p>
+     * The monster is unregistered from the game's monster registry,
+     * and must not be used again after it has been released.
+     * @param monster The monster to release. Nothing happens if it is {@code null}
+     * or from another game. Monsters that are not one of the species are only unregistered.
+     */
+    public void release(Monster monster) {
+        if (monster == null || monster.getContext() != this.context) {
+            return;
+        }
+
+        this.context.getMonsterRegistry().unregister(monster.getHandle());
+        byte type = MonsterStore.typeIdOf(monster);
+        if (type == MonsterStore.TYPE_MONSTER) {
+            return;
+        }
+
+        ++this.releaseCount[type];
+        ArrayDeque<Monster> free = this.freeMonsters.get(type);
+        if (free.size() < this.capacity) {
+            free.addFirst(monster);
+            if (free.size() > this.highWaterMark[type]) {
+                this.highWaterMark[type] = free.size();
+            }
+        }
+    }
+
+    /**
+     * Creates a new monster of the species.
+     */
+    private Monster create(byte type, int initialHP, float speed, float armour, int manaOnDeath,
+                           int monstersInMoag) {
+        switch (type) {
+            case MonsterStore.TYPE_WORM:
+                return new Worm(this.context, initialHP, speed, armour, manaOnDeath);
+            case MonsterStore.TYPE_BEETLE:
+                return new Beetle(this.context, initialHP, speed, armour, manaOnDeath);
+            case MonsterStore.TYPE_MOAG:
+                return new Moag(this.context, monstersInMoag, initialHP, speed, armour, manaOnDeath);
+            default:
+                return new Gremlin(this.context, initialHP, speed, armour, manaOnDeath);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package WizardTD.Game.Entities.Monsters;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Represents the {@code MonsterStore} class.
+ * <p>
+ * A monster store is the game's list of active monsters, in the order that
+ * they were added. Monsters are added when they spawn, and dead monsters are
+ * removed in one pass at the end of each tick with {@code removeDead}, which
+ * keeps that order so that towers still target the earliest spawned monster.
+ * <p>
+ * Each {@code Monster} owns its state and runs its own movement and damage.
+ * The store is only a read-side cache of the fields that targeting and the
+ * house check read for every monster, its position, health points and state,
+ * kept in parallel primitive arrays so those loops read memory in order.
+ * A monster's fields are copied into the store with {@code update} after it
+ * is ticked, so they can be behind the monster until its next tick.
+ * <p>
+ * The store can be used as a {@code List} of its monsters, but monsters can
+ * only be removed with {@code removeDead} or {@code clear}.
+ */
+public final class MonsterStore extends AbstractList<Monster> implements RandomAccess {
+    /**
+     * The state of a monster that has health points left.
+     */
+    public static final byte ALIVE = 0;
+    /**
+     * The state of a monster that is playing its death animation.
+     */
+    public static final byte DYING = 1;
+    /**
+     * The state of a monster that has finished its death animation.
+     */
+    public static final byte DEAD = 2;
+
+    /**
+     * The type id of a plain {@code Monster}.
+     */
+    public static final byte TYPE_MONSTER = 0;
+    /**
+     * The type id of a {@code Gremlin}.
+     */
+    public static final byte TYPE_GREMLIN = 1;
+    /**
+     * The type id of a {@code Beetle}.
+     */
+    public static final byte TYPE_BEETLE = 2;
+    /**
+     * The type id of a {@code Worm}.
+     */
+    public static final byte TYPE_WORM = 3;
+    /**
+     * The type id of a {@code Moag}.
+     */
+    public static final byte TYPE_MOAG = 4;
+
+    /**
+     * The capacity of a new store.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The monster that each slot belongs to.
+     */
+    private Monster[] handles = new Monster[INITIAL_CAPACITY];
+    /**
+     * The x-position of each monster's center.
+     */
+    private float[] x = new float[INITIAL_CAPACITY];
+    /**
+     * The y-position of each monster's center.
+     */
+    private float[] y = new float[INITIAL_CAPACITY];
+    /**
+     * The current health points of each monster.
+     */
+    private float[] hp = new float[INITIAL_CAPACITY];
+    /**
+     * The state of each monster, one of {@code ALIVE}, {@code DYING} or {@code DEAD}.
+     */
+    private byte[] state = new byte[INITIAL_CAPACITY];
+    /**
+     * The type id of each monster.
+     */
+    private byte[] typeId = new byte[INITIAL_CAPACITY];
+    /**
+     * The number of monsters in the store.
+     */
+    private int size = 0;
+
+    /**
+     * Gets the number of monsters in the store.
+     * @return The number of monsters in the store.
+     */
+    @Override
+    public int size() { return this.size; }
+    /**
+     * Gets the monster in the given slot.
+     * @param index The slot of the monster.
+     * @return The monster in the slot.
+     * @throws IndexOutOfBoundsException If there is no monster in the slot.
+     */
+    @Override
+    public Monster get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("No monster in slot " + index + " of " + this.size);
+        }
+        return this.handles[index];
+    }
+    /**
+     * Gets the x-position of the center of the monster in the given slot.
+     * @param index The slot of the monster.
+     * @return The monster's center x-position.
+     */
+    public float getX(int index) { return this.x[index]; }
+    /**
+     * Gets the y-position of the center of the monster in the given slot.
+     * @param index The slot of the monster.
+     * @return The monster's center y-position.
+     */
+    public float getY(int index) { return this.y[index]; }
+    /**
+     * Gets the current health points of the monster in the given slot.
+     * @param index The slot of the monster.
+     * @return The monster's current health points.
+     */
+    public float getHP(int index) { return this.hp[index]; }
+    /**
+     * Gets the state of the monster in the given slot.
+     * @param index The slot of the monster.
+     * @return {@code ALIVE}, {@code DYING} or {@code DEAD}.
+     */
+    public byte getState(int index) { return this.state[index]; }
+    /**
+     * Gets the type id of the monster in the given slot.
+     * @param index The slot of the monster.
+     * @return The monster's type id.
+     */
+    public byte getTypeId(int index) { return this.typeId[index]; }
+    /**
+     * Checks if the monster in the given slot has any health points left.
+     * @param index The slot of the monster.
+     * @return {@code true} if the monster is alive, otherwise {@code false}.
+     */
+    public boolean isAlive(int index) { return this.state[index] == ALIVE; }
+
+    /**
+     * Adds a monster to the end of the store, in the slot {@code size() - 1}.
+     * @param monster The monster to add.
+     * @return {@code true}, as the store always changes.
+     * @throws NullPointerException If monster is null.
+     */
+    @Override
+    public boolean add(Monster monster) throws NullPointerException {
+        if (monster == null) {
+            throw new NullPointerException("Cannot add a null monster to the store");
+        }
+
+        if (this.size == this.handles.length) {
+            this.grow();
+        }
+
+        int index = this.size++;
+        this.handles[index] = monster;
+        this.typeId[index] = typeIdOf(monster);
+        this.update(index);
+        ++this.modCount;
+        return true;
+    }
+
+    /**
+     * Copies the cached fields of the monster in the given slot into the store.
+     * <p>
+     * This should be called after the monster has been ticked.
+     * @param index The slot of the monster.
+     */
+    public void update(int index) {
+        Monster monster = this.handles[index];
+        this.x[index] = monster.getCenterPos().x;
+        this.y[index] = monster.getCenterPos().y;
+        this.hp[index] = monster.getCurrentHP();
+
+        if (monster.isDead()) {
+            this.state[index] = DEAD;
+        } else if (monster.isAlive()) {
+            this.state[index] = ALIVE;
+        } else {
+            this.state[index] = DYING;
+        }
+    }
+
+    /**
+     * Removes every monster whose slot is marked {@code DEAD}, moving the
+     * monsters after it down so that the rest keep the order they were added in.
+     * @return The number of monsters that were removed.
+     */
+    public int removeDead() {
+        int kept = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.state[i] == DEAD) {
+                continue;
+            }
+            if (kept != i) {
+                this.handles[kept] = this.handles[i];
+                this.x[kept] = this.x[i];
+                this.y[kept] = this.y[i];
+                this.hp[kept] = this.hp[i];
+                this.state[kept] = this.state[i];
+                this.typeId[kept] = this.typeId[i];
+            }
+            ++kept;
+        }
+
+        int removed = this.size - kept;
+        for (int i = kept; i < this.size; i++) {
+            this.handles[i] = null;
+        }
+        this.size = kept;
+        if (removed > 0) {
+            ++this.modCount;
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every monster from the store.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.handles[i] = null;
+        }
+        this.size = 0;
+        ++this.modCount;
+    }
+
+    /**
+     * Doubles the capacity of every array in the store.
+     */
+    private void grow() {
+        int capacity = this.handles.length * 2;
+        this.handles = Arrays.copyOf(this.handles, capacity);
+        this.x = Arrays.copyOf(this.x, capacity);
+        this.y = Arrays.copyOf(this.y, capacity);
+        this.hp = Arrays.copyOf(this.hp, capacity);
+        this.state = Arrays.copyOf(this.state, capacity);
+        this.typeId = Arrays.copyOf(this.typeId, capacity);
+    }
+
+    /**
+     * Gets the type id of the given monster.
+     * @param monster The monster that is checked.
+     * @return The monster's type id.
+     */
+    public static byte typeIdOf(Monster monster) {
+        if (monster instanceof Moag) {
+            return TYPE_MOAG;
+        } else if (monster instanceof Gremlin) {
+            return TYPE_GREMLIN;
+        } else if (monster instanceof Beetle) {
+            return TYPE_BEETLE;
+        } else if (monster instanceof Worm) {
+            return TYPE_WORM;
+        }
+        return TYPE_MONSTER;
+    }
+}
@@ -0,0 +1,144 @@
+package WizardTD.Game.Entities.Monsters;
+
+import java.util.ArrayList;
+
+import WizardTD.Game.Board.FlowField;
+import WizardTD.Game.Board.Tile;
+
+/**
+ * Represents the {@code PathPredictor} class.
+ * <p>
+ * A path predictor works out where a monster will be on later ticks without moving it.
+ * It copies the monster's position and progress along its path, then steps the copy
+ * exactly as {@code Monster.move()} would, one tick at a time.
+ * <p>
+ * The prediction assumes that the monster keeps its speed and is not killed.
+ * A monster that reaches the wizard's house is predicted to stay there.
+ * <p>
+ * A predictor can be started again on any monster, so one can be reused for every prediction.
+ */
+public final class PathPredictor {
+    /**
+     * The flow field that the monster follows, if it has no path of its own.
+     */
+    private FlowField flowField = null;
+    /**
+     * The monster's own path, or null if it follows the flow field.
+     */
+    private ArrayList<Tile> path = null;
+    /**
+     * The tile that the monster is moving towards.
+     */
+    private Tile currentDest = null;
+    /**
+     * The number of tiles that the monster has reached.
+     */
+    private int moveIter = 0;
+    /**
+     * Whether the monster has reached the end of the flow field.
+     */
+    private boolean reachedEnd = false;
+    /**
+     * How many pixels the monster moves per tick.
+     */
+    private float step = 0;
+    /**
+     * The predicted x position of the monster's center.
+     */
+    private float x = 0;
+    /**
+     * The predicted y position of the monster's center.
+     */
+    private float y = 0;
+    /**
+     * The number of ticks that have been predicted.
+     */
+    private int ticks = 0;
+
+    /**
+     * Starts predicting a monster's movement from where it is now.
+     * @param monster The monster.
+     * @throws NullPointerException If monster is null.
+     */
+    public void start(Monster monster) throws NullPointerException {
+        if (monster == null) throw new NullPointerException("PathPredictor cannot predict a null monster.");
+
+        this.flowField = monster.getContext().getFlowField();
+        this.path = monster.hasCustomPath() ? monster.getPath() : null;
+        this.currentDest = monster.getCurrentDest();
+        this.moveIter = monster.getMoveIter();
+        this.reachedEnd = monster.hasReachedEnd();
+        this.step = monster.getSpeed() * monster.getSpeedMultiplier();
+        this.x = monster.getCenterPos().x;
+        this.y = monster.getCenterPos().y;
+        this.ticks = 0;
+    }
+
+    /**
+     * Gets the predicted x position of the monster's center.
+     * @return The x position after the predicted ticks.
+     */
+    public float getX() { return this.x; }
+    /**
+     * Gets the predicted y position of the monster's center.
+     * @return The y position after the predicted ticks.
+     */
+    public float getY() { return this.y; }
+    /**
+     * Gets the number of ticks that have been predicted since the predictor was started.
+     * @return The number of predicted ticks.
+     */
+    public int getTicks() { return this.ticks; }
+
+    /**
+     * Predicts one more tick of the monster's movement.
+     */
+    public void step() {
+        ++this.ticks;
+        // A monster whose speed multiplier is 0 is not ticked at all
+        if (this.step == 0 || this.currentDest == null) {
+            return;
+        }
+
+        if (this.path != null) {
+            if (this.moveIter >= this.path.size()) {
+                return;
+            }
+            this.currentDest = this.path.get(this.moveIter);
+        } else if (this.reachedEnd) {
+            return;
+        }
+
+        float destX = this.currentDest.getCenterPos().x;
+        float destY = this.currentDest.getCenterPos().y;
+        float dx = this.x - destX;
+        float dy = this.y - destY;
+        if ((float)Math.sqrt(dx * dx + dy * dy) <= this.step) {
+            this.x = destX;
+            this.y = destY;
+            ++this.moveIter;
+
+            if (this.path == null) {
+                Tile next = this.flowField.getNextTile(this.currentDest);
+                if (next == null) {
+                    this.reachedEnd = true;
+                } else {
+                    this.currentDest = next;
+                }
+            }
+            return;
+        }
+
+        if (dy > 0) {
+            this.y -= this.step;
+        } else if (dy < 0) {
+            this.y += this.step;
+        }
+
+        if (dx > 0) {
+            this.x -= this.step;
+        } else if (dx < 0) {
+            this.x += this.step;
+        }
+    }
+}
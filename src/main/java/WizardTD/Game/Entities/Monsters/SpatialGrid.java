@@ -0,0 +1,248 @@
+package WizardTD.Game.Entities.Monsters;
+
+import java.util.List;
+
+import WizardTD.App;
+
+/**
+ * Represents the {@code SpatialGrid} class.
+ * <p>
+ * A spatial grid buckets monsters into the board's {@code App.CELLSIZE} cells,
+ * so that towers only have to check the monsters in the cells that overlap
+ * their range, rather than every monster on the board.
+ * <p>
+ * The grid is rebuilt once per tick with a counting sort into flat arrays,
+ * so no objects are allocated once the arrays are large enough.
+ * Positions are copied into the grid, so a query only follows a pointer
+ * to the monster that it returns.
+ */
+public final class SpatialGrid {
+    /**
+     * The number of cells added around each edge of the board.
+     * Monsters spawn just outside the board, so they need somewhere to go.
+     */
+    private static final int MARGIN = 1;
+    /**
+     * The number of columns in the grid.
+     */
+    private static final int COLUMNS = App.BOARD_WIDTH + MARGIN * 2;
+    /**
+     * The number of rows in the grid.
+     */
+    private static final int ROWS = App.BOARD_WIDTH + MARGIN * 2;
+    /**
+     * The x-position of the grid's top-left corner.
+     */
+    private static final float ORIGIN_X = -MARGIN * App.CELLSIZE;
+    /**
+     * The y-position of the grid's top-left corner.
+     */
+    private static final float ORIGIN_Y = App.TOPBAR - MARGIN * App.CELLSIZE;
+
+    /**
+     * The index in {@code sortedMonsters} at which each cell's monsters begin.
+     * <p>
+     * The monsters in cell {@code c} are found between
+     * {@code cellStart[c]} and {@code cellStart[c + 1]}.
+     */
+    private final int[] cellStart = new int[COLUMNS * ROWS + 1];
+    /**
+     * The monsters in the order that they were added.
+     */
+    private Monster[] monsters = new Monster[64];
+    /**
+     * The x-position of each monster's center.
+     */
+    private float[] monsterX = new float[64];
+    /**
+     * The y-position of each monster's center.
+     */
+    private float[] monsterY = new float[64];
+    /**
+     * Whether each monster has any health points left.
+     */
+    private boolean[] monsterAlive = new boolean[64];
+    /**
+     * The cell that each monster is in.
+     */
+    private int[] cellOfMonster = new int[64];
+    /**
+     * Indices into {@code monsters}, sorted by cell.
+     * Within a cell the indices stay in the order they were added.
+     */
+    private int[] sortedMonsters = new int[64];
+    /**
+     * The number of monsters in the grid.
+     */
+    private int size = 0;
+
+    /**
+     * Gets the number of monsters in the grid.
+     * @return The number of monsters in the grid.
+     */
+    public int size() { return this.size; }
+
+    /**
+     * Rebuilds the grid from the given monsters.
+     * <p>
+     * This should be called every tick, after the monsters have moved.
+     * @param activeMonsters The monsters that are on the board.
+     */
+    public void rebuild(List<Monster> activeMonsters) {
+        this.ensureCapacity(activeMonsters.size());
+        this.size = 0;
+        for (Monster monster : activeMonsters) {
+            this.put(monster, monster.getCenterPos().x, monster.getCenterPos().y, monster.isAlive());
+        }
+        this.sortIntoCells();
+    }
+
+    /**
+     * Rebuilds the grid from the monsters in the given store, in slot order.
+     * <p>
+     * This should be called every tick, after the monsters have moved.
+     * @param store The store of monsters that are on the board.
+     */
+    public void rebuild(MonsterStore store) {
+        this.ensureCapacity(store.size());
+        this.size = 0;
+        for (int i = 0; i < store.size(); i++) {
+            this.put(store.get(i), store.getX(i), store.getY(i), store.isAlive(i));
+        }
+        this.sortIntoCells();
+    }
+
+    /**
+     * Adds a monster to the end of the grid's arrays.
+     * @param monster The monster to add.
+     * @param x x-position of the monster's center.
+     * @param y y-position of the monster's center.
+     * @param alive Whether the monster has any health points left.
+     */
+    private void put(Monster monster, float x, float y, boolean alive) {
+        this.monsters[this.size] = monster;
+        this.monsterX[this.size] = x;
+        this.monsterY[this.size] = y;
+        this.monsterAlive[this.size] = alive;
+        this.cellOfMonster[this.size] = cellAt(x, y);
+        ++this.size;
+    }
+
+    /**
+     * Sorts the monsters that have been added by the cell that they are in.
+     */
+    private void sortIntoCells() {
+        for (int c = 0; c < this.cellStart.length; c++) {
+            this.cellStart[c] = 0;
+        }
+
+        // Count the number of monsters in each cell
+        for (int i = 0; i < this.size; i++) {
+            ++this.cellStart[this.cellOfMonster[i] + 1];
+        }
+
+        for (int c = 1; c < this.cellStart.length; c++) {
+            this.cellStart[c] += this.cellStart[c - 1];
+        }
+
+        // cellStart[c] is used as a write cursor, then shifted back afterwards
+        for (int i = 0; i < this.size; i++) {
+            this.sortedMonsters[this.cellStart[this.cellOfMonster[i]]++] = i;
+        }
+
+        for (int c = this.cellStart.length - 1; c > 0; c--) {
+            this.cellStart[c] = this.cellStart[c - 1];
+        }
+        this.cellStart[0] = 0;
+    }
+
+    /**
+     * Gets the first alive monster, in the order that monsters were added,
+     * that is within range of the given position.
+     * <p>
+     * Only cells that overlap the range are checked, and squared
+     * distances are used so that no square roots are needed.
+     * @param x x-position of the center of the range.
+     * @param y y-position of the center of the range.
+     * @param range The radius of the range.
+     * @return The first alive monster in range, otherwise {@code null}.
+     */
+    public Monster getFirstInRange(float x, float y, float range) {
+        int minColumn = columnAt(x - range);
+        int maxColumn = columnAt(x + range);
+        int minRow = rowAt(y - range);
+        int maxRow = rowAt(y + range);
+        float rangeSq = range * range;
+
+        int best = Integer.MAX_VALUE;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = row * COLUMNS + column;
+                for (int i = this.cellStart[cell]; i < this.cellStart[cell + 1]; i++) {
+                    int index = this.sortedMonsters[i];
+                    // Indices within a cell are ascending, nothing after this can win
+                    if (index >= best) {
+                        break;
+                    }
+
+                    float dx = this.monsterX[index] - x;
+                    float dy = this.monsterY[index] - y;
+                    if (dx * dx + dy * dy <= rangeSq && this.monsterAlive[index]) {
+                        best = index;
+                    }
+                }
+            }
+        }
+
+        return best == Integer.MAX_VALUE ? null : this.monsters[best];
+    }
+
+    /**
+     * Makes sure that the grid's arrays can hold the given number of monsters.
+     * @param capacity The number of monsters that the grid must hold.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.monsters.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, this.monsters.length * 2);
+        this.monsters = new Monster[newCapacity];
+        this.monsterX = new float[newCapacity];
+        this.monsterY = new float[newCapacity];
+        this.monsterAlive = new boolean[newCapacity];
+        this.cellOfMonster = new int[newCapacity];
+        this.sortedMonsters = new int[newCapacity];
+    }
+
+    /**
+     * Gets the cell that contains the given position.
+     * Positions outside of the grid are clamped to the closest edge cell.
+     * @param x The x-position.
+     * @param y The y-position.
+     * @return The index of the cell.
+     */
+    private static int cellAt(float x, float y) {
+        return rowAt(y) * COLUMNS + columnAt(x);
+    }
+
+    /**
+     * Gets the column that contains the given x-position.
+     * @param x The x-position.
+     * @return The column, clamped to the grid.
+     */
+    private static int columnAt(float x) {
+        int column = (int)Math.floor((x - ORIGIN_X) / App.CELLSIZE);
+        return Math.max(0, Math.min(COLUMNS - 1, column));
+    }
+
+    /**
+     * Gets the row that contains the given y-position.
+     * @param y The y-position.
+     * @return The row, clamped to the grid.
+     */
+    private static int rowAt(float y) {
+        int row = (int)Math.floor((y - ORIGIN_Y) / App.CELLSIZE);
+        return Math.max(0, Math.min(ROWS - 1, row));
+    }
+}
@@ -1,8 +1,8 @@
 package WizardTD.Game.Entities.Monsters;
 
-import WizardTD.App;
+import WizardTD.Game.GameAssets;
+import WizardTD.Game.GameContext;
 import WizardTD.Game.UI.HealthBar;
-import processing.core.PImage;
 
 /**
  * This class represents the worm monster.
@@ -11,50 +11,32 @@ import processing.core.PImage;
  */
 public class Worm extends Monster {
     /**
-     * A static PImage of the worm's sprite.
+     * The width and height of the worm's sprite in pixels.
      */
-    private static PImage wormSprite;
-    /**
-     * A static PImage array of the worm's death images.
-     */
-    private static PImage[] deathAnimImages = new PImage[5];
+    private static final int SPRITE_SIZE = 20;
    
     /**
     * {@code Worm}'s constructor.
     <p>
     * Constructs a worm that seeks the shortest path to the wizard's house.
+    * @param context The context of the game that the worm is in.
     * @param initialHP The initial health points of the worm.
     * @param speed The initial speed of the worm.
     * @param armour The initial armour of the worm.
     * @param manaOnDeath The amount of mana the player gains on the worm's death.
     */
-    public Worm(int initialHP, float speed, float armour, int manaOnDeath)
+    public Worm(GameContext context, int initialHP, float speed, float armour, int manaOnDeath)
     {
-        super(initialHP, speed, armour, manaOnDeath);
-        this.setCurrentSprite(wormSprite);
-        this.setXOffset(wormSprite.width / 2);
-        this.setYOffset(wormSprite.height / 2);
+        super(context, initialHP, speed, armour, manaOnDeath);
+        GameAssets assets = context.getAssets();
+        this.setCurrentSprite(assets.getWormSprite());
+        this.setSizeFromSprite(assets.getWormSprite(), SPRITE_SIZE, SPRITE_SIZE);
 
-        this.setDeathAnimImages(deathAnimImages);
+        this.setDeathAnimImages(assets.getWormDeathImages());
 
         float height = 4;
-        this.setHealthBar(new HealthBar(this.getCenterPos(),
-                                        wormSprite.width, height,
+        this.setHealthBar(new HealthBar(this.getRenderCenterPos(),
+                                        this.getWidth(), height,
                                         initialHP));
     }
-
-    /**
-     * A static method that loads the worm's sprites.
-     * @param app The app used to load the sprites.
-     */
-    public static void loadSprites(App app) {
-        wormSprite = app.loadImage("src/main/resources/WizardTD/worm.png");
-
-        deathAnimImages[0] = app.loadImage("src/main/resources/WizardTD/gremlin3.png");
-        deathAnimImages[1] = app.loadImage("src/main/resources/WizardTD/gremlin4.png");
-        deathAnimImages[2] = app.loadImage("src/main/resources/WizardTD/gremlin4.png");
-        deathAnimImages[3] = app.loadImage("src/main/resources/WizardTD/gremlin5.png");
-        deathAnimImages[4] = app.loadImage("src/main/resources/WizardTD/gremlin5.png");
-    }
-
 }
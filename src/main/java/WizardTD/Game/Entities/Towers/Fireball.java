@@ -1,9 +1,13 @@
 package WizardTD.Game.Entities.Towers;
 
-import WizardTD.App;
+import WizardTD.Game.GameSnapshot;
 import WizardTD.Game.Renderable;
+import WizardTD.Game.SpriteBatch;
+import WizardTD.Game.TimingWheel;
 import WizardTD.Game.Entities.Entity;
+import WizardTD.Game.Entities.EntityRegistry;
 import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.PathPredictor;
 import processing.core.PGraphics;
 import processing.core.PImage;
 
@@ -11,21 +15,40 @@ import processing.core.PImage;
  * Represents the fireball class.
  * <p>
  * Fireballs are projectiles that are fired from towers.
+ * <p>
+ * A fireball refers to its target by the target's handle, so once the target
+ * has respawned or been removed from the board, the fireball fizzles out
+ * instead of chasing it.
+ * <p>
+ * A fireball either homes in on its target, steering towards it on every tick,
+ * or has its impact scheduled when it is fired. A scheduled fireball works out from its
+ * target's path and speed the tick on which it will catch up with it, and lands on that
+ * tick of the game's timing wheel. Until then it does nothing when ticked, and its position
+ * is only worked out when it is drawn.
  */
-public final class Fireball extends Entity implements Renderable {
+public final class Fireball extends Entity implements Renderable, TimingWheel.Task {
+    /**
+     * The width and height of the fireball sprite in pixels.
+     */
+    private static final int SPRITE_SIZE = 6;
     /**
-     * A static field for storing the class's default sprite.
+     * The most ticks ahead that a fireball's impact is looked for. A target that cannot be
+     * caught within this many ticks is homed in on instead.
      */
-    private static PImage fireballSprite;
+    public static final int MAX_FLIGHT_TICKS = 600;
     
     /**
-     * The fireball's target. This is the entity that the fireball will move towards.
+     * The handle of the fireball's target. This is the entity that the fireball will move towards.
+     */
+    private int targetHandle = EntityRegistry.NO_HANDLE;
+    /**
+     * The registry that the target's handle is resolved with, or null if there is no target.
      */
-    private final Monster target;
+    private EntityRegistry<Monster> targets = null;
     /**
      * How much damage the fireball deals once it has reached its target.
      */
-    private final float damage;
+    private float damage;
     
     /**
      * How many pixels the fireball moves per frame. Default is 5.0.
@@ -41,22 +64,59 @@ public final class Fireball extends Entity implements Renderable {
      */
     private boolean targetReached = false;
 
+    /**
+     * The timing wheel that the fireball's impact is scheduled on, or null if it homes in on its target.
+     */
+    private TimingWheel scheduler = null;
+    /**
+     * Whether the fireball's impact is scheduled and has not happened yet.
+     */
+    private boolean impactPending = false;
+    /**
+     * The tick on which a scheduled fireball is at its starting position.
+     */
+    private long launchTick;
+    /**
+     * The tick on which a scheduled fireball lands on its target.
+     */
+    private long impactTick;
+    /**
+     * The sequence number of a scheduled fireball's impact on the timing wheel.
+     */
+    private long impactSequence;
+    /**
+     * The x position of a scheduled fireball's center when it was fired.
+     */
+    private float launchX;
+    /**
+     * The y position of a scheduled fireball's center when it was fired.
+     */
+    private float launchY;
+    /**
+     * The x position of the target's center at the moment of impact.
+     */
+    private float impactX;
+    /**
+     * The y position of the target's center at the moment of impact.
+     */
+    private float impactY;
+
     /**
      * The constructor for the fireball class.
+     * @param sprite The fireball's sprite.
      * @param x The fireball's pre-offset x position.
      * @param y The fireball's pre-offset y position.
      * @param damage How much damage the fireball does.
      * @param target The target of the fireball.
      */
-    public Fireball(float x, float y, float damage, Monster target) {
-        this.currentSprite = fireballSprite;
+    public Fireball(PImage sprite, float x, float y, float damage, Monster target) {
+        this.currentSprite = sprite;
 
-        this.setXOffset(fireballSprite.width / 2);
-        this.setYOffset(fireballSprite.height / 2);
+        this.setSizeFromSprite(sprite, SPRITE_SIZE, SPRITE_SIZE);
         this.setCenterPos(x, y);
 
         this.damage = damage;
-        this.target = target;
+        this.setTarget(target);
     }
 
     /**
@@ -71,31 +131,238 @@ public final class Fireball extends Entity implements Renderable {
     public boolean targetReached() { return this.targetReached; }
     /**
      * Gets the target of the fireball.
-     * @return The target of the fireball.
+     * @return The target of the fireball, or {@code null} if it has respawned or been removed from the board.
+     */
+    public Monster getTarget() { return this.targets == null ? null : this.targets.get(this.targetHandle); }
+    /**
+     * Gets the damage that the fireball deals once it has reached its target.
+     * @return The fireball's damage.
+     */
+    public float getDamage() { return this.damage; }
+    /**
+     * Checks if the fireball's impact was scheduled when it was fired, rather than it homing in on its target.
+     * @return {@code true} if the fireball's impact is scheduled, otherwise {@code false}.
+     */
+    public boolean isImpactScheduled() { return this.scheduler != null; }
+    /**
+     * Gets the tick on which a scheduled fireball lands on its target.
+     * @return The impact tick. Only meaningful if {@link #isImpactScheduled()} is {@code true}.
+     */
+    public long getImpactTick() { return this.impactTick; }
+
+    /**
+     * Resets the fireball so that it can be fired again.
+     * <p>
+     * Only {@code FireballPool} should reuse fireballs.
+     * @param x The fireball's pre-offset x position.
+     * @param y The fireball's pre-offset y position.
+     * @param damage How much damage the fireball does.
+     * @param target The target of the fireball.
+     */
+    void reset(float x, float y, float damage, Monster target) {
+        this.cancelImpact();
+        this.scheduler = null;
+        this.setCenterPos(x, y);
+        this.clearPreviousPos();
+        this.setSpeedMultiplier(1);
+
+        this.damage = damage;
+        this.setTarget(target);
+        this.targetReached = false;
+    }
+
+    /**
+     * Sets the fireball's target, keeping only its handle.
+     * @param target The target of the fireball, may be {@code null}.
+     */
+    private void setTarget(Monster target) {
+        if (target == null) {
+            this.targetHandle = EntityRegistry.NO_HANDLE;
+            this.targets = null;
+        } else {
+            this.targetHandle = target.getHandle();
+            this.targets = target.getContext().getMonsterRegistry();
+        }
+    }
+
+    /**
+     * Works out when the fireball will catch up with its target, and schedules its impact for that tick.
+     * <p>
+     * The fireball is taken to fly in a straight line at its current speed, and the target
+     * to follow its path at its current speed. The impact is the first tick on which the target
+     * is close enough for the fireball to have reached it. Later changes to either speed do not
+     * move the impact.
+     * <p>
+     * This should be called on the tick that the fireball is fired, before the wheel is advanced.
+     * @param scheduler The timing wheel that the impact is scheduled on.
+     * @param predictor Used to predict the target's path.
+     * @return {@code true} if the impact was scheduled, or {@code false} if the fireball
+     * has no target, cannot move, or cannot catch its target within {@code MAX_FLIGHT_TICKS},
+     * in which case it homes in on its target instead.
+     */
+    boolean scheduleImpact(TimingWheel scheduler, PathPredictor predictor) {
+        Monster target = this.getTarget();
+        float speed = this.moveSpeed * this.getSpeedMultiplier();
+        if (target == null || speed <= 0) {
+            return false;
+        }
+
+        float x = this.getCenterPos().x;
+        float y = this.getCenterPos().y;
+        predictor.start(target);
+        for (int flightTicks = 1; flightTicks <= MAX_FLIGHT_TICKS; flightTicks++) {
+            predictor.step();
+            float dx = predictor.getX() - x;
+            float dy = predictor.getY() - y;
+            if ((float)Math.sqrt(dx * dx + dy * dy) <= speed * flightTicks + this.getWidth()) {
+                // The fireball is drawn at its starting position once the current tick has finished
+                long launchTick = scheduler.getCurrentTick() + 1;
+                this.setImpact(scheduler, launchTick, launchTick + flightTicks, scheduler.getNextSequence(),
+                               predictor.getX(), predictor.getY());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Schedules the fireball's impact as read from a snapshot.
+     * @param scheduler The timing wheel that the impact is scheduled on.
+     * @param launchTick The tick on which the fireball was at its starting position.
+     * @param impactTick The tick on which the fireball lands.
+     * @param sequence The impact's sequence number on the timing wheel.
+     * @param impactX The x position of the target's center at the moment of impact.
+     * @param impactY The y position of the target's center at the moment of impact.
+     */
+    void setImpact(TimingWheel scheduler, long launchTick, long impactTick, long sequence,
+                   float impactX, float impactY) {
+        this.cancelImpact();
+        this.scheduler = scheduler;
+        this.launchTick = launchTick;
+        this.impactTick = impactTick;
+        this.impactSequence = sequence;
+        this.launchX = this.getCenterPos().x;
+        this.launchY = this.getCenterPos().y;
+        this.impactX = impactX;
+        this.impactY = impactY;
+        scheduler.schedule(this, impactTick, sequence);
+        this.impactPending = true;
+    }
+
+    /**
+     * Writes a scheduled fireball's impact to a snapshot.
+     * @param out The snapshot writer.
+     */
+    void saveImpact(GameSnapshot.Writer out) {
+        out.putBoolean(this.impactPending);
+        if (this.impactPending) {
+            out.putLong(this.launchTick);
+            out.putLong(this.impactTick);
+            out.putLong(this.impactSequence);
+            out.putFloat(this.impactX);
+            out.putFloat(this.impactY);
+        }
+    }
+
+    /**
+     * Reads a scheduled fireball's impact that was written by {@link #saveImpact(GameSnapshot.Writer)}.
+     * @param in The snapshot reader.
+     * @param scheduler The timing wheel that the impact is scheduled on.
+     * If it is {@code null}, the fireball homes in on its target instead.
      */
-    public Monster getTarget() { return this.target; }
+    void restoreImpact(GameSnapshot.Reader in, TimingWheel scheduler) {
+        if (!in.getBoolean()) {
+            return;
+        }
+
+        long launchTick = in.getLong();
+        long impactTick = in.getLong();
+        long sequence = in.getLong();
+        float impactX = in.getFloat();
+        float impactY = in.getFloat();
+        if (scheduler != null) {
+            this.setImpact(scheduler, launchTick, impactTick, sequence, impactX, impactY);
+        }
+    }
 
+    /**
+     * Takes the fireball's impact off the timing wheel, if it is still pending.
+     */
+    private void cancelImpact() {
+        if (this.impactPending) {
+            this.scheduler.cancel(this, this.impactTick);
+            this.impactPending = false;
+        }
+    }
+
+    /**
+     * Lands a scheduled fireball on its target.
+     * <p>
+     * Only the timing wheel should call this. If the target has respawned or been
+     * removed from the board since the fireball was fired, the fireball fizzles out.
+     * @param tick The tick that the impact was due on.
+     */
+    @Override
+    public void onDue(long tick) {
+        this.impactPending = false;
+        this.targetReached = true;
+        this.setCenterPos(this.impactX, this.impactY);
+
+        Monster target = this.getTarget();
+        if (target != null) {
+            target.removeHP(this.damage);
+        }
+    }
+
+    /**
+     * Moves a homing fireball towards its target. A scheduled fireball does nothing until its impact.
+     */
     public void tick() {
+        if (this.scheduler != null) {
+            return;
+        }
         moveToTarget();
     }
 
+    /**
+     * Works out where a scheduled fireball is drawn, somewhere on the straight line
+     * between where it was fired and its impact. Homing fireballs are interpolated as usual.
+     * @param alpha How far between the previous and current tick to draw, from 0 to 1.
+     */
+    @Override
+    public void updateRenderPos(float alpha) {
+        if (this.scheduler == null) {
+            super.updateRenderPos(alpha);
+            return;
+        }
+
+        float flight = (this.scheduler.getCurrentTick() - 1 + alpha - this.launchTick) /
+                       (float)(this.impactTick - this.launchTick);
+        flight = Math.max(0, Math.min(1, flight));
+        float x = this.launchX + (this.impactX - this.launchX) * flight;
+        float y = this.launchY + (this.impactY - this.launchY) * flight;
+        this.getRenderCenterPos().set(x, y);
+        this.getRenderPos().set(x - this.getXOffset(), y - this.getYOffset());
+    }
+
     /**
      * This method moves the fireball towards the target by its current movement speed.
      */
     private void moveToTarget() {
-        if (this.target == null) {
+        Monster target = this.getTarget();
+        if (target == null) {
             this.targetReached = true;
             return;
         }
         
-        if (this.getCenterPos().dist(this.target.getCenterPos()) < this.currentSprite.width) {
+        if (this.getCenterPos().dist(target.getCenterPos()) < this.getWidth()) {
             targetReached = true;
             target.removeHP(damage);
             return;
         }
 
-        float yDiff = this.getCenterPos().y - this.target.getCenterPos().y;
-        float xDiff = this.getCenterPos().x - this.target.getCenterPos().x;
+        float yDiff = this.getCenterPos().y - target.getCenterPos().y;
+        float xDiff = this.getCenterPos().x - target.getCenterPos().x;
 
         boolean up = yDiff > 0;
         boolean down = yDiff < 0;
@@ -117,15 +384,14 @@ public final class Fireball extends Entity implements Renderable {
     }
 
     public void drawToLayer(PGraphics layer) {
-        layer.image(this.currentSprite, this.getPos().x, this.getPos().y);
+        layer.image(this.currentSprite, this.getRenderPos().x, this.getRenderPos().y);
     }
 
     /**
-     * A static method that loads the fireball's sprite.
-     * @param app The app used to the load the image.
+     * Queues the fireball's sprite to be drawn with the other entities' sprites.
+     * @param batch The batch that the sprite is queued in.
      */
-    public static void loadSprite(App app) { 
-        fireballSprite = app.loadImage("src/main/resources/WizardTD/fireball.png"); 
+    public void drawSprite(SpriteBatch batch) {
+        batch.add(this.currentSprite, this.getRenderPos().x, this.getRenderPos().y);
     }
-    
 }
@@ -0,0 +1,165 @@
+package WizardTD.Game.Entities.Towers;
+
+import java.util.ArrayDeque;
+
+import WizardTD.Game.GameAssets;
+import WizardTD.Game.Entities.Monsters.Monster;
+import processing.core.PImage;
+
+/**
+ * Represents the {@code FireballPool} class.
+ * <p>
+ * Towers fire a lot of short-lived fireballs, especially once upgraded
+ * and at a faster game speed. Instead of creating a new {@code Fireball}
+ * for every shot, towers acquire one from the pool and release it once
+ * it has reached its target, so it can be reused for a later shot.
+ * <p>
+ * The pool keeps at most {@code capacity} unused fireballs.
+ * If more are released than that, the extras are left for the garbage collector.
+ */
+public final class FireballPool {
+    /**
+     * The capacity used when the game's config does not give one.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Fireballs that are ready to be reused.
+     */
+    private final ArrayDeque<Fireball> freeFireballs;
+    /**
+     * The most unused fireballs that the pool keeps.
+     */
+    private final int capacity;
+    /**
+     * The sprite that every fireball is drawn with.
+     */
+    private final PImage fireballSprite;
+
+    /**
+     * The number of fireballs that have been acquired.
+     */
+    private long acquireCount = 0;
+    /**
+     * The number of acquired fireballs that were reused rather than created.
+     */
+    private long hitCount = 0;
+    /**
+     * The number of fireballs that have been acquired but not released.
+     */
+    private int inUseCount = 0;
+    /**
+     * The most fireballs that have been in use at once.
+     */
+    private int highWaterMark = 0;
+
+    /**
+     * {@code FireballPool}'s constructor.
+     * <p>
+     * Constructs a pool of fireballs without a sprite, for games that are never drawn.
+     * @param capacity The most unused fireballs that the pool keeps.
+     * @throws IllegalArgumentException If capacity is < 0.
+     */
+    public FireballPool(int capacity) throws IllegalArgumentException {
+        this(capacity, new GameAssets());
+    }
+
+    /**
+     * {@code FireballPool}'s constructor.
+     * @param capacity The most unused fireballs that the pool keeps.
+     * @param assets The assets that the fireballs' sprite comes from.
+     * @throws IllegalArgumentException If capacity is < 0.
+     * @throws NullPointerException If assets is null.
+     */
+    public FireballPool(int capacity, GameAssets assets) throws IllegalArgumentException, NullPointerException {
+        if (capacity < 0) throw new IllegalArgumentException("Fireball pool capacity must be >= 0.");
+        if (assets == null) throw new NullPointerException("FireballPool must be constructed with non-null assets.");
+
+        this.capacity = capacity;
+        this.fireballSprite = assets.getFireballSprite();
+        this.freeFireballs = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Gets the most unused fireballs that the pool keeps.
+     * @return The pool's capacity.
+     */
+    public int getCapacity() { return this.capacity; }
+    /**
+     * Gets the number of unused fireballs in the pool.
+     * @return The number of unused fireballs in the pool.
+     */
+    public int getFreeCount() { return this.freeFireballs.size(); }
+    /**
+     * Gets the number of fireballs that have been acquired but not released.
+     * @return The number of fireballs in use.
+     */
+    public int getInUseCount() { return this.inUseCount; }
+    /**
+     * Gets the most fireballs that have been in use at once.
+     * @return The pool's high-water mark.
+     */
+    public int getHighWaterMark() { return this.highWaterMark; }
+    /**
+     * Gets the number of fireballs that have been acquired.
+     * @return The number of fireballs that have been acquired.
+     */
+    public long getAcquireCount() { return this.acquireCount; }
+    /**
+     * Gets the number of acquired fireballs that were reused rather than created.
+     * @return The number of pool hits.
+     */
+    public long getHitCount() { return this.hitCount; }
+    /**
+     * Gets the fraction of acquired fireballs that were reused rather than created.
+     * @return A value from 0 to 1, or 0 if nothing has been acquired.
+     */
+    public float getHitRate() {
+        if (this.acquireCount == 0) {
+            return 0;
+        }
+        return (float)this.hitCount / this.acquireCount;
+    }
+
+    /**
+     * Gets a fireball that is ready to be fired.
+     * <p>
+     * An unused fireball is reused if there is one, otherwise a new one is created.
+     * @param x The fireball's x position.
+     * @param y The fireball's y position.
+     * @param damage How much damage the fireball does.
+     * @param target The target of the fireball.
+     * @return A fireball at the given position, moving towards the target.
+     */
+    public Fireball acquire(float x, float y, float damage, Monster target) {
+        ++this.acquireCount;
+        ++this.inUseCount;
+        if (this.inUseCount > this.highWaterMark) {
+            this.highWaterMark = this.inUseCount;
+        }
+
+        Fireball fireball = this.freeFireballs.pollFirst();
+        if (fireball == null) {
+            return new Fireball(this.fireballSprite, x, y, damage, target);
+        }
+
+        ++this.hitCount;
+        fireball.reset(x, y, damage, target);
+        return fireball;
+    }
+
+    /**
+     * Returns a fireball to the pool once it is no longer needed.
+     * <p>
+     * The fireball must not be used again after it has been released.
+     * @param fireball The fireball to release.
+     */
+    public void release(Fireball fireball) {
+        --this.inUseCount;
+        // Don't hold on to a monster that may have already been removed, or leave an impact scheduled
+        fireball.reset(0, 0, 0, null);
+        if (this.freeFireballs.size() < this.capacity) {
+            this.freeFireballs.addFirst(fireball);
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package WizardTD.Game.Entities.Towers;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 
+import WizardTD.App;
+import WizardTD.Game.Cadence;
+import WizardTD.Game.GameSnapshot;
+import WizardTD.Game.SpriteBatch;
+import WizardTD.Game.TimingWheel;
+import WizardTD.Game.Entities.EntityRegistry;
 import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.SpatialGrid;
 import WizardTD.Game.Player.ManaPool;
 import processing.core.PGraphics;
 
@@ -10,24 +18,59 @@ import processing.core.PGraphics;
  * Represents the {@code FireballTower} class.
  * <p>
  * This tower has the ability to shoot fireballs.
+ * <p>
+ * After each shot the tower reloads. The reload is scheduled on the tower manager's timing wheel,
+ * so the tower costs nothing while it waits, and its shots are due on the ticks that its
+ * firing speed and speed multiplier give. Without a timing wheel the tower counts its own
+ * ticks instead, and checks on each one whether its reload is due.
  */
-public final class FireballTower extends Tower {
+public final class FireballTower extends Tower implements TimingWheel.Task {
     /**
      * The monster's that are currently on the board.
      */
-    private final LinkedList<Monster> monstersToTarget;
+    private final List<Monster> monstersToTarget;
+    /**
+     * An optional grid of the monsters on the board, used to
+     * find targets without checking every monster.
+     */
+    private SpatialGrid monsterGrid = null;
+    /**
+     * The active fireballs shot from the tower.
+     */
+    private final ArrayList<Fireball> fireballs = new ArrayList<>();
+    /**
+     * The handle of the tower's current target.
+     */
+    private int targetHandle = EntityRegistry.NO_HANDLE;
+    /**
+     * The registry that the target's handle is resolved with, or null if there is no target.
+     */
+    private EntityRegistry<Monster> targets = null;
+    /**
+     * Whether the tower can shoot.
+     */
+    private boolean loaded = true;
+    /**
+     * Whether the tower's reload is scheduled and has not finished yet.
+     */
+    private boolean reloadPending = false;
     /**
-     * A LinkedList of active fireballs shot from the tower.
+     * The tick on which the tower's last reload was due.
      */
-    private final LinkedList<Fireball> fireballs = new LinkedList<>();
+    private long reloadTick = -1;
     /**
-     * The tower's current target.
+     * The sequence number of the tower's reload on the timing wheel.
      */
-    private Monster target = null;
+    private long reloadSequence;
     /**
-     * A frame counter used for firing speed.
+     * The number of times the tower has been ticked, which reloads are
+     * due on instead when the tower manager has no timing wheel.
      */
-    private int frameCounter = 0;
+    private long ownTick = 0;
+    /**
+     * Works out when each reload finishes.
+     */
+    private final Cadence reloadCadence = new Cadence();
 
     /**
      * The constructor for the FireballTower class.
@@ -41,14 +84,13 @@ public final class FireballTower extends Tower {
      * @param damage The tower's default damage.
      */
     public FireballTower(TowerManager towerManager, ManaPool manaPool, 
-                         LinkedList<Monster> activeMonsters,
+                         List<Monster> activeMonsters,
                          float x, float y, float range, 
                          float firingSpeed, float damage) {
-        this.setXOffset(this.getCurrentSprite().width / 2);
-        this.setYOffset(this.getCurrentSprite().height / 2); 
+        this.setTowerManager(towerManager);
+        this.setSizeFromSprite(this.getCurrentSprite(), App.CELLSIZE, App.CELLSIZE);
         this.setCenterPos(x, y);    
 
-        this.setTowerManager(towerManager);
         this.monstersToTarget = activeMonsters;
         this.setManaPool(manaPool);
         this.setRange(range);
@@ -61,7 +103,15 @@ public final class FireballTower extends Tower {
      * Gets the fireball's that are currently moving towards a target.
      * @return The fireball's that are currently moving towards a target.
      */
-    public LinkedList<Fireball> getFireballs() { return this.fireballs; }
+    public ArrayList<Fireball> getFireballs() { return this.fireballs; }
+
+    /**
+     * Sets the grid that the tower uses to find targets.
+     * <p>
+     * If the grid is {@code null}, every monster is checked instead.
+     * @param grid The grid of monsters on the board.
+     */
+    public void setMonsterGrid(SpatialGrid grid) { this.monsterGrid = grid; }
 
     @Override
     public void setSpeedMultiplier(float speedMulti) {
@@ -72,34 +122,250 @@ public final class FireballTower extends Tower {
         }
     }
 
+    /**
+     * Checks if the tower can shoot.
+     * @return {@code true} if the tower has reloaded since its last shot, otherwise {@code false}.
+     */
+    public boolean isLoaded() { return this.loaded; }
+
+    @Override
+    public void savePreviousPos() {
+        super.savePreviousPos();
+        for (Fireball projectile : fireballs) {
+            projectile.savePreviousPos();
+        }
+    }
+
+    @Override
+    public void updateRenderPos(float alpha) {
+        super.updateRenderPos(alpha);
+        for (Fireball projectile : fireballs) {
+            projectile.updateRenderPos(alpha);
+        }
+    }
+
+    /**
+     * Gets the tower's current target.
+     * @return The monster that the tower is shooting at, or {@code null} if there is none,
+     * or if it has respawned or been removed from the board.
+     */
+    public Monster getTarget() { return this.targets == null ? null : this.targets.get(this.targetHandle); }
+
+    /**
+     * Sets the tower's current target, keeping only its handle.
+     * @param target The monster that the tower shoots at, may be {@code null}.
+     */
+    private void setTarget(Monster target) {
+        if (target == null) {
+            this.targetHandle = EntityRegistry.NO_HANDLE;
+            this.targets = null;
+        } else {
+            this.targetHandle = target.getHandle();
+            this.targets = target.getContext().getMonsterRegistry();
+        }
+    }
+
+    /**
+     * Writes the tower's stats, upgrades, target and in-flight fireballs to a snapshot.
+     * <p>
+     * The targets of the tower and its fireballs must be in the snapshot's monster table.
+     * @param out The snapshot writer.
+     */
+    @Override
+    public void saveState(GameSnapshot.Writer out) {
+        super.saveState(out);
+        out.putMonster(this.getTarget());
+        out.putBoolean(this.loaded);
+        out.putBoolean(this.reloadPending);
+        out.putLong(this.reloadTick);
+        out.putLong(this.reloadSequence);
+        this.reloadCadence.saveState(out);
+
+        // A scheduled fireball that has landed is only released on the tower's next tick
+        int inFlight = 0;
+        for (Fireball projectile : this.fireballs) {
+            if (!projectile.targetReached()) {
+                ++inFlight;
+            }
+        }
+        out.putInt(inFlight);
+        for (Fireball projectile : this.fireballs) {
+            if (projectile.targetReached()) {
+                continue;
+            }
+            out.putFloat(projectile.getCenterPos().x);
+            out.putFloat(projectile.getCenterPos().y);
+            out.putFloat(projectile.getDamage());
+            out.putFloat(projectile.getSpeedMultiplier());
+            out.putMonster(projectile.getTarget());
+            projectile.saveImpact(out);
+        }
+    }
+
+    /**
+     * Replaces the tower's stats, upgrades, target and in-flight fireballs
+     * with the ones read from a snapshot.
+     * <p>
+     * The tower's current fireballs are released to the pool first. The tower's reload and
+     * fireballs whose impact was scheduled are scheduled again on the tower manager's timing wheel,
+     * which must have been restored to the snapshot's tick. Without a timing wheel, a reload that
+     * was pending is finished straight away.
+     * @param in The snapshot reader.
+     */
+    @Override
+    public void restoreState(GameSnapshot.Reader in) {
+        super.restoreState(in);
+        this.setTarget(in.getMonster());
+
+        TimingWheel scheduler = this.getTowerManager().getScheduler();
+        this.cancelReload();
+        this.loaded = in.getBoolean();
+        boolean reloadPending = in.getBoolean();
+        this.reloadTick = in.getLong();
+        this.reloadSequence = in.getLong();
+        this.reloadCadence.restoreState(in);
+        if (reloadPending && scheduler != null) {
+            scheduler.schedule(this, this.reloadTick, this.reloadSequence);
+            this.reloadPending = true;
+        } else if (reloadPending) {
+            // The snapshot's reload tick is on a timing wheel, so it means nothing to the tower's own count
+            this.loaded = true;
+        }
+
+        FireballPool pool = this.getTowerManager().getFireballPool();
+        this.releaseFireballs();
+        int fireballCount = in.getInt();
+        for (int i = 0; i < fireballCount; i++) {
+            float x = in.getFloat();
+            float y = in.getFloat();
+            float damage = in.getFloat();
+            float speedMultiplier = in.getFloat();
+            Fireball projectile = pool.acquire(x, y, damage, in.getMonster());
+            projectile.setSpeedMultiplier(speedMultiplier);
+            projectile.restoreImpact(in, this.getTowerManager().getScheduler());
+            this.fireballs.add(projectile);
+        }
+    }
+
+    /**
+     * Finishes the tower's reload.
+     * @param tick The tick that the reload was due on.
+     */
+    @Override
+    public void onDue(long tick) {
+        this.reloadPending = false;
+        this.loaded = true;
+    }
+
+    /**
+     * Schedules the tower's reload to finish on a tick, unless its cadence has been stopped.
+     * <p>
+     * If there is no timing wheel, the tower finishes the reload itself once it has been ticked enough times.
+     */
+    private void scheduleReload(TimingWheel scheduler, long dueTick) {
+        if (dueTick == Cadence.NEVER) {
+            return;
+        }
+        if (scheduler != null) {
+            this.reloadSequence = scheduler.schedule(this, dueTick);
+        }
+        this.reloadTick = dueTick;
+        this.reloadPending = true;
+    }
+
+    /**
+     * Cancels the tower's reload, if it has one.
+     */
+    private void cancelReload() {
+        if (this.reloadPending) {
+            TimingWheel scheduler = this.getTowerManager().getScheduler();
+            if (scheduler != null) {
+                scheduler.cancel(this, this.reloadTick);
+            }
+            this.reloadPending = false;
+            this.reloadTick = -1;
+        }
+    }
+
+    /**
+     * Releases every fireball that the tower has shot back to the pool.
+     */
+    void releaseFireballs() {
+        FireballPool pool = this.getTowerManager().getFireballPool();
+        for (Fireball projectile : this.fireballs) {
+            pool.release(projectile);
+        }
+        this.fireballs.clear();
+    }
+
     public void tick() {
         this.upgradeTowerIfPossible();
         getClosestTarget();
         attackTarget();
+
+        // Without a timing wheel, do what advancing it would do after the tower has been ticked
+        if (this.getTowerManager().getScheduler() == null) {
+            ++this.ownTick;
+            if (this.reloadPending && this.ownTick >= this.reloadTick) {
+                this.onDue(this.ownTick);
+            }
+        }
     }
 
     /**
      * Shoots fireball's at the current target when possible.
      * Also ticks each fireball it has shot.
+     * <p>
+     * If the tower manager schedules impacts, each fireball's impact is scheduled as it is fired,
+     * and ticking it costs nothing until it lands.
+     * <p>
+     * A tower that loses its target stops reloading and is ready to shoot as soon as it has a new one.
+     * A tower that shoots on the first tick that it has reloaded keeps to its cadence,
+     * otherwise its cadence starts again from the shot.
      */
     private void attackTarget() {
-        for (Fireball proj : this.fireballs) {
+        TowerManager towerManager = this.getTowerManager();
+        FireballPool pool = towerManager.getFireballPool();
+
+        // Spent fireballs go back to the pool, the rest are shuffled down in order
+        int kept = 0;
+        for (int i = 0; i < this.fireballs.size(); i++) {
+            Fireball proj = this.fireballs.get(i);
             proj.tick();
+            if (proj.targetReached()) {
+                pool.release(proj);
+            } else {
+                this.fireballs.set(kept++, proj);
+            }
+        }
+        for (int i = this.fireballs.size() - 1; i >= kept; i--) {
+            this.fireballs.remove(i);
         }
-        this.fireballs.removeIf(b -> (b.targetReached()));
 
-        if (this.target == null) {
-            this.frameCounter = 0;
+        Monster target = this.getTarget();
+        if (target == null) {
+            this.cancelReload();
+            this.loaded = true;
+            return;
+        }
+        if (!this.loaded) {
             return;
         }
 
-        // This is the tower's firing speed
-        if (Math.round(this.frameCounter % this.getFramesBetweenEachShot()) == 0) {
-            this.fireballs.add(new Fireball(this.getCenterPos().x, this.getCenterPos().y,
-                                            this.getDamage(), this.target));
+        Fireball projectile = pool.acquire(this.getCenterPos().x, this.getCenterPos().y,
+                                           this.getDamage(), target);
+        if (towerManager.areImpactsScheduled()) {
+            projectile.scheduleImpact(towerManager.getScheduler(), towerManager.getPathPredictor());
         }
+        this.fireballs.add(projectile);
+        this.loaded = false;
 
-        this.frameCounter += this.getSpeedMultiplier();
+        TimingWheel scheduler = towerManager.getScheduler();
+        long tick = scheduler != null ? scheduler.getCurrentTick() : this.ownTick;
+        if (this.reloadTick != tick) {
+            this.reloadCadence.start(tick, this.getSpeedMultiplier());
+        }
+        this.scheduleReload(scheduler, this.reloadCadence.next(this.getFramesBetweenEachShot(), tick));
     }
 
     /**
@@ -107,14 +373,20 @@ public final class FireballTower extends Tower {
      * Only gets a new target if current target is out of range or dead
      */
     private void getClosestTarget() {
+        if (this.monsterGrid != null) {
+            this.setTarget(this.monsterGrid.getFirstInRange(this.getCenterPos().x, this.getCenterPos().y,
+                                                            this.getRange()));
+            return;
+        }
+
         for (Monster monster : this.monstersToTarget) {
             // Gets the first monster that's in range and alive
             if (this.getCenterPos().dist(monster.getCenterPos()) <= this.getRange() &&
                 monster.isAlive()) {
-                this.target = monster;
+                this.setTarget(monster);
                 break;
             } else {
-                this.target = null;
+                this.setTarget(null);
             }
         }
     }
@@ -136,4 +408,11 @@ public final class FireballTower extends Tower {
             proj.drawToLayer(layer);
         }
     } 
+
+    @Override
+    public void drawProjectiles(SpriteBatch batch) {
+        for (Fireball proj : this.fireballs) {
+            proj.drawSprite(batch);
+        }
+    }
 }
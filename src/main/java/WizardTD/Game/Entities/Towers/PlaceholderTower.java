@@ -1,5 +1,7 @@
 package WizardTD.Game.Entities.Towers;
 
+import WizardTD.App;
+import WizardTD.Game.SpriteBatch;
 import processing.core.PGraphics;
 
 /**
@@ -36,11 +38,10 @@ public final class PlaceholderTower extends Tower {
      * @param range The towers base range.
      */
     public PlaceholderTower(TowerManager towerManager, float x, float y, float range) {
-        this.setXOffset(this.getCurrentSprite().width / 2);
-        this.setYOffset(this.getCurrentSprite().height / 2);
+        this.setTowerManager(towerManager);
+        this.setSizeFromSprite(this.getCurrentSprite(), App.CELLSIZE, App.CELLSIZE);
         this.setCenterPos(x, y);
 
-        this.setTowerManager(towerManager);
         this.setRange(range);
         this.buildCost = towerManager.getBaseTowerCost();
     }
@@ -118,6 +119,11 @@ public final class PlaceholderTower extends Tower {
      * Sets the visibility status of the tower to false.
      */
     public void hide() { this.isVisible = false; }
+    /**
+     * Gets the visibility status of the tower.
+     * @return {@code true} if the tower is shown, otherwise {@code false}.
+     */
+    public boolean isVisible() { return this.isVisible; }
 
     @Override
     public void drawToLayer(PGraphics layer) {
@@ -129,5 +135,23 @@ public final class PlaceholderTower extends Tower {
         this.drawUpgrades(layer);
         this.drawRangeIndicator(layer);
     }
+
+    @Override
+    public void drawSprite(SpriteBatch batch) {
+        if (!this.isVisible) {
+            return;
+        }
+
+        super.drawSprite(batch);
+    }
+
+    @Override
+    public void drawIndicators(PGraphics layer) {
+        if (!this.isVisible) {
+            return;
+        }
+
+        super.drawIndicators(layer);
+    }
     
 }
@@ -1,7 +1,9 @@
 package WizardTD.Game.Entities.Towers;
 
 import WizardTD.App;
+import WizardTD.Game.GameSnapshot;
 import WizardTD.Game.Renderable;
+import WizardTD.Game.SpriteBatch;
 import WizardTD.Game.Entities.Entity;
 import WizardTD.Game.Player.ManaPool;
 import processing.core.PGraphics;
@@ -14,19 +16,6 @@ import processing.core.PImage;
  * which then attacks monsters on the board.
  */
 public abstract class Tower extends Entity implements Renderable {
-    /**
-     * The tower's base, or level 1, sprite
-     */
-    private static PImage baseSprite;
-    /**
-     * The tower's level 2 sprite.
-     */
-    private static PImage level2Sprite;
-    /**
-     * The tower's level 3 sprite.
-     */
-    private static PImage level3Sprite;
-
     /**
      * The tower manager that manages all towers.
      */
@@ -40,9 +29,9 @@ public abstract class Tower extends Entity implements Renderable {
     /**
      * The tower's current sprite.
      * <p>
-     * {@code baseSprite} by default.
+     * The sprite of the tower's level, which comes from the tower manager's assets.
      */
-    private PImage currentSprite = baseSprite;
+    private PImage currentSprite;
     /**
      * The current cost of upgrading the tower's range.
      */
@@ -68,6 +57,7 @@ public abstract class Tower extends Entity implements Renderable {
      * The number of frames before the tower shoots again.
      * <p>
      *  FPS/(proj/s) gives us the frames between each shot.
+     *  This is at a speed multiplier of 1, which the tower's reload divides it by.
      */
     private float framesBetweenEachShot;
     /**
@@ -147,11 +137,12 @@ public abstract class Tower extends Entity implements Renderable {
     public TowerManager getTowerManager() { return this.towerManager; }
     /**
      * Sets the tower manager managing this tower,
-     * and initialises the tower's attributes.
+     * and initialises the tower's attributes and sprite.
      * @param manager The new manager.
      */
     public void setTowerManager(TowerManager manager) { 
         this.towerManager = manager;
+        this.currentSprite = manager.getAssets().getTowerSprite(this.towerLevel);
         this.rangeUpgradeCost = manager.getInitialUpgradeCost();
         this.firingSpeedUpgradeCost = manager.getInitialUpgradeCost();
         this.damageUpgradeCost = manager.getInitialUpgradeCost();
@@ -195,7 +186,7 @@ public abstract class Tower extends Entity implements Renderable {
      */
     public void setFiringSpeed(float speed) { 
         this.firingSpeed = speed;
-        this.framesBetweenEachShot = App.FPS / (speed * this.getSpeedMultiplier());
+        this.framesBetweenEachShot = App.FPS / speed;
     }
 
     /**
@@ -292,6 +283,50 @@ public abstract class Tower extends Entity implements Renderable {
         ++this.damageLevel;
     }
 
+    /**
+     * Writes the tower's stats and upgrades to a snapshot.
+     * <p>
+     * The tower's position is not written, since it is needed to construct the tower.
+     * @param out The snapshot writer.
+     * @see GameSnapshot
+     */
+    public void saveState(GameSnapshot.Writer out) {
+        out.putFloat(this.getSpeedMultiplier());
+        out.putFloat(this.rangeUpgradeCost);
+        out.putFloat(this.firingSpeedUpgradeCost);
+        out.putFloat(this.damageUpgradeCost);
+        out.putFloat(this.range);
+        out.putFloat(this.firingSpeed);
+        out.putFloat(this.framesBetweenEachShot);
+        out.putFloat(this.damage);
+        out.putInt(this.towerLevel);
+        out.putInt(this.rangeLevel);
+        out.putInt(this.firingSpeedLevel);
+        out.putInt(this.damageLevel);
+    }
+
+    /**
+     * Replaces the tower's stats and upgrades with the ones read from a snapshot.
+     * @param in The snapshot reader.
+     * @see GameSnapshot
+     */
+    public void restoreState(GameSnapshot.Reader in) {
+        super.setSpeedMultiplier(in.getFloat());
+        this.rangeUpgradeCost = in.getFloat();
+        this.firingSpeedUpgradeCost = in.getFloat();
+        this.damageUpgradeCost = in.getFloat();
+        this.range = in.getFloat();
+        this.firingSpeed = in.getFloat();
+        this.framesBetweenEachShot = in.getFloat();
+        this.damage = in.getFloat();
+        this.towerLevel = in.getInt();
+        this.rangeLevel = in.getInt();
+        this.firingSpeedLevel = in.getInt();
+        this.damageLevel = in.getInt();
+        this.currentSprite = this.towerManager.getAssets().getTowerSprite(this.towerLevel);
+        this.clearPreviousPos();
+    }
+
     public void tick() {
         upgradeTowerIfPossible();
     }
@@ -301,11 +336,11 @@ public abstract class Tower extends Entity implements Renderable {
      */
     public void upgradeTowerIfPossible() {
         if (towerLevel == 1 && rangeLevel >= 1 && firingSpeedLevel >= 1 && damageLevel >= 1) {
-            this.currentSprite = level2Sprite;
             ++towerLevel;
+            this.currentSprite = this.towerManager.getAssets().getTowerSprite(towerLevel);
         } else if (towerLevel == 2 && rangeLevel >= 2 && firingSpeedLevel >= 2 && damageLevel >= 2) {
-            this.currentSprite = level3Sprite;
             ++towerLevel;
+            this.currentSprite = this.towerManager.getAssets().getTowerSprite(towerLevel);
         }
     }
 
@@ -315,6 +350,30 @@ public abstract class Tower extends Entity implements Renderable {
         this.drawRangeIndicator(layer);
     }
 
+    /**
+     * Queues the tower's sprite to be drawn with the other entities' sprites.
+     * @param batch The batch that the sprite is queued in.
+     */
+    public void drawSprite(SpriteBatch batch) {
+        batch.add(this.currentSprite, this.getPos().x, this.getPos().y);
+    }
+
+    /**
+     * Draws the tower's upgrade and range indicators to the layer.
+     * @param layer The layer that the indicators are drawn to.
+     */
+    public void drawIndicators(PGraphics layer) {
+        this.drawUpgrades(layer);
+        this.drawRangeIndicator(layer);
+    }
+
+    /**
+     * Queues the tower's projectiles to be drawn with the other entities' sprites.
+     * Towers that do not shoot projectiles queue nothing.
+     * @param batch The batch that the projectiles are queued in.
+     */
+    public void drawProjectiles(SpriteBatch batch) {}
+
     /**
      * Draws the tower's range indicator to the given layer.
      * <p>
@@ -390,14 +449,4 @@ public abstract class Tower extends Entity implements Renderable {
         }
         layer.fill(App.DEFAULT_FILL_COLOUR);
     }
-
-    /**
-     * A static method that loads the tower's sprites.
-     * @param app The app used to load the sprites.
-     */
-    public static void loadSprites(App app) {
-        baseSprite = app.loadImage("src/main/resources/WizardTD/tower0.png");
-        level2Sprite = app.loadImage("src/main/resources/WizardTD/tower1.png");
-        level3Sprite = app.loadImage("src/main/resources/WizardTD/tower2.png");
-    }
 }
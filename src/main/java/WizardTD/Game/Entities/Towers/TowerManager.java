@@ -1,9 +1,16 @@
 package WizardTD.Game.Entities.Towers;
 
 import java.util.LinkedList;
+import java.util.List;
 
 import WizardTD.App;
+import WizardTD.Game.GameAssets;
+import WizardTD.Game.GameSnapshot;
+import WizardTD.Game.TimingWheel;
+import WizardTD.Game.Board.Tile;
 import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.PathPredictor;
+import WizardTD.Game.Entities.Monsters.SpatialGrid;
 import WizardTD.Game.Player.ManaPool;
 import processing.core.PVector;
 import processing.data.JSONObject;
@@ -17,11 +24,15 @@ public final class TowerManager {
     /**
      * Targets for a tower.
      */
-    private final LinkedList<Monster> activeMonsters;
+    private final List<Monster> activeMonsters;
     /**
      * @see ManaPool
      */
     private final ManaPool manaPool;
+    /**
+     * The assets that towers and their fireballs get their sprites from.
+     */
+    private final GameAssets assets;
 
     /**
      * How much the cost of an upgrade increases per level.
@@ -69,30 +80,110 @@ public final class TowerManager {
      * The tower that the player may build.
      */
     private PlaceholderTower unbuiltTower = null;
+    /**
+     * Reuses the fireballs shot by every tower.
+     */
+    private final FireballPool fireballPool;
+    /**
+     * An optional grid of the active monsters, given to every tower that is built.
+     */
+    private SpatialGrid monsterGrid = null;
+    /**
+     * Whether fireballs have their impact scheduled when they are fired, rather than homing in on their target.
+     */
+    private boolean impactsScheduled;
+    /**
+     * The timing wheel that fireball impacts are scheduled on, or null if fireballs always home in.
+     */
+    private TimingWheel scheduler = null;
+    /**
+     * Predicts the path of a fireball's target when its impact is scheduled. Shared by every tower.
+     */
+    private final PathPredictor pathPredictor = new PathPredictor();
 
     /**
      * {@code TowerManager}'s constructor.
      * <p>
-     * Constructs a tower manager.
+     * Constructs a tower manager without sprites, for games that are never drawn.
      * @param gameConfig Contains the initial values used for all towers.
      * @param manaPool Needed for building towers.
      * @param activeMonsters The monsters that are active on the board.
      * @throws NullPointerException If any of the parameters are null.
      */
     public TowerManager(JSONObject gameConfig, ManaPool manaPool,
-                        LinkedList<Monster> activeMonsters) throws NullPointerException {
-        if (gameConfig == null || manaPool == null || activeMonsters == null) {
+                        List<Monster> activeMonsters) throws NullPointerException {
+        this(gameConfig, new GameAssets(), manaPool, activeMonsters);
+    }
+
+    /**
+     * {@code TowerManager}'s constructor.
+     * <p>
+     * Constructs a tower manager.
+     * @param gameConfig Contains the initial values used for all towers.
+     * @param assets The assets that towers and their fireballs get their sprites from.
+     * @param manaPool Needed for building towers.
+     * @param activeMonsters The monsters that are active on the board.
+     * @throws NullPointerException If any of the parameters are null.
+     */
+    public TowerManager(JSONObject gameConfig, GameAssets assets, ManaPool manaPool,
+                        List<Monster> activeMonsters) throws NullPointerException {
+        if (gameConfig == null || assets == null || manaPool == null || activeMonsters == null) {
             throw new NullPointerException("TowerManager must be constructed with non-null objects");
         }
 
         this.activeMonsters = activeMonsters;
         this.manaPool = manaPool;
+        this.assets = assets;
 
         this.initialRange = gameConfig.getFloat("initial_tower_range");
         this.initialFiringSpeed = gameConfig.getFloat("initial_tower_firing_speed");
         this.initialDamage = gameConfig.getFloat("initial_tower_damage");
         this.damageIncreasePerUpgrade = this.initialDamage / 2;
         this.initialCost = gameConfig.getFloat("tower_cost");       
+        this.fireballPool = new FireballPool(gameConfig.getInt("fireball_pool_capacity",
+                                                               FireballPool.DEFAULT_CAPACITY),
+                                             this.assets);
+        this.impactsScheduled = "analytic".equals(gameConfig.getString("projectile_mode", "homing"));
+    }
+
+    /**
+     * {@code TowerManager}'s constructor.
+     * <p>
+     * Constructs a tower manager with the same tower stats and assets as another,
+     * but without any towers.
+     * @param other The tower manager whose stats are used.
+     * @param manaPool Needed for building towers.
+     * @param activeMonsters The monsters that are active on the board.
+     */
+    private TowerManager(TowerManager other, ManaPool manaPool, List<Monster> activeMonsters) {
+        this.activeMonsters = activeMonsters;
+        this.manaPool = manaPool;
+        this.assets = other.assets;
+
+        this.initialRange = other.initialRange;
+        this.initialFiringSpeed = other.initialFiringSpeed;
+        this.initialDamage = other.initialDamage;
+        this.damageIncreasePerUpgrade = other.damageIncreasePerUpgrade;
+        this.initialCost = other.initialCost;
+        this.fireballPool = new FireballPool(other.fireballPool.getCapacity(), this.assets);
+        this.impactsScheduled = other.impactsScheduled;
+    }
+
+    /**
+     * Creates a tower manager with the same tower stats and assets as this one, but without any towers.
+     * <p>
+     * Used when forking a game, where the towers are restored afterwards.
+     * @param manaPool Needed for building towers.
+     * @param activeMonsters The monsters that are active on the board.
+     * @return The new tower manager.
+     * @throws NullPointerException If any of the parameters are null.
+     */
+    public TowerManager copyWithoutTowers(ManaPool manaPool,
+                                          List<Monster> activeMonsters) throws NullPointerException {
+        if (manaPool == null || activeMonsters == null) {
+            throw new NullPointerException("TowerManager must be constructed with non-null objects");
+        }
+        return new TowerManager(this, manaPool, activeMonsters);
     }
 
     /**
@@ -100,11 +191,60 @@ public final class TowerManager {
      * @return A list of active towers.
      */
     public LinkedList<Tower> getTowers() { return this.towers; }
+    /**
+     * Gets the pool that towers get their fireballs from.
+     * @return The fireball pool.
+     */
+    public FireballPool getFireballPool() { return this.fireballPool; }
+    /**
+     * Gets the assets that towers and their fireballs get their sprites from.
+     * @return The tower manager's assets.
+     */
+    public GameAssets getAssets() { return this.assets; }
+    /**
+     * Sets the grid of active monsters that built towers use for targeting.
+     * @param grid The grid of active monsters.
+     */
+    public void setMonsterGrid(SpatialGrid grid) { this.monsterGrid = grid; }
+    /**
+     * Gets the timing wheel that fireball impacts are scheduled on.
+     * @return The timing wheel, or {@code null} if fireballs always home in on their target.
+     */
+    public TimingWheel getScheduler() { return this.scheduler; }
+    /**
+     * Sets the timing wheel that fireball impacts are scheduled on.
+     * @param scheduler The game's timing wheel.
+     */
+    public void setScheduler(TimingWheel scheduler) { this.scheduler = scheduler; }
+    /**
+     * Checks if fireballs have their impact scheduled when they are fired.
+     * <p>
+     * This is set by the config's {@code "projectile_mode"}, which is either {@code "homing"},
+     * the default, or {@code "analytic"}. Impacts are only scheduled once a timing wheel has been set.
+     * @return {@code true} if impacts are scheduled, or {@code false} if fireballs home in on their target.
+     */
+    public boolean areImpactsScheduled() { return this.impactsScheduled && this.scheduler != null; }
+    /**
+     * Sets whether fireballs have their impact scheduled when they are fired.
+     * Fireballs that are already in flight are not changed.
+     * @param scheduled {@code true} to schedule impacts, or {@code false} for homing fireballs.
+     */
+    public void setImpactsScheduled(boolean scheduled) { this.impactsScheduled = scheduled; }
+    /**
+     * Gets the path predictor that towers use to schedule fireball impacts.
+     * @return The shared path predictor.
+     */
+    PathPredictor getPathPredictor() { return this.pathPredictor; }
     /**
      * Gets the initial cost of building a tower.
      * @return The initial cost of building a tower.
      */
     public float getBaseTowerCost() { return this.initialCost; }
+    /**
+     * Gets the range of a newly built tower.
+     * @return The base range of a tower.
+     */
+    public float getBaseTowerRange() { return this.initialRange; }
     /**
      * Gets increase in upgrade cost per level.
      * @return How much the cost of an upgrade increases per level.
@@ -191,11 +331,12 @@ public final class TowerManager {
             return;
         }
 
-        Tower builtTower = new FireballTower(this, manaPool, this.activeMonsters,
+        FireballTower builtTower = new FireballTower(this, manaPool, this.activeMonsters,
                                                      this.unbuiltTower.getCenterPos().x, 
                                                      this.unbuiltTower.getCenterPos().y,
                                                      initialRange,
                                                      initialFiringSpeed, initialDamage);
+        builtTower.setMonsterGrid(this.monsterGrid);
 
         for (int i = 0; i < unbuiltTower.getRangeLevel(); i++) {
             builtTower.upgradeRange();
@@ -213,6 +354,117 @@ public final class TowerManager {
         this.unbuiltTower = null;
     }
 
+    /**
+     * Adds the targets of every tower and fireball to the snapshot's monster table.
+     * <p>
+     * A target may already have been removed from the active monsters,
+     * so it would not be in the table otherwise.
+     * @param out The snapshot writer.
+     */
+    public void addMonstersTo(GameSnapshot.Writer out) {
+        for (Tower tower : this.towers) {
+            if (tower instanceof FireballTower) {
+                FireballTower fireballTower = (FireballTower)tower;
+                out.addMonster(fireballTower.getTarget());
+                for (Fireball projectile : fireballTower.getFireballs()) {
+                    out.addMonster(projectile.getTarget());
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes every built tower and the tower being built to a snapshot.
+     * @param out The snapshot writer.
+     * @see GameSnapshot
+     */
+    public void saveState(GameSnapshot.Writer out) {
+        out.putInt(this.towers.size());
+        for (Tower tower : this.towers) {
+            out.putFloat(tower.getCenterPos().x);
+            out.putFloat(tower.getCenterPos().y);
+            tower.saveState(out);
+        }
+
+        out.putBoolean(this.unbuiltTower != null);
+        if (this.unbuiltTower != null) {
+            out.putFloat(this.unbuiltTower.getCenterPos().x);
+            out.putFloat(this.unbuiltTower.getCenterPos().y);
+            out.putBoolean(this.unbuiltTower.isVisible());
+            out.putInt(this.unbuiltTower.getRangeLevel());
+            out.putInt(this.unbuiltTower.getFiringSpeedLevel());
+            out.putInt(this.unbuiltTower.getDamageLevel());
+        }
+    }
+
+    /**
+     * Replaces every built tower and the tower being built with the ones read from a snapshot.
+     * <p>
+     * Rebuilding the towers costs mana, so the mana pool should be restored afterwards.
+     * @param in The snapshot reader.
+     * @see GameSnapshot
+     */
+    public void restoreState(GameSnapshot.Reader in) {
+        for (Tower tower : this.towers) {
+            if (tower instanceof FireballTower) {
+                ((FireballTower)tower).releaseFireballs();
+            }
+        }
+        this.towers.clear();
+
+        int towerCount = in.getInt();
+        for (int i = 0; i < towerCount; i++) {
+            float x = in.getFloat();
+            float y = in.getFloat();
+            FireballTower tower = new FireballTower(this, this.manaPool, this.activeMonsters, x, y,
+                                                    this.initialRange, this.initialFiringSpeed,
+                                                    this.initialDamage);
+            tower.setMonsterGrid(this.monsterGrid);
+            tower.restoreState(in);
+            this.towers.add(tower);
+        }
+
+        this.unbuiltTower = null;
+        if (in.getBoolean()) {
+            this.initialiseUnbuiltTower();
+            this.unbuiltTower.setCenterPos(in.getFloat(), in.getFloat());
+            if (in.getBoolean()) {
+                this.unbuiltTower.show();
+            }
+
+            int rangeLevel = in.getInt();
+            int firingSpeedLevel = in.getInt();
+            int damageLevel = in.getInt();
+            for (int i = 0; i < rangeLevel; i++) {
+                this.unbuiltTower.upgradeRange();
+            }
+            for (int i = 0; i < firingSpeedLevel; i++) {
+                this.unbuiltTower.upgradeFiringSpeed();
+            }
+            for (int i = 0; i < damageLevel; i++) {
+                this.unbuiltTower.upgradeDamage();
+            }
+        }
+    }
+
+    /**
+     * Checks if a tower has been built on the given tile.
+     * <p>
+     * This is worked out from the towers rather than stored on the tile,
+     * so that forks of a game can share its board.
+     * @param tile The tile that is checked.
+     * @return {@code true} if a tower stands on the tile, otherwise {@code false}.
+     */
+    public boolean isTileOccupied(Tile tile) {
+        for (Tower t : this.towers) {
+            if (t.getCenterPos().x == tile.getCenterPos().x &&
+                t.getCenterPos().y == tile.getCenterPos().y) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Gets the tower that is on the tile of the given position.
      * @param x 
@@ -1,27 +1,26 @@
 package WizardTD.Game;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 
 import processing.core.PGraphics;
+import processing.core.PVector;
 import processing.data.JSONObject;
 
 import WizardTD.App;
 import WizardTD.Game.Board.Board;
-import WizardTD.Game.Board.Grass;
-import WizardTD.Game.Board.Path;
-import WizardTD.Game.Board.Shrub;
-import WizardTD.Game.Board.WizHouse;
-import WizardTD.Game.Entities.Monsters.Beetle;
-import WizardTD.Game.Entities.Monsters.Gremlin;
 import WizardTD.Game.Entities.Monsters.Moag;
 import WizardTD.Game.Entities.Monsters.Monster;
-import WizardTD.Game.Entities.Monsters.Worm;
-import WizardTD.Game.Entities.Towers.Fireball;
+import WizardTD.Game.Entities.Monsters.MonsterPool;
+import WizardTD.Game.Entities.Monsters.MonsterStore;
+import WizardTD.Game.Entities.Monsters.SpatialGrid;
 import WizardTD.Game.Entities.Towers.Tower;
 import WizardTD.Game.Entities.Towers.TowerManager;
 import WizardTD.Game.Player.InputManager;
 import WizardTD.Game.Player.ManaPool;
 import WizardTD.Game.UI.GameUI;
+import WizardTD.Game.UI.HealthBarBatch;
+import WizardTD.Game.UI.UIRegion;
 
 /**
  * This represents the game class.
@@ -32,6 +31,10 @@ public class Game {
      * The game's board.
      */
     private final Board board;
+    /**
+     * The state shared by every monster in the game.
+     */
+    private final GameContext context;
     /**
      * The game's UI.
      */
@@ -65,27 +68,88 @@ public class Game {
      * Tracks whether the game has been paused.
      */
     private boolean gamePaused = false;
+    /**
+     * The number of times a monster has reached the wizard's house.
+     */
+    private int leakCount = 0;
 
     /**
-     * The monsters that are currently active on the board.
+     * The monsters that are currently active on the board, with a cache of the fields that targeting reads.
+     */
+    private final MonsterStore monsterStore = new MonsterStore();
+    /**
+     * A grid of the active monsters, used by towers for targeting.
+     */
+    private final SpatialGrid monsterGrid = new SpatialGrid();
+    /**
+     * The gremlins spawned by moags that died this tick, reused on every tick.
      */
-    private final LinkedList<Monster> activeMonsters = new LinkedList<>();
+    private final ArrayList<Monster> moagSpawns = new ArrayList<>();
+    /**
+     * The monsters that died this tick, released to the monster pool once they are off the board.
+     */
+    private final ArrayList<Monster> deadMonsters = new ArrayList<>();
 
     /**
      * The current speed of the game.
      */
     private float gameSpeed = 1;
+    /**
+     * Times each subsystem of the game.
+     */
+    private final TickProfiler profiler = new TickProfiler();
+    /**
+     * Records the game's input, or null if it is not recorded.
+     */
+    private InputLog.Recorder inputRecorder = null;
+    /**
+     * Batches the sprites of the game's entities when they are drawn.
+     * It is only created once the game is first drawn.
+     */
+    private SpriteBatch spriteBatch = null;
+    /**
+     * Batches the health bars of the game's monsters when they are drawn.
+     * It is only created once the game is first drawn.
+     */
+    private HealthBarBatch healthBarBatch = null;
 
     /**
      * The constructor for the {@code Game} class.
-     * @param app The application used for the game.
+     * <p>
+     * The game has no sprites and its random number generator is seeded from the current time.
+     * @param config The config that the game is loaded from.
      */
     public Game(JSONObject config) {
-        this.board = new Board(config.getString("layout"));
-        Monster.findMonsterPaths(board);
+        this(config, System.nanoTime());
+    }
+
+    /**
+     * The constructor for the {@code Game} class.
+     * <p>
+     * The game has no sprites, so it can only be simulated.
+     * @param config The config that the game is loaded from.
+     * @param seed The seed for the game's random number generator.
+     */
+    public Game(JSONObject config, long seed) {
+        this(config, new GameAssets(), seed);
+    }
+
+    /**
+     * The constructor for the {@code Game} class.
+     * @param config The config that the game is loaded from.
+     * @param assets The sprites that the game is drawn with.
+     * @param seed The seed for the game's random number generator.
+     */
+    public Game(JSONObject config, GameAssets assets, long seed) {
+        this.board = new Board(config.getString("layout"), assets);
+        this.context = new GameContext(this.board, assets, seed,
+                                       config.getInt("monster_pool_capacity", MonsterPool.DEFAULT_CAPACITY));
         this.manaPool = new ManaPool(config);
-        this.waveManager = new WaveManager(config.getJSONArray("waves"), this.activeMonsters);
-        this.towerManager = new TowerManager(config, this.manaPool, this.activeMonsters);
+        this.waveManager = new WaveManager(config.getJSONArray("waves"), this.monsterStore, this.context);
+        this.towerManager = new TowerManager(config, assets, this.manaPool, this.monsterStore);
+        this.towerManager.setMonsterGrid(this.monsterGrid);
+        this.towerManager.setScheduler(this.context.getScheduler());
+        this.manaPool.setScheduler(this.context.getScheduler());
     
         this.inputManager = new InputManager(this);
         
@@ -94,6 +158,32 @@ public class Game {
         this.waveManager.addWaveTimer(this.ui.getWaveTimer());
     }
 
+    /**
+     * The constructor for forks of a game.
+     * <p>
+     * The fork shares the parent's board, flow field and sprites, which are never changed
+     * during a game, and gets its own copy of everything else. The state of the parent's
+     * towers, monsters and waves is restored into the fork afterwards.
+     * @param parent The game that is forked.
+     * @see #fork()
+     */
+    private Game(Game parent) {
+        this.board = parent.board;
+        this.context = new GameContext(parent.context);
+        this.manaPool = new ManaPool(parent.manaPool);
+        this.waveManager = new WaveManager(this.monsterStore, this.context);
+        this.towerManager = parent.towerManager.copyWithoutTowers(this.manaPool, this.monsterStore);
+        this.towerManager.setMonsterGrid(this.monsterGrid);
+        this.towerManager.setScheduler(this.context.getScheduler());
+        this.manaPool.setScheduler(this.context.getScheduler());
+
+        this.inputManager = new InputManager(this);
+
+        this.ui = new GameUI(this, this.inputManager);
+        this.manaPool.addManaBar(this.ui.getManaBar());
+        this.waveManager.addWaveTimer(this.ui.getWaveTimer());
+    }
+
     public InputManager getInputManager() { return this.inputManager; }
     public GameUI getGameUI() { return this.ui; }
 
@@ -102,6 +192,11 @@ public class Game {
      * @return The game's board.
      */
     public Board getBoard() { return this.board; }
+    /**
+     * Gets the state shared by every monster in the game.
+     * @return The game's context.
+     */
+    public GameContext getContext() { return this.context; }
     /**
      * Gets the game's tower manager.
      * @return The tower manager.
@@ -128,6 +223,13 @@ public class Game {
      * @return true if the game has been lost, otherwise false.
      */
     public boolean isGameLost() { return this.gameLost; }
+    /**
+     * Gets the number of times a monster has reached the wizard's house.
+     * <p>
+     * A monster that reaches the house more than once is counted every time.
+     * @return The number of monsters that have leaked.
+     */
+    public int getLeakCount() { return this.leakCount; }
 
     /**
      * Gets the game's pause status.
@@ -141,22 +243,151 @@ public class Game {
     public void setGamePaused(boolean paused) { this.gamePaused = paused; }
 
     /**
-     * Gets the active monsters ccurrently on the board.
-     * @return A list of active monsters.
+     * Gets the store of active monsters that the game loop iterates over.
+     * <p>
+     * Monsters are added to the store when they spawn and removed when they die.
+     * Its cached fields are up to date once {@code tickMonsters()} returns.
+     * @return The store of active monsters.
+     */
+    public MonsterStore getMonsterStore() { return this.monsterStore; }
+    /**
+     * Gets the grid of active monsters that towers use for targeting.
+     * <p>
+     * The grid is rebuilt at the end of {@code tickMonsters()}.
+     * @return The grid of active monsters.
      */
-    public LinkedList<Monster> getActiveMonsters() { return this.activeMonsters; }
+    public SpatialGrid getMonsterGrid() { return this.monsterGrid; }
 
     /**
      * Gets the current speed of the game.
      * @return The current speed of the game.
      */
     public float getGameSpeed() { return this.gameSpeed; }
+    /**
+     * Gets the profiler that times each subsystem of the game.
+     * @return The game's tick profiler.
+     */
+    public TickProfiler getProfiler() { return this.profiler; }
+    /**
+     * Sets the recorder that every input is passed to before it is handled.
+     * @param recorder The recorder, or null to stop recording.
+     * @see InputLog#record(SimulationEngine, JSONObject)
+     */
+    public void setInputRecorder(InputLog.Recorder recorder) { this.inputRecorder = recorder; }
+
+    /**
+     * Captures the game's current state.
+     * @return The snapshot of the game.
+     * @see GameSnapshot#capture(Game)
+     */
+    public GameSnapshot snapshot() { return GameSnapshot.capture(this); }
+    /**
+     * Replaces the game's state with the snapshot's state.
+     * @param snapshot A snapshot of a game loaded from the same config.
+     * @throws IllegalArgumentException If the snapshot does not fit the game.
+     * @see GameSnapshot#restore(Game)
+     */
+    public void restore(GameSnapshot snapshot) throws IllegalArgumentException { snapshot.restore(this); }
+    /**
+     * Creates an independent copy of the game, which can be simulated without changing this one.
+     * <p>
+     * Unlike loading a new game, this neither parses the config and level file nor loads sprites,
+     * so it is cheap enough to call many times per frame, e.g. when searching for good moves.
+     * The fork's input is not recorded.
+     * @return The forked game.
+     */
+    public Game fork() {
+        Game fork = new Game(this);
+        GameSnapshot.copy(this, fork);
+        return fork;
+    }
+
+    /**
+     * Writes the game's state to a snapshot.
+     * <p>
+     * The timing wheel's tick is written first, followed by every monster that anything refers to,
+     * in the monster table: the active monsters and the targets of towers and fireballs.
+     * Monsters still in waves have not been created yet, so their waves' spawn specs are written instead.
+     * @param out The snapshot writer.
+     */
+    void saveState(GameSnapshot.Writer out) {
+        out.putLong(this.context.getScheduler().getCurrentTick());
+        out.putLong(this.context.getScheduler().getNextSequence());
+
+        out.addMonsters(this.monsterStore);
+        this.towerManager.addMonstersTo(out);
+
+        List<Monster> monsters = out.getMonsters();
+        out.putInt(monsters.size());
+        for (Monster monster : monsters) {
+            GameSnapshot.writeMonster(out, monster);
+        }
+        out.putMonsters(this.monsterStore);
+
+        this.waveManager.saveState(out);
+        this.towerManager.saveState(out);
+        this.manaPool.saveState(out);
+        this.inputManager.saveState(out);
+
+        out.putBoolean(this.gameWon);
+        out.putBoolean(this.gameLost);
+        out.putBoolean(this.gamePaused);
+        out.putInt(this.leakCount);
+        out.putFloat(this.gameSpeed);
+        out.putLong(this.context.getRandom().getState());
+        out.putLong(this.context.getRandom().getGamma());
+    }
+
+    /**
+     * Replaces the game's state with the state read from a snapshot.
+     * <p>
+     * The timing wheel is restored first, since everything that is restored schedules its tasks on it again.
+     * Towers are restored before the mana pool, since rebuilding them costs mana,
+     * and the random number generator is restored last, since creating monsters uses it.
+     * @param in The snapshot reader.
+     */
+    void restoreState(GameSnapshot.Reader in) {
+        TimingWheel scheduler = this.context.getScheduler();
+        long currentTick = in.getLong();
+        scheduler.reset(currentTick, in.getLong());
+
+        // Every monster is replaced, so no handle to the old ones may still be valid
+        this.context.getMonsterRegistry().clear();
+        int monsterCount = in.getInt();
+        for (int i = 0; i < monsterCount; i++) {
+            in.addMonster(GameSnapshot.readMonster(in));
+        }
+        this.monsterStore.clear();
+        in.getMonsters(this.monsterStore);
+
+        // Rebuilding towers would reschedule the mana pool's task, so it is detached until restored
+        this.manaPool.setScheduler(null);
+        this.waveManager.restoreState(in);
+        this.towerManager.restoreState(in);
+        this.manaPool.restoreState(in);
+        this.manaPool.setScheduler(scheduler);
+        this.inputManager.restoreState(in);
+
+        this.gameWon = in.getBoolean();
+        this.gameLost = in.getBoolean();
+        this.gamePaused = in.getBoolean();
+        this.leakCount = in.getInt();
+        this.gameSpeed = in.getFloat();
+        long state = in.getLong();
+        this.context.setRandom(new GameRandom(state, in.getLong()));
+
+        this.monsterGrid.rebuild(this.monsterStore);
+    }
 
     /**
      * Calls input manager's pressButton() to activate buttons on key press.
      * @param key The key that has been pressed.
      */
     public void pressKey(char key) {
+        if (this.inputRecorder != null) {
+            this.inputRecorder.recordKey(key);
+        }
+
         if (this.gameWon || this.gameLost) {
             return; 
         }
@@ -169,6 +400,10 @@ public class Game {
      * @param e The events related to the mouse that was moved.
      */
     public void mousePressed(int button, float x, float y) {
+        if (this.inputRecorder != null) {
+            this.inputRecorder.recordMousePressed(button, x, y);
+        }
+
         if (this.gameWon || this.gameLost) {
             return;  
         }
@@ -184,6 +419,10 @@ public class Game {
      * Calls input manager's mouseMoved() if the mouse has been moved.
      */
     public void mouseMoved(float x, float y) {
+        if (this.inputRecorder != null) {
+            this.inputRecorder.recordMouseMoved(x, y);
+        }
+
         if (this.gameWon || this.gameLost) {
             return;
         } 
@@ -193,6 +432,9 @@ public class Game {
 
     /**
      * Executes all game logic if the game has not been paused or finished.
+     * <p>
+     * The game's timing wheel is advanced last, running everything that is due on the tick:
+     * fireball impacts, tower reloads, spawns, death animations and the mana pool filling up.
      */
     public void tick() {
         if (this.gameWon || this.gameLost) {
@@ -206,11 +448,16 @@ public class Game {
             return;
         }
 
+        long start = this.profiler.begin();
         waveManager.tick();
+        start = this.profiler.lap(TickProfiler.Section.WAVES, start);
         tickMonsters();
+        start = this.profiler.lap(TickProfiler.Section.MONSTERS, start);
         tickTowers();
+        start = this.profiler.lap(TickProfiler.Section.TOWERS, start);
         
-        manaPool.tick();
+        this.context.getScheduler().advance();
+        this.profiler.end(TickProfiler.Section.SCHEDULED, start);
     }
 
     /**
@@ -218,35 +465,66 @@ public class Game {
      * <p>
      * This method also handles the removal of dead monsters,
      * and monster respawning.
+     * <p>
+     * The monster store is the list of active monsters, so it is walked in
+     * place. Each monster's fields are copied into the store once it has
+     * been ticked, and dead monsters are removed from it after the loop
+     * without changing the order of the others.
+     * <p>
+     * Dead monsters are only released to the monster pool once the loop is over.
+     * Otherwise a moag that dies later in the loop could be given one of them back
+     * as a gremlin while the loop is still working on it.
      */
     public void tickMonsters() {
-        LinkedList<Monster> forMoag = new LinkedList<>();
-
-        for (Monster monster : this.activeMonsters) {
-            if (monster.isAlive()) {
-                monster.tick();
+        this.moagSpawns.clear();
+        this.deadMonsters.clear();
+
+        PVector housePos = board.getWizHouse().getCenterPos();
+        for (int i = 0; i < this.monsterStore.size(); i++) {
+            Monster monster = this.monsterStore.get(i);
+            // Anything may have hurt the monster since its slot was last updated, so ask the monster
+            if (!monster.isDead()) {
+                if (monster.isAlive()) {
+                    monster.tick();
+                } else {
+                    monster.startDeathAnim();
+                }
             }
+            this.monsterStore.update(i);
 
-            if (monster.getCurrentHP() > 0 &&
-                monster.getCenterPos().dist(board.getWizHouse().getCenterPos()) <= 5) {
-                manaPool.removeMana(monster.getCurrentHP());
+            float dx = this.monsterStore.getX(i) - housePos.x;
+            float dy = this.monsterStore.getY(i) - housePos.y;
+            if (this.monsterStore.getHP(i) > 0 && dx * dx + dy * dy <= 5 * 5) {
+                manaPool.removeMana(this.monsterStore.getHP(i));
+                ++this.leakCount;
                 monster.respawn();
-            } else if (monster.isDead()) {
+                this.monsterStore.update(i);
+            } else if (this.monsterStore.getState(i) == MonsterStore.DEAD) {
                 manaPool.addMana(monster.getManaOnDeath());
 
-                if (monster instanceof Moag) {
+                if (this.monsterStore.getTypeId(i) == MonsterStore.TYPE_MOAG) {
                     Moag moag = (Moag)monster;
-                    forMoag.addAll(moag.getMonstersInMoag());
+                    moag.spawnMonstersInMoag(this.moagSpawns);
                 }
+                this.deadMonsters.add(monster);
             }
         }
-        this.activeMonsters.addAll(forMoag);
-        this.activeMonsters.removeIf(m -> (m.isDead()));
-    
+        this.monsterStore.removeDead();
+
+        for (Monster monster : this.moagSpawns) {
+            this.monsterStore.add(monster);
+        }
+        for (Monster monster : this.deadMonsters) {
+            this.context.getMonsterPool().release(monster);
+        }
+        this.monsterGrid.rebuild(this.monsterStore);
     }
 
      /**
      * Updates all towers on the board.
+     * <p>
+     * Fireballs whose impact is scheduled land when the game's timing wheel is advanced,
+     * at the end of the tick, once every tower has fired.
      */
     public void tickTowers() {
         for (Tower t : this.towerManager.getTowers()) {
@@ -256,20 +534,27 @@ public class Game {
 
     /**
      * Changes the speed of everything in the game.
+     * <p>
+     * The step size of each tick never changes. Instead, the game is
+     * ticked more or less often per second of real time.
      * @param speed The desired speed.
+     * @see SimulationEngine#advance(float)
      */
     public void changeGameSpeed(float speed) {
         this.gameSpeed = speed;
-        this.waveManager.setSpeedMultiplier(speed);
-        this.towerManager.setSpeedOfTowers(speed);
-        this.manaPool.setSpeedMultiplier(speed);
+    }
 
-        if (this.activeMonsters.isEmpty()) {
-            return;
+    /**
+     * Stores the current position of every moving entity,
+     * so that they can be interpolated between ticks when drawn.
+     */
+    public void savePreviousPositions() {
+        for (int i = 0; i < this.monsterStore.size(); i++) {
+            this.monsterStore.get(i).savePreviousPos();
         }
 
-        for (Monster monster : this.activeMonsters) {
-            monster.setSpeedMultiplier(speed);
+        for (Tower t : this.towerManager.getTowers()) {
+            t.savePreviousPos();
         }
     }
 
@@ -279,7 +564,7 @@ public class Game {
      */
     public boolean isGameOver() {
         this.gameWon = this.waveManager.areWavesFinished() && 
-                       this.activeMonsters.isEmpty();
+                       this.monsterStore.isEmpty();
         
         this.gameLost = this.manaPool.getCurrentMana() <= 0;
         return this.gameWon || this.gameLost;
@@ -289,8 +574,8 @@ public class Game {
      * Draws the game's board to the layer.
      * @param layer the layer to which the board is drawn.
      */
-    public void drawMap(App app, PGraphics layer) {
-        board.connectPaths(app);
+    public void drawMap(PGraphics layer) {
+        board.connectPaths();
         board.drawToLayer(layer);
     }
 
@@ -299,21 +584,71 @@ public class Game {
      * @param layer The layer to which the entities are drawn.
      */
     public void drawEntities(PGraphics layer) {
-        for (Monster monster : activeMonsters) {
-            if (monster.isAlive()) {
-                monster.drawToLayer(layer);
+        this.drawEntities(layer, 1);
+    }
+
+    /**
+     * Draws the game's active entities to the layer,
+     * interpolated between their previous and current positions.
+     * <p>
+     * Entities are drawn a type at a time: monsters, then towers, then projectiles.
+     * The sprites of each type are batched, so they are drawn from the sprite atlas
+     * with as few tint changes as possible, and the number of sprites drawn is
+     * recorded by the profiler. Health bars are also batched, and the bars of monsters
+     * at full health are skipped.
+     * @param layer The layer to which the entities are drawn.
+     * @param alpha How far between the previous and current tick to draw, from 0 to 1.
+     */
+    public void drawEntities(PGraphics layer, float alpha) {
+        if (this.spriteBatch == null) {
+            this.spriteBatch = new SpriteBatch(this.context.getAssets().getAtlas());
+            this.healthBarBatch = new HealthBarBatch();
+        }
+        SpriteBatch batch = this.spriteBatch;
+        batch.resetCounts();
+        this.healthBarBatch.resetCounts();
+
+        for (int i = 0; i < this.monsterStore.size(); i++) {
+            Monster monster = this.monsterStore.get(i);
+            monster.updateRenderPos(alpha);
+            if (this.monsterStore.isAlive(i)) {
+                monster.drawSprite(batch);
             } else {
-                monster.playDeathAnim(layer);
+                monster.drawDeathAnim(batch);
+            }
+        }
+        batch.flush(layer);
+        for (int i = 0; i < this.monsterStore.size(); i++) {
+            if (this.monsterStore.isAlive(i)) {
+                this.monsterStore.get(i).drawHealthBar(this.healthBarBatch);
             }
         }
+        this.healthBarBatch.flush(layer);
         
+        Tower unbuiltTower = this.towerManager.getUnbuiltTower();
         for (Tower t : this.towerManager.getTowers()) {
-            t.drawToLayer(layer);
+            t.updateRenderPos(alpha);
+            t.drawSprite(batch);
+        }
+        if (unbuiltTower != null) {
+            unbuiltTower.drawSprite(batch);
+        }
+        batch.flush(layer);
+        for (Tower t : this.towerManager.getTowers()) {
+            t.drawIndicators(layer);
+        }
+        if (unbuiltTower != null) {
+            unbuiltTower.drawIndicators(layer);
         }
 
-        if (this.towerManager.getUnbuiltTower() != null) {
-            this.towerManager.getUnbuiltTower().drawToLayer(layer);
+        for (Tower t : this.towerManager.getTowers()) {
+            t.drawProjectiles(batch);
         }
+        batch.flush(layer);
+
+        this.profiler.record(TickProfiler.Counter.SPRITE_DRAWS, batch.getDrawCalls());
+        this.profiler.record(TickProfiler.Counter.TINT_CHANGES, batch.getTintChanges());
+        this.profiler.record(TickProfiler.Counter.HEALTH_BARS, this.healthBarBatch.getBarsDrawn());
     }
 
     /**
@@ -326,28 +661,34 @@ public class Game {
 
     /**
      * Draws the game's UI to the layer.
+     * <p>
+     * The mana bar is brought up to date first, since the mana pool regenerates without updating it.
      * @param layer The layer to which the UI is drawn.
      */
     public void drawUI(PGraphics layer) {
+        this.manaPool.updateManaBar();
         ui.drawToLayer(layer);  
-    } 
+    }
 
     /**
-     * Loads All sprites on game creation.
-     * @param app The app used for loading the sprites.
-     */
-    public static void loadGameSprites(App app) {
-        Path.loadSprite(app);
-        Grass.loadSprite(app);
-        Shrub.loadSprite(app);
-        WizHouse.loadSprite(app);
-
-        Moag.loadSprites(app);
-        Gremlin.loadSprites(app);
-        Beetle.loadSprites(app);
-        Worm.loadSprites(app);
+     * Redraws the parts of the game's top and side bars that have changed.
+     * <p>
+     * The mana bar is brought up to date first, since the mana pool regenerates without updating it.
+     * @param layer The layer to which the top and side bars are drawn.
+     * @return The regions of the layer that were redrawn.
+     * @see GameUI#drawPanels(PGraphics)
+     */
+    public List<UIRegion> drawUIPanels(PGraphics layer) {
+        this.manaPool.updateManaBar();
+        return ui.drawPanels(layer);
+    }
 
-        Fireball.loadSprite(app);
-        Tower.loadSprites(app);
+    /**
+     * Draws the game's tooltips, menus and overlays to the layer.
+     * @param layer The layer to which the overlays are drawn.
+     * @see GameUI#drawOverlays(PGraphics)
+     */
+    public void drawUIOverlays(PGraphics layer) {
+        ui.drawOverlays(layer);
     }
 }
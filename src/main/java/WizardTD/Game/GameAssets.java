@@ -0,0 +1,226 @@
+package WizardTD.Game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import WizardTD.App;
+import processing.core.PImage;
+
+/**
+ * Represents the {@code GameAssets} class.
+ * <p>
+ * Game assets hold every sprite that a game draws with.
+ * They are loaded once by the app and handed to each game through its
+ * {@code GameContext}, rather than being stored in static fields of the classes that use them.
+ * <p>
+ * Assets are never changed once loaded, so one set can be shared by many games.
+ * Rotated sprites are held in the assets' {@link SpriteCache}, which is filled with the
+ * rotations of the path and beetle sprites when the assets are loaded.
+ * Every loaded sprite and rotation is then packed into the assets' {@link SpriteAtlas},
+ * which entities are drawn from.
+ * A game without an app, such as a headless simulation, uses assets
+ * constructed with {@link #GameAssets()}, which have no sprites.
+ */
+public final class GameAssets {
+    /**
+     * The folder that every sprite is loaded from.
+     */
+    private static final String SPRITE_FOLDER = "src/main/resources/WizardTD/";
+    /**
+     * The number of images in a monster's death animation.
+     */
+    public static final int DEATH_ANIM_LENGTH = 5;
+    /**
+     * The number of tower levels that have their own sprite.
+     */
+    public static final int TOWER_LEVELS = 3;
+
+    private final PImage grassSprite;
+    private final PImage shrubSprite;
+    private final PImage wizHouseSprite;
+    /**
+     * The straight, bent, T and cross path sprites, in that order.
+     */
+    private final PImage[] pathSprites;
+
+    private final PImage gremlinSprite;
+    private final PImage[] gremlinDeathImages;
+    private final PImage wormSprite;
+    private final PImage[] wormDeathImages;
+    /**
+     * The upward, downward, left and right facing beetle sprites, in that order.
+     */
+    private final PImage[] beetleSprites;
+    private final PImage[] beetleDeathImages;
+
+    private final PImage fireballSprite;
+    /**
+     * The level 1, 2 and 3 tower sprites, in that order.
+     */
+    private final PImage[] towerSprites;
+
+    /**
+     * The rotated versions of the sprites.
+     */
+    private final SpriteCache spriteCache = new SpriteCache();
+    /**
+     * The atlas that every sprite is packed into, or null if there are no sprites.
+     */
+    private final SpriteAtlas atlas;
+
+    /**
+     * {@code GameAssets}' constructor.
+     * <p>
+     * Constructs assets without any sprites, for games that are never drawn.
+     */
+    public GameAssets() {
+        this.grassSprite = null;
+        this.shrubSprite = null;
+        this.wizHouseSprite = null;
+        this.pathSprites = new PImage[4];
+
+        this.gremlinSprite = null;
+        this.gremlinDeathImages = new PImage[DEATH_ANIM_LENGTH];
+        this.wormSprite = null;
+        this.wormDeathImages = new PImage[DEATH_ANIM_LENGTH];
+        this.beetleSprites = new PImage[4];
+        this.beetleDeathImages = new PImage[DEATH_ANIM_LENGTH];
+
+        this.fireballSprite = null;
+        this.towerSprites = new PImage[TOWER_LEVELS];
+        this.atlas = null;
+    }
+
+    /**
+     * Loads every sprite with the given app.
+     * @param app Used to load the sprites.
+     * @throws NullPointerException If app is null.
+     */
+    private GameAssets(App app) throws NullPointerException {
+        if (app == null) throw new NullPointerException("Failed to load game assets because app is null.");
+
+        this.grassSprite = app.loadImage(SPRITE_FOLDER + "grass.png");
+        this.shrubSprite = app.loadImage(SPRITE_FOLDER + "shrub.png");
+        this.wizHouseSprite = app.loadImage(SPRITE_FOLDER + "wizard_house.png");
+        this.pathSprites = new PImage[] {
+            app.loadImage(SPRITE_FOLDER + "path0.png"),
+            app.loadImage(SPRITE_FOLDER + "path1.png"),
+            app.loadImage(SPRITE_FOLDER + "path2.png"),
+            app.loadImage(SPRITE_FOLDER + "path3.png")
+        };
+
+        this.gremlinSprite = app.loadImage(SPRITE_FOLDER + "gremlin.png");
+        this.gremlinDeathImages = new PImage[] {
+            app.loadImage(SPRITE_FOLDER + "gremlin1.png"),
+            app.loadImage(SPRITE_FOLDER + "gremlin2.png"),
+            app.loadImage(SPRITE_FOLDER + "gremlin3.png"),
+            app.loadImage(SPRITE_FOLDER + "gremlin4.png"),
+            app.loadImage(SPRITE_FOLDER + "gremlin5.png")
+        };
+
+        // Worms and beetles share the end of the gremlin's death animation
+        PImage[] shortDeathImages = new PImage[] {
+            this.gremlinDeathImages[2],
+            this.gremlinDeathImages[3],
+            this.gremlinDeathImages[3],
+            this.gremlinDeathImages[4],
+            this.gremlinDeathImages[4]
+        };
+        this.wormSprite = app.loadImage(SPRITE_FOLDER + "worm.png");
+        this.wormDeathImages = shortDeathImages;
+
+        PImage beetleSprite = app.loadImage(SPRITE_FOLDER + "beetle.png");
+        this.beetleSprites = new PImage[] {
+            beetleSprite,
+            this.spriteCache.getRotated(beetleSprite, 180),
+            this.spriteCache.getRotated(beetleSprite, 270),
+            this.spriteCache.getRotated(beetleSprite, 90)
+        };
+        this.beetleDeathImages = shortDeathImages;
+
+        this.fireballSprite = app.loadImage(SPRITE_FOLDER + "fireball.png");
+        this.towerSprites = new PImage[] {
+            app.loadImage(SPRITE_FOLDER + "tower0.png"),
+            app.loadImage(SPRITE_FOLDER + "tower1.png"),
+            app.loadImage(SPRITE_FOLDER + "tower2.png")
+        };
+
+        // Every path orientation is rotated up front, rather than when the board is first drawn
+        List<PImage> sprites = new ArrayList<>();
+        for (PImage pathSprite : this.pathSprites) {
+            for (int degrees = 0; degrees < 360; degrees += 90) {
+                sprites.add(this.spriteCache.getRotated(pathSprite, degrees));
+            }
+        }
+
+        sprites.addAll(Arrays.asList(this.grassSprite, this.shrubSprite, this.wizHouseSprite,
+                                     this.gremlinSprite, this.wormSprite, this.fireballSprite));
+        sprites.addAll(Arrays.asList(this.gremlinDeathImages));
+        sprites.addAll(Arrays.asList(this.beetleSprites));
+        sprites.addAll(Arrays.asList(this.towerSprites));
+        this.atlas = new SpriteAtlas(sprites);
+    }
+
+    /**
+     * Loads every sprite used by the game.
+     * <p>
+     * This should only be called once, the loaded assets can be shared by every game.
+     * @param app Used to load the sprites.
+     * @return The loaded assets.
+     * @throws NullPointerException If app is null.
+     */
+    public static GameAssets load(App app) throws NullPointerException {
+        return new GameAssets(app);
+    }
+
+    public PImage getGrassSprite() { return this.grassSprite; }
+    public PImage getShrubSprite() { return this.shrubSprite; }
+    public PImage getWizHouseSprite() { return this.wizHouseSprite; }
+    public PImage getPathStraightSprite() { return this.pathSprites[0]; }
+    public PImage getPathBendSprite() { return this.pathSprites[1]; }
+    public PImage getPathTSprite() { return this.pathSprites[2]; }
+    public PImage getPathCrossSprite() { return this.pathSprites[3]; }
+
+    public PImage getGremlinSprite() { return this.gremlinSprite; }
+    public PImage[] getGremlinDeathImages() { return this.gremlinDeathImages; }
+    public PImage getWormSprite() { return this.wormSprite; }
+    public PImage[] getWormDeathImages() { return this.wormDeathImages; }
+    /**
+     * Gets the beetle sprites for each direction that a beetle can face.
+     * @return The upward, downward, left and right facing sprites, in that order.
+     */
+    public PImage[] getBeetleSprites() { return this.beetleSprites; }
+    public PImage[] getBeetleDeathImages() { return this.beetleDeathImages; }
+
+    public PImage getFireballSprite() { return this.fireballSprite; }
+    /**
+     * Gets the tower sprite for the given tower level.
+     * @param level The tower's level, from 1 to {@code TOWER_LEVELS}.
+     * @return The tower's sprite.
+     */
+    public PImage getTowerSprite(int level) { return this.towerSprites[level - 1]; }
+
+    /**
+     * Gets the atlas that every sprite is packed into.
+     * @return The sprite atlas, or {@code null} for assets without sprites.
+     */
+    public SpriteAtlas getAtlas() { return this.atlas; }
+
+    /**
+     * Gets the cache that the assets' rotated sprites are held in.
+     * @return The sprite cache.
+     */
+    public SpriteCache getSpriteCache() { return this.spriteCache; }
+    /**
+     * Gets a sprite rotated clockwise by the given angle, which is shared by everything that uses the rotation.
+     * @param sprite The sprite to rotate.
+     * @param degrees The angle, which must be a multiple of 90 degrees.
+     * @return The rotated sprite, or {@code null} if sprite is null.
+     * @throws IllegalArgumentException If degrees is not a multiple of 90.
+     * @see SpriteCache#getRotated(PImage, int)
+     */
+    public PImage getRotatedSprite(PImage sprite, int degrees) throws IllegalArgumentException {
+        return this.spriteCache.getRotated(sprite, degrees);
+    }
+}
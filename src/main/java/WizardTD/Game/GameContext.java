@@ -0,0 +1,187 @@
+package WizardTD.Game;
+
+import java.util.ArrayList;
+
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Board.FlowField;
+import WizardTD.Game.Board.Tile;
+import WizardTD.Game.Entities.EntityRegistry;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.MonsterPool;
+
+/**
+ * Represents the {@code GameContext} class.
+ * <p>
+ * A game context holds the state that every entity in a single game shares,
+ * such as the flow field that monsters follow, the game's random number generator,
+ * the pool that monsters are spawned from, the registry that hands out the monsters'
+ * handles, the timing wheel that schedules things for later ticks and the sprites
+ * that the game is drawn with.
+ * <p>
+ * Each game owns its own context, so several games can run
+ * side by side in one JVM without overwriting each other's state.
+ */
+public final class GameContext {
+    /**
+     * The board that the game is played on.
+     */
+    private final Board board;
+    /**
+     * The flow field that every monster follows to the wizard's house.
+     */
+    private final FlowField flowField;
+    /**
+     * The seed that the random number generator was created with.
+     */
+    private final long seed;
+    /**
+     * The random number generator used for everything random in the game.
+     */
+    private GameRandom random;
+    /**
+     * The sprites that the game is drawn with.
+     */
+    private final GameAssets assets;
+    /**
+     * The pool that the game's monsters are spawned from.
+     */
+    private final MonsterPool monsterPool;
+    /**
+     * The registry of the game's monsters, which towers and fireballs refer to their targets through.
+     */
+    private final EntityRegistry<Monster> monsterRegistry = new EntityRegistry<>();
+    /**
+     * The timing wheel that schedules things for later ticks of the game.
+     */
+    private final TimingWheel scheduler = new TimingWheel();
+
+    /**
+     * {@code GameContext}'s constructor.
+     * <p>
+     * The context uses the board's assets.
+     * @param board The board that the game is played on.
+     * @param seed The seed for the game's random number generator.
+     * @throws NullPointerException If board is null.
+     */
+    public GameContext(Board board, long seed) throws NullPointerException {
+        this(board, board == null ? null : board.getAssets(), seed);
+    }
+
+    /**
+     * {@code GameContext}'s constructor.
+     * <p>
+     * The flow field is computed from the board on construction.
+     * @param board The board that the game is played on.
+     * @param assets The sprites that the game is drawn with.
+     * @param seed The seed for the game's random number generator.
+     * Two contexts with the same board and seed produce the same game.
+     * @throws NullPointerException If board or assets is null.
+     */
+    public GameContext(Board board, GameAssets assets, long seed) throws NullPointerException {
+        this(board, assets, seed, MonsterPool.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * {@code GameContext}'s constructor.
+     * <p>
+     * The flow field is computed from the board on construction.
+     * @param board The board that the game is played on.
+     * @param assets The sprites that the game is drawn with.
+     * @param seed The seed for the game's random number generator.
+     * Two contexts with the same board and seed produce the same game.
+     * @param monsterPoolCapacity The most unused monsters of each species that the monster pool keeps.
+     * @throws NullPointerException If board or assets is null.
+     * @throws IllegalArgumentException If monsterPoolCapacity is < 0.
+     */
+    public GameContext(Board board, GameAssets assets, long seed,
+                       int monsterPoolCapacity) throws NullPointerException, IllegalArgumentException {
+        if (board == null || assets == null) {
+            throw new NullPointerException("GameContext must be constructed with a non-null board and assets");
+        }
+
+        this.board = board;
+        this.assets = assets;
+        this.flowField = new FlowField(board);
+        this.seed = seed;
+        this.random = new GameRandom(seed);
+        this.monsterPool = new MonsterPool(this, monsterPoolCapacity);
+    }
+
+    /**
+     * {@code GameContext}'s constructor.
+     * <p>
+     * Constructs the context of a fork of a game. The fork shares the parent's board,
+     * flow field and assets, and its random number generator continues from the parent's.
+     * The fork starts with an empty monster pool of the same capacity, an empty monster registry
+     * and an empty timing wheel.
+     * @param parent The context of the game that is forked.
+     */
+    GameContext(GameContext parent) {
+        this.board = parent.board;
+        this.assets = parent.assets;
+        this.flowField = parent.flowField;
+        this.seed = parent.seed;
+        this.random = parent.random.copy();
+        this.monsterPool = new MonsterPool(this, parent.monsterPool.getCapacity());
+    }
+
+    /**
+     * Gets the board that the game is played on.
+     * @return The game's board.
+     */
+    public Board getBoard() { return this.board; }
+    /**
+     * Gets the flow field that monsters follow to the wizard's house.
+     * @return The game's flow field.
+     */
+    public FlowField getFlowField() { return this.flowField; }
+    /**
+     * Gets the seed that the random number generator was created with.
+     * @return The game's seed.
+     */
+    public long getSeed() { return this.seed; }
+    /**
+     * Gets the game's random number generator.
+     * @return The game's random number generator.
+     */
+    public GameRandom getRandom() { return this.random; }
+    /**
+     * Replaces the game's random number generator, such as with one restored from a snapshot.
+     * @param random The new random number generator.
+     */
+    void setRandom(GameRandom random) { this.random = random; }
+    /**
+     * Gets the sprites that the game is drawn with.
+     * @return The game's assets.
+     */
+    public GameAssets getAssets() { return this.assets; }
+    /**
+     * Gets the pool that the game's monsters are spawned from.
+     * @return The game's monster pool.
+     */
+    public MonsterPool getMonsterPool() { return this.monsterPool; }
+    /**
+     * Gets the registry of the game's monsters.
+     * @return The game's monster registry.
+     */
+    public EntityRegistry<Monster> getMonsterRegistry() { return this.monsterRegistry; }
+    /**
+     * Gets the timing wheel that schedules things for later ticks of the game.
+     * @return The game's timing wheel.
+     */
+    public TimingWheel getScheduler() { return this.scheduler; }
+
+    /**
+     * Gets an ArrayList of ArrayLists of all the paths that monsters can follow.
+     * <p>
+     * The paths are built from the flow field on every call.
+     * @return The paths that monsters can follow.
+     */
+    public ArrayList<ArrayList<Tile>> getValidPaths() {
+        ArrayList<ArrayList<Tile>> paths = new ArrayList<>();
+        for (Tile start : this.flowField.getStartingTiles()) {
+            paths.add(this.flowField.getPathFrom(start));
+        }
+        return paths;
+    }
+}
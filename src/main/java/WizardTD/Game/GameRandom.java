@@ -0,0 +1,155 @@
+package WizardTD.Game;
+
+/**
+ * Represents the {@code GameRandom} class.
+ * <p>
+ * A game random is a small, seeded and splittable random number generator,
+ * based on the SplitMix64 algorithm. Every game owns exactly one, so a game
+ * played twice with the same seed and the same input makes the same choices.
+ * <p>
+ * Unlike {@code java.util.Random}, the whole state of the generator is two longs,
+ * which can be read with {@link #getState()} and {@link #getGamma()} and
+ * restored with {@link #GameRandom(long, long)}.
+ * <p>
+ * This class is not thread safe. A game random should only be used by its own game.
+ */
+public final class GameRandom {
+    /**
+     * The gamma used by a generator constructed from a seed.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * The generator's state, which is advanced by {@code gamma} on every call.
+     */
+    private long state;
+    /**
+     * The odd value that the state is advanced by.
+     */
+    private final long gamma;
+
+    /**
+     * {@code GameRandom}'s constructor.
+     * @param seed The seed of the generator.
+     * Two generators with the same seed produce the same values.
+     */
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    /**
+     * {@code GameRandom}'s constructor.
+     * <p>
+     * Restores a generator from a state and gamma that were read from another generator.
+     * @param state The generator's state.
+     * @param gamma The generator's gamma.
+     * @throws IllegalArgumentException If gamma is even.
+     */
+    public GameRandom(long state, long gamma) throws IllegalArgumentException {
+        if ((gamma & 1) == 0) throw new IllegalArgumentException("GameRandom gamma must be odd.");
+
+        this.state = state;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Gets the generator's current state.
+     * @return The generator's state.
+     */
+    public long getState() { return this.state; }
+    /**
+     * Gets the generator's gamma.
+     * @return The generator's gamma.
+     */
+    public long getGamma() { return this.gamma; }
+
+    /**
+     * Gets the next random long.
+     * @return A random long.
+     */
+    public long nextLong() {
+        this.state += this.gamma;
+        return mix64(this.state);
+    }
+
+    /**
+     * Gets the next random int.
+     * @return A random int.
+     */
+    public int nextInt() {
+        return (int)(this.nextLong() >>> 32);
+    }
+
+    /**
+     * Gets the next random int from 0, inclusive, to bound, exclusive.
+     * @param bound The upper bound of the int.
+     * @return A random int from 0 to bound.
+     * @throws IllegalArgumentException If bound is <= 0.
+     */
+    public int nextInt(int bound) throws IllegalArgumentException {
+        if (bound <= 0) throw new IllegalArgumentException("GameRandom bound must be > 0.");
+
+        int r = this.nextInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+
+        // Rejects the values that would make the low ints more likely than the high ones
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = this.nextInt() >>> 1) {
+        }
+        return r;
+    }
+
+    /**
+     * Gets the next random float from 0, inclusive, to 1, exclusive.
+     * @return A random float from 0 to 1.
+     */
+    public float nextFloat() {
+        return (this.nextInt() >>> 8) * 0x1.0p-24f;
+    }
+
+    /**
+     * Splits off a new generator, whose values are independent of this generator's.
+     * <p>
+     * This advances this generator, so splitting is also deterministic.
+     * A split can be given to a part of the game that should have its own stream of values.
+     * @return The new generator.
+     */
+    public GameRandom split() {
+        return new GameRandom(this.nextLong(), mixGamma(this.nextLong() + GOLDEN_GAMMA));
+    }
+
+    /**
+     * Creates a generator that continues from this generator's current state,
+     * without changing this generator.
+     * @return The copy.
+     */
+    public GameRandom copy() {
+        return new GameRandom(this.state, this.gamma);
+    }
+
+    /**
+     * Scrambles the bits of the given value.
+     * @param z The value to scramble.
+     * @return The scrambled value.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Turns the given value into an odd gamma with enough bit changes to give good values.
+     * @param z The value to turn into a gamma.
+     * @return The gamma.
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
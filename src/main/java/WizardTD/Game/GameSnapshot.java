@@ -0,0 +1,520 @@
+package WizardTD.Game;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Board.FlowField;
+import WizardTD.Game.Board.Path;
+import WizardTD.Game.Board.Tile;
+import WizardTD.Game.Entities.Monsters.Beetle;
+import WizardTD.Game.Entities.Monsters.Gremlin;
+import WizardTD.Game.Entities.Monsters.Moag;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.MonsterStore;
+import WizardTD.Game.Entities.Monsters.Worm;
+
+/**
+ * Represents the {@code GameSnapshot} class.
+ * <p>
+ * A snapshot is the whole simulation state of a game at the end of a tick,
+ * stored in a compact binary format: the timing wheel's tick, every monster on the board,
+ * the wave queue and its counters, with the spawn specs of the monsters that are still to come,
+ * every tower with its upgrades and in-flight fireballs, the mana pool, the key bindings and
+ * the game's random number generator. Everything that is scheduled on the timing wheel,
+ * such as fireball impacts, tower reloads, spawns, death animations and the mana pool filling up,
+ * is stored with the object that scheduled it.
+ * <p>
+ * A snapshot can only be restored onto a game that was loaded from the same config,
+ * since the board, wave layout and tower stats are not stored.
+ * Restoring replaces the game's state, after which the game continues exactly as
+ * the captured game would have.
+ * <p>
+ * Monsters are stored once, in a table, and everything else refers to them by their
+ * position in the table, so a fireball's target is still the same monster after restoring.
+ * <p>
+ * Sprites, cursor hover state and profiler stats are not part of a snapshot.
+ */
+public final class GameSnapshot {
+    /**
+     * The first four bytes of every snapshot, "WTDS".
+     */
+    public static final int MAGIC = 0x57544453;
+    /**
+     * The version of the format that snapshots are written in.
+     */
+    public static final int VERSION = 7;
+
+    /**
+     * Written in place of a monster reference that is {@code null}.
+     */
+    private static final int NO_MONSTER = -1;
+    /**
+     * Written in place of a tile reference for a tile that is neither on the board
+     * nor one of the flow field's starting tiles, followed by its position.
+     */
+    private static final int LOOSE_TILE = -1;
+    /**
+     * Written in place of a tile reference that is {@code null}.
+     */
+    private static final int NO_TILE = -2;
+    /**
+     * Starting tiles are written as {@code FIRST_STARTING_TILE - index}.
+     */
+    private static final int FIRST_STARTING_TILE = -3;
+
+    /**
+     * The snapshot's bytes, including the magic and version.
+     */
+    private final byte[] data;
+
+    private GameSnapshot(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * Captures the current state of the game.
+     * <p>
+     * This should be called between ticks, never during one.
+     * @param game The game that is captured.
+     * @return The snapshot.
+     */
+    public static GameSnapshot capture(Game game) {
+        Writer out = new Writer(game.getContext());
+        out.putInt(MAGIC);
+        out.putByte(VERSION);
+        game.saveState(out);
+        return new GameSnapshot(out.toByteArray());
+    }
+
+    /**
+     * Reads a snapshot from its bytes.
+     * @param data The bytes of the snapshot.
+     * @return The snapshot.
+     * @throws IOException If the bytes are not a snapshot of a supported version.
+     */
+    public static GameSnapshot fromBytes(byte[] data) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (buffer.remaining() < 5 || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a game snapshot");
+        }
+        int version = buffer.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IOException("Unsupported game snapshot version: " + version);
+        }
+        return new GameSnapshot(data.clone());
+    }
+
+    /**
+     * Loads a snapshot from the given file.
+     * @param path The path of the snapshot file.
+     * @return The snapshot.
+     * @throws IOException If the file could not be read or is not a snapshot.
+     */
+    public static GameSnapshot load(java.nio.file.Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Game snapshot is too large: " + size + " bytes");
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int)size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Game snapshot ended early");
+                }
+            }
+            return fromBytes(buffer.array());
+        }
+    }
+
+    /**
+     * Saves the snapshot to the given file.
+     * <p>
+     * The snapshot is written to a temporary file next to it first, which then replaces
+     * the file, so a crash while saving never leaves a half written snapshot behind.
+     * @param path The path of the snapshot file, which is overwritten.
+     * @throws IOException If the file could not be written.
+     */
+    public void save(java.nio.file.Path path) throws IOException {
+        java.nio.file.Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING,
+                                                    StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(this.data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Gets the size of the snapshot.
+     * @return The number of bytes in the snapshot.
+     */
+    public int getSize() { return this.data.length; }
+    /**
+     * Gets a copy of the snapshot's bytes.
+     * @return The snapshot's bytes.
+     */
+    public byte[] toBytes() { return this.data.clone(); }
+
+    /**
+     * Replaces the state of the game with the snapshot's state.
+     * @param game The game that is restored, loaded from the same config as the captured game.
+     * @throws IllegalArgumentException If the snapshot does not fit the game,
+     * in which case the game may be left partly restored.
+     */
+    public void restore(Game game) throws IllegalArgumentException {
+        Reader in = new Reader(ByteBuffer.wrap(this.data), game.getContext());
+        in.buffer.position(5);
+        try {
+            game.restoreState(in);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Game snapshot does not fit the game", e);
+        }
+    }
+
+    /**
+     * Copies the state of one game into another without keeping the snapshot's bytes.
+     * <p>
+     * The writer's buffer is read back in place, which saves copying it into a byte array
+     * and back again when a game is forked.
+     * @param from The game whose state is copied.
+     * @param to The game that the state is restored into.
+     */
+    static void copy(Game from, Game to) {
+        Writer out = new Writer(from.getContext());
+        from.saveState(out);
+        out.buffer.flip();
+        to.restoreState(new Reader(out.buffer, to.getContext()));
+    }
+
+    /**
+     * Writes a monster, so that {@link #readMonster(Reader)} can create it again.
+     * <p>
+     * The monster's type and constructor values are written first, followed by its state.
+     */
+    static void writeMonster(Writer out, Monster monster) {
+        byte type = MonsterStore.typeIdOf(monster);
+        out.putByte(type);
+        // The species' constructors take whole max health points
+        out.putInt(monster.getHealthBar() != null ? Math.round(monster.getHealthBar().getMaxHP()) : 1);
+        if (type == MonsterStore.TYPE_MOAG) {
+            Moag moag = (Moag)monster;
+            out.putInt(moag.getNumberOfMonstersToSpawn());
+            out.putInt(moag.getSpawnHP());
+            out.putFloat(moag.getSpawnSpeed());
+            out.putFloat(moag.getSpawnArmour());
+            out.putInt(moag.getSpawnManaOnDeath());
+        }
+        monster.saveState(out);
+    }
+
+    /**
+     * Creates a monster that was written by {@link #writeMonster(Writer, Monster)}.
+     */
+    static Monster readMonster(Reader in) {
+        GameContext context = in.getContext();
+        byte type = in.getByte();
+        int maxHP = in.getInt();
+
+        Monster monster;
+        switch (type) {
+            case MonsterStore.TYPE_GREMLIN:
+                monster = new Gremlin(context, maxHP, 1, 0, 0);
+                break;
+            case MonsterStore.TYPE_BEETLE:
+                monster = new Beetle(context, maxHP, 1, 0, 0);
+                break;
+            case MonsterStore.TYPE_WORM:
+                monster = new Worm(context, maxHP, 1, 0, 0);
+                break;
+            case MonsterStore.TYPE_MOAG:
+                monster = new Moag(context, in.getInt(), in.getInt(), in.getFloat(), in.getFloat(), in.getInt());
+                break;
+            case MonsterStore.TYPE_MONSTER:
+                monster = new Monster(context, maxHP, 1, 0, 0);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown monster type in game snapshot: " + type);
+        }
+        monster.restoreState(in);
+        return monster;
+    }
+
+    /**
+     * Writes the values of a snapshot.
+     * <p>
+     * Monsters are written as references, so every monster that is referred to
+     * must be added with {@link #addMonster(Monster)} first.
+     */
+    public static final class Writer {
+        /**
+         * The context of the game that is written, for finding tiles.
+         */
+        private final GameContext context;
+        /**
+         * The position of each monster in the snapshot's monster table.
+         */
+        private final IdentityHashMap<Monster, Integer> monsterIds = new IdentityHashMap<>();
+        /**
+         * The monsters in the order they were added.
+         */
+        private final ArrayList<Monster> monsters = new ArrayList<>();
+        /**
+         * The values written so far.
+         */
+        private ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        private Writer(GameContext context) {
+            this.context = context;
+        }
+
+        /**
+         * Adds a monster to the snapshot's monster table, if it is not already in it.
+         * @param monster The monster that is added.
+         */
+        public void addMonster(Monster monster) {
+            if (monster != null && !this.monsterIds.containsKey(monster)) {
+                this.monsterIds.put(monster, this.monsters.size());
+                this.monsters.add(monster);
+            }
+        }
+
+        /**
+         * Adds every monster in the list to the snapshot's monster table.
+         * @param monsters The monsters that are added.
+         */
+        public void addMonsters(List<Monster> monsters) {
+            for (Monster monster : monsters) {
+                this.addMonster(monster);
+            }
+        }
+
+        /**
+         * Gets the monsters in the snapshot's monster table.
+         * @return The monsters, in the order they were added.
+         */
+        public List<Monster> getMonsters() { return this.monsters; }
+
+        public void putByte(int value) {
+            this.ensureRemaining(1);
+            this.buffer.put((byte)value);
+        }
+
+        public void putBoolean(boolean value) { this.putByte(value ? 1 : 0); }
+
+        public void putChar(char value) {
+            this.ensureRemaining(2);
+            this.buffer.putChar(value);
+        }
+
+        public void putInt(int value) {
+            this.ensureRemaining(4);
+            this.buffer.putInt(value);
+        }
+
+        public void putLong(long value) {
+            this.ensureRemaining(8);
+            this.buffer.putLong(value);
+        }
+
+        public void putFloat(float value) {
+            this.ensureRemaining(4);
+            this.buffer.putFloat(value);
+        }
+
+        public void putDouble(double value) {
+            this.ensureRemaining(8);
+            this.buffer.putDouble(value);
+        }
+
+        /**
+         * Writes a reference to a monster in the snapshot's monster table.
+         * @param monster The monster, may be {@code null}.
+         * @throws IllegalStateException If the monster is not in the monster table.
+         */
+        public void putMonster(Monster monster) throws IllegalStateException {
+            if (monster == null) {
+                this.putInt(NO_MONSTER);
+                return;
+            }
+
+            Integer id = this.monsterIds.get(monster);
+            if (id == null) throw new IllegalStateException("Monster is not in the snapshot's monster table.");
+            this.putInt(id);
+        }
+
+        /**
+         * Writes a list of monster references.
+         * @param monsters The monsters, which must all be in the monster table.
+         */
+        public void putMonsters(List<Monster> monsters) {
+            this.putInt(monsters.size());
+            for (Monster monster : monsters) {
+                this.putMonster(monster);
+            }
+        }
+
+        /**
+         * Writes a reference to a tile.
+         * <p>
+         * Tiles on the board and the flow field's starting tiles are written as an index,
+         * any other tile is written as its position.
+         * @param tile The tile, may be {@code null}.
+         */
+        public void putTile(Tile tile) {
+            if (tile == null) {
+                this.putInt(NO_TILE);
+                return;
+            }
+
+            Board board = this.context.getBoard();
+            int index = Board.indexOf(tile.getPos().x, tile.getPos().y);
+            if (index != Board.NO_TILE && board.getTile(index) == tile) {
+                this.putInt(index);
+                return;
+            }
+
+            int start = this.context.getFlowField().getStartingTiles().indexOf(tile);
+            if (start >= 0) {
+                this.putInt(FIRST_STARTING_TILE - start);
+                return;
+            }
+
+            this.putInt(LOOSE_TILE);
+            this.putFloat(tile.getPos().x);
+            this.putFloat(tile.getPos().y);
+        }
+
+        /**
+         * Gets the values written so far.
+         */
+        private byte[] toByteArray() {
+            byte[] bytes = new byte[this.buffer.position()];
+            this.buffer.flip();
+            this.buffer.get(bytes);
+            return bytes;
+        }
+
+        /**
+         * Doubles the buffer until the given number of bytes fit.
+         */
+        private void ensureRemaining(int bytes) {
+            if (this.buffer.remaining() >= bytes) {
+                return;
+            }
+
+            int capacity = this.buffer.capacity() * 2;
+            while (capacity - this.buffer.position() < bytes) {
+                capacity *= 2;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            this.buffer.flip();
+            grown.put(this.buffer);
+            this.buffer = grown;
+        }
+    }
+
+    /**
+     * Reads the values of a snapshot, in the order they were written.
+     */
+    public static final class Reader {
+        /**
+         * The snapshot's values.
+         */
+        private final ByteBuffer buffer;
+        /**
+         * The context of the game that is restored, for finding tiles and creating monsters.
+         */
+        private final GameContext context;
+        /**
+         * The snapshot's monster table, once it has been read.
+         */
+        private final ArrayList<Monster> monsters = new ArrayList<>();
+
+        private Reader(ByteBuffer buffer, GameContext context) {
+            this.buffer = buffer;
+            this.context = context;
+        }
+
+        /**
+         * Gets the context of the game that is restored.
+         * @return The game's context.
+         */
+        public GameContext getContext() { return this.context; }
+
+        /**
+         * Adds a monster to the snapshot's monster table, in the order they were written.
+         * @param monster The monster that is added.
+         */
+        public void addMonster(Monster monster) { this.monsters.add(monster); }
+
+        public byte getByte() { return this.buffer.get(); }
+        public boolean getBoolean() { return this.buffer.get() != 0; }
+        public char getChar() { return this.buffer.getChar(); }
+        public int getInt() { return this.buffer.getInt(); }
+        public long getLong() { return this.buffer.getLong(); }
+        public float getFloat() { return this.buffer.getFloat(); }
+        public double getDouble() { return this.buffer.getDouble(); }
+
+        /**
+         * Reads a reference to a monster in the snapshot's monster table.
+         * @return The monster, may be {@code null}.
+         */
+        public Monster getMonster() {
+            int id = this.getInt();
+            return id == NO_MONSTER ? null : this.monsters.get(id);
+        }
+
+        /**
+         * Reads a list of monster references into the given list.
+         * @param into The list that the monsters are added to.
+         */
+        public void getMonsters(List<Monster> into) {
+            int count = this.getInt();
+            for (int i = 0; i < count; i++) {
+                into.add(this.getMonster());
+            }
+        }
+
+        /**
+         * Reads a reference to a tile.
+         * <p>
+         * A tile that was neither on the board nor a starting tile is created again as a path.
+         * @return The tile, may be {@code null}.
+         */
+        public Tile getTile() {
+            int index = this.getInt();
+            if (index >= 0) {
+                Tile tile = this.context.getBoard().getTile(index);
+                if (tile == null) throw new IllegalArgumentException("Game snapshot tile is not on the board.");
+                return tile;
+            } else if (index == NO_TILE) {
+                return null;
+            } else if (index == LOOSE_TILE) {
+                return new Path(this.getFloat(), this.getFloat(), this.context.getAssets());
+            }
+
+            FlowField flowField = this.context.getFlowField();
+            return flowField.getStartingTiles().get(FIRST_STARTING_TILE - index);
+        }
+    }
+}
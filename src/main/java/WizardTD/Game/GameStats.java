@@ -0,0 +1,137 @@
+package WizardTD.Game;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+import WizardTD.App;
+import WizardTD.Game.Entities.Monsters.Monster;
+
+/**
+ * Represents the {@code GameStats} class.
+ * <p>
+ * Game stats watch a single game as it is simulated and record
+ * how it is balanced: the player's mana over time, how many monsters
+ * reached the wizard's house and how long the monsters of each wave
+ * survived before being killed.
+ * <p>
+ * Stats are collected by adding them to the game's {@code SimulationEngine}.
+ */
+public final class GameStats implements SimulationObserver {
+    /**
+     * The number of ticks between each sample of the player's mana.
+     */
+    public static final int MANA_SAMPLE_INTERVAL = App.FPS;
+
+    /**
+     * The number of waves in the game.
+     */
+    private final int totalWaves;
+    /**
+     * The wave and tick that each monster was first seen on the board at, and its spawn count then.
+     * <p>
+     * Monsters that have been killed are marked with a tick of -1. A monster that has since
+     * been reused by the monster pool has a new spawn count, so it is seen again as a new monster.
+     */
+    private final IdentityHashMap<Monster, long[]> monsters = new IdentityHashMap<>();
+
+    /**
+     * The player's mana at every sample, in order.
+     */
+    private float[] manaSamples = new float[64];
+    /**
+     * The number of mana samples taken.
+     */
+    private int manaSampleCount = 0;
+    /**
+     * The total number of ticks that the killed monsters of each wave survived for.
+     */
+    private final long[] waveKillTicks;
+    /**
+     * The number of monsters killed in each wave.
+     */
+    private final int[] waveKills;
+
+    /**
+     * The number of ticks that the game was simulated for.
+     */
+    private long ticks = 0;
+
+    /**
+     * {@code GameStats}' constructor.
+     * <p>
+     * This must be constructed before the game's first tick,
+     * so that every wave is counted.
+     * @param game The game that the stats are recorded for.
+     */
+    public GameStats(Game game) {
+        this.totalWaves = game.getWaveManager().getWaves().size();
+        this.waveKillTicks = new long[this.totalWaves];
+        this.waveKills = new int[this.totalWaves];
+    }
+
+    /**
+     * Gets the number of ticks that the game was simulated for.
+     * @return The number of ticks.
+     */
+    public long getTicks() { return this.ticks; }
+    /**
+     * Gets the number of waves in the game.
+     * @return The number of waves.
+     */
+    public int getTotalWaves() { return this.totalWaves; }
+
+    /**
+     * Gets the player's mana at every sample.
+     * <p>
+     * A sample is taken every {@code MANA_SAMPLE_INTERVAL} ticks,
+     * which is once per second of game time.
+     * @return The mana samples, in order.
+     */
+    public float[] getManaSamples() { return Arrays.copyOf(this.manaSamples, this.manaSampleCount); }
+
+    /**
+     * Gets the number of monsters killed in the given wave.
+     * @param wave The index of the wave, starting at 0.
+     * @return The number of monsters killed.
+     */
+    public int getKills(int wave) { return this.waveKills[wave]; }
+    /**
+     * Gets the total number of ticks that the killed monsters of the given wave survived for.
+     * @param wave The index of the wave, starting at 0.
+     * @return The total number of ticks.
+     */
+    public long getKillTicks(int wave) { return this.waveKillTicks[wave]; }
+
+    @Override
+    public void onTick(Game game, long tick) {
+        this.ticks = tick;
+
+        if (tick % MANA_SAMPLE_INTERVAL == 0) {
+            if (this.manaSampleCount == this.manaSamples.length) {
+                this.manaSamples = Arrays.copyOf(this.manaSamples, this.manaSamples.length * 2);
+            }
+            this.manaSamples[this.manaSampleCount++] = game.getManaPool().getCurrentMana();
+        }
+
+        // Monsters belong to the wave that had most recently started when they appeared
+        int wave = Math.max(0, this.totalWaves - game.getWaveManager().getWaves().size() - 1);
+        for (Monster monster : game.getMonsterStore()) {
+            long[] seen = this.monsters.get(monster);
+            if (seen == null) {
+                seen = new long[] { wave, tick, monster.getSpawnCount() };
+                this.monsters.put(monster, seen);
+            } else if (seen[2] != monster.getSpawnCount()) {
+                seen[0] = wave;
+                seen[1] = tick;
+                seen[2] = monster.getSpawnCount();
+            }
+
+            if (seen[1] >= 0 && !monster.isAlive()) {
+                int monsterWave = (int)seen[0];
+                this.waveKillTicks[monsterWave] += tick - seen[1];
+                ++this.waveKills[monsterWave];
+                seen[1] = -1;
+            }
+        }
+    }
+}
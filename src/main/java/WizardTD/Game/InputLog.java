@@ -0,0 +1,414 @@
+package WizardTD.Game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import processing.data.JSONObject;
+
+/**
+ * Represents the {@code InputLog} class.
+ * <p>
+ * An input log is a recording of every key press, mouse press and mouse movement
+ * that a game received, each stamped with the tick that it happened after.
+ * Since a game's only other source of change is its seeded {@code GameRandom},
+ * replaying the log on a new game with the same config and seed
+ * reaches exactly the same state, without a window and at full speed.
+ * <p>
+ * Logs are recorded with a {@link Recorder} and stored in a compact binary format:
+ * <pre>
+ * int magic, byte version, long seed, int configLength, byte[] config (UTF-8 json),
+ * then events of: byte type, varint ticks since the previous event, payload
+ * </pre>
+ * A key event's payload is its char, a mouse press's payload is its button
+ * followed by its x and y floats and a mouse movement's payload is its x and y floats.
+ * The log ends with an end event, which holds the last tick that the game ran.
+ * <p>
+ * Keys are replayed as characters, so a log must be replayed with the same keybindings
+ * that it was recorded with.
+ */
+public final class InputLog {
+    /**
+     * The first four bytes of every input log, "WTDI".
+     */
+    public static final int MAGIC = 0x57544449;
+    /**
+     * The version of the format that logs are written in.
+     */
+    public static final int VERSION = 1;
+
+    private static final byte END = 0;
+    private static final byte KEY = 1;
+    private static final byte MOUSE_PRESSED = 2;
+    private static final byte MOUSE_MOVED = 3;
+
+    /**
+     * The seed of the recorded game.
+     */
+    private final long seed;
+    /**
+     * The config that the recorded game was loaded from.
+     */
+    private final JSONObject config;
+    /**
+     * The last tick that the recorded game ran.
+     */
+    private long endTick;
+
+    /**
+     * The number of events in the log.
+     */
+    private int eventCount = 0;
+    /**
+     * The tick that each event happened after.
+     */
+    private long[] ticks = new long[64];
+    /**
+     * The type of each event.
+     */
+    private byte[] types = new byte[64];
+    /**
+     * The key or mouse button of each event.
+     */
+    private int[] codes = new int[64];
+    /**
+     * The mouse x-position of each mouse event.
+     */
+    private float[] xs = new float[64];
+    /**
+     * The mouse y-position of each mouse event.
+     */
+    private float[] ys = new float[64];
+
+    /**
+     * Reads an input log from the given stream.
+     * @param in The stream that the log is read from.
+     * @throws IOException If the stream could not be read or does not hold an input log.
+     */
+    private InputLog(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an input log");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input log version: " + version);
+        }
+
+        this.seed = data.readLong();
+        byte[] configBytes = new byte[data.readInt()];
+        data.readFully(configBytes);
+        this.config = JSONObject.parse(new String(configBytes, StandardCharsets.UTF_8));
+
+        long tick = 0;
+        while (true) {
+            byte type = data.readByte();
+            tick += readVarLong(data);
+            switch (type) {
+                case END:
+                    this.endTick = tick;
+                    return;
+                case KEY:
+                    this.addEvent(tick, type, data.readChar(), 0, 0);
+                    break;
+                case MOUSE_PRESSED:
+                    this.addEvent(tick, type, data.readUnsignedByte(), data.readFloat(), data.readFloat());
+                    break;
+                case MOUSE_MOVED:
+                    this.addEvent(tick, type, 0, data.readFloat(), data.readFloat());
+                    break;
+                default:
+                    throw new IOException("Unknown input log event: " + type);
+            }
+        }
+    }
+
+    /**
+     * Reads an input log from the given stream.
+     * @param in The stream that the log is read from.
+     * @return The input log.
+     * @throws IOException If the stream could not be read or does not hold an input log.
+     */
+    public static InputLog read(InputStream in) throws IOException {
+        try {
+            return new InputLog(in);
+        } catch (EOFException e) {
+            throw new IOException("Input log ended before its end event", e);
+        }
+    }
+
+    /**
+     * Loads an input log from the given path.
+     * @param path The path of the log file.
+     * @return The input log.
+     * @throws IOException If the file could not be read or is not an input log.
+     */
+    public static InputLog load(String path) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(path))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Starts recording the input of the engine's game.
+     * <p>
+     * This must be called before the game's first tick.
+     * @param engine The engine running the game.
+     * @param config The config that the game was loaded from.
+     * @return The recorder, which records until the game is replaced.
+     */
+    public static Recorder record(SimulationEngine engine, JSONObject config) {
+        Recorder recorder = new Recorder(engine.getGame(), config);
+        engine.addObserver(recorder);
+        engine.getGame().setInputRecorder(recorder);
+        return recorder;
+    }
+
+    /**
+     * Gets the seed of the recorded game.
+     * @return The game's seed.
+     */
+    public long getSeed() { return this.seed; }
+    /**
+     * Gets the config that the recorded game was loaded from.
+     * @return The game's config.
+     */
+    public JSONObject getConfig() { return this.config; }
+    /**
+     * Gets the last tick that the recorded game ran.
+     * @return The game's last tick.
+     */
+    public long getEndTick() { return this.endTick; }
+    /**
+     * Gets the number of inputs in the log.
+     * @return The number of inputs.
+     */
+    public int getEventCount() { return this.eventCount; }
+
+    /**
+     * Replays the log on a new game, without a window and as fast as possible.
+     * <p>
+     * Inputs are given to the game after the same tick as they were recorded after,
+     * and the game is run until the last tick that the recorded game ran.
+     * @return The game, in the same state as the recorded game.
+     */
+    public Game play() {
+        Game game = new Game(this.config, this.seed);
+        SimulationEngine engine = new SimulationEngine(game);
+
+        int next = this.playEvents(game, 0, 0);
+        while (engine.getTickCount() < this.endTick && engine.step()) {
+            next = this.playEvents(game, engine.getTickCount(), next);
+        }
+        return game;
+    }
+
+    /**
+     * Gives the game every input that was recorded after the given tick.
+     * @param game The game that the inputs are given to.
+     * @param tick The tick that has just been run.
+     * @param next The index of the next input to give.
+     * @return The index of the next input to give after this tick.
+     */
+    private int playEvents(Game game, long tick, int next) {
+        while (next < this.eventCount && this.ticks[next] == tick) {
+            switch (this.types[next]) {
+                case KEY:
+                    game.pressKey((char)this.codes[next]);
+                    break;
+                case MOUSE_PRESSED:
+                    game.mousePressed(this.codes[next], this.xs[next], this.ys[next]);
+                    break;
+                default:
+                    game.mouseMoved(this.xs[next], this.ys[next]);
+            }
+            ++next;
+        }
+        return next;
+    }
+
+    /**
+     * Adds an event read from the log.
+     */
+    private void addEvent(long tick, byte type, int code, float x, float y) {
+        if (this.eventCount == this.ticks.length) {
+            int capacity = this.eventCount * 2;
+            this.ticks = Arrays.copyOf(this.ticks, capacity);
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.codes = Arrays.copyOf(this.codes, capacity);
+            this.xs = Arrays.copyOf(this.xs, capacity);
+            this.ys = Arrays.copyOf(this.ys, capacity);
+        }
+
+        this.ticks[this.eventCount] = tick;
+        this.types[this.eventCount] = type;
+        this.codes[this.eventCount] = code;
+        this.xs[this.eventCount] = x;
+        this.ys[this.eventCount] = y;
+        ++this.eventCount;
+    }
+
+    /**
+     * Writes a non-negative long in as few bytes as possible, 7 bits per byte.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int)(value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int)value);
+    }
+
+    /**
+     * Reads a long written by {@code writeVarLong}.
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long)(b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed input log tick");
+    }
+
+    /**
+     * Records the input of a single game as it is played.
+     * <p>
+     * The game passes every input to the recorder before handling it,
+     * and the recorder watches the game's engine to know which tick the input happened after.
+     */
+    public static final class Recorder implements SimulationObserver {
+        /**
+         * The events recorded so far, in the log's binary format.
+         */
+        private final ByteArrayOutputStream events = new ByteArrayOutputStream();
+        private final DataOutputStream eventData = new DataOutputStream(this.events);
+        /**
+         * The seed of the recorded game.
+         */
+        private final long seed;
+        /**
+         * The config of the recorded game, as json.
+         */
+        private final byte[] config;
+
+        /**
+         * The last tick that the game ran.
+         */
+        private long tick = 0;
+        /**
+         * The tick of the previous event.
+         */
+        private long lastEventTick = 0;
+
+        private Recorder(Game game, JSONObject config) {
+            this.seed = game.getContext().getSeed();
+            this.config = config.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void onTick(Game game, long tick) {
+            this.tick = tick;
+        }
+
+        /**
+         * Records a key press.
+         * @param key The key that was pressed.
+         */
+        public void recordKey(char key) {
+            try {
+                this.startEvent(KEY);
+                this.eventData.writeChar(key);
+            } catch (IOException e) {
+                // A ByteArrayOutputStream never throws
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Records a mouse press.
+         * @param button The mouse button that was pressed.
+         * @param x The x-position of the mouse.
+         * @param y The y-position of the mouse.
+         */
+        public void recordMousePressed(int button, float x, float y) {
+            try {
+                this.startEvent(MOUSE_PRESSED);
+                this.eventData.writeByte(button);
+                this.eventData.writeFloat(x);
+                this.eventData.writeFloat(y);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Records a mouse movement.
+         * @param x The x-position of the mouse.
+         * @param y The y-position of the mouse.
+         */
+        public void recordMouseMoved(float x, float y) {
+            try {
+                this.startEvent(MOUSE_MOVED);
+                this.eventData.writeFloat(x);
+                this.eventData.writeFloat(y);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Writes an event's type and tick.
+         */
+        private void startEvent(byte type) throws IOException {
+            this.eventData.writeByte(type);
+            writeVarLong(this.eventData, this.tick - this.lastEventTick);
+            this.lastEventTick = this.tick;
+        }
+
+        /**
+         * Writes everything recorded so far as a complete input log.
+         * <p>
+         * Recording can continue afterwards.
+         * @param out The stream that the log is written to.
+         * @throws IOException If the log could not be written.
+         */
+        public void write(OutputStream out) throws IOException {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(MAGIC);
+            data.writeByte(VERSION);
+            data.writeLong(this.seed);
+            data.writeInt(this.config.length);
+            data.write(this.config);
+
+            this.events.writeTo(data);
+            data.writeByte(END);
+            writeVarLong(data, this.tick - this.lastEventTick);
+            data.flush();
+        }
+
+        /**
+         * Saves everything recorded so far as a complete input log.
+         * @param path The path of the log file, which is overwritten.
+         * @throws IOException If the file could not be written.
+         */
+        public void save(String path) throws IOException {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(path))) {
+                this.write(out);
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import WizardTD.App;
 import WizardTD.Game.Game;
+import WizardTD.Game.GameSnapshot;
 import WizardTD.Game.Board.Tile;
 import WizardTD.Game.Entities.Towers.PlaceholderTower;
 import WizardTD.Game.Entities.Towers.Tower;
@@ -27,7 +28,8 @@ public class InputManager {
         UPGRADE_RANGE_KEY ('1'),
         UPGRADE_SPEED_KEY ('2'),
         UPGRADE_DAMAGE_KEY ('3'),
-        INCREASE_MANA_KEY ('m');
+        INCREASE_MANA_KEY ('m'),
+        TOGGLE_PROFILER_KEY ('o');
 
         private char key;
         Keybindings(char key) {
@@ -122,6 +124,63 @@ public class InputManager {
      */
     public boolean isPlayerInRebindMenu() { return this.inRebindMenu; }
 
+    /**
+     * Writes the key bindings, which buttons are active and the rebind menu's state to a snapshot.
+     * @param out The snapshot writer.
+     * @see GameSnapshot
+     */
+    public void saveState(GameSnapshot.Writer out) {
+        for (Keybindings binding : Keybindings.values()) {
+            out.putChar(binding.key);
+            Button button = this.buttons.get(binding);
+            out.putBoolean(button != null && button.isButtonActivated());
+        }
+
+        out.putBoolean(this.inRebindMenu);
+        out.putByte(this.keyToBeRebound != null ? this.keyToBeRebound.ordinal() : -1);
+    }
+
+    /**
+     * Replaces the key bindings, which buttons are active and the rebind menu's state
+     * with the ones read from a snapshot.
+     * <p>
+     * Buttons are only marked as active, their actions are not run again.
+     * Anything under the cursor is forgotten until the cursor next moves.
+     * @param in The snapshot reader.
+     * @see GameSnapshot
+     */
+    public void restoreState(GameSnapshot.Reader in) {
+        for (Keybindings binding : Keybindings.values()) {
+            // Bindings are shared by every game, so leave them alone unless they changed
+            char key = in.getChar();
+            if (binding.key != key) {
+                binding.key = key;
+            }
+            boolean activated = in.getBoolean();
+            Button button = this.buttons.get(binding);
+            if (button != null) {
+                button.setButtonActivated(activated);
+            }
+        }
+
+        this.inRebindMenu = in.getBoolean();
+        int rebound = in.getByte();
+        this.keyToBeRebound = rebound >= 0 ? Keybindings.values()[rebound] : null;
+        if (this.inRebindMenu && this.keyToBeRebound != null) {
+            this.game.getGameUI().getRebindKeyMenu().showRebindMenu(this.keyToBeRebound.key());
+        } else {
+            this.game.getGameUI().getRebindKeyMenu().hideRebindMenu();
+        }
+
+        if (this.buttonUnderCursor != null) {
+            this.buttonUnderCursor.resetColour();
+            this.buttonUnderCursor.hideTooltip();
+        }
+        this.towerUnderCursor = null;
+        this.tileUnderCursor = null;
+        this.buttonUnderCursor = null;
+    }
+
     /**
      * Triggers the button associated with the given key.
      * <p>
@@ -135,6 +194,11 @@ public class InputManager {
             return;
         }
 
+        if (Keybindings.getNameOfBoundKey(key) == Keybindings.TOGGLE_PROFILER_KEY) {
+            this.game.getGameUI().getProfilerOverlay().toggle();
+            return;
+        }
+
         Button button = buttons.get(Keybindings.getNameOfBoundKey(key));
         if (button == null) {
             return;
@@ -260,7 +324,7 @@ public class InputManager {
             return;
         }
 
-        if (!this.tileUnderCursor.isPlaceable() || this.tileUnderCursor.isOccupied()) {
+        if (!this.tileUnderCursor.isPlaceable() || this.game.getTowerManager().isTileOccupied(this.tileUnderCursor)) {
             this.game.getTowerManager().getUnbuiltTower().hide();
             return;
         }
@@ -276,14 +340,14 @@ public class InputManager {
      * This method returns early if the tile underneath the cursor is not valid.
      */
     private void tryToPlaceTower() {
-        if (this.tileUnderCursor == null || !this.tileUnderCursor.isPlaceable() || this.tileUnderCursor.isOccupied()) {
+        if (this.tileUnderCursor == null || !this.tileUnderCursor.isPlaceable() ||
+            this.game.getTowerManager().isTileOccupied(this.tileUnderCursor)) {
             return;
         }
         
         game.getTowerManager().buildTower();
         // If unbuiltTower isn't null, then it must mean that we haven't successfully placed the tower
         if (this.game.getTowerManager().getUnbuiltTower() == null) {
-            this.tileUnderCursor.setOccupied(true);
             buttons.get(Keybindings.BUILD_TOWER_KEY).deactivateButton();
         }
     }
@@ -1,14 +1,26 @@
 package WizardTD.Game.Player;
 
 import WizardTD.App;
+import WizardTD.Game.GameSnapshot;
+import WizardTD.Game.TimingWheel;
 import WizardTD.Game.UI.ManaBar;
 import processing.data.JSONObject;
 
 /**
  * Represents the player's mana.
- * 
+ * <p>
+ * In a game, the pool's mana accrues lazily against the game's timing wheel. The pool
+ * keeps its mana as of the tick it was last changed on, and {@code getCurrentMana()} adds
+ * what has regenerated since. Every change first brings the mana up to date.
+ * <p>
+ * A single task is scheduled on the wheel for the tick on which the pool fills up,
+ * and is moved whenever the pool changes, so a regenerating pool costs nothing per tick.
+ * No task is scheduled while the pool is full or empty.
+ * <p>
+ * Regenerated mana never goes over the cap, unlike a pool that is ticked by hand,
+ * which can go over it by up to one tick's worth on the tick that it fills up.
  */
-public final class ManaPool {
+public final class ManaPool implements TimingWheel.Task {
     /**
      * By how much the cost of the mana spell
      * increases on use.
@@ -40,6 +52,26 @@ public final class ManaPool {
      * Used to visually represent {@code ManaPool}
      */
     private ManaBar manaBar;
+    /**
+     * The timing wheel that the pool regenerates on, or null if it is only ticked by hand.
+     */
+    private TimingWheel scheduler = null;
+    /**
+     * The tick that {@code currentMana} was last brought up to date on, while the pool has a timing wheel.
+     */
+    private long accruedTick = 0;
+    /**
+     * Whether the tick on which the pool fills up is scheduled.
+     */
+    private boolean regenPending = false;
+    /**
+     * The tick on which the pool fills up.
+     */
+    private long regenTick;
+    /**
+     * The sequence number of the pool's task on the timing wheel.
+     */
+    private long regenSequence;
 
     /**
      * The current cost of the mana spell.
@@ -76,16 +108,47 @@ public final class ManaPool {
         this.manaPerSecMultiplierIncrease = this.spellManaPerSecMultiplier - 1;
     }
 
+    /**
+     * {@code ManaPool}'s copy constructor.
+     * <p>
+     * Copies every value of the other mana pool, but not its mana bar.
+     * @param other The mana pool that is copied.
+     */
+    public ManaPool(ManaPool other) {
+        this.currentMana = other.getCurrentMana();
+        this.accruedTick = other.scheduler != null ? other.scheduler.getCurrentTick() : other.accruedTick;
+        this.manaCap = other.manaCap;
+        this.manaPerSec = other.manaPerSec;
+        this.speedMulti = other.speedMulti;
+        this.manaSpellCost = other.manaSpellCost;
+        this.spellCostIncrease = other.spellCostIncrease;
+        this.spellCapMultiplier = other.spellCapMultiplier;
+        this.spellManaPerSecMultiplier = other.spellManaPerSecMultiplier;
+        this.manaPerSecMultiplierIncrease = other.manaPerSecMultiplierIncrease;
+    }
+
     /**
      * Gets the player's current mana.
+     * <p>
+     * If the pool has a timing wheel, this includes the mana regenerated since the pool last changed.
      * @return The player's current mana.
      */
-    public float getCurrentMana() { return this.currentMana; }
+    public float getCurrentMana() {
+        if (this.scheduler == null) {
+            return this.currentMana;
+        }
+        return this.getManaAt(this.scheduler.getCurrentTick());
+    }
     /**
      * Sets the player's current mana.
      * @param currentMana The player's new current mana.
      */
-    public void setCurrentMana(float currentMana) { this.currentMana = currentMana; }
+    public void setCurrentMana(float currentMana) {
+        this.accrue();
+        this.currentMana = currentMana;
+        this.scheduleRegen();
+        this.updateManaBar();
+    }
 
     /**
      * Gets the maximum capacity of the mana pool.
@@ -97,15 +160,21 @@ public final class ManaPool {
      * multiplying the current mana cap with {@code spellCapMultiplier}.
      */
     public void increaseManaCap() {
+        this.accrue();
         this.manaCap *= this.spellCapMultiplier;
         this.manaBar.setMaxMana(this.manaCap);
+        this.scheduleRegen();
     }
 
     /**
      * Sets the mana pool's max capacity to the given parameter.
      * @param manaCap The new max capacity.
      */
-    public void setManaCap(float manaCap) { this.manaCap = manaCap; }
+    public void setManaCap(float manaCap) {
+        this.accrue();
+        this.manaCap = manaCap;
+        this.scheduleRegen();
+    }
 
     /**
      * Gets the amount of mana gained per second.
@@ -118,9 +187,11 @@ public final class ManaPool {
      * {@code spellManaPerSecMultiplier}
      */
     public void increaseManaPerSec() {
+        this.accrue();
         // add rounding to stop float problems
         this.manaPerSec *= this.spellManaPerSecMultiplier;
         this.spellManaPerSecMultiplier += this.manaPerSecMultiplierIncrease;
+        this.scheduleRegen();
     }
 
     /**
@@ -128,8 +199,46 @@ public final class ManaPool {
      * given parameter.
      * @param manaPerSec the new mana gained per second.
      */
-    public void setManaPerSec(float manaPerSec) { this.manaPerSec = manaPerSec; }
-    public void setSpeedMultiplier(float speedMulti) { this.speedMulti = speedMulti; }
+    public void setManaPerSec(float manaPerSec) {
+        this.accrue();
+        this.manaPerSec = manaPerSec;
+        this.scheduleRegen();
+    }
+    public void setSpeedMultiplier(float speedMulti) {
+        this.accrue();
+        this.speedMulti = speedMulti;
+        this.scheduleRegen();
+    }
+
+    /**
+     * Sets the timing wheel that the pool regenerates on.
+     * <p>
+     * The pool's mana is brought up to date on the old wheel first. On the new wheel, the mana
+     * goes on accruing from the tick it was last brought up to date on, so the new wheel must
+     * have been restored to that tick or a later one.
+     * <p>
+     * The task for the tick on which the pool fills up is moved to the new wheel, keeping its tick and
+     * sequence number, as long as the new wheel has not passed its tick. Otherwise, one is scheduled
+     * on the new wheel if the pool is not full. If the wheel is {@code null}, the pool only regenerates
+     * when it is ticked, and the task is kept until the pool is given a wheel again.
+     * @param scheduler The game's timing wheel, may be {@code null}.
+     */
+    public void setScheduler(TimingWheel scheduler) {
+        this.accrue();
+        if (this.regenPending && this.scheduler != null) {
+            this.scheduler.cancel(this, this.regenTick);
+        }
+        this.scheduler = scheduler;
+        if (this.regenPending && scheduler != null) {
+            if (this.regenTick > scheduler.getCurrentTick()) {
+                scheduler.schedule(this, this.regenTick, this.regenSequence);
+                return;
+            }
+            this.regenPending = false;
+        }
+        this.accrue();
+        this.scheduleRegen();
+    }
 
     /**
      * Gets the cost of the mana spell.
@@ -147,7 +256,7 @@ public final class ManaPool {
      * Upgrades the mana pool if the player has enough mana.
      */
     public void upgradeManaPool() {
-        if (this.currentMana <= this.manaSpellCost) {
+        if (this.getCurrentMana() <= this.manaSpellCost) {
             return;
         }
 
@@ -167,7 +276,7 @@ public final class ManaPool {
      */
     public void addManaBar(ManaBar manaBar) {
         this.manaBar = manaBar;
-        this.manaBar.setCurrentMana(this.currentMana);
+        this.manaBar.setCurrentMana(this.getCurrentMana());
         this.manaBar.setMaxMana(this.manaCap);
     }
 
@@ -176,7 +285,10 @@ public final class ManaPool {
      * @param amount The amount of mana to add.
      */
     public void addMana(float amount) {
+        this.accrue();
         this.currentMana += amount;
+        this.scheduleRegen();
+        this.updateManaBar();
     }
 
     /**
@@ -187,22 +299,190 @@ public final class ManaPool {
      * @param amount The amount of mana to remove.
      */
     public void removeMana(float amount) {
+        this.accrue();
         if (amount > this.currentMana) {
             this.currentMana = 0;
-            return;
+        } else {
+            this.currentMana -= amount;
         }
-        this.currentMana -= amount;
+        this.scheduleRegen();
+        this.updateManaBar();
+    }
+
+    /**
+     * Writes the mana pool's state to a snapshot.
+     * <p>
+     * The mana is written as it is on the current tick, which is written with it.
+     * @param out The snapshot writer.
+     * @see GameSnapshot
+     */
+    public void saveState(GameSnapshot.Writer out) {
+        out.putFloat(this.getCurrentMana());
+        out.putLong(this.scheduler != null ? this.scheduler.getCurrentTick() : this.accruedTick);
+        out.putFloat(this.manaCap);
+        out.putFloat(this.manaPerSec);
+        out.putFloat(this.speedMulti);
+        out.putFloat(this.manaSpellCost);
+        out.putFloat(this.spellManaPerSecMultiplier);
+        out.putFloat(this.manaPerSecMultiplierIncrease);
+        out.putBoolean(this.regenPending);
+        out.putLong(this.regenTick);
+        out.putLong(this.regenSequence);
+    }
+
+    /**
+     * Replaces the mana pool's state with the state read from a snapshot.
+     * <p>
+     * The tick on which the pool fills up is scheduled again on the pool's timing wheel,
+     * which must have been restored to the snapshot's tick. If the pool has no wheel,
+     * it is scheduled once it is given one.
+     * @param in The snapshot reader.
+     * @see GameSnapshot
+     */
+    public void restoreState(GameSnapshot.Reader in) {
+        this.cancelRegen();
+        this.currentMana = in.getFloat();
+        this.accruedTick = in.getLong();
+        this.manaCap = in.getFloat();
+        this.manaPerSec = in.getFloat();
+        this.speedMulti = in.getFloat();
+        this.manaSpellCost = in.getFloat();
+        this.spellManaPerSecMultiplier = in.getFloat();
+        this.manaPerSecMultiplierIncrease = in.getFloat();
+        this.regenPending = in.getBoolean();
+        this.regenTick = in.getLong();
+        this.regenSequence = in.getLong();
+        if (this.regenPending && this.scheduler != null) {
+            this.scheduler.schedule(this, this.regenTick, this.regenSequence);
+        }
+
+        if (this.manaBar != null) {
+            this.manaBar.setMaxMana(this.manaCap);
+        }
+        this.updateManaBar();
     }
 
     /**
      * Executes {@code ManaPool}'s logic
      * <p>
-     * This should be called every frame.
+     * This should be called every frame, unless the pool regenerates on a timing wheel.
+     * A pool with a timing wheel accrues its mana on its own, so this only brings its mana bar up to date.
      */
     public void tick() {
+        if (this.scheduler != null) {
+            this.updateManaBar();
+            return;
+        }
         updateCurrentMana();
     }
 
+    /**
+     * Brings the pool's mana up to date on the tick that it fills up on.
+     * @param tick The tick that the pool was due to fill up on.
+     */
+    @Override
+    public void onDue(long tick) {
+        this.regenPending = false;
+        this.accrue();
+        this.updateManaBar();
+    }
+
+    /**
+     * Gets the mana regenerated per tick while the pool is below its cap.
+     */
+    private double getManaPerTick() {
+        return (double)this.manaPerSec * this.speedMulti / App.FPS;
+    }
+
+    /**
+     * Gets the pool's mana on a tick, counting from the tick it was last brought up to date on.
+     * <p>
+     * This follows the same rules as ticking the pool by hand: an empty pool stays empty,
+     * and a pool above its cap drops to its cap on the next tick. The one difference is that
+     * regenerating mana stops at the cap on the tick that the pool fills up, where ticking by
+     * hand adds the whole tick's worth and can go over the cap until the next tick.
+     */
+    private float getManaAt(long tick) {
+        long ticks = tick - this.accruedTick;
+        if (ticks <= 0 || this.currentMana <= 0) {
+            return this.currentMana;
+        } else if (this.currentMana >= this.manaCap) {
+            return this.manaCap;
+        }
+
+        double mana = this.currentMana + ticks * this.getManaPerTick();
+        return mana >= this.manaCap ? this.manaCap : (float)mana;
+    }
+
+    /**
+     * Gets the number of ticks after the tick the pool was last brought up to date on that it fills up on.
+     * @return The number of ticks, or -1 if the pool never fills up on its own.
+     */
+    private long getTicksToFill() {
+        if (this.currentMana <= 0) {
+            return -1;
+        } else if (this.currentMana >= this.manaCap) {
+            return this.currentMana > this.manaCap ? 1 : -1;
+        }
+
+        double perTick = this.getManaPerTick();
+        if (perTick <= 0) {
+            return -1;
+        }
+        long ticks = Math.max(1, (long)Math.ceil((this.manaCap - this.currentMana) / perTick));
+        // Make sure that getManaAt() agrees the pool is full on the tick, despite rounding
+        while (this.currentMana + ticks * perTick < this.manaCap) {
+            ++ticks;
+        }
+        return ticks;
+    }
+
+    /**
+     * Brings the pool's mana up to date on the timing wheel's current tick.
+     */
+    private void accrue() {
+        if (this.scheduler == null) {
+            return;
+        }
+        long now = this.scheduler.getCurrentTick();
+        this.currentMana = this.getManaAt(now);
+        this.accruedTick = now;
+    }
+
+    /**
+     * Schedules the tick on which the pool fills up, moving it if one is already scheduled.
+     * <p>
+     * The pool's mana must have just been brought up to date.
+     */
+    private void scheduleRegen() {
+        if (this.scheduler == null) {
+            return;
+        }
+
+        long ticks = this.getTicksToFill();
+        long dueTick = this.accruedTick + ticks;
+        if (this.regenPending && ticks >= 0 && dueTick == this.regenTick) {
+            return;
+        }
+        this.cancelRegen();
+        if (ticks < 0) {
+            return;
+        }
+        this.regenTick = dueTick;
+        this.regenSequence = this.scheduler.schedule(this, this.regenTick);
+        this.regenPending = true;
+    }
+
+    /**
+     * Cancels the tick on which the pool fills up, if one is scheduled.
+     */
+    private void cancelRegen() {
+        if (this.regenPending && this.scheduler != null) {
+            this.scheduler.cancel(this, this.regenTick);
+        }
+        this.regenPending = false;
+    }
+
     /**
      * Updates the mana pool's current mana and mana bar.
      * <p> this is where the mana gained per second is added into
@@ -220,10 +500,13 @@ public final class ManaPool {
 
     /**
      * Updates the mana pool's mana bar.
+     * <p>
+     * A pool with a timing wheel does not update its bar as its mana regenerates,
+     * so this should be called before the bar is drawn.
      */
-    private void updateManaBar() {
+    public void updateManaBar() {
         if (this.manaBar != null) {
-            this.manaBar.setCurrentMana(this.currentMana);
+            this.manaBar.setCurrentMana(this.getCurrentMana());
         }
     }
 }
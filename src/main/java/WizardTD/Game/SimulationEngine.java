@@ -0,0 +1,189 @@
+package WizardTD.Game;
+
+import java.io.File;
+import java.util.ArrayList;
+
+import WizardTD.App;
+import processing.core.PApplet;
+import processing.data.JSONObject;
+
+/**
+ * Represents the {@code SimulationEngine} class.
+ * <p>
+ * The simulation engine runs the wave, monster, tower and mana logic of a
+ * {@code Game} without a Processing window or any loaded sprites.
+ * Ticks are executed as fast as the CPU allows, which makes it suitable
+ * for balance checks and automated tests.
+ * <p>
+ * Rendering is not part of the engine. Anything that wants to look at the
+ * game while it runs, such as the application window, can register a
+ * {@code SimulationObserver}.
+ */
+public final class SimulationEngine {
+    /**
+     * The amount of game time, in seconds, that each tick simulates.
+     * <p>
+     * This never changes with the game's speed.
+     */
+    public static final float TICK_DURATION = 1f / App.FPS;
+    /**
+     * The most real time, in seconds, that a single call to
+     * {@code advance} will simulate. This stops a long stall
+     * from freezing the game while it catches up.
+     */
+    public static final float MAX_FRAME_TIME = 0.25f;
+
+    /**
+     * The game being simulated.
+     */
+    private final Game game;
+    /**
+     * The observers that are notified after every tick.
+     */
+    private final ArrayList<SimulationObserver> observers = new ArrayList<>();
+
+    /**
+     * The number of ticks that have been executed.
+     */
+    private long tickCount = 0;
+    /**
+     * Game time, in seconds, that has passed but not yet been ticked.
+     */
+    private float accumulator = 0;
+
+    /**
+     * {@code SimulationEngine}'s constructor.
+     * <p>
+     * Constructs a new game from the given config.
+     * @param config The config that the game is loaded from.
+     */
+    public SimulationEngine(JSONObject config) {
+        this(new Game(config));
+    }
+
+    /**
+     * {@code SimulationEngine}'s constructor.
+     * @param game The game that is to be simulated.
+     * @throws NullPointerException If game is null.
+     */
+    public SimulationEngine(Game game) throws NullPointerException {
+        if (game == null) {
+            throw new NullPointerException("SimulationEngine must be constructed with a non-null game");
+        }
+
+        this.game = game;
+    }
+
+    /**
+     * Gets the game being simulated.
+     * @return The game being simulated.
+     */
+    public Game getGame() { return this.game; }
+    /**
+     * Gets the number of ticks that have been executed.
+     * @return The number of ticks that have been executed.
+     */
+    public long getTickCount() { return this.tickCount; }
+
+    /**
+     * Adds an observer that is notified after every tick.
+     * @param observer The observer to add.
+     */
+    public void addObserver(SimulationObserver observer) { this.observers.add(observer); }
+    /**
+     * Removes a previously added observer.
+     * @param observer The observer to remove.
+     */
+    public void removeObserver(SimulationObserver observer) { this.observers.remove(observer); }
+
+    /**
+     * Executes a single tick of the game.
+     * @return {@code true} if the tick was executed,
+     * {@code false} if the game is already over.
+     */
+    public boolean step() {
+        if (this.game.isGameOver()) {
+            return false;
+        }
+
+        this.game.tick();
+        ++this.tickCount;
+
+        for (SimulationObserver observer : this.observers) {
+            observer.onTick(this.game, this.tickCount);
+        }
+        return true;
+    }
+
+    /**
+     * Executes up to the given number of ticks,
+     * stopping early if the game ends.
+     * @param ticks The maximum number of ticks to execute.
+     * @return The number of ticks that were executed.
+     */
+    public long step(long ticks) {
+        long executed = 0;
+        while (executed < ticks && this.step()) {
+            ++executed;
+        }
+        return executed;
+    }
+
+    /**
+     * Advances the game by the given amount of real time.
+     * <p>
+     * The elapsed time is scaled by the game's speed and then consumed
+     * in fixed ticks of {@code TICK_DURATION}. Any leftover time is kept
+     * for the next call and can be used to interpolate entities when drawing.
+     * @param elapsedSeconds The real time that has passed since the last call.
+     * @return The number of ticks that were executed.
+     * @see #getInterpolationAlpha()
+     */
+    public int advance(float elapsedSeconds) {
+        if (elapsedSeconds > MAX_FRAME_TIME) {
+            elapsedSeconds = MAX_FRAME_TIME;
+        } else if (elapsedSeconds < 0) {
+            elapsedSeconds = 0;
+        }
+
+        this.accumulator += elapsedSeconds * this.game.getGameSpeed();
+
+        int executed = 0;
+        while (this.accumulator >= TICK_DURATION) {
+            this.game.savePreviousPositions();
+            this.accumulator -= TICK_DURATION;
+            if (!this.step()) {
+                this.accumulator = 0;
+                break;
+            }
+            ++executed;
+        }
+        return executed;
+    }
+
+    /**
+     * Gets how far the game is between its previous and next tick.
+     * @return A value from 0 to 1.
+     */
+    public float getInterpolationAlpha() { return this.accumulator / TICK_DURATION; }
+
+    /**
+     * Runs the game until it has been won or lost,
+     * or until the tick limit has been reached.
+     * @param maxTicks The tick limit, used to stop games that never end.
+     * @return {@code true} if the game is over, otherwise {@code false}.
+     */
+    public boolean run(long maxTicks) {
+        this.step(maxTicks);
+        return this.game.isGameOver();
+    }
+
+    /**
+     * Loads a game config from the given path without needing a {@code PApplet}.
+     * @param path The path of the json config file.
+     * @return The loaded config.
+     */
+    public static JSONObject loadConfig(String path) {
+        return new JSONObject(PApplet.createReader(new File(path)));
+    }
+}
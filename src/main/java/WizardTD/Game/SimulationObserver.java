@@ -0,0 +1,16 @@
+package WizardTD.Game;
+
+/**
+ * An observer that is notified after every tick of a {@code SimulationEngine}.
+ * <p>
+ * Observers are optional, the simulation runs the same with or without them.
+ * @see SimulationEngine
+ */
+public interface SimulationObserver {
+    /**
+     * Called once the game has finished a tick.
+     * @param game The game that was ticked.
+     * @param tick The number of ticks executed so far, including this one.
+     */
+    public void onTick(Game game, long tick);
+}
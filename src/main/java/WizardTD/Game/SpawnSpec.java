@@ -0,0 +1,153 @@
+package WizardTD.Game;
+
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.MonsterStore;
+import processing.data.JSONObject;
+
+/**
+ * Represents the {@code SpawnSpec} class.
+ * <p>
+ * A spawn spec describes a group of identical monsters in a wave: their type, their stats
+ * and how many of them there are. Waves hold spawn specs rather than monsters,
+ * and a monster is only created when its wave releases it onto the board.
+ */
+public final class SpawnSpec {
+    /**
+     * The type of the monsters, as one of {@code MonsterStore}'s type ids.
+     */
+    private final byte type;
+    /**
+     * The health points that each monster starts with.
+     */
+    private final int hp;
+    /**
+     * The speed of each monster.
+     */
+    private final float speed;
+    /**
+     * The armour of each monster.
+     */
+    private final float armour;
+    /**
+     * The mana gained when each monster is killed.
+     */
+    private final int manaOnDeath;
+    /**
+     * The number of monsters.
+     */
+    private final int quantity;
+    /**
+     * The number of gremlins that each moag spawns on death. Only used by moags.
+     */
+    private final int monstersInMoag;
+
+    /**
+     * {@code SpawnSpec}'s constructor.
+     * @param type The type of the monsters, as one of {@code MonsterStore}'s type ids.
+     * @param hp The health points that each monster starts with.
+     * @param speed The speed of each monster.
+     * @param armour The armour of each monster.
+     * @param manaOnDeath The mana gained when each monster is killed.
+     * @param quantity The number of monsters.
+     * @param monstersInMoag The number of gremlins that each moag spawns on death.
+     * @throws IllegalArgumentException If the type is unknown, if the quantity is < 0,
+     * or if the stats would be rejected by a monster.
+     * @see MonsterStore#TYPE_GREMLIN
+     * @see Monster#checkStats(float, float, float, int)
+     */
+    public SpawnSpec(byte type, int hp, float speed, float armour, int manaOnDeath,
+                     int quantity, int monstersInMoag) throws IllegalArgumentException {
+        if (type < MonsterStore.TYPE_GREMLIN || type > MonsterStore.TYPE_MOAG) {
+            throw new IllegalArgumentException("Unknown monster type: " + type);
+        }
+        if (quantity < 0) throw new IllegalArgumentException("Quantity must be >= 0.");
+        Monster.checkStats(hp, speed, armour, manaOnDeath);
+
+        this.type = type;
+        this.hp = hp;
+        this.speed = speed;
+        this.armour = armour;
+        this.manaOnDeath = manaOnDeath;
+        this.quantity = quantity;
+        this.monstersInMoag = monstersInMoag;
+    }
+
+    /**
+     * Reads a spawn spec from an entry of a wave's monsters in the config.
+     * @param monsterInfo The entry that is read.
+     * @return The spawn spec, or {@code null} if the entry's type is not a known monster.
+     */
+    public static SpawnSpec fromJSON(JSONObject monsterInfo) {
+        byte type = typeOf(monsterInfo.getString("type"));
+        if (type == MonsterStore.TYPE_MONSTER) {
+            return null;
+        }
+
+        return new SpawnSpec(type, monsterInfo.getInt("hp"), monsterInfo.getFloat("speed"),
+                             monsterInfo.getFloat("armour"), monsterInfo.getInt("mana_gained_on_kill"),
+                             monsterInfo.getInt("quantity"), monsterInfo.getInt("monsters_in_moag", 0));
+    }
+
+    /**
+     * Gets the type id of a monster type from the config.
+     * @param monsterType The name of the monster type.
+     * @return The type id, or {@code MonsterStore.TYPE_MONSTER} if it is not a known monster.
+     */
+    private static byte typeOf(String monsterType) {
+        if ("gremlin".equals(monsterType)) {
+            return MonsterStore.TYPE_GREMLIN;
+        } else if ("worm".equals(monsterType)) {
+            return MonsterStore.TYPE_WORM;
+        } else if ("beetle".equals(monsterType)) {
+            return MonsterStore.TYPE_BEETLE;
+        } else if ("moag".equals(monsterType)) {
+            return MonsterStore.TYPE_MOAG;
+        }
+        return MonsterStore.TYPE_MONSTER;
+    }
+
+    public byte getType() { return this.type; }
+    public int getHP() { return this.hp; }
+    public float getSpeed() { return this.speed; }
+    public float getArmour() { return this.armour; }
+    public int getManaOnDeath() { return this.manaOnDeath; }
+    public int getQuantity() { return this.quantity; }
+    public int getMonstersInMoag() { return this.monstersInMoag; }
+
+    /**
+     * Creates one of the spec's monsters, reusing a dead one from the game's monster pool if it can.
+     * <p>
+     * Like any new monster, it picks its starting tile with the game's random number generator.
+     * @param context The context of the game that the monster is in.
+     * @return The monster.
+     */
+    public Monster create(GameContext context) {
+        return context.getMonsterPool().acquire(this.type, this.hp, this.speed, this.armour,
+                                                this.manaOnDeath, this.monstersInMoag);
+    }
+
+    /**
+     * Writes the spawn spec to a snapshot.
+     * @param out The snapshot writer.
+     */
+    void saveState(GameSnapshot.Writer out) {
+        out.putByte(this.type);
+        out.putInt(this.hp);
+        out.putFloat(this.speed);
+        out.putFloat(this.armour);
+        out.putInt(this.manaOnDeath);
+        out.putInt(this.quantity);
+        out.putInt(this.monstersInMoag);
+    }
+
+    /**
+     * Reads a spawn spec that was written by {@link #saveState(GameSnapshot.Writer)}.
+     * @param in The snapshot reader.
+     * @return The spawn spec.
+     * @throws IllegalArgumentException If the snapshot's spec is not valid.
+     */
+    static SpawnSpec restore(GameSnapshot.Reader in) throws IllegalArgumentException {
+        return new SpawnSpec(in.getByte(), in.getInt(), in.getFloat(), in.getFloat(),
+                             in.getInt(), in.getInt(), in.getInt());
+    }
+}
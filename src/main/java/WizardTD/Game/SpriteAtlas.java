@@ -0,0 +1,171 @@
+package WizardTD.Game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+import processing.core.PConstants;
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+/**
+ * Represents the {@code SpriteAtlas} class.
+ * <p>
+ * A sprite atlas packs many sprites into a single image, so that drawing any of them
+ * draws part of the same image. The renderer then only has to prepare one image,
+ * rather than one for every sprite.
+ * <p>
+ * Sprites are packed into rows, tallest first, with a transparent pixel between them
+ * so that they never bleed into each other.
+ */
+public final class SpriteAtlas {
+    /**
+     * The width of the atlas image.
+     */
+    public static final int WIDTH = 256;
+    /**
+     * The transparent space between sprites.
+     */
+    private static final int PADDING = 1;
+
+    /**
+     * The image that every sprite is packed into.
+     */
+    private final PImage image;
+    /**
+     * The region of each sprite.
+     */
+    private final IdentityHashMap<PImage, Integer> regions = new IdentityHashMap<>();
+    /**
+     * The x position of each region's top-left corner in the atlas.
+     */
+    private final int[] regionX;
+    /**
+     * The y position of each region's top-left corner in the atlas.
+     */
+    private final int[] regionY;
+    /**
+     * The width of each region.
+     */
+    private final int[] regionWidth;
+    /**
+     * The height of each region.
+     */
+    private final int[] regionHeight;
+
+    /**
+     * {@code SpriteAtlas}'s constructor.
+     * <p>
+     * Packs the sprites into a new atlas. Null sprites and sprites that appear more than once
+     * are skipped, so each sprite is only packed once.
+     * @param sprites The sprites to pack.
+     * @throws NullPointerException If sprites is null.
+     * @throws IllegalArgumentException If a sprite is wider than the atlas.
+     */
+    public SpriteAtlas(Collection<PImage> sprites) throws NullPointerException, IllegalArgumentException {
+        if (sprites == null) throw new NullPointerException("SpriteAtlas must be constructed with non-null sprites.");
+
+        List<PImage> unique = new ArrayList<>();
+        IdentityHashMap<PImage, Boolean> seen = new IdentityHashMap<>();
+        for (PImage sprite : sprites) {
+            if (sprite == null || seen.put(sprite, Boolean.TRUE) != null) {
+                continue;
+            }
+            if (sprite.width + PADDING > WIDTH) {
+                throw new IllegalArgumentException("Sprite is too wide for the atlas: " + sprite.width);
+            }
+            unique.add(sprite);
+        }
+        // Packing the tallest sprites first wastes the least space in each row
+        unique.sort((a, b) -> Integer.compare(b.height, a.height));
+
+        int n = unique.size();
+        this.regionX = new int[n];
+        this.regionY = new int[n];
+        this.regionWidth = new int[n];
+        this.regionHeight = new int[n];
+
+        int x = 0;
+        int y = 0;
+        int rowHeight = 0;
+        for (int i = 0; i < n; i++) {
+            PImage sprite = unique.get(i);
+            if (x + sprite.width > WIDTH) {
+                x = 0;
+                y += rowHeight + PADDING;
+                rowHeight = 0;
+            }
+
+            this.regionX[i] = x;
+            this.regionY[i] = y;
+            this.regionWidth[i] = sprite.width;
+            this.regionHeight[i] = sprite.height;
+            this.regions.put(sprite, i);
+
+            x += sprite.width + PADDING;
+            rowHeight = Math.max(rowHeight, sprite.height);
+        }
+
+        this.image = new PImage(WIDTH, Math.max(1, y + rowHeight), PConstants.ARGB);
+        for (int i = 0; i < n; i++) {
+            this.copyIntoAtlas(unique.get(i), i);
+        }
+        this.image.updatePixels();
+    }
+
+    /**
+     * Gets the image that every sprite is packed into.
+     * @return The atlas image.
+     */
+    public PImage getImage() { return this.image; }
+    /**
+     * Gets the number of sprites in the atlas.
+     * @return The number of packed sprites.
+     */
+    public int size() { return this.regionX.length; }
+
+    /**
+     * Gets the region that a sprite was packed into.
+     * @param sprite The sprite.
+     * @return The sprite's region, or -1 if the sprite is not in the atlas.
+     */
+    public int getRegion(PImage sprite) {
+        Integer region = this.regions.get(sprite);
+        return region == null ? -1 : region;
+    }
+
+    public int getRegionX(int region) { return this.regionX[region]; }
+    public int getRegionY(int region) { return this.regionY[region]; }
+    public int getRegionWidth(int region) { return this.regionWidth[region]; }
+    public int getRegionHeight(int region) { return this.regionHeight[region]; }
+
+    /**
+     * Draws a region of the atlas to the layer, at the sprite's own size.
+     * @param layer The layer that the sprite is drawn to.
+     * @param region The sprite's region.
+     * @param x The x position of the sprite's top-left corner.
+     * @param y The y position of the sprite's top-left corner.
+     */
+    public void draw(PGraphics layer, int region, float x, float y) {
+        int u = this.regionX[region];
+        int v = this.regionY[region];
+        int w = this.regionWidth[region];
+        int h = this.regionHeight[region];
+        layer.image(this.image, x, y, w, h, u, v, u + w, v + h);
+    }
+
+    /**
+     * Copies a sprite's pixels into its region of the atlas.
+     * @param sprite The sprite.
+     * @param region The sprite's region.
+     */
+    private void copyIntoAtlas(PImage sprite, int region) {
+        sprite.loadPixels();
+        int w = this.regionWidth[region];
+        for (int row = 0; row < this.regionHeight[region]; row++) {
+            System.arraycopy(sprite.pixels, row * w, this.image.pixels,
+                             (this.regionY[region] + row) * WIDTH + this.regionX[region], w);
+        }
+    }
+}
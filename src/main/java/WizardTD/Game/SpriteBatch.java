@@ -0,0 +1,223 @@
+package WizardTD.Game;
+
+import java.util.Arrays;
+
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+/**
+ * Represents the {@code SpriteBatch} class.
+ * <p>
+ * A sprite batch queues sprites rather than drawing them straight away, then draws the whole
+ * queue in one go when it is flushed. Sprites are drawn from the game's {@link SpriteAtlas},
+ * and sprites with the same tint are drawn together, so the tint is only changed once for
+ * each tint rather than once for each sprite.
+ * <p>
+ * Sprites with the same tint are drawn in the order they were queued. Untinted sprites are
+ * drawn first, then each tint in the order it was first queued.
+ * <p>
+ * Sprites that are not in the atlas, or every sprite if there is no atlas, are still drawn,
+ * just as separate images.
+ */
+public final class SpriteBatch {
+    /**
+     * The tint of sprites that are drawn as they are.
+     */
+    public static final int NO_TINT = 0xFFFFFFFF;
+    /**
+     * The number of sprites that the batch can queue before it first grows.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The atlas that sprites are drawn from, or null if there is none.
+     */
+    private final SpriteAtlas atlas;
+
+    /**
+     * The queued sprites, kept for sprites that are not in the atlas.
+     */
+    private PImage[] sprites = new PImage[INITIAL_CAPACITY];
+    /**
+     * The atlas region of each queued sprite, or -1 if it is not in the atlas.
+     */
+    private int[] regions = new int[INITIAL_CAPACITY];
+    /**
+     * The x position of each queued sprite.
+     */
+    private float[] xs = new float[INITIAL_CAPACITY];
+    /**
+     * The y position of each queued sprite.
+     */
+    private float[] ys = new float[INITIAL_CAPACITY];
+    /**
+     * The tint of each queued sprite.
+     */
+    private int[] tints = new int[INITIAL_CAPACITY];
+    /**
+     * The number of queued sprites.
+     */
+    private int size = 0;
+
+    /**
+     * The different tints of the queued sprites, other than {@code NO_TINT}, in the order they were queued.
+     */
+    private int[] tintOrder = new int[4];
+    /**
+     * The number of different tints that have been queued.
+     */
+    private int tintCount = 0;
+
+    /**
+     * The number of images that have been drawn since the counts were last reset.
+     */
+    private int drawCalls = 0;
+    /**
+     * The number of times the tint has been changed since the counts were last reset.
+     */
+    private int tintChanges = 0;
+
+    /**
+     * {@code SpriteBatch}'s constructor.
+     * @param atlas The atlas that sprites are drawn from. May be {@code null}, in which case every
+     * sprite is drawn as a separate image.
+     */
+    public SpriteBatch(SpriteAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Gets the number of queued sprites.
+     * @return The number of sprites that the next flush draws.
+     */
+    public int size() { return this.size; }
+    /**
+     * Gets the number of images that have been drawn since the counts were last reset.
+     * @return The number of draw calls.
+     */
+    public int getDrawCalls() { return this.drawCalls; }
+    /**
+     * Gets the number of times that the tint has been changed since the counts were last reset.
+     * @return The number of tint changes.
+     */
+    public int getTintChanges() { return this.tintChanges; }
+    /**
+     * Resets the number of draw calls and tint changes to 0.
+     */
+    public void resetCounts() {
+        this.drawCalls = 0;
+        this.tintChanges = 0;
+    }
+
+    /**
+     * Queues a sprite to be drawn untinted.
+     * @param sprite The sprite. Nothing is queued if it is {@code null}, as in games without sprites.
+     * @param x The x position of the sprite's top-left corner.
+     * @param y The y position of the sprite's top-left corner.
+     */
+    public void add(PImage sprite, float x, float y) {
+        this.add(sprite, x, y, NO_TINT);
+    }
+
+    /**
+     * Queues a sprite to be drawn with a tint.
+     * @param sprite The sprite. Nothing is queued if it is {@code null}, as in games without sprites.
+     * @param x The x position of the sprite's top-left corner.
+     * @param y The y position of the sprite's top-left corner.
+     * @param tint The tint as an opaque ARGB colour, or {@code NO_TINT}.
+     */
+    public void add(PImage sprite, float x, float y, int tint) {
+        if (sprite == null) {
+            return;
+        }
+
+        if (this.size == this.regions.length) {
+            this.grow();
+        }
+
+        this.sprites[this.size] = sprite;
+        this.regions[this.size] = this.atlas == null ? -1 : this.atlas.getRegion(sprite);
+        this.xs[this.size] = x;
+        this.ys[this.size] = y;
+        this.tints[this.size] = tint;
+        ++this.size;
+
+        if (tint != NO_TINT && !this.hasTint(tint)) {
+            if (this.tintCount == this.tintOrder.length) {
+                this.tintOrder = Arrays.copyOf(this.tintOrder, this.tintCount * 2);
+            }
+            this.tintOrder[this.tintCount++] = tint;
+        }
+    }
+
+    /**
+     * Draws every queued sprite to the layer and empties the queue.
+     * <p>
+     * The layer is left untinted.
+     * @param layer The layer that the sprites are drawn to.
+     */
+    public void flush(PGraphics layer) {
+        this.drawTint(layer, NO_TINT);
+        for (int t = 0; t < this.tintCount; t++) {
+            layer.tint(this.tintOrder[t]);
+            ++this.tintChanges;
+            this.drawTint(layer, this.tintOrder[t]);
+        }
+
+        if (this.tintCount > 0) {
+            layer.noTint();
+            ++this.tintChanges;
+        }
+
+        // Drop the queued sprites so that they can be collected
+        Arrays.fill(this.sprites, 0, this.size, null);
+        this.size = 0;
+        this.tintCount = 0;
+    }
+
+    /**
+     * Draws the queued sprites that have the given tint.
+     * @param layer The layer that the sprites are drawn to.
+     * @param tint The tint of the sprites that are drawn.
+     */
+    private void drawTint(PGraphics layer, int tint) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.tints[i] != tint) {
+                continue;
+            }
+
+            if (this.regions[i] >= 0) {
+                this.atlas.draw(layer, this.regions[i], this.xs[i], this.ys[i]);
+            } else {
+                layer.image(this.sprites[i], this.xs[i], this.ys[i]);
+            }
+            ++this.drawCalls;
+        }
+    }
+
+    /**
+     * Checks if a tint has already been queued.
+     * @param tint The tint.
+     * @return true if a sprite with the tint is queued, otherwise false.
+     */
+    private boolean hasTint(int tint) {
+        for (int t = 0; t < this.tintCount; t++) {
+            if (this.tintOrder[t] == tint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Doubles the number of sprites that the batch can queue.
+     */
+    private void grow() {
+        int capacity = this.regions.length * 2;
+        this.sprites = Arrays.copyOf(this.sprites, capacity);
+        this.regions = Arrays.copyOf(this.regions, capacity);
+        this.xs = Arrays.copyOf(this.xs, capacity);
+        this.ys = Arrays.copyOf(this.ys, capacity);
+        this.tints = Arrays.copyOf(this.tints, capacity);
+    }
+}
@@ -0,0 +1,108 @@
+package WizardTD.Game;
+
+import java.util.IdentityHashMap;
+
+import processing.core.PConstants;
+import processing.core.PImage;
+
+/**
+ * Represents the {@code SpriteCache} class.
+ * <p>
+ * A sprite cache holds the rotated versions of sprites, so that each sprite is only
+ * rotated once for each angle and every tile or monster that needs a rotation shares
+ * the same image.
+ * <p>
+ * Only quarter turns are supported, which is all the game needs. A quarter turn
+ * moves every pixel to exactly one other pixel, so sprites are rotated by copying their
+ * {@code pixels} arrays directly, instead of drawing them through {@code Graphics2D}
+ * and copying the result back one pixel at a time.
+ * <p>
+ * Rotations are clockwise, as they are on screen.
+ */
+public final class SpriteCache {
+    /**
+     * The rotations of each sprite, indexed by the number of quarter turns.
+     * Index 0 is the sprite itself.
+     */
+    private final IdentityHashMap<PImage, PImage[]> rotations = new IdentityHashMap<>();
+
+    /**
+     * Gets a sprite rotated clockwise by the given angle, rotating it if it has not been rotated by that angle before.
+     * @param sprite The sprite to rotate. May be {@code null} for games without sprites.
+     * @param degrees The angle, which must be a multiple of 90 degrees.
+     * @return The rotated sprite, or {@code null} if sprite is null.
+     * @throws IllegalArgumentException If degrees is not a multiple of 90.
+     */
+    public synchronized PImage getRotated(PImage sprite, int degrees) throws IllegalArgumentException {
+        if (degrees % 90 != 0) {
+            throw new IllegalArgumentException("Sprites can only be rotated by multiples of 90 degrees: " + degrees);
+        }
+        if (sprite == null) {
+            return null;
+        }
+
+        int quarterTurns = Math.floorMod(degrees / 90, 4);
+        PImage[] sprites = this.rotations.get(sprite);
+        if (sprites == null) {
+            sprites = new PImage[4];
+            sprites[0] = sprite;
+            this.rotations.put(sprite, sprites);
+        }
+
+        if (sprites[quarterTurns] == null) {
+            sprites[quarterTurns] = rotate(sprite, quarterTurns);
+        }
+        return sprites[quarterTurns];
+    }
+
+    /**
+     * Gets the number of rotated sprites that are held, not counting the originals.
+     * @return The number of rotated sprites.
+     */
+    public synchronized int size() {
+        int size = 0;
+        for (PImage[] sprites : this.rotations.values()) {
+            for (int i = 1; i < sprites.length; i++) {
+                size += sprites[i] != null ? 1 : 0;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Rotates a sprite clockwise by copying its pixels into a new image.
+     * @param sprite The sprite to rotate.
+     * @param quarterTurns The number of quarter turns, from 1 to 3.
+     * @return The rotated sprite.
+     */
+    private static PImage rotate(PImage sprite, int quarterTurns) {
+        sprite.loadPixels();
+        int[] source = sprite.pixels;
+        int w = sprite.width;
+        int h = sprite.height;
+
+        boolean sideways = quarterTurns % 2 == 1;
+        PImage result = new PImage(sideways ? h : w, sideways ? w : h, PConstants.ARGB);
+        int[] target = result.pixels;
+
+        if (quarterTurns == 2) {
+            // Half a turn reverses the order of the pixels
+            for (int i = 0, n = w * h; i < n; i++) {
+                target[n - 1 - i] = source[i];
+            }
+        } else {
+            // The result is h wide, so each source row becomes a column
+            for (int y = 0; y < h; y++) {
+                int row = y * w;
+                for (int x = 0; x < w; x++) {
+                    int to = quarterTurns == 1 ? x * h + (h - 1 - y)
+                                               : (w - 1 - x) * h + y;
+                    target[to] = source[row + x];
+                }
+            }
+        }
+
+        result.updatePixels();
+        return result;
+    }
+}
@@ -0,0 +1,398 @@
+package WizardTD.Game;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Represents the {@code TickProfiler} class.
+ * <p>
+ * A tick profiler times each subsystem of the game with {@code System.nanoTime()}
+ * and keeps the most recent samples of each one in a fixed-size ring buffer,
+ * so recording a sample never allocates.
+ * <p>
+ * A subsystem is timed by calling {@code begin()} before it runs and passing
+ * the returned time to {@code end()} once it has finished:
+ * <pre>
+ * long start = profiler.begin();
+ * waveManager.tick();
+ * profiler.end(TickProfiler.Section.WAVES, start);
+ * </pre>
+ * <p>
+ * Things that are counted rather than timed, such as the number of sprites drawn in a frame,
+ * are recorded as samples of a {@code Counter} in the same way.
+ */
+public final class TickProfiler {
+    /**
+     * The subsystems that are timed.
+     */
+    public enum Section {
+        WAVES ("Waves"),
+        MONSTERS ("Monsters"),
+        TOWERS ("Towers"),
+        SCHEDULED ("Scheduled"),
+        DRAW_BACKGROUND ("Draw background"),
+        DRAW_ENTITIES ("Draw entities"),
+        DRAW_HOUSE ("Draw house"),
+        DRAW_UI ("Draw UI");
+
+        private final String label;
+        Section(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Gets the name of the section that is displayed to the player.
+         * @return The section's display name.
+         */
+        public String label() { return this.label; }
+    }
+
+    /**
+     * The things that are counted once per frame.
+     */
+    public enum Counter {
+        SPRITE_DRAWS ("Sprite draws"),
+        TINT_CHANGES ("Tint changes"),
+        HEALTH_BARS ("Health bars");
+
+        private final String label;
+        Counter(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Gets the name of the counter that is displayed to the player.
+         * @return The counter's display name.
+         */
+        public String label() { return this.label; }
+    }
+
+    /**
+     * The number of samples kept per section when no capacity is given.
+     * This is ten seconds of frames at the application's frame rate.
+     */
+    public static final int DEFAULT_CAPACITY = 600;
+    /**
+     * The number of nanoseconds in a millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    /**
+     * All sections, cached so that looping over them does not copy the array.
+     */
+    private static final Section[] SECTIONS = Section.values();
+    /**
+     * The number of sections and counters, which each have their own ring buffer.
+     * A counter's ring buffer comes after every section's.
+     */
+    private static final int BUFFERS = SECTIONS.length + Counter.values().length;
+
+    /**
+     * The most recent samples of each section, in nanoseconds, followed by
+     * the most recent samples of each counter.
+     */
+    private final long[][] samples;
+    /**
+     * The slot of each section's ring buffer that is written to next.
+     */
+    private final int[] nextSlot = new int[BUFFERS];
+    /**
+     * The number of samples held by each section's ring buffer.
+     */
+    private final int[] sampleCount = new int[BUFFERS];
+    /**
+     * The number of samples that have ever been recorded for each section.
+     */
+    private final long[] totalCount = new long[BUFFERS];
+    /**
+     * A copy of a section's samples that is sorted to find percentiles.
+     */
+    private final long[] sorted;
+    /**
+     * The maximum number of samples kept per section.
+     */
+    private final int capacity;
+
+    /**
+     * {@code TickProfiler}'s constructor.
+     * <p>
+     * Uses the default capacity.
+     */
+    public TickProfiler() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * {@code TickProfiler}'s constructor.
+     * @param capacity The maximum number of samples kept per section.
+     * @throws IllegalArgumentException If capacity is < 1.
+     */
+    public TickProfiler(int capacity) throws IllegalArgumentException {
+        if (capacity < 1) throw new IllegalArgumentException("Profiler capacity must be >= 1.");
+
+        this.capacity = capacity;
+        this.samples = new long[BUFFERS][capacity];
+        this.sorted = new long[capacity];
+    }
+
+    /**
+     * Gets the maximum number of samples kept per section.
+     * @return The profiler's capacity.
+     */
+    public int getCapacity() { return this.capacity; }
+    /**
+     * Gets the number of samples currently held for the section.
+     * @param section The section that is checked.
+     * @return The number of samples, at most the profiler's capacity.
+     */
+    public int getSampleCount(Section section) { return this.sampleCount[section.ordinal()]; }
+    /**
+     * Gets the number of samples that have ever been recorded for the section.
+     * @param section The section that is checked.
+     * @return The number of samples recorded since the profiler was created or cleared.
+     */
+    public long getTotalCount(Section section) { return this.totalCount[section.ordinal()]; }
+    /**
+     * Gets the number of samples currently held for the counter.
+     * @param counter The counter that is checked.
+     * @return The number of samples, at most the profiler's capacity.
+     */
+    public int getSampleCount(Counter counter) { return this.sampleCount[index(counter)]; }
+    /**
+     * Gets the number of samples that have ever been recorded for the counter.
+     * @param counter The counter that is checked.
+     * @return The number of samples recorded since the profiler was created or cleared.
+     */
+    public long getTotalCount(Counter counter) { return this.totalCount[index(counter)]; }
+
+    /**
+     * Gets the current time to pass to {@code end()}.
+     * @return The current time in nanoseconds.
+     */
+    public long begin() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time since {@code start} as a sample of the section.
+     * @param section The section that was timed.
+     * @param start The time returned by {@code begin()}.
+     */
+    public void end(Section section, long start) {
+        this.record(section, System.nanoTime() - start);
+    }
+
+    /**
+     * Records the time since {@code start} as a sample of the section,
+     * for timing several sections one after another.
+     * @param section The section that was timed.
+     * @param start The time that the section started.
+     * @return The current time, which is the start of the next section.
+     */
+    public long lap(Section section, long start) {
+        long now = System.nanoTime();
+        this.record(section, now - start);
+        return now;
+    }
+
+    /**
+     * Records a sample of the section, overwriting its oldest sample
+     * once its ring buffer is full.
+     * @param section The section that was timed.
+     * @param nanos How long the section took, in nanoseconds.
+     */
+    public void record(Section section, long nanos) {
+        this.record(section.ordinal(), nanos);
+    }
+
+    /**
+     * Records a sample of the counter, overwriting its oldest sample
+     * once its ring buffer is full.
+     * @param counter The counter that was counted.
+     * @param count The count, such as the number of sprites drawn in a frame.
+     */
+    public void record(Counter counter, long count) {
+        this.record(index(counter), count);
+    }
+
+    /**
+     * Records a sample in a ring buffer.
+     * @param s The index of the section's or counter's ring buffer.
+     * @param sample The sample.
+     */
+    private void record(int s, long sample) {
+        this.samples[s][this.nextSlot[s]] = sample;
+        this.nextSlot[s] = (this.nextSlot[s] + 1) % this.capacity;
+        if (this.sampleCount[s] < this.capacity) {
+            ++this.sampleCount[s];
+        }
+        ++this.totalCount[s];
+    }
+
+    /**
+     * Removes every sample from the profiler.
+     */
+    public void clear() {
+        Arrays.fill(this.nextSlot, 0);
+        Arrays.fill(this.sampleCount, 0);
+        Arrays.fill(this.totalCount, 0);
+    }
+
+    /**
+     * Gets a percentile of the section's samples, using the nearest-rank method.
+     * @param section The section that is checked.
+     * @param percentile The percentile, from 0 to 1.
+     * @return The percentile in nanoseconds, or 0 if the section has no samples.
+     * @throws IllegalArgumentException If percentile is not between 0 and 1.
+     */
+    public long getPercentile(Section section, double percentile) throws IllegalArgumentException {
+        return this.getPercentile(section.ordinal(), percentile);
+    }
+
+    /**
+     * Gets a percentile of the counter's samples, using the nearest-rank method.
+     * @param counter The counter that is checked.
+     * @param percentile The percentile, from 0 to 1.
+     * @return The percentile, or 0 if the counter has no samples.
+     * @throws IllegalArgumentException If percentile is not between 0 and 1.
+     */
+    public long getPercentile(Counter counter, double percentile) throws IllegalArgumentException {
+        return this.getPercentile(index(counter), percentile);
+    }
+
+    /**
+     * Gets a percentile of a ring buffer's samples.
+     * @param s The index of the section's or counter's ring buffer.
+     * @param percentile The percentile, from 0 to 1.
+     * @return The percentile, or 0 if there are no samples.
+     * @throws IllegalArgumentException If percentile is not between 0 and 1.
+     */
+    private long getPercentile(int s, double percentile) throws IllegalArgumentException {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1.");
+        }
+
+        int count = this.sampleCount[s];
+        if (count == 0) {
+            return 0;
+        }
+
+        System.arraycopy(this.samples[s], 0, this.sorted, 0, count);
+        Arrays.sort(this.sorted, 0, count);
+        int rank = (int)Math.ceil(percentile * count);
+        return this.sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Gets the longest of the section's samples.
+     * @param section The section that is checked.
+     * @return The longest sample in nanoseconds, or 0 if the section has no samples.
+     */
+    public long getMax(Section section) {
+        return this.getMax(section.ordinal());
+    }
+
+    /**
+     * Gets the largest of the counter's samples.
+     * @param counter The counter that is checked.
+     * @return The largest sample, or 0 if the counter has no samples.
+     */
+    public long getMax(Counter counter) {
+        return this.getMax(index(counter));
+    }
+
+    /**
+     * Gets the largest of a ring buffer's samples.
+     * @param s The index of the section's or counter's ring buffer.
+     * @return The largest sample, or 0 if there are no samples.
+     */
+    private long getMax(int s) {
+        long[] sectionSamples = this.samples[s];
+        long max = 0;
+        for (int i = 0; i < this.sampleCount[s]; i++) {
+            max = Math.max(max, sectionSamples[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Gets the mean of the section's samples.
+     * @param section The section that is checked.
+     * @return The mean in nanoseconds, or 0 if the section has no samples.
+     */
+    public double getMean(Section section) {
+        return this.getMean(section.ordinal());
+    }
+
+    /**
+     * Gets the mean of the counter's samples.
+     * @param counter The counter that is checked.
+     * @return The mean, or 0 if the counter has no samples.
+     */
+    public double getMean(Counter counter) {
+        return this.getMean(index(counter));
+    }
+
+    /**
+     * Gets the mean of a ring buffer's samples.
+     * @param s The index of the section's or counter's ring buffer.
+     * @return The mean, or 0 if there are no samples.
+     */
+    private double getMean(int s) {
+        int count = this.sampleCount[s];
+        if (count == 0) {
+            return 0;
+        }
+
+        long[] sectionSamples = this.samples[s];
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += sectionSamples[i];
+        }
+        return (double)sum / count;
+    }
+
+    /**
+     * Gets the index of a counter's ring buffer.
+     * @param counter The counter.
+     * @return The index of the counter's ring buffer, after every section's.
+     */
+    private static int index(Counter counter) {
+        return SECTIONS.length + counter.ordinal();
+    }
+
+    /**
+     * Writes the stats of every section as CSV, with one row per section.
+     * Times are in milliseconds.
+     * @param out Where the CSV is written to.
+     * @throws IOException If the CSV could not be written.
+     */
+    public void writeCsv(Writer out) throws IOException {
+        out.write("section,samples,total_samples,p50_ms,p99_ms,max_ms,mean_ms\n");
+        for (Section section : SECTIONS) {
+            out.write(String.format(Locale.ROOT, "%s,%d,%d,%.4f,%.4f,%.4f,%.4f\n",
+                                    section.name().toLowerCase(),
+                                    this.getSampleCount(section),
+                                    this.getTotalCount(section),
+                                    this.getPercentile(section, 0.5) / NANOS_PER_MILLI,
+                                    this.getPercentile(section, 0.99) / NANOS_PER_MILLI,
+                                    this.getMax(section) / NANOS_PER_MILLI,
+                                    this.getMean(section) / NANOS_PER_MILLI));
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes the stats of every section to a CSV file.
+     * @param path The path of the file, which is overwritten if it exists.
+     * @throws IOException If the file could not be written.
+     */
+    public void writeCsv(String path) throws IOException {
+        try (PrintWriter out = new PrintWriter(new FileWriter(path))) {
+            this.writeCsv(out);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package WizardTD.Game;
+
+import java.util.Arrays;
+
+/**
+ * Represents the {@code TimingWheel} class.
+ * <p>
+ * A timing wheel runs tasks on a later tick of the game, such as a fireball landing on its
+ * target, a tower finishing its reload or a wave spawning its next monster. Entities register
+ * the tick that they are next due on, rather than being polled on every tick, so an entity that
+ * is waiting costs nothing on the ticks in between.
+ * <p>
+ * The wheel is hierarchical. It has {@code LEVELS} levels of {@code SLOTS_PER_LEVEL} slots each.
+ * A slot of the first level holds the tasks due on one tick, a slot of the second level holds
+ * the tasks due in a block of {@code SLOTS_PER_LEVEL} ticks, and so on. When the wheel reaches
+ * the start of a block, the block's tasks are moved down into the level below, until they reach
+ * the first level on their own tick. Scheduling a task is O(1) however far ahead it is due,
+ * and advancing the wheel only looks at the slots whose tick or block has been reached.
+ * Tasks due more than {@code HORIZON} ticks ahead wait in the top level until they are in range.
+ * <p>
+ * Tasks that are due on the same tick run in the order of their sequence numbers,
+ * which are handed out in the order that tasks are scheduled. Sequence numbers are
+ * part of a snapshot, so a restored game runs its tasks in the same order as the captured one.
+ */
+public final class TimingWheel {
+    /**
+     * Something that runs once the tick that it was scheduled for is reached.
+     */
+    public interface Task {
+        /**
+         * Runs the task.
+         * @param tick The tick that the task was due on.
+         */
+        void onDue(long tick);
+    }
+
+    /**
+     * The number of bits of a tick that select a slot in each level.
+     */
+    private static final int LEVEL_BITS = 6;
+    /**
+     * The number of slots in each level of the wheel.
+     */
+    public static final int SLOTS_PER_LEVEL = 1 << LEVEL_BITS;
+    /**
+     * The number of levels in the wheel.
+     */
+    public static final int LEVELS = 4;
+    /**
+     * The number of ticks ahead that the wheel's levels cover.
+     */
+    public static final long HORIZON = 1L << (LEVEL_BITS * LEVELS);
+    /**
+     * Selects a slot from a tick that has been shifted down to a level.
+     */
+    private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+    /**
+     * The number of tasks that a slot can hold before it first grows.
+     */
+    private static final int INITIAL_SLOT_CAPACITY = 4;
+
+    /**
+     * The slots of each level of the wheel.
+     */
+    private final Slot[][] levels = new Slot[LEVELS][SLOTS_PER_LEVEL];
+    /**
+     * The number of times the wheel has been advanced.
+     */
+    private long currentTick = 0;
+    /**
+     * The sequence number given to the next task that is scheduled.
+     */
+    private long nextSequence = 0;
+    /**
+     * The number of scheduled tasks that have not run yet.
+     */
+    private int size = 0;
+
+    /**
+     * The tasks that are due on the current tick, while they are being run.
+     */
+    private final Slot due = new Slot();
+    /**
+     * The position in {@code due} of the task that is running.
+     */
+    private int dueIndex = 0;
+    /**
+     * The tasks of a block that are being moved down a level.
+     */
+    private final Slot cascading = new Slot();
+
+    /**
+     * {@code TimingWheel}'s constructor.
+     */
+    public TimingWheel() {
+        for (Slot[] level : this.levels) {
+            for (int i = 0; i < SLOTS_PER_LEVEL; i++) {
+                level[i] = new Slot();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of times the wheel has been advanced.
+     * @return The current tick.
+     */
+    public long getCurrentTick() { return this.currentTick; }
+    /**
+     * Gets the sequence number that the next scheduled task is given.
+     * @return The next sequence number.
+     */
+    public long getNextSequence() { return this.nextSequence; }
+    /**
+     * Gets the number of scheduled tasks that have not run yet.
+     * @return The number of pending tasks.
+     */
+    public int size() { return this.size; }
+
+    /**
+     * Schedules a task to run once the wheel reaches a tick.
+     * @param task The task.
+     * @param dueTick The tick that the task runs on.
+     * @return The task's sequence number.
+     * @throws IllegalArgumentException If dueTick is not after the current tick.
+     * @throws NullPointerException If task is null.
+     */
+    public long schedule(Task task, long dueTick) throws IllegalArgumentException, NullPointerException {
+        long sequence = this.nextSequence;
+        this.schedule(task, dueTick, sequence);
+        return sequence;
+    }
+
+    /**
+     * Schedules a task to run once the wheel reaches a tick, with a given sequence number,
+     * such as a task that is restored from a snapshot.
+     * @param task The task.
+     * @param dueTick The tick that the task runs on.
+     * @param sequence The task's sequence number.
+     * @throws IllegalArgumentException If dueTick is not after the current tick, or if sequence is < 0.
+     * @throws NullPointerException If task is null.
+     */
+    public void schedule(Task task, long dueTick, long sequence) throws IllegalArgumentException,
+                                                                       NullPointerException {
+        if (task == null) throw new NullPointerException("TimingWheel cannot schedule a null task.");
+        if (dueTick <= this.currentTick) throw new IllegalArgumentException("Tasks must be due after the current tick.");
+        if (sequence < 0) throw new IllegalArgumentException("Sequence numbers must be >= 0.");
+
+        this.slotOf(dueTick).add(task, dueTick, sequence);
+        this.nextSequence = Math.max(this.nextSequence, sequence + 1);
+        ++this.size;
+    }
+
+    /**
+     * Cancels a task, so that it does not run.
+     * <p>
+     * A task that is due on the current tick can still be cancelled by a task that runs before it.
+     * @param task The task.
+     * @param dueTick The tick that the task was scheduled for.
+     * @return {@code true} if the task was cancelled, or {@code false} if it was not scheduled for that tick.
+     */
+    public boolean cancel(Task task, long dueTick) {
+        if (dueTick > this.currentTick) {
+            Slot slot = this.slotOf(dueTick);
+            for (int i = 0; i < slot.size; i++) {
+                if (slot.tasks[i] == task && slot.dueTicks[i] == dueTick) {
+                    slot.removeAt(i);
+                    --this.size;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        if (dueTick == this.currentTick) {
+            for (int i = this.dueIndex; i < this.due.size; i++) {
+                if (this.due.tasks[i] == task) {
+                    this.due.tasks[i] = null;
+                    --this.size;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the wheel on by one tick and runs every task that is due on the new tick,
+     * in the order of their sequence numbers.
+     * <p>
+     * Tasks may schedule other tasks for later ticks while they run.
+     * @return The number of tasks that were run.
+     */
+    public int advance() {
+        ++this.currentTick;
+        // Blocks of higher levels are moved down first, so that their tasks can be moved down again
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((this.currentTick & ((1L << (LEVEL_BITS * level)) - 1)) == 0) {
+                this.cascade(level);
+            }
+        }
+
+        Slot slot = this.levels[0][(int)(this.currentTick & SLOT_MASK)];
+        if (slot.size == 0) {
+            return 0;
+        }
+        for (int i = 0; i < slot.size; i++) {
+            this.due.add(slot.tasks[i], slot.dueTicks[i], slot.sequences[i]);
+        }
+        slot.clear();
+        this.due.sortBySequence();
+
+        int run = 0;
+        for (this.dueIndex = 0; this.dueIndex < this.due.size; this.dueIndex++) {
+            Task task = this.due.tasks[this.dueIndex];
+            if (task == null) {
+                continue;
+            }
+            this.due.tasks[this.dueIndex] = null;
+            --this.size;
+            ++run;
+            task.onDue(this.currentTick);
+        }
+        this.due.size = 0;
+        this.dueIndex = 0;
+        return run;
+    }
+
+    /**
+     * Cancels every task and moves the wheel to a tick, such as the tick read from a snapshot.
+     * @param currentTick The wheel's new current tick.
+     * @param nextSequence The sequence number given to the next task that is scheduled.
+     * @throws IllegalArgumentException If either value is < 0.
+     */
+    public void reset(long currentTick, long nextSequence) throws IllegalArgumentException {
+        if (currentTick < 0 || nextSequence < 0) {
+            throw new IllegalArgumentException("The current tick and next sequence must be >= 0.");
+        }
+
+        for (Slot[] level : this.levels) {
+            for (Slot slot : level) {
+                slot.clear();
+            }
+        }
+        this.due.clear();
+        this.dueIndex = 0;
+        this.size = 0;
+        this.currentTick = currentTick;
+        this.nextSequence = nextSequence;
+    }
+
+    /**
+     * Gets the slot that a task due on a tick belongs in, given the current tick.
+     * <p>
+     * A task goes in the lowest level whose block holds both the current tick and the task's tick.
+     * Blocks are moved down a level as soon as they are reached, so this is also where the task is now.
+     */
+    private Slot slotOf(long dueTick) {
+        int level = 0;
+        while (level < LEVELS - 1 &&
+               (dueTick >>> (LEVEL_BITS * (level + 1))) != (this.currentTick >>> (LEVEL_BITS * (level + 1)))) {
+            ++level;
+        }
+        return this.levels[level][(int)((dueTick >>> (LEVEL_BITS * level)) & SLOT_MASK)];
+    }
+
+    /**
+     * Moves the tasks of the block that the current tick has reached in a level into the levels below.
+     * Tasks due beyond the wheel's horizon are put back in the top level.
+     */
+    private void cascade(int level) {
+        Slot slot = this.levels[level][(int)((this.currentTick >>> (LEVEL_BITS * level)) & SLOT_MASK)];
+        if (slot.size == 0) {
+            return;
+        }
+
+        for (int i = 0; i < slot.size; i++) {
+            this.cascading.add(slot.tasks[i], slot.dueTicks[i], slot.sequences[i]);
+        }
+        slot.clear();
+        for (int i = 0; i < this.cascading.size; i++) {
+            long dueTick = this.cascading.dueTicks[i];
+            this.slotOf(dueTick).add(this.cascading.tasks[i], dueTick, this.cascading.sequences[i]);
+        }
+        this.cascading.clear();
+    }
+
+    /**
+     * The tasks in one slot of the wheel, in parallel arrays.
+     */
+    private static final class Slot {
+        private Task[] tasks = new Task[INITIAL_SLOT_CAPACITY];
+        private long[] dueTicks = new long[INITIAL_SLOT_CAPACITY];
+        private long[] sequences = new long[INITIAL_SLOT_CAPACITY];
+        private int size = 0;
+
+        private void add(Task task, long dueTick, long sequence) {
+            if (this.size == this.tasks.length) {
+                int capacity = this.tasks.length * 2;
+                this.tasks = Arrays.copyOf(this.tasks, capacity);
+                this.dueTicks = Arrays.copyOf(this.dueTicks, capacity);
+                this.sequences = Arrays.copyOf(this.sequences, capacity);
+            }
+            this.tasks[this.size] = task;
+            this.dueTicks[this.size] = dueTick;
+            this.sequences[this.size] = sequence;
+            ++this.size;
+        }
+
+        /**
+         * Removes a task by moving the last task into its place.
+         */
+        private void removeAt(int index) {
+            int last = --this.size;
+            this.tasks[index] = this.tasks[last];
+            this.dueTicks[index] = this.dueTicks[last];
+            this.sequences[index] = this.sequences[last];
+            this.tasks[last] = null;
+        }
+
+        /**
+         * Sorts the tasks by sequence number. Only a few tasks are due on any one tick,
+         * and they are usually already in order, so an insertion sort is used.
+         */
+        private void sortBySequence() {
+            for (int i = 1; i < this.size; i++) {
+                Task task = this.tasks[i];
+                long dueTick = this.dueTicks[i];
+                long sequence = this.sequences[i];
+                int j = i - 1;
+                while (j >= 0 && this.sequences[j] > sequence) {
+                    this.tasks[j + 1] = this.tasks[j];
+                    this.dueTicks[j + 1] = this.dueTicks[j];
+                    this.sequences[j + 1] = this.sequences[j];
+                    --j;
+                }
+                this.tasks[j + 1] = task;
+                this.dueTicks[j + 1] = dueTick;
+                this.sequences[j + 1] = sequence;
+            }
+        }
+
+        private void clear() {
+            Arrays.fill(this.tasks, 0, this.size, null);
+            this.size = 0;
+        }
+    }
+}
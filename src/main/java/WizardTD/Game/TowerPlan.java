@@ -0,0 +1,332 @@
+package WizardTD.Game;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import WizardTD.App;
+import WizardTD.Game.Board.Tile;
+import WizardTD.Game.Entities.Towers.Tower;
+import WizardTD.Game.Entities.Towers.TowerManager;
+import processing.core.PApplet;
+import processing.data.JSONArray;
+import processing.data.JSONObject;
+
+/**
+ * Represents the {@code TowerPlan} class.
+ * <p>
+ * A tower plan is a script of tower placements and upgrades that is played
+ * instead of a player, so that a config can be tested without playing it.
+ * It is read from json in the following format:
+ * <pre>
+ * { "actions": [
+ *     { "time": 0, "action": "build", "column": 4, "row": 6 },
+ *     { "time": 20, "action": "upgrade_damage", "column": 4, "row": 6 },
+ *     { "time": 30, "action": "mana_pool" }
+ * ] }
+ * </pre>
+ * Actions are carried out in order. Each action waits until its time, in seconds
+ * of game time, has passed and until the player can afford it.
+ * An action that can never succeed, such as building on a path, is skipped.
+ * <p>
+ * The plan itself never changes, so one plan can be shared by many games.
+ * Each game is played through its own {@link Runner}.
+ */
+public final class TowerPlan {
+    /**
+     * The kinds of action that a plan can carry out.
+     */
+    public enum ActionType {
+        BUILD ("build"),
+        UPGRADE_RANGE ("upgrade_range"),
+        UPGRADE_FIRING_SPEED ("upgrade_firing_speed"),
+        UPGRADE_DAMAGE ("upgrade_damage"),
+        MANA_POOL ("mana_pool");
+
+        private final String name;
+        ActionType(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Gets the action type with the given name.
+         * @param name The name used in the plan's json.
+         * @return The action type.
+         * @throws IllegalArgumentException If no action type has the given name.
+         */
+        public static ActionType fromName(String name) throws IllegalArgumentException {
+            for (ActionType type : ActionType.values()) {
+                if (type.name.equals(name)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown tower plan action: " + name);
+        }
+    }
+
+    /**
+     * A single step of a plan.
+     */
+    public static final class Action {
+        private final int tick;
+        private final ActionType type;
+        private final int column;
+        private final int row;
+
+        /**
+         * {@code Action}'s constructor.
+         * @param tick The tick from which the action may be carried out.
+         * @param type The kind of action.
+         * @param column The column of the tile that the action is carried out on.
+         * @param row The row of the tile that the action is carried out on.
+         */
+        public Action(int tick, ActionType type, int column, int row) {
+            this.tick = tick;
+            this.type = type;
+            this.column = column;
+            this.row = row;
+        }
+
+        public int getTick() { return this.tick; }
+        public ActionType getType() { return this.type; }
+        public int getColumn() { return this.column; }
+        public int getRow() { return this.row; }
+    }
+
+    /**
+     * What happened when an action was tried.
+     */
+    public enum Outcome {
+        /** The action was carried out. */
+        DONE,
+        /** The action can never be carried out. */
+        SKIPPED,
+        /** The player cannot afford the action yet. */
+        WAITING
+    }
+
+    /**
+     * The plan's actions, in the order that they are carried out.
+     */
+    private final ArrayList<Action> actions = new ArrayList<>();
+
+    /**
+     * {@code TowerPlan}'s constructor.
+     * @param planInfo The {@code JSONObject} that the plan is read from.
+     * @throws IllegalArgumentException If an action is unknown or has a negative time.
+     */
+    public TowerPlan(JSONObject planInfo) throws IllegalArgumentException {
+        JSONArray actionInfo = planInfo.getJSONArray("actions");
+        for (int i = 0; i < actionInfo.size(); i++) {
+            JSONObject a = actionInfo.getJSONObject(i);
+            float time = a.getFloat("time", 0);
+            if (time < 0) {
+                throw new IllegalArgumentException("Tower plan action time must be >= 0.");
+            }
+
+            this.actions.add(new Action(Math.round(time * App.FPS),
+                                        ActionType.fromName(a.getString("action")),
+                                        a.getInt("column", 0), a.getInt("row", 0)));
+        }
+    }
+
+    /**
+     * {@code TowerPlan}'s constructor.
+     * @param actions The plan's actions, in the order that they are carried out.
+     * @throws NullPointerException If actions is null.
+     */
+    public TowerPlan(List<Action> actions) throws NullPointerException {
+        if (actions == null) {
+            throw new NullPointerException("TowerPlan must be constructed with non-null actions");
+        }
+        this.actions.addAll(actions);
+    }
+
+    /**
+     * Gets the plan's actions.
+     * @return The actions, in the order that they are carried out.
+     */
+    public ArrayList<Action> getActions() { return this.actions; }
+
+    /**
+     * Writes the plan in the same json format that it is read from.
+     * @return The plan as a {@code JSONObject}.
+     */
+    public JSONObject toJSON() {
+        JSONArray actionInfo = new JSONArray();
+        for (Action action : this.actions) {
+            JSONObject a = new JSONObject();
+            a.setFloat("time", (float)action.getTick() / App.FPS);
+            a.setString("action", action.getType().name);
+            if (action.getType() != ActionType.MANA_POOL) {
+                a.setInt("column", action.getColumn());
+                a.setInt("row", action.getRow());
+            }
+            actionInfo.append(a);
+        }
+
+        JSONObject planInfo = new JSONObject();
+        planInfo.setJSONArray("actions", actionInfo);
+        return planInfo;
+    }
+
+    /**
+     * Creates a runner that plays this plan on the given game.
+     * @param game The game that the plan is played on.
+     * @return The runner, which must be added to the game's {@code SimulationEngine}.
+     */
+    public Runner createRunner(Game game) { return new Runner(game); }
+
+    /**
+     * Loads a tower plan from the given path without needing a {@code PApplet}.
+     * @param path The path of the json plan file.
+     * @return The loaded plan.
+     */
+    public static TowerPlan load(String path) {
+        return new TowerPlan(new JSONObject(PApplet.createReader(new File(path))));
+    }
+
+    /**
+     * Plays a plan on a single game, carrying out each action once it is due.
+     */
+    public final class Runner implements SimulationObserver {
+        /**
+         * The game that the plan is played on.
+         */
+        private final Game game;
+        /**
+         * The index of the next action to carry out.
+         */
+        private int next = 0;
+        /**
+         * The number of actions that have been carried out.
+         */
+        private int completed = 0;
+
+        private Runner(Game game) {
+            this.game = game;
+        }
+
+        /**
+         * Gets the number of actions that have been carried out.
+         * @return The number of completed actions.
+         */
+        public int getCompletedActions() { return this.completed; }
+        /**
+         * Checks if every action has either been carried out or skipped.
+         * @return {@code true} if the plan has finished, otherwise {@code false}.
+         */
+        public boolean isFinished() { return this.next >= actions.size(); }
+
+        /**
+         * Carries out every due action that the player can afford,
+         * stopping at the first one that has to wait.
+         */
+        @Override
+        public void onTick(Game game, long tick) {
+            while (this.next < actions.size()) {
+                Action action = actions.get(this.next);
+                if (action.getTick() > tick) {
+                    return;
+                }
+
+                Outcome outcome = tryAction(this.game, action);
+                if (outcome == Outcome.WAITING) {
+                    return;
+                }
+
+                if (outcome == Outcome.DONE) {
+                    ++this.completed;
+                }
+                ++this.next;
+            }
+        }
+    }
+
+    /**
+     * Tries to carry out an action on a game.
+     * <p>
+     * An action is only ever carried out the way that the player could, so it fails
+     * when the player cannot afford it.
+     * @param game The game that the action is carried out on.
+     * @param action The action to carry out.
+     * @return What happened when the action was tried.
+     */
+    public static Outcome tryAction(Game game, Action action) {
+        if (action.getType() == ActionType.MANA_POOL) {
+            float cost = game.getManaPool().getManaSpellCost();
+            game.getManaPool().upgradeManaPool();
+            return game.getManaPool().getManaSpellCost() != cost ? Outcome.DONE : Outcome.WAITING;
+        }
+
+        Tile tile = game.getBoard().getTile(action.getColumn(), action.getRow());
+        if (tile == null) {
+            return Outcome.SKIPPED;
+        }
+
+        if (action.getType() == ActionType.BUILD) {
+            return tryBuild(game, tile);
+        }
+
+        Tower tower = getTowerOn(game, tile);
+        if (tower == null) {
+            return Outcome.SKIPPED;
+        }
+
+        int level;
+        if (action.getType() == ActionType.UPGRADE_RANGE) {
+            level = tower.getRangeLevel();
+            tower.upgradeRange();
+            return tower.getRangeLevel() != level ? Outcome.DONE : Outcome.WAITING;
+        } else if (action.getType() == ActionType.UPGRADE_FIRING_SPEED) {
+            level = tower.getFiringSpeedLevel();
+            tower.upgradeFiringSpeed();
+            return tower.getFiringSpeedLevel() != level ? Outcome.DONE : Outcome.WAITING;
+        }
+
+        level = tower.getDamageLevel();
+        tower.upgradeDamage();
+        return tower.getDamageLevel() != level ? Outcome.DONE : Outcome.WAITING;
+    }
+
+    /**
+     * Tries to build a tower on the given tile, the same way that the player does.
+     * @param game The game that the tower is built in.
+     * @param tile The tile to build on.
+     * @return What happened when the tower was built.
+     */
+    private static Outcome tryBuild(Game game, Tile tile) {
+        if (!tile.isPlaceable() || game.getTowerManager().isTileOccupied(tile)) {
+            return Outcome.SKIPPED;
+        }
+
+        TowerManager towerManager = game.getTowerManager();
+        towerManager.initialiseUnbuiltTower();
+        towerManager.showUnbuiltTowerAtPos(tile.getCenterPos().x, tile.getCenterPos().y);
+        towerManager.buildTower();
+
+        // If unbuiltTower isn't null, the tower could not be afforded
+        if (towerManager.getUnbuiltTower() != null) {
+            towerManager.deactivateUnbuiltTower();
+            return Outcome.WAITING;
+        }
+
+        return Outcome.DONE;
+    }
+
+    /**
+     * Gets the tower that was built on the given tile.
+     * @param game The game that the tower is in.
+     * @param tile The tile to check.
+     * @return The tower on the tile, or {@code null} if there is none.
+     */
+    private static Tower getTowerOn(Game game, Tile tile) {
+        for (Tower t : game.getTowerManager().getTowers()) {
+            if (t.getCenterPos().x == tile.getCenterPos().x &&
+                t.getCenterPos().y == tile.getCenterPos().y) {
+                return t;
+            }
+        }
+        return null;
+    }
+}
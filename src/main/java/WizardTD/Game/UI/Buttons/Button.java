@@ -1,6 +1,7 @@
 package WizardTD.Game.UI.Buttons;
 
 import WizardTD.App;
+import WizardTD.Game.UI.CachedText;
 import WizardTD.Game.UI.Tooltip;
 import WizardTD.Game.UI.UIElement;
 import processing.core.PGraphics;
@@ -12,6 +13,11 @@ import processing.core.PVector;
  * Buttons are a renderable object that can be interacted with.
  */
 public class Button extends UIElement {
+    /**
+     * The colour of the button's text, which is the grey (50, 50, 50).
+     */
+    private static final int TEXT_COLOUR = 0xFF323232;
+
     /**
      * The text that is displayed to the right of the button.
      */
@@ -38,6 +44,15 @@ public class Button extends UIElement {
      */
     private Tooltip tooltip = null;  
 
+    /**
+     * The text on top of the button, which is only drawn again when it changes.
+     */
+    private final CachedText label = new CachedText();
+    /**
+     * The text to the right of the button, which is only measured and drawn again when it changes.
+     */
+    private final CachedText descriptionLabel = new CachedText();
+
     /**
      * {@code Button}'s constructor.
      * @param text The text to display on top of the button.
@@ -61,7 +76,12 @@ public class Button extends UIElement {
      * Sets the activation status of the button.
      * @param activated The new activation status.
      */
-    public void setButtonActivated(boolean activated) { this.isButtonActivated = activated; }
+    public void setButtonActivated(boolean activated) { 
+        if (this.isButtonActivated != activated) {
+            this.markDirty();
+        }
+        this.isButtonActivated = activated; 
+    }
 
     /**
      * Gets the button's text description.
@@ -72,7 +92,10 @@ public class Button extends UIElement {
      * Sets the text that is displayed to the right of the button.
      * @param text the text that is to be displayed.
      */
-    public void setTextDescription(String text) { this.textDescription = text; }
+    public void setTextDescription(String text) { 
+        this.textDescription = text; 
+        this.markDirty();
+    }
 
     /**
      * Creates a new tooltip for the button.
@@ -101,6 +124,9 @@ public class Button extends UIElement {
      * @param b The blue value from (0-255).
      */
     public void setColour(float r, float g, float b) {
+        if (this.currentColour.x != r || this.currentColour.y != g || this.currentColour.z != b) {
+            this.markDirty();
+        }
         this.currentColour.x = r;
         this.currentColour.y = g;
         this.currentColour.z = b;
@@ -109,7 +135,12 @@ public class Button extends UIElement {
     /**
      * Resets the colour of the button to its default value.
      */
-    public void resetColour() { this.currentColour = this.colour.copy(); }
+    public void resetColour() { 
+        if (!this.currentColour.equals(this.colour)) {
+            this.markDirty();
+        }
+        this.currentColour = this.colour.copy(); 
+    }
 
     /**
      * Gets the colour of the button when it is activated.
@@ -126,17 +157,18 @@ public class Button extends UIElement {
         this.activatedColour.x = r;
         this.activatedColour.y = g;
         this.activatedColour.z = b;
+        this.markDirty();
     }
 
     /**
      * Activates the button.
      */
-    public void activateButton() { isButtonActivated = true; }
+    public void activateButton() { this.setButtonActivated(true); }
 
     /**
      * Deactivates the button.
      */
-    public void deactivateButton() { isButtonActivated = false; }
+    public void deactivateButton() { this.setButtonActivated(false); }
 
     /**
      * Shows the button's tooltip.
@@ -160,6 +192,16 @@ public class Button extends UIElement {
     }
 
     public void drawToLayer(PGraphics layer) {
+        this.drawPanelToLayer(layer);
+        this.drawTooltipToLayer(layer);
+    }
+
+    /**
+     * Draws the button and its text description to the layer, without its tooltip.
+     * @param layer The layer that the button is drawn to.
+     */
+    @Override
+    public void drawPanelToLayer(PGraphics layer) {
         layer.strokeWeight(this.getBorderThickness());
         layer.stroke(58,97,42);
 
@@ -174,7 +216,15 @@ public class Button extends UIElement {
 
         layer.strokeWeight(App.DEFAULT_STROKE_WEIGHT);
         layer.stroke(App.DEFAULT_STROKE_COLOUR);
+    }
 
+    /**
+     * Draws the button's tooltip to the layer, if it has one and it is visible.
+     * <p>
+     * Tooltips are drawn over the board, so they are drawn separately from the button.
+     * @param layer The layer that the tooltip is drawn to.
+     */
+    public void drawTooltipToLayer(PGraphics layer) {
         if (this.tooltip == null) {
             return;
         }
@@ -208,8 +258,9 @@ public class Button extends UIElement {
      */
     private void drawButtonText(PGraphics layer) {
         layer.fill(50);
-        layer.textSize(20);
-        layer.text(this.getText(), this.getPos().x + 10, this.getPos().y + 15, this.getWidth(), this.getHeight());
+        this.label.setText(this.getText());
+        this.label.draw(layer, this.getPos().x + 10, this.getPos().y + 15, this.getWidth(), this.getHeight(),
+                        20, TEXT_COLOUR);
     }
 
     /**
@@ -218,7 +269,8 @@ public class Button extends UIElement {
      */
     private void drawTextDescription(PGraphics layer) {
         layer.textSize(12);
-        layer.text(textDescription, this.getPos().x + this.getWidth() + 4, this.getPos().y,
-                   layer.textWidth(this.textDescription), this.getHeight());
+        this.descriptionLabel.setText(this.textDescription);
+        this.descriptionLabel.draw(layer, this.getPos().x + this.getWidth() + 4, this.getPos().y,
+                                   this.descriptionLabel.getWidth(layer, 12), this.getHeight(), 12, TEXT_COLOUR);
     }
 }
@@ -0,0 +1,217 @@
+package WizardTD.Game.UI;
+
+import processing.core.PGraphics;
+
+/**
+ * Represents the {@code CachedText} class.
+ * <p>
+ * Cached text holds a piece of UI text along with its measurements and a small offscreen
+ * image that it has been drawn to. The text is only measured again, and only redrawn to its
+ * image, when the text, its size, its box or its colour changes. Until then, drawing it
+ * just draws the image.
+ * <p>
+ * UI elements should only build a new string for their text when the value that it shows
+ * changes, such as the whole number of seconds on a timer, so that no strings are built
+ * on frames where nothing has changed.
+ * <p>
+ * Layers that do not belong to an app, which cannot create offscreen images, have the
+ * text drawn straight to them instead. Such layers cannot load a default font, so they
+ * must be given one with {@code textFont} before any text is measured or drawn.
+ */
+public final class CachedText {
+    /**
+     * The text.
+     */
+    private String text = "";
+    /**
+     * The size that the text is measured and drawn at.
+     */
+    private float textSize = -1;
+
+    /**
+     * Whether the text has been measured since it last changed.
+     */
+    private boolean measured = false;
+    /**
+     * The width of the text.
+     */
+    private float width;
+    /**
+     * The height of the text above its baseline.
+     */
+    private float ascent;
+    /**
+     * The height of the text below its baseline.
+     */
+    private float descent;
+
+    /**
+     * The image that the text has been drawn to, or null if it has not been drawn.
+     */
+    private PGraphics image = null;
+    /**
+     * Whether the image is out of date.
+     */
+    private boolean imageStale = true;
+    /**
+     * The width of the box that the text was drawn in.
+     */
+    private float boxWidth;
+    /**
+     * The height of the box that the text was drawn in.
+     */
+    private float boxHeight;
+    /**
+     * The colour that the text was drawn with.
+     */
+    private int colour;
+
+    /**
+     * Gets the text.
+     * @return The text, which is empty by default.
+     */
+    public String getText() { return this.text; }
+
+    /**
+     * Sets the text. The measurements and image are only thrown away if the text has changed.
+     * @param text The new text.
+     * @return {@code true} if the text has changed, otherwise {@code false}.
+     * @throws NullPointerException If text is null.
+     */
+    public boolean setText(String text) throws NullPointerException {
+        if (text == null) throw new NullPointerException("CachedText cannot hold null text.");
+        if (text.equals(this.text)) {
+            return false;
+        }
+
+        this.text = text;
+        this.measured = false;
+        this.imageStale = true;
+        return true;
+    }
+
+    /**
+     * Checks if the text has been drawn to its image and has not changed since.
+     * @return {@code true} if drawing the text only draws its image, otherwise {@code false}.
+     */
+    public boolean isRendered() { return this.image != null && !this.imageStale; }
+
+    /**
+     * Gets the width of the text, measuring it with the layer if it has changed.
+     * @param layer The layer that the text is measured with.
+     * @param textSize The size of the text.
+     * @return The width of the text.
+     */
+    public float getWidth(PGraphics layer, float textSize) {
+        this.measure(layer, textSize);
+        return this.width;
+    }
+
+    /**
+     * Gets the height of the text above its baseline, measuring it with the layer if it has changed.
+     * @param layer The layer that the text is measured with.
+     * @param textSize The size of the text.
+     * @return The text's ascent.
+     */
+    public float getAscent(PGraphics layer, float textSize) {
+        this.measure(layer, textSize);
+        return this.ascent;
+    }
+
+    /**
+     * Gets the height of the text below its baseline, measuring it with the layer if it has changed.
+     * @param layer The layer that the text is measured with.
+     * @param textSize The size of the text.
+     * @return The text's descent.
+     */
+    public float getDescent(PGraphics layer, float textSize) {
+        this.measure(layer, textSize);
+        return this.descent;
+    }
+
+    /**
+     * Draws the text inside a box on the layer, as {@code layer.text(text, x, y, w, h)} would.
+     * <p>
+     * The text is drawn to its image the first time, and whenever it has changed,
+     * then the image is drawn to the layer.
+     * @param layer The layer that the text is drawn to.
+     * @param x The x position of the box's top-left corner.
+     * @param y The y position of the box's top-left corner.
+     * @param w The width of the box.
+     * @param h The height of the box.
+     * @param textSize The size of the text.
+     * @param colour The colour of the text, as an ARGB colour.
+     */
+    public void draw(PGraphics layer, float x, float y, float w, float h, float textSize, int colour) {
+        if (this.textSize != textSize) {
+            this.textSize = textSize;
+            this.measured = false;
+            this.imageStale = true;
+        }
+
+        if (layer.parent == null || w < 1 || h < 1) {
+            layer.textSize(textSize);
+            layer.fill(colour);
+            layer.text(this.text, x, y, w, h);
+            return;
+        }
+
+        if (this.image == null || this.imageStale || this.boxWidth != w || this.boxHeight != h ||
+            this.colour != colour) {
+            this.render(layer, w, h, colour);
+        }
+        layer.image(this.image, x, y);
+    }
+
+    /**
+     * Draws the text to its image, creating a new image if the box has changed size.
+     * @param layer The layer whose app creates the image.
+     * @param w The width of the box.
+     * @param h The height of the box.
+     * @param colour The colour of the text.
+     */
+    private void render(PGraphics layer, float w, float h, int colour) {
+        int imageWidth = (int) Math.ceil(w);
+        int imageHeight = (int) Math.ceil(h);
+        if (this.image == null || this.image.width != imageWidth || this.image.height != imageHeight) {
+            this.image = layer.parent.createGraphics(imageWidth, imageHeight);
+        }
+
+        this.image.beginDraw();
+        this.image.clear();
+        this.image.textSize(this.textSize);
+        this.image.fill(colour);
+        this.image.text(this.text, 0, 0, w, h);
+        this.image.endDraw();
+
+        this.boxWidth = w;
+        this.boxHeight = h;
+        this.colour = colour;
+        this.imageStale = false;
+    }
+
+    /**
+     * Measures the text with the layer, if it has changed since it was last measured.
+     * The layer's text size is left as it was.
+     * @param layer The layer that the text is measured with.
+     * @param textSize The size of the text.
+     */
+    private void measure(PGraphics layer, float textSize) {
+        if (this.measured && this.textSize == textSize) {
+            return;
+        }
+        if (this.textSize != textSize) {
+            this.imageStale = true;
+        }
+
+        float previousSize = layer.textSize;
+        layer.textSize(textSize);
+        this.width = layer.textWidth(this.text);
+        this.ascent = layer.textAscent();
+        this.descent = layer.textDescent();
+        layer.textSize(previousSize);
+
+        this.textSize = textSize;
+        this.measured = true;
+    }
+}
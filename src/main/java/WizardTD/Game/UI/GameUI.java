@@ -1,5 +1,8 @@
 package WizardTD.Game.UI;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import WizardTD.App;
 import WizardTD.Game.Game;
 import WizardTD.Game.Renderable;
@@ -10,6 +13,10 @@ import processing.core.PVector;
 
 /**
  * Represents the game's UI.
+ * <p>
+ * The top and side bars are split into regions, one for each UI element on them.
+ * Only the regions of dirty elements have to be redrawn, while overlays such as
+ * tooltips and menus are drawn over the whole window every frame.
  */
 public class GameUI implements Renderable {
     private final Game game;
@@ -112,6 +119,28 @@ public class GameUI implements Renderable {
      * A menu that displays key rebinding.
      */
     private final RebindKeyMenu rebindKeyMenu;
+    /**
+     * An overlay that displays how long each subsystem of the game takes.
+     */
+    private final ProfilerOverlay profilerOverlay;
+
+    /**
+     * The region of the whole top bar.
+     */
+    private final UIRegion topBarRegion;
+    /**
+     * The region of the whole side bar.
+     */
+    private final UIRegion sideBarRegion;
+    /**
+     * The regions of the top and side bars that each UI element is drawn in.
+     */
+    private final List<UIRegion> regions = new ArrayList<>();
+    /**
+     * Whether the top and side bars have to be drawn in full,
+     * which they do before they are first drawn.
+     */
+    private boolean needsFullRedraw = true;
 
     /**
      * The constructor for the {@code GameUI} class.
@@ -155,6 +184,23 @@ public class GameUI implements Renderable {
 
         this.towerCostTooltip = new UpgradeCostChart(inputManager, 655, 500);
         this.rebindKeyMenu = new RebindKeyMenu(256, 296, 192, 96);
+        this.profilerOverlay = new ProfilerOverlay(game.getProfiler(), 5, this.topBarHeight + 5, 270);
+
+        this.topBarRegion = new UIRegion(null, 0, 0, App.WIDTH, App.TOPBAR);
+        this.sideBarRegion = new UIRegion(null, App.LEVEL_WIDTH, App.TOPBAR, App.SIDEBAR, App.LEVEL_HEIGHT);
+
+        int manaBarX = (int) this.manaBar.getPos().x;
+        this.regions.add(new UIRegion(this.waveTimer, 0, 0, manaBarX, App.TOPBAR));
+        this.regions.add(new UIRegion(this.manaBar, manaBarX, 0, App.WIDTH - manaBarX, App.TOPBAR));
+        for (Button b : this.buttons) {
+            // The button's outline is drawn half outside of it
+            int top = (int) Math.floor(b.getPos().y - b.getBorderThickness());
+            int bottom = (int) Math.ceil(b.getPos().y + b.getHeight() + b.getBorderThickness());
+            this.regions.add(new UIRegion(b, App.LEVEL_WIDTH, top, App.SIDEBAR, bottom - top));
+        }
+        int chartY = (int) this.towerCostTooltip.getPos().y;
+        this.regions.add(new UIRegion(this.towerCostTooltip, App.LEVEL_WIDTH, chartY, 
+                                      App.SIDEBAR, App.HEIGHT - chartY));
     }
 
     /**
@@ -179,13 +225,103 @@ public class GameUI implements Renderable {
         this.waveTimer.drawToLayer(layer);
         this.towerCostTooltip.drawToLayer(layer);
         this.rebindKeyMenu.drawToLayer(layer);
+        this.profilerOverlay.drawToLayer(layer);
+
+        if (this.game.isGameOver()) {
+            this.drawGameOverScreen(layer);
+        }
+    }
+
+    /**
+     * Redraws the regions of the top and side bars whose UI elements are dirty.
+     * <p>
+     * The layer keeps what was drawn to it before, so it must only be drawn to by this method.
+     * The first call draws both bars in full.
+     * @param layer The layer that the top and side bars are drawn to.
+     * @return The regions of the layer that were redrawn, which are the whole top and side bars
+     * on the first call.
+     */
+    public List<UIRegion> drawPanels(PGraphics layer) {
+        this.towerCostTooltip.update();
+
+        List<UIRegion> redrawn = new ArrayList<>();
+        if (this.needsFullRedraw) {
+            layer.clear();
+            this.drawUIBars(layer);
+            redrawn.add(this.topBarRegion);
+            redrawn.add(this.sideBarRegion);
+        }
+
+        for (UIRegion region : this.regions) {
+            UIElement element = region.getElement();
+            if (!this.needsFullRedraw && !element.isDirty()) {
+                continue;
+            }
+
+            layer.clip(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+            if (!this.needsFullRedraw) {
+                this.drawRegionBackground(layer, region);
+                redrawn.add(region);
+            }
+            element.drawPanelToLayer(layer);
+            layer.noClip();
+            element.markClean();
+        }
+
+        this.needsFullRedraw = false;
+        return redrawn;
+    }
+
+    /**
+     * Draws the UI that is shown over the board and bars, such as tooltips and menus.
+     * <p>
+     * Overlays are not kept between frames, so they must be drawn every frame.
+     * @param layer The layer that the overlays are drawn to.
+     */
+    public void drawOverlays(PGraphics layer) {
+        for (Button b : buttons) {
+            b.drawTooltipToLayer(layer);
+        }
+
+        this.rebindKeyMenu.drawToLayer(layer);
+        this.profilerOverlay.drawToLayer(layer);
 
         if (this.game.isGameOver()) {
             this.drawGameOverScreen(layer);
         }
     }
 
+    /**
+     * Gets whether any overlay is drawn over the top or side bar,
+     * in which case the bars have to be copied to the screen in full.
+     * @return true if a tooltip is visible, otherwise false.
+     */
+    public boolean overlapsPanels() {
+        for (Button b : buttons) {
+            if (b.getTooltip() != null && b.getTooltip().isVisible()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the region of the whole top bar.
+     * @return The top bar's region.
+     */
+    public UIRegion getTopBarRegion() { return this.topBarRegion; }
+    /**
+     * Gets the region of the whole side bar.
+     * @return The side bar's region.
+     */
+    public UIRegion getSideBarRegion() { return this.sideBarRegion; }
+
     public RebindKeyMenu getRebindKeyMenu() { return this.rebindKeyMenu; }
+    /**
+     * Gets the UI's profiler overlay.
+     * @return The profiler overlay.
+     */
+    public ProfilerOverlay getProfilerOverlay() { return this.profilerOverlay; }
 
     /**
      * Draws the top and side bar to the layer.
@@ -200,6 +336,21 @@ public class GameUI implements Renderable {
         layer.strokeWeight(App.DEFAULT_STROKE_WEIGHT);
     }
 
+    /**
+     * Clears a region of the top or side bar, by filling it with the bar's colour.
+     * @param layer The layer that the region is cleared on.
+     * @param region The region that is cleared.
+     */
+    private void drawRegionBackground(PGraphics layer, UIRegion region) {
+        layer.fill(this.UIBarsColour.x, this.UIBarsColour.y, this.UIBarsColour.z);
+        layer.strokeWeight(0);
+        layer.noStroke();
+        layer.rect(region.getX(), region.getY(), region.getWidth(), region.getHeight());
+
+        layer.stroke(App.DEFAULT_STROKE_COLOUR);
+        layer.strokeWeight(App.DEFAULT_STROKE_WEIGHT);
+    }
+
     /**
      * Draws a semi-transparent game won screen to the layer.
      * @param layer the layer that the screen is drawn to.
@@ -14,7 +14,7 @@ public final class HealthBar extends UIElement {
     /**
      * The max health points of the monster.
      */
-    private final float maxHP;
+    private float maxHP;
     /**
      * The current health points of the monster.
      * <p>
@@ -44,6 +44,11 @@ public final class HealthBar extends UIElement {
 
     public float getMaxHP() { return this.maxHP; }
     public float getCurrentHP() { return this.currentHP; }
+    /**
+     * Checks if the entity is at full health.
+     * @return {@code true} if the current health points are at least the max health points, otherwise {@code false}.
+     */
+    public boolean isFull() { return this.currentHP >= this.maxHP; }
 
     /**
      * Sets the current health points for display purposes.
@@ -53,6 +58,15 @@ public final class HealthBar extends UIElement {
         this.currentHP = currentHP;
     }
 
+    /**
+     * Resets the bar to full for an entity with new max health points, such as a reused monster.
+     * @param maxHP The entity's new max health points.
+     */
+    public void reset(float maxHP) {
+        this.maxHP = maxHP;
+        this.currentHP = maxHP;
+    }
+
     public void drawToLayer(PGraphics layer) {
         layer.fill(255, 0, 0);
         layer.rect(this.getPos().x - this.getWidth() / 2, this.getPos().y - this.getHeight() * 4, 
@@ -0,0 +1,146 @@
+package WizardTD.Game.UI;
+
+import java.util.Arrays;
+
+import WizardTD.App;
+import processing.core.PGraphics;
+
+/**
+ * Represents the {@code HealthBarBatch} class.
+ * <p>
+ * A health bar batch collects the health bars of every monster while the entities are drawn,
+ * then draws them in two passes when it is flushed: every red background, then every green bar.
+ * The fill colour is only changed once per pass, rather than twice for every monster.
+ * <p>
+ * Monsters at full health do not show a health bar, so their bars are skipped.
+ */
+public final class HealthBarBatch {
+    /**
+     * The number of health bars that the batch can hold before it first grows.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The x position of each bar's top-left corner.
+     */
+    private float[] xs = new float[INITIAL_CAPACITY];
+    /**
+     * The y position of each bar's top-left corner.
+     */
+    private float[] ys = new float[INITIAL_CAPACITY];
+    /**
+     * The width of each bar's background.
+     */
+    private float[] widths = new float[INITIAL_CAPACITY];
+    /**
+     * The height of each bar.
+     */
+    private float[] heights = new float[INITIAL_CAPACITY];
+    /**
+     * The width of each bar's green bar, which is 0 if the monster has no health left.
+     */
+    private float[] greenWidths = new float[INITIAL_CAPACITY];
+    /**
+     * The number of bars that are held.
+     */
+    private int size = 0;
+
+    /**
+     * The number of bars that have been drawn since the counts were last reset.
+     */
+    private int barsDrawn = 0;
+    /**
+     * The number of bars that have been skipped since the counts were last reset.
+     */
+    private int barsSkipped = 0;
+
+    /**
+     * Gets the number of health bars that the next flush draws.
+     * @return The number of health bars held.
+     */
+    public int size() { return this.size; }
+    /**
+     * Gets the number of health bars that have been drawn since the counts were last reset.
+     * @return The number of bars drawn.
+     */
+    public int getBarsDrawn() { return this.barsDrawn; }
+    /**
+     * Gets the number of health bars of monsters at full health that have been skipped
+     * since the counts were last reset.
+     * @return The number of bars skipped.
+     */
+    public int getBarsSkipped() { return this.barsSkipped; }
+    /**
+     * Resets the number of bars drawn and skipped to 0.
+     */
+    public void resetCounts() {
+        this.barsDrawn = 0;
+        this.barsSkipped = 0;
+    }
+
+    /**
+     * Adds a health bar to the batch, unless its monster is at full health.
+     * @param bar The health bar. Nothing is added if it is {@code null}.
+     */
+    public void add(HealthBar bar) {
+        if (bar == null) {
+            return;
+        }
+        if (bar.isFull()) {
+            ++this.barsSkipped;
+            return;
+        }
+
+        if (this.size == this.xs.length) {
+            this.grow();
+        }
+
+        float width = bar.getWidth();
+        float height = bar.getHeight();
+        this.xs[this.size] = bar.getPos().x - width / 2;
+        this.ys[this.size] = bar.getPos().y - height * 4;
+        this.widths[this.size] = width;
+        this.heights[this.size] = height;
+        this.greenWidths[this.size] = bar.getCurrentHP() > 0 ? width * bar.getCurrentHP() / bar.getMaxHP() : 0;
+        ++this.size;
+    }
+
+    /**
+     * Draws every health bar in the batch to the layer and empties the batch.
+     * @param layer The layer that the health bars are drawn to.
+     */
+    public void flush(PGraphics layer) {
+        if (this.size == 0) {
+            return;
+        }
+
+        layer.fill(255, 0, 0);
+        for (int i = 0; i < this.size; i++) {
+            layer.rect(this.xs[i], this.ys[i], this.widths[i], this.heights[i]);
+        }
+
+        // The green bar represents the monster's current HP
+        layer.fill(0, 255, 0);
+        for (int i = 0; i < this.size; i++) {
+            if (this.greenWidths[i] > 0) {
+                layer.rect(this.xs[i], this.ys[i], this.greenWidths[i], this.heights[i]);
+            }
+        }
+
+        layer.fill(App.DEFAULT_FILL_COLOUR);
+        this.barsDrawn += this.size;
+        this.size = 0;
+    }
+
+    /**
+     * Doubles the number of health bars that the batch can hold.
+     */
+    private void grow() {
+        int capacity = this.xs.length * 2;
+        this.xs = Arrays.copyOf(this.xs, capacity);
+        this.ys = Arrays.copyOf(this.ys, capacity);
+        this.widths = Arrays.copyOf(this.widths, capacity);
+        this.heights = Arrays.copyOf(this.heights, capacity);
+        this.greenWidths = Arrays.copyOf(this.greenWidths, capacity);
+    }
+}
@@ -11,9 +11,10 @@ import processing.core.PVector;
  */
 public final class ManaBar extends UIElement {
     /**
-     * The colour of the bar's text.
+     * The colour of the bar's text as an ARGB colour, which is (187, 192, 194).
      */
-    private PVector textColour = new PVector(  187, 192, 194 );
+    private static final int TEXT_COLOUR = 0xFFBBC0C2;
+
     /**
      * The colour of the background bar.
      */
@@ -32,6 +33,19 @@ public final class ManaBar extends UIElement {
      */
     private float currentMana;
 
+    /**
+     * The bar's text, which is only rebuilt when the whole amount of mana shown changes.
+     */
+    private final CachedText label = new CachedText();
+    /**
+     * The whole amount of mana that the label shows, or -1 if it has not been built.
+     */
+    private long labelMana = -1;
+    /**
+     * The whole mana cap that the label shows.
+     */
+    private long labelMaxMana = -1;
+
     /**
      * ManaBar's constructor. Constructs a mana bar at the given position,
      * with the given dimensions.
@@ -54,9 +68,13 @@ public final class ManaBar extends UIElement {
      * <p>
      * If parameter is a negative value, the current mana
      * is set to 0.
+     * <p>
+     * The bar is only marked dirty if the mana shown changes,
+     * which is rounded to a whole number.
      * @param mana 
      */
     public void setCurrentMana(float mana) { 
+        float previous = this.currentMana;
         if (mana < 0) {
             this.currentMana = 0;
         } else if (mana > this.maxMana) {
@@ -64,13 +82,22 @@ public final class ManaBar extends UIElement {
         } else {
             this.currentMana = mana;
         }  
+
+        if (Math.round(previous) != Math.round(this.currentMana)) {
+            this.markDirty();
+        }
     }
 
     /**
      * Sets the total mana displayed on the bar.
      * @param mana The new mana cap.
      */
-    public void setMaxMana(float mana) { this.maxMana = mana; }
+    public void setMaxMana(float mana) { 
+        if (Math.round(this.maxMana) != Math.round(mana)) {
+            this.markDirty();
+        }
+        this.maxMana = mana; 
+    }
     
     public void drawToLayer(PGraphics layer) {
         layer.strokeWeight(this.getBorderThickness());
@@ -119,11 +146,32 @@ public final class ManaBar extends UIElement {
      * @param layer The layer to which the text is drawn.
      */
     private void drawText(PGraphics layer) {
-        layer.textSize(this.getTextSize());
-        layer.fill(this.textColour.x, this.textColour.y, this.textColour.z);
-        
-        String manaBarText = Math.round(currentMana) + " / " + Math.round(maxMana);
-        layer.text(manaBarText, this.getPos().x + 100, this.getPos().y,
-                   this.getWidth(), this.getHeight());
+        this.updateLabel();
+        this.label.draw(layer, this.getPos().x + 100, this.getPos().y, this.getWidth(), this.getHeight(),
+                        this.getTextSize(), TEXT_COLOUR);
+    }
+
+    /**
+     * Gets the text that the bar shows.
+     * @return The bar's text, which is the current mana over the mana cap.
+     */
+    public String getLabel() {
+        this.updateLabel();
+        return this.label.getText();
+    }
+
+    /**
+     * Rebuilds the bar's text if the whole amount of mana or the mana cap has changed.
+     */
+    private void updateLabel() {
+        long mana = Math.round(this.currentMana);
+        long maxMana = Math.round(this.maxMana);
+        if (mana == this.labelMana && maxMana == this.labelMaxMana) {
+            return;
+        }
+
+        this.labelMana = mana;
+        this.labelMaxMana = maxMana;
+        this.label.setText(mana + " / " + maxMana);
     }
 }
@@ -0,0 +1,175 @@
+package WizardTD.Game.UI;
+
+import java.util.Locale;
+
+import WizardTD.App;
+import WizardTD.Game.TickProfiler;
+import WizardTD.Game.TickProfiler.Counter;
+import WizardTD.Game.TickProfiler.Section;
+import processing.core.PGraphics;
+
+/**
+ * Represents the {@code ProfilerOverlay} class.
+ * <p>
+ * Displays the p50, p99 and max time of each subsystem timed by a
+ * {@code TickProfiler}, in milliseconds, followed by the p50, p99 and max
+ * of each of its per-frame counters.
+ * <p>
+ * Sorting the samples and building the text is not free, so the displayed
+ * stats are only refreshed every {@code REFRESH_INTERVAL} draws.
+ */
+public class ProfilerOverlay extends UIElement {
+    /**
+     * The number of draws between each refresh of the displayed stats.
+     */
+    private static final int REFRESH_INTERVAL = 30;
+    /**
+     * The height of each line of text.
+     */
+    private static final float LINE_HEIGHT = 14;
+    /**
+     * The number of nanoseconds in a millisecond.
+     */
+    private static final float NANOS_PER_MILLI = 1_000_000f;
+    /**
+     * All sections, cached so that looping over them does not copy the array.
+     */
+    private static final Section[] SECTIONS = Section.values();
+    /**
+     * All counters, cached so that looping over them does not copy the array.
+     */
+    private static final Counter[] COUNTERS = Counter.values();
+
+    /**
+     * The x offset of each column from the overlay's left edge.
+     */
+    private static final float[] COLUMN_OFFSETS = {5, 110, 160, 210};
+    /**
+     * The heading of each column.
+     */
+    private static final String[] HEADINGS = {"Section", "p50", "p99", "max (ms)"};
+
+    /**
+     * The profiler whose stats are displayed.
+     */
+    private final TickProfiler profiler;
+    /**
+     * The displayed p50, p99 and max of each section.
+     */
+    private final String[][] cells = new String[SECTIONS.length][3];
+    /**
+     * The displayed p50, p99 and max of each counter.
+     */
+    private final String[][] counterCells = new String[COUNTERS.length][3];
+    /**
+     * The number of draws since the stats were last refreshed.
+     */
+    private int drawsSinceRefresh = REFRESH_INTERVAL;
+    /**
+     * If the overlay is displayed.
+     */
+    private boolean visible = false;
+
+    /**
+     * {@code ProfilerOverlay}'s constructor.
+     * @param profiler The profiler whose stats are displayed.
+     * @param x The x position of the overlay's top-left corner.
+     * @param y The y position of the overlay's top-left corner.
+     * @param width The width of the overlay.
+     * @throws NullPointerException If profiler is null.
+     */
+    public ProfilerOverlay(TickProfiler profiler, float x, float y, float width) throws NullPointerException {
+        if (profiler == null) {
+            throw new NullPointerException("ProfilerOverlay must be constructed with a non-null profiler");
+        }
+
+        this.profiler = profiler;
+        this.setPos(x, y);
+        this.setWidth(width);
+        this.setHeight(LINE_HEIGHT * (SECTIONS.length + COUNTERS.length + 1) + 6);
+        this.setTextSize(11);
+    }
+
+    /**
+     * Checks if the overlay is displayed.
+     * @return {@code true} if the overlay is displayed, otherwise {@code false}.
+     */
+    public boolean isVisible() { return this.visible; }
+
+    /**
+     * Shows the overlay if it is hidden, otherwise hides it.
+     */
+    public void toggle() {
+        this.visible = !this.visible;
+        this.drawsSinceRefresh = REFRESH_INTERVAL;
+    }
+
+    @Override
+    public void drawToLayer(PGraphics layer) {
+        if (!this.visible) {
+            return;
+        }
+
+        if (this.drawsSinceRefresh++ >= REFRESH_INTERVAL) {
+            this.refresh();
+            this.drawsSinceRefresh = 1;
+        }
+
+        layer.strokeWeight(0);
+        layer.fill(20, 200);
+        layer.rect(this.getPos().x, this.getPos().y, this.getWidth(), this.getHeight());
+
+        layer.fill(255);
+        layer.textSize(this.getTextSize());
+        float x = this.getPos().x;
+        float y = this.getPos().y + LINE_HEIGHT;
+        for (int column = 0; column < HEADINGS.length; column++) {
+            layer.text(HEADINGS[column], x + COLUMN_OFFSETS[column], y);
+        }
+        for (Section section : SECTIONS) {
+            y += LINE_HEIGHT;
+            layer.text(section.label(), x + COLUMN_OFFSETS[0], y);
+            for (int column = 0; column < 3; column++) {
+                layer.text(this.cells[section.ordinal()][column], x + COLUMN_OFFSETS[column + 1], y);
+            }
+        }
+        for (Counter counter : COUNTERS) {
+            y += LINE_HEIGHT;
+            layer.text(counter.label(), x + COLUMN_OFFSETS[0], y);
+            for (int column = 0; column < 3; column++) {
+                layer.text(this.counterCells[counter.ordinal()][column], x + COLUMN_OFFSETS[column + 1], y);
+            }
+        }
+
+        layer.strokeWeight(App.DEFAULT_STROKE_WEIGHT);
+        layer.fill(App.DEFAULT_FILL_COLOUR);
+        layer.textSize(App.DEFAULT_TEXT_SIZE);
+    }
+
+    /**
+     * Rebuilds the displayed stats of each section and counter from the profiler.
+     */
+    private void refresh() {
+        for (Section section : SECTIONS) {
+            String[] row = this.cells[section.ordinal()];
+            row[0] = formatMillis(this.profiler.getPercentile(section, 0.5));
+            row[1] = formatMillis(this.profiler.getPercentile(section, 0.99));
+            row[2] = formatMillis(this.profiler.getMax(section));
+        }
+        for (Counter counter : COUNTERS) {
+            String[] row = this.counterCells[counter.ordinal()];
+            row[0] = Long.toString(this.profiler.getPercentile(counter, 0.5));
+            row[1] = Long.toString(this.profiler.getPercentile(counter, 0.99));
+            row[2] = Long.toString(this.profiler.getMax(counter));
+        }
+    }
+
+    /**
+     * Formats a time in nanoseconds as milliseconds.
+     * @param nanos The time in nanoseconds.
+     * @return The time in milliseconds, to three decimal places.
+     */
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / NANOS_PER_MILLI);
+    }
+}
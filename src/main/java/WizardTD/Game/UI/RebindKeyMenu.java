@@ -17,6 +17,10 @@ public class RebindKeyMenu extends UIElement {
      * Status of the menu's visibility.
      */
     private boolean showRebindMenu = false;
+    /**
+     * The menu's text, which is only rebuilt when the bound key changes.
+     */
+    private final CachedText label = new CachedText();
 
     /**
      * {@code RebindKeyMenu}'s constructor.
@@ -37,6 +41,9 @@ public class RebindKeyMenu extends UIElement {
      */
     public void showRebindMenu(char boundKey) { 
         this.showRebindMenu = true; 
+        if (this.boundKey != boundKey || this.label.getText().isEmpty()) {
+            this.label.setText("This button is bound to: " + boundKey + "\n\nRight click again to rebind this key");
+        }
         this.boundKey = boundKey;
     }
 
@@ -59,9 +66,9 @@ public class RebindKeyMenu extends UIElement {
         layer.rect(this.getPos().x, this.getPos().y, this.getWidth(), this.getHeight());
         layer.fill(200);
 
-        layer.textSize(12);
-        layer.text("This button is bound to: " + boundKey + "\n\nRight click again to rebind this key",
-                   this.getPos().x + 20, this.getPos().y + 20, this.getWidth() - 10, this.getHeight());
+        // The text is light grey, (200, 200, 200)
+        this.label.draw(layer, this.getPos().x + 20, this.getPos().y + 20, this.getWidth() - 10, this.getHeight(),
+                        12, 0xFFC8C8C8);
 
         layer.strokeWeight(App.DEFAULT_STROKE_WEIGHT);
         layer.stroke(App.DEFAULT_STROKE_COLOUR);
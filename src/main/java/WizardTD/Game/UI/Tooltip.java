@@ -36,6 +36,11 @@ public class Tooltip extends UIElement {
      */
     private boolean isVisible = false;
 
+    /**
+     * The tooltip's text, which is only measured and drawn again when it changes.
+     */
+    private final CachedText label = new CachedText();
+
     /**
      * {@code Tooltip}'s constructor.
      * <p>
@@ -57,6 +62,7 @@ public class Tooltip extends UIElement {
     @Override
     public void setText(String text) { 
         super.setText(text);
+        this.label.setText(text);
         this.countNumOfLines();
     }
 
@@ -97,10 +103,10 @@ public class Tooltip extends UIElement {
      * @param layer The layer that the text is drawn to.
      */
     private void drawText(PGraphics layer) {
-        layer.textSize(this.getTextSize());
         layer.fill(App.DEFAULT_FILL_COLOUR);
-        layer.text(this.getText(), this.getPos().x, this.getPos().y, 
-                   layer.textWidth(this.getText()) + layer.textSize, this.backgroundHeight);
+        this.label.draw(layer, this.getPos().x, this.getPos().y, 
+                        this.label.getWidth(layer, this.getTextSize()) + this.getTextSize(), this.backgroundHeight,
+                        this.getTextSize(), 0xFF000000);
     }
 
     /**
@@ -109,9 +115,10 @@ public class Tooltip extends UIElement {
      * @param layer The layer that the background is drawn to.
      */
     private void drawBackground(PGraphics layer) {
-        this.backgroundWidth = layer.textWidth(this.getText()) + layer.strokeWeight + 2;
-        this.backgroundHeight = (layer.textAscent() + 
-                                 layer.textDescent() + this.numOfLines) * this.numOfLines;
+        float textSize = this.getTextSize();
+        this.backgroundWidth = this.label.getWidth(layer, textSize) + layer.strokeWeight + 2;
+        this.backgroundHeight = (this.label.getAscent(layer, textSize) + 
+                                 this.label.getDescent(layer, textSize) + this.numOfLines) * this.numOfLines;
         
         layer.fill(this.backgroundColour);
         layer.strokeWeight(this.getBorderThickness());
@@ -1,6 +1,7 @@
 package WizardTD.Game.UI;
 
 import WizardTD.Game.Renderable;
+import processing.core.PGraphics;
 import processing.core.PVector;
 
 /**
@@ -8,6 +9,9 @@ import processing.core.PVector;
  * <p>
  * A UI element is an object that is rendered to the screen as 
  * part of the game's UI.
+ * <p>
+ * UI elements track whether they have changed since they were last drawn,
+ * so that the UI only has to redraw the elements that are dirty.
  */
 public abstract class UIElement implements Renderable {
     /**
@@ -36,10 +40,44 @@ public abstract class UIElement implements Renderable {
      * The size of the text displayed on the bar.
      */
     private float textSize = 20;
+
+    /**
+     * Whether the element has changed since it was last drawn.
+     * Elements start dirty, as they have never been drawn.
+     */
+    private boolean dirty = true;
     
     public PVector getPos() { return this.pos; }
-    public void setPos(float x, float y) { this.pos.set(x, y); }
-    public void setPos(PVector pos) { this.pos = pos; }
+    public void setPos(float x, float y) { 
+        this.pos.set(x, y); 
+        this.markDirty();
+    }
+    public void setPos(PVector pos) { 
+        this.pos = pos; 
+        this.markDirty();
+    }
+
+    /**
+     * Gets whether the element has changed since it was last drawn.
+     * @return true if the element needs to be redrawn, otherwise false.
+     */
+    public boolean isDirty() { return this.dirty; }
+    /**
+     * Marks the element as changed, so that it is redrawn.
+     */
+    public void markDirty() { this.dirty = true; }
+    /**
+     * Marks the element as drawn.
+     */
+    public void markClean() { this.dirty = false; }
+
+    /**
+     * Draws the part of the element that belongs in its region of the UI's top or side bar.
+     * <p>
+     * By default this is the whole element.
+     * @param layer The layer that the element is drawn to.
+     */
+    public void drawPanelToLayer(PGraphics layer) { this.drawToLayer(layer); }
 
     /**
      * Gets the text that the UI element has.
@@ -51,7 +89,10 @@ public abstract class UIElement implements Renderable {
      * Sets the text of the UI element.
      * @param text The new text.
      */
-    public void setText(String text) {  this.text = text; }
+    public void setText(String text) {  
+        this.text = text; 
+        this.markDirty();
+    }
 
     /**
      * Gets the width of the UI element.
@@ -62,7 +103,10 @@ public abstract class UIElement implements Renderable {
      * Sets the width of the UI element.
      * @param width The new width of the element.
      */
-    public void setWidth(float width) { this.width = width; }
+    public void setWidth(float width) { 
+        this.width = width; 
+        this.markDirty();
+    }
 
     /**
      * Gets the height of the UI element.
@@ -73,7 +117,10 @@ public abstract class UIElement implements Renderable {
      * Sets the height of the UI element.
      * @param height The element's new height.
      */
-    public void setHeight(float height) { this.height = height; }
+    public void setHeight(float height) { 
+        this.height = height; 
+        this.markDirty();
+    }
 
     /**
      * Gets the thickness of the outline around the UI element.
@@ -85,7 +132,10 @@ public abstract class UIElement implements Renderable {
      * Sets the thickness of the outline around the UI element.
      * @param thickness the element's new outline thickness.
      */
-    public void setBorderThickness(float thickness) { this.borderThickness = thickness; }
+    public void setBorderThickness(float thickness) { 
+        this.borderThickness = thickness; 
+        this.markDirty();
+    }
 
     /**
      * Gets the size of the text in the UI element.
@@ -96,5 +146,8 @@ public abstract class UIElement implements Renderable {
      * Sets the size of the text in the UI element.
      * @param size The new size of the text.
      */
-    public void setTextSize(float size) { this.textSize = size; }
+    public void setTextSize(float size) { 
+        this.textSize = size; 
+        this.markDirty();
+    }
 }
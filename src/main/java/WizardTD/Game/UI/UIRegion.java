@@ -0,0 +1,57 @@
+package WizardTD.Game.UI;
+
+/**
+ * Represents the {@code UIRegion} class.
+ * <p>
+ * A UI region is the rectangle of the top or side bar that a single UI element is drawn in.
+ * When the element is dirty, only its region is redrawn and copied to the screen.
+ */
+public final class UIRegion {
+    /**
+     * The UI element that is drawn in the region.
+     */
+    private final UIElement element;
+    /**
+     * The x position of the region's top-left corner.
+     */
+    private final int x;
+    /**
+     * The y position of the region's top-left corner.
+     */
+    private final int y;
+    /**
+     * The width of the region.
+     */
+    private final int width;
+    /**
+     * The height of the region.
+     */
+    private final int height;
+
+    /**
+     * {@code UIRegion}'s constructor.
+     * @param element The UI element that is drawn in the region.
+     * @param x x-position of the region's top-left corner.
+     * @param y y-position of the region's top-left corner.
+     * @param width The width of the region.
+     * @param height The height of the region.
+     */
+    UIRegion(UIElement element, int x, int y, int width, int height) {
+        this.element = element;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Gets the UI element that is drawn in the region.
+     * @return The region's UI element.
+     */
+    public UIElement getElement() { return this.element; }
+
+    public int getX() { return this.x; }
+    public int getY() { return this.y; }
+    public int getWidth() { return this.width; }
+    public int getHeight() { return this.height; }
+}
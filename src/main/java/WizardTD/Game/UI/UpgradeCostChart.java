@@ -31,6 +31,40 @@ public class UpgradeCostChart extends UIElement {
      * For checking if the upgrade damage button is active.
      */
     private final Button upgradeDamageButton;
+    /**
+     * The size of the chart's text.
+     */
+    private static final float TEXT_SIZE = 12;
+    /**
+     * The colour of the chart's text, which is black.
+     */
+    private static final int TEXT_COLOUR = 0xFF000000;
+
+    /**
+     * The chart's text, which is only rebuilt when the selected upgrades, the tower under
+     * the cursor or its upgrade costs change.
+     */
+    private final CachedText chartText = new CachedText();
+    /**
+     * The number of lines in the chart's text.
+     */
+    private int linesOfText = 0;
+    /**
+     * Whether the chart is shown.
+     */
+    private boolean shown = false;
+    /**
+     * The tower that the chart's text is for.
+     */
+    private Tower shownTower = null;
+    /**
+     * The upgrades that the chart's text lists, with one bit for each of range, speed and damage.
+     */
+    private int shownUpgrades = 0;
+    /**
+     * The range, firing speed and damage upgrade costs that the chart's text lists.
+     */
+    private final float[] shownCosts = new float[3];
 
     /**
      * The UpgradeCostChart constructor.
@@ -54,30 +88,63 @@ public class UpgradeCostChart extends UIElement {
         this.setPos(x, y);
     }
 
-    public void drawToLayer(PGraphics layer) {
-        if (!this.upgradeRangeButton.isButtonActivated() &&
-            !this.upgradeSpeedButton.isButtonActivated() &&
-            !this.upgradeDamageButton.isButtonActivated()) {
-                return;
-            }
+    /**
+     * Updates the chart from the upgrade buttons and the tower under the cursor,
+     * marking it dirty if the text that it shows has changed.
+     */
+    public void update() {
+        if (this.refreshText()) {
+            this.markDirty();
+        }
+    }
 
-        if (this.inputManager.getTowerUnderCursor() == null) return;
+    public void drawToLayer(PGraphics layer) {
+        this.refreshText();
+        if (!this.shown) {
+            return;
+        }
         
         float prevTextSize = layer.textSize;
-        layer.textSize(12);
+        layer.textSize(TEXT_SIZE);
 
-        
-        this.drawUpgradeCost(layer, this.inputManager.getTowerUnderCursor());
+        this.drawUpgradeCost(layer);
 
         layer.textSize(prevTextSize);
     }
 
     /**
-     * Draws the cost of upgrading the tower to the layer.
-     * @param layer The layer that the chart is drawn to
-     * @param tower The tower that is being hovered over.
+     * Rebuilds the chart's text, which lists the cost of each selected upgrade
+     * of the tower that is being hovered over, if any of them have changed.
+     * <p>
+     * The chart is hidden if no upgrade is selected or no tower is being hovered over.
+     * @return {@code true} if the chart's text or visibility changed, otherwise {@code false}.
      */
-    private void drawUpgradeCost(PGraphics layer, Tower tower) {
+    private boolean refreshText() {
+        int upgrades = (this.upgradeRangeButton.isButtonActivated() ? 1 : 0) |
+                       (this.upgradeSpeedButton.isButtonActivated() ? 2 : 0) |
+                       (this.upgradeDamageButton.isButtonActivated() ? 4 : 0);
+        Tower tower = upgrades == 0 ? null : this.inputManager.getTowerUnderCursor();
+        if (tower == null) {
+            boolean changed = this.shown;
+            this.shown = false;
+            this.shownTower = null;
+            return changed;
+        }
+
+        if (this.shown && tower == this.shownTower && upgrades == this.shownUpgrades &&
+            this.shownCosts[0] == tower.getRangeUpgradeCost() &&
+            this.shownCosts[1] == tower.getFiringSpeedUpgradeCost() &&
+            this.shownCosts[2] == tower.getDamageUpgradeCost()) {
+            return false;
+        }
+
+        this.shown = true;
+        this.shownTower = tower;
+        this.shownUpgrades = upgrades;
+        this.shownCosts[0] = tower.getRangeUpgradeCost();
+        this.shownCosts[1] = tower.getFiringSpeedUpgradeCost();
+        this.shownCosts[2] = tower.getDamageUpgradeCost();
+
         String text = "Upgrade cost\n";
         float cost = 0;
         int linesOfText = 1;
@@ -99,41 +166,57 @@ public class UpgradeCostChart extends UIElement {
             cost += tower.getDamageUpgradeCost();
             ++linesOfText;
         }
-        
 
         text += "total: " + cost;
         ++linesOfText;
-        
-        this.drawChartBackground(layer, text, linesOfText);
+
+        this.linesOfText = linesOfText;
+        this.chartText.setText(text);
+        return true;
+    }
+
+    /**
+     * Gets the text that the chart shows.
+     * @return The chart's text, or {@code null} if the chart is hidden.
+     */
+    public String getChartText() {
+        this.refreshText();
+        return this.shown ? this.chartText.getText() : null;
+    }
+
+    /**
+     * Draws the cost of upgrading the tower to the layer.
+     * @param layer The layer that the chart is drawn to
+     */
+    private void drawUpgradeCost(PGraphics layer) {
+        this.drawChartBackground(layer);
 
         layer.fill(0);
-        layer.text(text, this.getPos().x, this.getPos().y + layer.textAscent() + layer.textDescent(),
-                100, 150);
+        float lineHeight = this.chartText.getAscent(layer, TEXT_SIZE) + this.chartText.getDescent(layer, TEXT_SIZE);
+        this.chartText.draw(layer, this.getPos().x, this.getPos().y + lineHeight, 100, 150, TEXT_SIZE, TEXT_COLOUR);
 
         layer.fill(App.DEFAULT_FILL_COLOUR);
     }
 
     /**
-     * Draws the chart's background to the layer.
+     * Draws the chart's background to the layer, sized to fit the chart's text.
      * @param layer The layer that the background is drawn to.
-     * @param text For dynamically resizing the chart.
-     * @param linesOfText For dynamically resizing the chart.
      */
-    private void drawChartBackground(PGraphics layer, String text, int linesOfText) {
+    private void drawChartBackground(PGraphics layer) {
+        float lineHeight = this.chartText.getAscent(layer, TEXT_SIZE) + this.chartText.getDescent(layer, TEXT_SIZE);
         float rectX = this.getPos().x - 2;
-        float rectY = this.getPos().y + layer.textAscent() + layer.textDescent();
-        float rectWidth = layer.textWidth(text) + layer.strokeWeight;
+        float rectY = this.getPos().y + lineHeight;
+        float rectWidth = this.chartText.getWidth(layer, TEXT_SIZE) + layer.strokeWeight;
         // offset height by number of newlines in text
-        float rectHeight = (layer.textAscent() + layer.textDescent() + linesOfText - 1) * 
-                            linesOfText;
+        float rectHeight = (lineHeight + this.linesOfText - 1) * this.linesOfText;
 
         layer.fill(255);
         layer.rect(rectX, rectY, rectWidth, rectHeight);
 
-        float topLineY = rectY + layer.textAscent() + layer.textDescent();
+        float topLineY = rectY + lineHeight;
         layer.line(rectX, topLineY, rectX + rectWidth, topLineY);
 
-        float bottomLineY = this.getPos().y + rectHeight - rectHeight / (linesOfText + 11);
+        float bottomLineY = this.getPos().y + rectHeight - rectHeight / (this.linesOfText + 11);
         layer.line(rectX, bottomLineY, rectX + rectWidth, bottomLineY);
 
     }
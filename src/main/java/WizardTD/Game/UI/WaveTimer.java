@@ -10,6 +10,11 @@ import processing.core.PGraphics;
  * to the player.
  */
 public final class WaveTimer extends UIElement {
+    /**
+     * The colour of the timer's text, which is black.
+     */
+    private static final int TEXT_COLOUR = 0xFF000000;
+
     /**
      * The current wave's number.
      */
@@ -23,6 +28,28 @@ public final class WaveTimer extends UIElement {
      */
     private boolean isFinalWave = false;
 
+    /**
+     * The timer's text, which is only rebuilt when the wave, final wave status
+     * or whole number of seconds shown changes.
+     */
+    private final CachedText label = new CachedText();
+    /**
+     * The wave that the label shows, or -1 if it has not been built.
+     */
+    private int labelWave = -1;
+    /**
+     * The whole number of seconds that the label shows.
+     */
+    private int labelSeconds;
+    /**
+     * The final wave status that the label shows.
+     */
+    private boolean labelFinalWave;
+    /**
+     * Whether the label shows that the final wave has started.
+     */
+    private boolean labelStarted;
+
     /**
      * {@code WaveTimer}'s constructor.
      * <p>
@@ -42,36 +69,78 @@ public final class WaveTimer extends UIElement {
     public float getTime() { return this.currentTime; }
     /**
      * Sets the current time of the wave.
+     * <p>
+     * The timer is only marked dirty if the time shown changes,
+     * which is rounded to a whole second.
      * @param currentTime The wave's current duration.
      */
-    public void setTime(float currentTime) { this.currentTime = currentTime; }
+    public void setTime(float currentTime) { 
+        if (Math.round(this.currentTime) != Math.round(currentTime) ||
+            (this.currentTime <= 0) != (currentTime <= 0)) {
+            this.markDirty();
+        }
+        this.currentTime = currentTime; 
+    }
     /**
      * The current wave's position in the queue.
      * @param wave The wave's position in the queue.
      */
     public int getWavePos() { return this.currentWave; }
-    public void setCurrentWave(int wave) { this.currentWave = wave; }
+    public void setCurrentWave(int wave) { 
+        if (this.currentWave != wave) {
+            this.markDirty();
+        }
+        this.currentWave = wave; 
+    }
 
     public boolean isFinalWave() { return this.isFinalWave; }
     /**
      * Sets the status of the final wave.
      * @param isFinalWave The new status of the final wave.
      */
-    public void finalWave(boolean isFinalWave) {this.isFinalWave = isFinalWave; }
+    public void finalWave(boolean isFinalWave) {
+        if (this.isFinalWave != isFinalWave) {
+            this.markDirty();
+        }
+        this.isFinalWave = isFinalWave; 
+    }
 
     public void drawToLayer(PGraphics layer) {
         layer.fill(0, 0, 0);
-        layer.textSize(this.getTextSize());
+        this.updateLabel();
+        this.label.draw(layer, this.getPos().x, this.getPos().y, this.getWidth(), this.getHeight(),
+                        this.getTextSize(), TEXT_COLOUR);
+        layer.textSize(App.DEFAULT_TEXT_SIZE);
+    }  
 
-        if (isFinalWave) {
-            String finalWaveText = this.currentTime <= 0 ? "Final wave!" :
-                                   "Final wave starts in " +  Math.round(this.currentTime);
-            layer.text(finalWaveText, this.getPos().x, this.getPos().y,
-                       this.getWidth(), this.getHeight());
+    /**
+     * Gets the text that the timer shows.
+     * @return The timer's text.
+     */
+    public String getLabel() {
+        this.updateLabel();
+        return this.label.getText();
+    }
+
+    /**
+     * Rebuilds the timer's text if the wave, final wave status or whole number of seconds has changed.
+     */
+    private void updateLabel() {
+        int seconds = Math.round(this.currentTime);
+        boolean started = this.currentTime <= 0;
+        if (this.labelWave == this.currentWave && this.labelSeconds == seconds &&
+            this.labelFinalWave == this.isFinalWave && this.labelStarted == started) {
+            return;
+        }
+
+        this.labelWave = this.currentWave;
+        this.labelSeconds = seconds;
+        this.labelFinalWave = this.isFinalWave;
+        this.labelStarted = started;
+        if (this.isFinalWave) {
+            this.label.setText(started ? "Final wave!" : "Final wave starts in " + seconds);
         } else {
-            layer.text("Wave " + this.currentWave + " starts in " + Math.round(this.currentTime),
-                       this.getPos().x, this.getPos().y, this.getWidth(), this.getHeight());
+            this.label.setText("Wave " + this.currentWave + " starts in " + seconds);
         }
-        layer.textSize(App.DEFAULT_TEXT_SIZE);
-    }  
+    }
 }
@@ -1,13 +1,12 @@
 package WizardTD.Game;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import WizardTD.App;
-import WizardTD.Game.Entities.Monsters.Beetle;
-import WizardTD.Game.Entities.Monsters.Gremlin;
-import WizardTD.Game.Entities.Monsters.Moag;
 import WizardTD.Game.Entities.Monsters.Monster;
-import WizardTD.Game.Entities.Monsters.Worm;
 import processing.data.JSONArray;
 import processing.data.JSONObject;
 
@@ -16,7 +15,9 @@ import processing.data.JSONObject;
  * <p>
  * A wave object loads all data about a wave, including its monsters. 
  * <p>
- * This data is read from a {@code JSONObject}.
+ * This data is read from a {@code JSONObject}. The monsters are kept as {@link SpawnSpec}s,
+ * and each one is only created when the wave releases it, so loading a wave
+ * costs the same however many monsters it has.
  */
 public class Wave {
     /**
@@ -28,14 +29,31 @@ public class Wave {
      */
     private final float timeBetweenWaves;
     /**
-     * The monsters in the wave.
+     * The groups of monsters in the wave, in the order they are released.
      */
-    private LinkedList<Monster> monsters = new LinkedList<>();
+    private final SpawnSpec[] specs;
+    /**
+     * The number of monsters in the wave.
+     */
+    private final int monsterCount;
 
     /**
      * The frames between each monster spawn.
      */
     private float framesBetweenMonsterSpawn;
+
+    /**
+     * The spec that the next monster is created from.
+     */
+    private int specIndex = 0;
+    /**
+     * The number of monsters that have been created from the current spec.
+     */
+    private int spawnedFromSpec = 0;
+    /**
+     * The number of monsters that have been released.
+     */
+    private int spawned = 0;
     
     /**
      * {@code Wave}'s constructor.
@@ -47,13 +65,38 @@ public class Wave {
     public Wave(JSONObject waveInfo) {
         this.waveDuration = waveInfo.getInt("duration");
         this.timeBetweenWaves = waveInfo.getFloat("pre_wave_pause");
-        loadMonsters(waveInfo.getJSONArray("monsters"));
+        this.specs = loadSpecs(waveInfo.getJSONArray("monsters"));
+        this.monsterCount = countMonsters(this.specs);
 
         // How many frames should pass before we spawn the next monster
-        this.framesBetweenMonsterSpawn = (App.FPS * this.waveDuration) / this.monsters.size();
+        this.framesBetweenMonsterSpawn = (App.FPS * this.waveDuration) / this.monsterCount;
         
     }
 
+    /**
+     * {@code Wave}'s constructor.
+     * <p>
+     * Constructs a wave from values that were read from a snapshot.
+     * @param waveDuration The duration of the wave.
+     * @param timeBetweenWaves The amount of time before the wave starts.
+     * @param framesBetweenMonsterSpawn The frames between each monster spawn.
+     * @param specs The groups of monsters in the wave.
+     * @param spawned The number of monsters that have already been released.
+     * @see GameSnapshot
+     */
+    Wave(float waveDuration, float timeBetweenWaves, float framesBetweenMonsterSpawn,
+         SpawnSpec[] specs, int spawned) {
+        this.waveDuration = waveDuration;
+        this.timeBetweenWaves = timeBetweenWaves;
+        this.framesBetweenMonsterSpawn = framesBetweenMonsterSpawn;
+        this.specs = specs;
+        this.monsterCount = countMonsters(specs);
+
+        for (int i = 0; i < spawned && this.hasMonstersLeft(); i++) {
+            this.advance();
+        }
+    }
+
     /**
      * Gets the duration of the wave.
      * @return The duration of the wave.
@@ -65,43 +108,86 @@ public class Wave {
      */
     public float getTimeBetweenWaves() { return this.timeBetweenWaves; }
     /**
-     * Gets the monsters that are in the wave.
-     * @return The monsters that are in the wave.
+     * Gets the groups of monsters that are in the wave.
+     * @return The wave's spawn specs, in the order they are released.
+     */
+    public List<SpawnSpec> getSpawnSpecs() { return Collections.unmodifiableList(Arrays.asList(this.specs)); }
+    /**
+     * Gets the number of monsters in the wave.
+     * @return The number of monsters in the wave, including the ones already released.
      */
-    public LinkedList<Monster> getMonstersInWave() { return this.monsters; }
+    public int getMonsterCount() { return this.monsterCount; }
+    /**
+     * Gets the number of monsters that the wave has released.
+     * @return The number of monsters released.
+     */
+    public int getMonstersSpawned() { return this.spawned; }
+    /**
+     * Checks if the wave has monsters that have not been released.
+     * @return {@code true} if there are monsters left to release, otherwise {@code false}.
+     */
+    public boolean hasMonstersLeft() { return this.spawned < this.monsterCount; }
     /**
      * Gets the number of frames between each monster's spawn.
      * @return The number of frames between each monster's spawn.
      */
     public float getFramesBetweenEachMonsterSpawn() { return this.framesBetweenMonsterSpawn; }
 
+    /**
+     * Creates the wave's next monster and releases it.
+     * @param context The context of the game that the monster is in.
+     * @return The monster, or {@code null} if every monster has been released.
+     */
+    public Monster spawnNext(GameContext context) {
+        if (!this.hasMonstersLeft()) {
+            return null;
+        }
+
+        Monster monster = this.specs[this.specIndex].create(context);
+        this.advance();
+        return monster;
+    }
+
+    /**
+     * Moves on to the next monster without creating it.
+     */
+    private void advance() {
+        ++this.spawned;
+        ++this.spawnedFromSpec;
+        while (this.specIndex < this.specs.length &&
+               this.spawnedFromSpec >= this.specs[this.specIndex].getQuantity()) {
+            ++this.specIndex;
+            this.spawnedFromSpec = 0;
+        }
+    }
+
     /**
      * Loads the monsters in the wave using the given 
-     * {@code JSONArray}.
+     * {@code JSONArray}. Monsters of unknown types are skipped.
      * @param monsterInfo The {@code JSONArray} used to load the monsters.
+     * @return The spawn specs of the monsters.
      */
-    private void loadMonsters(JSONArray monsterInfo) {
+    private static SpawnSpec[] loadSpecs(JSONArray monsterInfo) {
+        List<SpawnSpec> specs = new ArrayList<>(monsterInfo.size());
         for (int i = 0; i < monsterInfo.size(); i++) {
-            JSONObject m = monsterInfo.getJSONObject(i);
-            String monsterType = m.getString("type");
-            int hp = m.getInt("hp");
-            float speed = m.getFloat("speed");
-            float armour = m.getFloat("armour");
-            int manaGainedOnKill = m.getInt("mana_gained_on_kill");
-            int numberOfMonsters = m.getInt("quantity");
-            int monstersInMoag = m.getInt("monsters_in_moag", 0);
-
-            for (int j = 0; j < numberOfMonsters; j++) {
-                if ("gremlin".equals(monsterType)) {
-                    monsters.add(new Gremlin(hp, speed, armour, manaGainedOnKill));
-                } else if ("worm".equals(monsterType)) {
-                    monsters.add(new Worm(hp, speed, armour, manaGainedOnKill));
-                } else if ("beetle".equals(monsterType)) {
-                    monsters.add(new Beetle(hp, speed, armour, manaGainedOnKill));
-                } else if ("moag".equals(monsterType)) {
-                    monsters.add(new Moag(monstersInMoag, hp, speed, armour, manaGainedOnKill));
-                }
+            SpawnSpec spec = SpawnSpec.fromJSON(monsterInfo.getJSONObject(i));
+            if (spec != null && spec.getQuantity() > 0) {
+                specs.add(spec);
             }
         } 
+        return specs.toArray(new SpawnSpec[0]);
+    }
+
+    /**
+     * Counts the monsters in the spawn specs.
+     * @param specs The spawn specs.
+     * @return The total quantity of the specs.
+     */
+    private static int countMonsters(SpawnSpec[] specs) {
+        int count = 0;
+        for (SpawnSpec spec : specs) {
+            count += spec.getQuantity();
+        }
+        return count;
     }
 }
@@ -2,6 +2,7 @@ package WizardTD.Game;
 
 
 import java.util.LinkedList;
+import java.util.List;
 
 import WizardTD.App;
 import WizardTD.Game.Entities.Monsters.Monster;
@@ -13,12 +14,21 @@ import processing.data.JSONArray;
  * <p>
  * The wave manager handles the logic of starting waves,
  * ending waves, and moving monsters into the active monsters list.
+ * Each monster is created from its wave's {@link SpawnSpec} as it is moved.
+ * <p>
+ * A wave's spawns are scheduled on the game's timing wheel, one at a time. The first monster
+ * is spawned on the tick after the wave starts, and the rest follow at the wave's spawn rate,
+ * divided by the speed multiplier.
  */
-public class WaveManager {
+public class WaveManager implements TimingWheel.Task {
+    /**
+     * The context of the game that the waves' monsters are in.
+     */
+    private final GameContext context;
     /**
      * The active monsters on the board.
      */
-    private LinkedList<Monster> activeMonsters;
+    private List<Monster> activeMonsters;
     /**
      * The waves that have yet to start.
      */
@@ -36,15 +46,21 @@ public class WaveManager {
      */
     private float currentWaveDuration;
     /**
-     * The monsters that in the wave, but haven't
-     * been added to the active monster list.
+     * Whether the next spawn is scheduled.
      */
-    private LinkedList<Monster> currentWaveMonsters = new LinkedList<>();
-
+    private boolean spawnPending = false;
     /**
-     * The number of frames since creation.
+     * The tick on which the next spawn is due.
      */
-    private int frameCount = 0;
+    private long spawnTick;
+    /**
+     * The sequence number of the next spawn on the timing wheel.
+     */
+    private long spawnSequence;
+    /**
+     * Works out when each of the current wave's monsters is spawned.
+     */
+    private final Cadence spawnCadence = new Cadence();
     /**
      * For tracking the number of finished waves.
      */
@@ -65,8 +81,10 @@ public class WaveManager {
      * Loads all waves in the game for later use.
      * @param configsForWaves A {@code JSONArray} that is passed to the waves. 
      * @param activeMonsters The active monsters on the board.
+     * @param context The context of the game that the waves' monsters are in.
      */
-    public WaveManager(JSONArray configsForWaves, LinkedList<Monster> activeMonsters) {
+    public WaveManager(JSONArray configsForWaves, List<Monster> activeMonsters, GameContext context) {
+        this.context = context;
         loadWaves(configsForWaves);
         this.totalWaves = waves.size();
         // Gets the first wave's pre wave pause
@@ -74,6 +92,19 @@ public class WaveManager {
         this.activeMonsters = activeMonsters;
     }
 
+    /**
+     * {@code WaveManager}'s constructor.
+     * <p>
+     * Constructs a wave manager without any waves, whose waves are then restored from a snapshot.
+     * @param activeMonsters The active monsters on the board.
+     * @param context The context of the game that the waves' monsters are in.
+     * @see GameSnapshot
+     */
+    WaveManager(List<Monster> activeMonsters, GameContext context) {
+        this.activeMonsters = activeMonsters;
+        this.context = context;
+    }
+
     /**
      * Returns the duration of the current wave.
      * @return The duration of the current wave.
@@ -105,7 +136,7 @@ public class WaveManager {
      */
     public boolean areWavesFinished() { 
         return this.waveNumber >= this.totalWaves && 
-               this.waves.isEmpty() && this.currentWaveMonsters.isEmpty(); 
+               this.waves.isEmpty() && !this.hasMonstersToSpawn(); 
     }
 
     /**
@@ -135,7 +166,6 @@ public class WaveManager {
         } 
 
         countDownTimeBetweenWaves();
-        spawnMonstersInWave();
     }
 
     /**
@@ -159,6 +189,9 @@ public class WaveManager {
 
     /**
      * Starts the next wave in the wave list.
+     * <p>
+     * Its first monster is scheduled to spawn on the next tick.
+     * Any monsters left in the previous wave are not spawned.
      */
     public void startNextWave() {
         if (this.waves.isEmpty()) {
@@ -166,7 +199,12 @@ public class WaveManager {
         }
 
         this.currentWave = waves.poll();
-        this.currentWaveMonsters = currentWave.getMonstersInWave();
+        this.cancelSpawn();
+        if (this.hasMonstersToSpawn()) {
+            long firstSpawnTick = this.context.getScheduler().getCurrentTick() + 1;
+            this.spawnCadence.start(firstSpawnTick, this.speedMultiplier);
+            this.scheduleSpawn(this.spawnCadence.getDueTick());
+        }
         float nextWavesPreWavePause = this.waves.peek() != null ? 
                                       this.waves.peek().getTimeBetweenWaves() : 0;
         this.currentWaveDuration = currentWave.getWaveDuration() + nextWavesPreWavePause;
@@ -178,18 +216,145 @@ public class WaveManager {
     }
 
     /**
-     * Spawns the monsters in wave based on the given time between each spawn.
+     * Spawns the current wave's next monster, and schedules the one after it.
+     * @param tick The tick that the spawn was due on.
+     */
+    @Override
+    public void onDue(long tick) {
+        this.spawnPending = false;
+        if (!this.hasMonstersToSpawn()) {
+            return;
+        }
+
+        this.activeMonsters.add(this.currentWave.spawnNext(this.context));
+        if (this.hasMonstersToSpawn()) {
+            this.scheduleSpawn(this.spawnCadence.next(this.currentWave.getFramesBetweenEachMonsterSpawn(), tick));
+        }
+    }
+
+    /**
+     * Schedules the next spawn on a tick, unless the spawn cadence has been stopped.
      */
-    public void spawnMonstersInWave() {      
-        if (this.currentWaveMonsters.isEmpty()) {
-            frameCount = 0;
+    private void scheduleSpawn(long dueTick) {
+        if (dueTick == Cadence.NEVER) {
             return;
         }
-       
-        if (Math.round(frameCount % this.currentWave.getFramesBetweenEachMonsterSpawn()) == 0) {
-            this.activeMonsters.add(this.currentWaveMonsters.poll());
+        this.spawnSequence = this.context.getScheduler().schedule(this, dueTick);
+        this.spawnTick = dueTick;
+        this.spawnPending = true;
+    }
+
+    /**
+     * Cancels the next spawn, if one is scheduled.
+     */
+    private void cancelSpawn() {
+        if (this.spawnPending) {
+            this.context.getScheduler().cancel(this, this.spawnTick);
+            this.spawnPending = false;
+        }
+    }
+
+    /**
+     * Checks if the current wave has monsters that have not been spawned.
+     * @return {@code true} if there is a current wave with monsters left, otherwise {@code false}.
+     */
+    private boolean hasMonstersToSpawn() {
+        return this.currentWave != null && this.currentWave.hasMonstersLeft();
+    }
+
+    /**
+     * Writes the wave queue, its counters and the next spawn to a snapshot.
+     * <p>
+     * Monsters that have yet to be spawned are written as their waves' spawn specs.
+     * @param out The snapshot writer.
+     */
+    void saveState(GameSnapshot.Writer out) {
+        out.putBoolean(this.currentWave != null);
+        if (this.currentWave != null) {
+            saveWave(out, this.currentWave);
+        }
+
+        out.putInt(this.waves.size());
+        for (Wave wave : this.waves) {
+            saveWave(out, wave);
+        }
+
+        out.putFloat(this.currentWaveDuration);
+        out.putBoolean(this.spawnPending);
+        out.putLong(this.spawnTick);
+        out.putLong(this.spawnSequence);
+        this.spawnCadence.saveState(out);
+        out.putInt(this.waveNumber);
+        out.putInt(this.totalWaves);
+        out.putFloat(this.speedMultiplier);
+    }
+
+    /**
+     * Replaces the wave queue, its counters and the next spawn with the ones read from a snapshot.
+     * <p>
+     * The next spawn is scheduled again on the game's timing wheel,
+     * which must have been restored to the snapshot's tick.
+     * @param in The snapshot reader.
+     */
+    void restoreState(GameSnapshot.Reader in) {
+        this.cancelSpawn();
+        this.currentWave = in.getBoolean() ? restoreWave(in) : null;
+
+        this.waves.clear();
+        int waveCount = in.getInt();
+        for (int i = 0; i < waveCount; i++) {
+            this.waves.add(restoreWave(in));
+        }
+
+        this.currentWaveDuration = in.getFloat();
+        boolean spawnPending = in.getBoolean();
+        this.spawnTick = in.getLong();
+        this.spawnSequence = in.getLong();
+        this.spawnCadence.restoreState(in);
+        if (spawnPending) {
+            this.context.getScheduler().schedule(this, this.spawnTick, this.spawnSequence);
+            this.spawnPending = true;
+        }
+        this.waveNumber = in.getInt();
+        this.totalWaves = in.getInt();
+        this.speedMultiplier = in.getFloat();
+
+        if (this.waveTimer != null) {
+            this.waveTimer.setCurrentWave(this.waveNumber);
+            this.waveTimer.finalWave(this.waves.size() <= 1);
+            this.waveTimer.setTime(this.currentWaveDuration);
+        }
+    }
+
+    /**
+     * Writes a wave, its spawn specs and how many of its monsters have been spawned.
+     */
+    private static void saveWave(GameSnapshot.Writer out, Wave wave) {
+        out.putFloat(wave.getWaveDuration());
+        out.putFloat(wave.getTimeBetweenWaves());
+        out.putFloat(wave.getFramesBetweenEachMonsterSpawn());
+
+        List<SpawnSpec> specs = wave.getSpawnSpecs();
+        out.putInt(specs.size());
+        for (SpawnSpec spec : specs) {
+            spec.saveState(out);
+        }
+        out.putInt(wave.getMonstersSpawned());
+    }
+
+    /**
+     * Reads a wave that was written by {@code saveWave}.
+     */
+    private static Wave restoreWave(GameSnapshot.Reader in) {
+        float duration = in.getFloat();
+        float timeBetweenWaves = in.getFloat();
+        float framesBetweenSpawns = in.getFloat();
+
+        SpawnSpec[] specs = new SpawnSpec[in.getInt()];
+        for (int i = 0; i < specs.length; i++) {
+            specs[i] = SpawnSpec.restore(in);
         }
-        frameCount += this.speedMultiplier;
+        return new Wave(duration, timeBetweenWaves, framesBetweenSpawns, specs, in.getInt());
     }
 
     /**
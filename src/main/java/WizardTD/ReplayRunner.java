@@ -0,0 +1,61 @@
+package WizardTD;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import WizardTD.Game.Game;
+import WizardTD.Game.InputLog;
+
+/**
+ * ReplayRunner replays an input log recorded by the app without a window,
+ * as fast as the game can be simulated, and prints the state that the game ends in.
+ * <p>
+ * This is used to reproduce a player's game offline, for example to profile
+ * a reported lag spike or to check that two builds play a game the same way.
+ * <p>
+ * Usage: {@code ReplayRunner <log>}
+ */
+public final class ReplayRunner {
+    private ReplayRunner() {}
+
+    /**
+     * Summarises the state of a game as plain text.
+     * @param game The game to summarise.
+     * @return The summary.
+     */
+    public static String describe(Game game) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Won: %b, lost: %b%n", game.isGameWon(), game.isGameLost()));
+        out.append(String.format(Locale.ROOT, "Mana: %.2f%n", game.getManaPool().getCurrentMana()));
+        out.append(String.format(Locale.ROOT, "Leaks: %d%n", game.getLeakCount()));
+        out.append(String.format(Locale.ROOT, "Waves left: %d%n", game.getWaveManager().getWaves().size()));
+        out.append(String.format(Locale.ROOT, "Monsters: %d%n", game.getMonsterStore().size()));
+        out.append(String.format(Locale.ROOT, "Towers: %d%n", game.getTowerManager().getTowers().size()));
+        return out.toString();
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner <log>");
+            System.exit(1);
+        }
+
+        InputLog log;
+        try {
+            log = InputLog.load(args[0]);
+        } catch (IOException e) {
+            System.err.println("Could not read input log: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        long start = System.nanoTime();
+        Game game = log.play();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        System.out.print(describe(game));
+        System.out.println(String.format(Locale.ROOT, "%nSeed %d, %d inputs, %d ticks in %.2fs (%.0f ticks/s)",
+                                         log.getSeed(), log.getEventCount(), log.getEndTick(),
+                                         seconds, log.getEndTick() / seconds));
+    }
+}
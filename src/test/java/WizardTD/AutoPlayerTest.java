@@ -0,0 +1,114 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.AutoPlayer;
+import WizardTD.Game.Game;
+import WizardTD.Game.SimulationEngine;
+import WizardTD.Game.TowerPlan;
+import processing.data.JSONArray;
+import processing.data.JSONObject;
+
+public class AutoPlayerTest {
+    private static final long MAX_TICKS = 60 * 60 * 5;
+    private static final long BUDGET_MILLIS = 60_000;
+    private static JSONObject config;
+
+    @BeforeAll
+    static void setup() {
+        // A short game of gremlins on the first level, which a sensible player wins
+        config = SimulationEngine.loadConfig("config.json");
+        config.setString("layout", "level1.txt");
+        JSONArray waves = new JSONArray();
+        for (int i = 0; i < 2; i++) {
+            waves.append(JSONObject.parse("{ \"duration\": 5, \"pre_wave_pause\": 3, \"monsters\": [ "
+                + "{ \"type\": \"gremlin\", \"hp\": 100, \"speed\": 1, \"armour\": 0.5, "
+                + "\"mana_gained_on_kill\": 30, \"quantity\": 5 } ] }"));
+        }
+        config.setJSONArray("waves", waves);
+    }
+
+    /**
+     * Creates an auto player with a small search, so that tests run quickly.
+     */
+    private static AutoPlayer createPlayer(long seed, int threads) {
+        AutoPlayer player = new AutoPlayer(seed, threads, BUDGET_MILLIS);
+        player.setDepth(1);
+        player.setBeamWidth(2);
+        player.setCandidateTiles(4);
+        player.setHorizon(10 * App.FPS);
+        return player;
+    }
+
+    @Test
+    // Tests that the auto player builds towers and wins an easy game.
+    void testAutoPlayerWins() {
+        try (AutoPlayer player = createPlayer(1, 2)) {
+            Game game = AutoPlayRunner.play(config, player, 1, MAX_TICKS);
+
+            assertTrue(game.isGameWon());
+            assertFalse(game.getTowerManager().getTowers().isEmpty());
+            assertTrue(player.getDecisions() > 0);
+            assertEquals(0, player.getTruncatedDecisions());
+        }
+    }
+
+    @Test
+    // Tests that the same seed chooses the same plan, whatever the thread count.
+    void testSameSeedGivesSamePlan() {
+        String first;
+        String second;
+        try (AutoPlayer player = createPlayer(3, 1)) {
+            AutoPlayRunner.play(config, player, 3, MAX_TICKS);
+            first = player.getPlan().toJSON().toString();
+        }
+        try (AutoPlayer player = createPlayer(3, 4)) {
+            AutoPlayRunner.play(config, player, 3, MAX_TICKS);
+            second = player.getPlan().toJSON().toString();
+        }
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    // Tests that the chosen plan replays the same game.
+    void testPlanReplaysTheGame() {
+        Game played;
+        TowerPlan plan;
+        try (AutoPlayer player = createPlayer(5, 2)) {
+            played = AutoPlayRunner.play(config, player, 5, MAX_TICKS);
+            plan = new TowerPlan(player.getPlan().toJSON());
+        }
+
+        Game replayed = new Game(config, 5);
+        SimulationEngine engine = new SimulationEngine(replayed);
+        TowerPlan.Runner runner = plan.createRunner(replayed);
+        engine.addObserver(runner);
+        runner.onTick(replayed, 0);
+        engine.run(MAX_TICKS);
+
+        assertEquals(played.isGameWon(), replayed.isGameWon());
+        assertEquals(played.getLeakCount(), replayed.getLeakCount());
+        assertEquals(played.getManaPool().getCurrentMana(), replayed.getManaPool().getCurrentMana());
+        assertEquals(played.getTowerManager().getTowers().size(), replayed.getTowerManager().getTowers().size());
+    }
+
+    @Test
+    // Tests that an auto player cannot be created or configured with invalid values.
+    void testExceptionOnInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> { new AutoPlayer(0, 0, 100); });
+        assertThrows(IllegalArgumentException.class, () -> { new AutoPlayer(0, 1, 0); });
+        try (AutoPlayer player = new AutoPlayer(0, 1, 100)) {
+            assertThrows(IllegalArgumentException.class, () -> { player.setDepth(0); });
+            assertThrows(IllegalArgumentException.class, () -> { player.setBeamWidth(0); });
+            assertThrows(IllegalArgumentException.class, () -> { player.setDecisionInterval(0); });
+            assertThrows(IllegalArgumentException.class, () -> { player.setHorizon(-1); });
+        }
+    }
+}
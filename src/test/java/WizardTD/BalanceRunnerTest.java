@@ -0,0 +1,123 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.Game;
+import WizardTD.Game.GameStats;
+import WizardTD.Game.SimulationEngine;
+import WizardTD.Game.TowerPlan;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Board.Tile;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.MonsterPool;
+import WizardTD.Game.Entities.Monsters.MonsterStore;
+import processing.data.JSONObject;
+
+public class BalanceRunnerTest {
+    private static final long MAX_TICKS = 60 * 60 * 10;
+    private static JSONObject config;
+    private static TowerPlan plan;
+    private static int column;
+    private static int row;
+
+    @BeforeAll
+    static void setup() {
+        config = SimulationEngine.loadConfig("config.json");
+
+        // Build and fully upgrade a tower on the first tile that can be built on
+        Board board = new Board(config.getString("layout"));
+        search:
+        for (row = 0; row < Board.ROWS; row++) {
+            for (column = 0; column < Board.COLUMNS; column++) {
+                Tile t = board.getTile(column, row);
+                if (t.isPlaceable()) {
+                    break search;
+                }
+            }
+        }
+
+        String tile = "\"column\": " + column + ", \"row\": " + row;
+        plan = new TowerPlan(JSONObject.parse("{ \"actions\": ["
+            + "{ \"time\": 0, \"action\": \"build\", " + tile + " },"
+            + "{ \"time\": 1, \"action\": \"upgrade_damage\", " + tile + " },"
+            + "{ \"time\": 1, \"action\": \"build\", \"column\": -1, \"row\": -1 },"
+            + "{ \"time\": 2, \"action\": \"mana_pool\" } ] }"));
+    }
+
+    @Test
+    // Tests that the plan's actions are carried out, and impossible ones are skipped.
+    void testPlanIsPlayed() {
+        BalanceRunner.Result result = BalanceRunner.runGame(config, plan, 0, MAX_TICKS);
+
+        assertEquals(3, result.getCompletedActions());
+        assertTrue(result.isWon() || result.isLost());
+    }
+
+    @Test
+    // Tests that games with the same seed give the same results.
+    void testSameSeedGivesSameResult() {
+        BalanceRunner.Result first = BalanceRunner.runGame(config, plan, 42, MAX_TICKS);
+        BalanceRunner.Result second = BalanceRunner.runGame(config, plan, 42, MAX_TICKS);
+
+        assertEquals(first.getStats().getTicks(), second.getStats().getTicks());
+        assertEquals(first.getLeaks(), second.getLeaks());
+        assertEquals(first.isWon(), second.isWon());
+    }
+
+    @Test
+    // Tests that games played in parallel give the same results as games played one at a time.
+    void testParallelMatchesSequential() {
+        List<BalanceRunner.Result> sequential = BalanceRunner.runGames(config, plan, 8, 7, 1, MAX_TICKS);
+        List<BalanceRunner.Result> parallel = BalanceRunner.runGames(config, plan, 8, 7, 4, MAX_TICKS);
+
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getSeed(), parallel.get(i).getSeed());
+            assertEquals(sequential.get(i).getStats().getTicks(), parallel.get(i).getStats().getTicks());
+            assertEquals(sequential.get(i).getLeaks(), parallel.get(i).getLeaks());
+        }
+        assertEquals(BalanceRunner.report(sequential), BalanceRunner.report(parallel));
+    }
+
+    @Test
+    // Tests that a monster reused by the monster pool is counted again when it is killed.
+    void testRecycledMonsterKillsCounted() {
+        Game game = new Game(config, 0);
+        GameStats stats = new GameStats(game);
+        MonsterPool pool = game.getContext().getMonsterPool();
+        game.getMonsterStore().clear();
+
+        Monster gremlin = pool.acquire(MonsterStore.TYPE_GREMLIN, 100, 1, 0, 10, 0);
+        game.getMonsterStore().add(gremlin);
+        stats.onTick(game, 1);
+        gremlin.kill();
+        stats.onTick(game, 2);
+        assertEquals(1, stats.getKills(0));
+
+        gremlin.setDead(true);
+        game.tickMonsters();
+        assertSame(gremlin, pool.acquire(MonsterStore.TYPE_GREMLIN, 100, 1, 0, 10, 0));
+        game.getMonsterStore().add(gremlin);
+        stats.onTick(game, 3);
+        gremlin.kill();
+        stats.onTick(game, 5);
+
+        assertEquals(2, stats.getKills(0));
+        assertEquals(1 + 2, stats.getKillTicks(0));
+    }
+
+    @Test
+    // Tests that an unknown plan action is rejected.
+    void testExceptionOnUnknownAction() {
+        JSONObject badPlan = JSONObject.parse("{ \"actions\": [ { \"time\": 0, \"action\": \"DNE\" } ] }");
+        assertThrows(IllegalArgumentException.class, () -> { new TowerPlan(badPlan); });
+    }
+}
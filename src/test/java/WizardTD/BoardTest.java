@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import WizardTD.Game.GameAssets;
 import WizardTD.Game.Board.Board;
 import WizardTD.Game.Board.Grass;
 import WizardTD.Game.Board.Tile;
@@ -36,8 +37,8 @@ public class BoardTest {
 
     @Test
     void testAbleToConnectPathsWithoutCrashing() {
-        board = new Board("level1.txt");
-        board.connectPaths(app);
+        board = new Board("level1.txt", GameAssets.load(app));
+        board.connectPaths();
     }
 
     @Test
@@ -61,8 +62,8 @@ public class BoardTest {
 
     @Test
     void testGetTileRightOf() {
-        Tile leftMostTile = new Grass(0, 40);
-        Tile rightMostTile = new Grass(608, 40);
+        Tile leftMostTile = new Grass(0, 40, board.getAssets());
+        Tile rightMostTile = new Grass(608, 40, board.getAssets());
 
         Tile tileOnMap = board.getTileRightOf(leftMostTile);
         Tile tileOffMap = board.getTileRightOf(rightMostTile);
@@ -73,8 +74,8 @@ public class BoardTest {
 
     @Test
     void testGetTileLeftOf() {
-        Tile leftMostTile = new Grass(0, 40);
-        Tile rightMostTile = new Grass(608, 40);
+        Tile leftMostTile = new Grass(0, 40, board.getAssets());
+        Tile rightMostTile = new Grass(608, 40, board.getAssets());
 
         Tile tileOnMap = board.getTileLeftOf(rightMostTile);
         Tile tileOffMap = board.getTileLeftOf(leftMostTile);
@@ -85,8 +86,8 @@ public class BoardTest {
 
     @Test
     void testGetTileUpFrom() {
-        Tile topMostTile = new Grass(0, 40);
-        Tile bottomMostTile = new Grass(608, 648);
+        Tile topMostTile = new Grass(0, 40, board.getAssets());
+        Tile bottomMostTile = new Grass(608, 648, board.getAssets());
 
         Tile tileOnMap = board.getTileUpOf(bottomMostTile);
         Tile tileOffMap = board.getTileUpOf(topMostTile);
@@ -97,8 +98,8 @@ public class BoardTest {
 
      @Test
     void testGetTileDownFrom() {
-        Tile topMostTile = new Grass(0, 40);
-        Tile bottomMostTile = new Grass(608, 648);
+        Tile topMostTile = new Grass(0, 40, board.getAssets());
+        Tile bottomMostTile = new Grass(608, 648, board.getAssets());
 
         Tile tileOnMap = board.getTileDownOf(topMostTile);
         Tile tileOffMap = board.getTileDownOf(bottomMostTile);
@@ -111,4 +112,30 @@ public class BoardTest {
     void testCanDrawBoard() {
         board.drawToLayer(app.g);
     }
+
+    @Test
+    // Tests that positions off the board have no tile.
+    void testGetTileAtPosOffBoard() {
+        assertNull(board.getTileAtPos(-1, 100));
+        assertNull(board.getTileAtPos(100, App.TOPBAR - 1));
+        assertNull(board.getTileAtPos(App.LEVEL_WIDTH + 1, 100));
+        assertNotNull(board.getTileAtPos(App.LEVEL_WIDTH, App.TOPBAR + App.LEVEL_HEIGHT));
+    }
+
+    @Test
+    // Tests that tiles can be found by column and row, and are iterated in that order.
+    void testGetTileByColumnAndRow() {
+        int index = 0;
+        for (Map.Entry<PVector, Tile> entry : board.getLevelTiles().entrySet()) {
+            int column = index % Board.COLUMNS;
+            int row = index / Board.COLUMNS;
+
+            assertEquals(entry.getValue(), board.getTile(column, row));
+            assertEquals(index, Board.indexOf(entry.getKey().x, entry.getKey().y));
+            ++index;
+        }
+
+        assertNull(board.getTile(Board.COLUMNS, 0));
+        assertNull(board.getTile(0, -1));
+    }
 }
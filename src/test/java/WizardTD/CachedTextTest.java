@@ -0,0 +1,138 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Font;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.UI.CachedText;
+import processing.core.PApplet;
+import processing.core.PFont;
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+public class CachedTextTest {
+    /**
+     * The font that every recording layer starts with, since a layer
+     * that does not belong to an app cannot load a default font.
+     */
+    private static final PFont FONT = new PFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12), true);
+
+    /**
+     * A layer that records the calls made to it.
+     */
+    private static final class RecordingGraphics extends PGraphics {
+        private final List<String> calls = new ArrayList<>();
+
+        private RecordingGraphics() {
+            this.textFont(FONT);
+        }
+
+        @Override
+        public float textWidth(String str) {
+            this.calls.add("textWidth");
+            return str.length() * 5;
+        }
+
+        @Override
+        public void text(String str, float x1, float y1, float x2, float y2) {
+            this.calls.add("text " + str);
+        }
+
+        @Override
+        public void image(PImage img, float x, float y) {
+            this.calls.add("image");
+        }
+    }
+
+    /**
+     * An app that creates recording layers, and keeps them so that they can be checked.
+     */
+    private static final class RecordingApp extends PApplet {
+        private final List<RecordingGraphics> created = new ArrayList<>();
+
+        @Override
+        public PGraphics createGraphics(int w, int h) {
+            RecordingGraphics image = new RecordingGraphics();
+            image.width = w;
+            image.height = h;
+            this.created.add(image);
+            return image;
+        }
+    }
+
+    private CachedText text;
+    private RecordingGraphics layer;
+
+    @BeforeEach
+    void setup() {
+        this.text = new CachedText();
+        this.layer = new RecordingGraphics();
+    }
+
+    @Test
+    // Tests that setting the same text again is not a change.
+    void testSetTextOnlyChangesOnNewText() {
+        assertTrue(this.text.setText("Wave 1"));
+        assertFalse(this.text.setText("Wave 1"));
+        assertTrue(this.text.setText("Wave 2"));
+        assertEquals("Wave 2", this.text.getText());
+        assertThrows(NullPointerException.class, () -> { this.text.setText(null); });
+    }
+
+    @Test
+    // Tests that text is only measured again when it or its size changes.
+    void testTextIsOnlyMeasuredOnChange() {
+        this.text.setText("Wave 1");
+
+        assertEquals(30, this.text.getWidth(this.layer, 12));
+        assertEquals(30, this.text.getWidth(this.layer, 12));
+        assertEquals(1, this.layer.calls.size());
+
+        this.text.getWidth(this.layer, 20);
+        this.text.setText("Wave 10");
+        assertEquals(35, this.text.getWidth(this.layer, 20));
+        assertEquals(3, this.layer.calls.size());
+    }
+
+    @Test
+    // Tests that text is drawn to an image once, then only the image is drawn until the text changes.
+    void testTextIsDrawnToImageOnce() {
+        RecordingApp app = new RecordingApp();
+        this.layer.parent = app;
+        this.text.setText("Wave 1");
+
+        for (int i = 0; i < 3; i++) {
+            this.text.draw(this.layer, 0, 0, 50, 20, 12, 0xFF000000);
+        }
+        assertEquals(1, app.created.size());
+        assertEquals(1, app.created.get(0).calls.size());
+        assertTrue(this.text.isRendered());
+        assertEquals(3, this.layer.calls.size());
+
+        this.text.setText("Wave 2");
+        assertFalse(this.text.isRendered());
+        this.text.draw(this.layer, 0, 0, 50, 20, 12, 0xFF000000);
+        this.text.draw(this.layer, 0, 0, 50, 20, 12, 0xFFFFFFFF);
+        assertEquals(1, app.created.size());
+        assertEquals(3, app.created.get(0).calls.size());
+    }
+
+    @Test
+    // Tests that text is drawn straight to a layer that does not belong to an app.
+    void testTextIsDrawnStraightWithoutApp() {
+        this.text.setText("Wave 1");
+        this.text.draw(this.layer, 0, 0, 50, 20, 12, 0xFF000000);
+
+        assertEquals(1, this.layer.calls.size());
+        assertEquals("text Wave 1", this.layer.calls.get(0));
+        assertFalse(this.text.isRendered());
+    }
+}
@@ -0,0 +1,59 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.Cadence;
+
+public class CadenceTest {
+    private Cadence cadence;
+
+    @BeforeEach
+    void setupCadence() {
+        this.cadence = new Cadence();
+    }
+
+    @Test
+    // Tests that a whole period at a speed multiplier of 1 is due every period.
+    void testWholePeriod() {
+        this.cadence.start(10, 1);
+        assertEquals(10, this.cadence.getDueTick());
+        assertEquals(50, this.cadence.next(40, 10));
+        assertEquals(90, this.cadence.next(40, 50));
+    }
+
+    @Test
+    // Tests that fractions of a tick are carried, so the rate is exact at a fractional speed multiplier.
+    void testFractionsAreCarried() {
+        this.cadence.start(0, 1.5f);
+        long dueTick = 0;
+        int events = 0;
+        while (true) {
+            dueTick = this.cadence.next(40, dueTick);
+            if (dueTick > 800) {
+                break;
+            }
+            ++events;
+        }
+        // 40 ticks at 1.5 times the speed is 26.67 ticks, so 30 events fit in 800 ticks
+        assertEquals(30, events);
+    }
+
+    @Test
+    // Tests that an event that would fall on a tick that has passed is due on the next tick.
+    void testAtMostOneEventPerTick() {
+        this.cadence.start(0, 4);
+        assertEquals(1, this.cadence.next(1, 0));
+        assertEquals(2, this.cadence.next(1, 1));
+    }
+
+    @Test
+    // Tests that a speed multiplier of 0 stops the cadence.
+    void testStoppedCadence() {
+        this.cadence.start(0, 0);
+        assertEquals(Cadence.NEVER, this.cadence.getDueTick());
+        assertEquals(Cadence.NEVER, this.cadence.next(40, 0));
+    }
+}
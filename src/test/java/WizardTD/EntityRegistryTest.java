@@ -0,0 +1,140 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.GameContext;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Entities.EntityRegistry;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Towers.Fireball;
+
+public class EntityRegistryTest {
+    private GameContext context;
+    private EntityRegistry<Monster> registry;
+
+    @BeforeEach
+    void setupRegistry() {
+        this.context = new GameContext(new Board("level1.txt"), 0);
+        this.registry = new EntityRegistry<>();
+    }
+
+    private Monster newMonster() {
+        return new Monster(this.context, 100, 1, 0, 10);
+    }
+
+    @Test
+    void testExceptionOnNullEntity() {
+        assertThrows(NullPointerException.class, () -> { this.registry.register(null); });
+    }
+
+    @Test
+    // Tests that a handle resolves to its entity until the entity is unregistered.
+    void testHandleResolvesUntilUnregistered() {
+        Monster monster = this.newMonster();
+        int handle = this.registry.register(monster);
+
+        assertNotEquals(EntityRegistry.NO_HANDLE, handle);
+        assertSame(monster, this.registry.get(handle));
+        assertEquals(1, this.registry.size());
+
+        assertTrue(this.registry.unregister(handle));
+        assertFalse(this.registry.isValid(handle));
+        assertNull(this.registry.get(handle));
+        assertFalse(this.registry.unregister(handle));
+        assertEquals(0, this.registry.size());
+
+        assertNull(this.registry.get(EntityRegistry.NO_HANDLE));
+    }
+
+    @Test
+    // Tests that a reused slot gets a new generation, so old handles to it stay invalid.
+    void testReusedSlotHasNewGeneration() {
+        int first = this.registry.register(this.newMonster());
+        this.registry.unregister(first);
+
+        Monster second = this.newMonster();
+        int handle = this.registry.register(second);
+
+        assertEquals(EntityRegistry.indexOf(first), EntityRegistry.indexOf(handle));
+        assertEquals(EntityRegistry.generationOf(first) + 1, EntityRegistry.generationOf(handle));
+        assertNull(this.registry.get(first));
+        assertSame(second, this.registry.get(handle));
+    }
+
+    @Test
+    // Tests that renewing a handle keeps the entity registered, but invalidates its old handle.
+    void testRenewInvalidatesOldHandle() {
+        Monster monster = this.newMonster();
+        int handle = this.registry.register(monster);
+        int renewed = this.registry.renew(handle);
+
+        assertNull(this.registry.get(handle));
+        assertSame(monster, this.registry.get(renewed));
+        assertEquals(EntityRegistry.NO_HANDLE, this.registry.renew(handle));
+    }
+
+    @Test
+    // Tests that clearing the registry invalidates every handle.
+    void testClearInvalidatesEveryHandle() {
+        int a = this.registry.register(this.newMonster());
+        int b = this.registry.register(this.newMonster());
+        this.registry.clear();
+
+        assertEquals(0, this.registry.size());
+        assertFalse(this.registry.isValid(a));
+        assertFalse(this.registry.isValid(b));
+        assertNotEquals(a, this.registry.register(this.newMonster()));
+    }
+
+    @Test
+    // Tests that the registry grows past its first capacity.
+    void testRegistryGrows() {
+        int[] handles = new int[200];
+        Monster[] monsters = new Monster[handles.length];
+        for (int i = 0; i < handles.length; i++) {
+            monsters[i] = this.newMonster();
+            handles[i] = this.registry.register(monsters[i]);
+        }
+        for (int i = 0; i < handles.length; i++) {
+            assertSame(monsters[i], this.registry.get(handles[i]));
+        }
+    }
+
+    @Test
+    // Tests that a fireball stops chasing a monster that has respawned, and does not damage it.
+    void testFireballDropsRespawnedTarget() {
+        Monster monster = this.newMonster();
+        Fireball fireball = new Fireball(null, 0, 0, 10, monster);
+        assertSame(monster, fireball.getTarget());
+
+        monster.respawn();
+        assertNull(fireball.getTarget());
+        assertTrue(this.context.getMonsterRegistry().isValid(monster.getHandle()));
+
+        fireball.setCenterPos(monster.getCenterPos().x, monster.getCenterPos().y);
+        fireball.tick();
+        assertTrue(fireball.targetReached());
+        assertEquals(100, monster.getCurrentHP());
+    }
+
+    @Test
+    // Tests that a fireball stops chasing a monster that has been released to the monster pool.
+    void testFireballDropsReleasedTarget() {
+        Monster monster = this.newMonster();
+        Fireball fireball = new Fireball(null, 0, 0, 10, monster);
+
+        this.context.getMonsterPool().release(monster);
+        fireball.tick();
+        assertTrue(fireball.targetReached());
+        assertNull(fireball.getTarget());
+    }
+}
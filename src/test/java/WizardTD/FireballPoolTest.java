@@ -0,0 +1,105 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.GameContext;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Towers.Fireball;
+import WizardTD.Game.Entities.Towers.FireballPool;
+import processing.core.PVector;
+
+public class FireballPoolTest {
+    private static GameContext context;
+    private static final int CAPACITY = 2;
+    private static Monster target;
+    private static FireballPool pool;
+
+    @BeforeAll
+    static void setup() {
+        context = new GameContext(new Board("level1.txt"), 0);
+        target = new Monster(context, 100, 1, 0, 10);
+    }
+
+    @BeforeEach
+    void setupPool() {
+        pool = new FireballPool(CAPACITY);
+    }
+
+    @Test
+    void testExceptionOnNegativeCapacity() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                                           () -> {new FireballPool(-1); });
+
+        assertTrue(exception.getMessage().contains("must be >= 0"));
+    }
+
+    @Test
+    // Tests that a released fireball is reused by the next acquire.
+    void testReleasedFireballIsReused() {
+        Fireball first = pool.acquire(0, 0, 10, target);
+        pool.release(first);
+        Fireball second = pool.acquire(50, 60, 20, target);
+
+        assertSame(first, second);
+        assertEquals(1, pool.getHitCount());
+        assertEquals(0.5f, pool.getHitRate(), 0.001f);
+    }
+
+    @Test
+    // Tests that a reused fireball has its position, target and state reset.
+    void testReusedFireballIsReset() {
+        Fireball fireball = pool.acquire(0, 0, 10, target);
+        target.setCenterPos(fireball.getCenterPos().x, fireball.getCenterPos().y);
+        fireball.tick();
+        assertTrue(fireball.targetReached());
+
+        pool.release(fireball);
+        Monster newTarget = new Monster(context, 100, 1, 0, 10);
+        fireball = pool.acquire(50, 60, 20, newTarget);
+
+        assertFalse(fireball.targetReached());
+        assertSame(newTarget, fireball.getTarget());
+        assertEquals(new PVector(50, 60), fireball.getCenterPos());
+    }
+
+    @Test
+    // Tests that the pool does not keep more unused fireballs than its capacity.
+    void testPoolIsCapped() {
+        Fireball[] fireballs = new Fireball[CAPACITY + 2];
+        for (int i = 0; i < fireballs.length; i++) {
+            fireballs[i] = pool.acquire(0, 0, 10, target);
+        }
+        for (Fireball fireball : fireballs) {
+            pool.release(fireball);
+        }
+
+        assertEquals(CAPACITY, pool.getFreeCount());
+        assertEquals(0, pool.getInUseCount());
+    }
+
+    @Test
+    // Tests that the high-water mark is the most fireballs in use at once.
+    void testHighWaterMark() {
+        Fireball a = pool.acquire(0, 0, 10, target);
+        Fireball b = pool.acquire(0, 0, 10, target);
+        pool.release(a);
+        pool.release(b);
+        Fireball c = pool.acquire(0, 0, 10, target);
+
+        assertNotSame(a, b);
+        assertEquals(3, pool.getAcquireCount());
+        assertEquals(1, pool.getInUseCount());
+        assertEquals(2, pool.getHighWaterMark());
+        assertSame(b, c);
+    }
+}
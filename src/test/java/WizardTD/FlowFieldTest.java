@@ -0,0 +1,82 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Board.FlowField;
+import WizardTD.Game.Board.Tile;
+
+public class FlowFieldTest {
+    private static Board board;
+    private static FlowField flowField;
+
+    @BeforeEach
+    void setupFlowField() {
+        board = new Board("level1.txt");
+        flowField = new FlowField(board);
+    }
+
+    @Test
+    // Tests that the wizard's house is the end of every path.
+    void testWizHouseHasNoNextTile() {
+        assertEquals(0, flowField.getDistance(board.getWizHouse()));
+        assertNull(flowField.getNextTile(board.getWizHouse()));
+    }
+
+    @Test
+    // Tests that every starting tile leads to the wizard's house.
+    void testStartingTilesReachWizHouse() {
+        assertFalse(flowField.getStartingTiles().isEmpty());
+
+        for (Tile start : flowField.getStartingTiles()) {
+            ArrayList<Tile> path = flowField.getPathFrom(start);
+
+            assertEquals(board.getWizHouse(), path.get(path.size() - 1));
+            assertEquals(flowField.getDistance(start) + 1, path.size());
+        }
+    }
+
+    @Test
+    // Tests that each step of a path moves to an adjacent tile one step closer to the house.
+    void testPathStepsAreAdjacent() {
+        ArrayList<Tile> path = flowField.getPathFrom(flowField.getStartingTiles().get(0));
+
+        for (int i = 1; i < path.size(); i++) {
+            float dist = path.get(i - 1).getPos().dist(path.get(i).getPos());
+
+            assertEquals(App.CELLSIZE, dist, 0.001f);
+            assertEquals(flowField.getDistance(path.get(i - 1)) - 1, flowField.getDistance(path.get(i)));
+        }
+    }
+
+    @Test
+    // Tests that tiles that cannot be walked on have no path.
+    void testUnwalkableTilesAreUnreachable() {
+        Tile shrub = board.getTileAtPos(1, App.TOPBAR + 1);
+
+        assertFalse(shrub.isWalkable());
+        assertEquals(FlowField.UNREACHABLE, flowField.getDistance(shrub));
+        assertNull(flowField.getNextTile(shrub));
+    }
+
+    @Test
+    // Tests that recomputing picks up changes to the board.
+    void testRecomputeAfterBoardChanges() {
+        ArrayList<Tile> path = flowField.getPathFrom(flowField.getStartingTiles().get(0));
+        Tile blocked = path.get(1);
+        blocked.setWalkable(false);
+
+        flowField.recompute();
+
+        assertEquals(FlowField.UNREACHABLE, flowField.getDistance(blocked));
+        assertTrue(flowField.getStartingTiles().isEmpty());
+    }
+}
@@ -0,0 +1,107 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.Game;
+import WizardTD.Game.GameAssets;
+import WizardTD.Game.GameContext;
+import WizardTD.Game.SimulationEngine;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Entities.Monsters.Monster;
+import processing.data.JSONObject;
+
+public class GameContextTest {
+    private static final int GAMES = 4;
+    private static final long TICKS = 60 * 30;
+    private static JSONObject config;
+
+    @BeforeAll
+    static void setup() {
+        config = SimulationEngine.loadConfig("config.json");
+    }
+
+    /**
+     * Plays a game for a fixed number of ticks and records where its monsters are.
+     */
+    private static float[] play(long seed) {
+        Game game = new Game(config, seed);
+        new SimulationEngine(game).step(TICKS);
+
+        float[] state = new float[2 + game.getMonsterStore().size() * 2];
+        state[0] = game.getManaPool().getCurrentMana();
+        state[1] = game.getMonsterStore().size();
+        int i = 2;
+        for (Monster monster : game.getMonsterStore()) {
+            state[i++] = monster.getCenterPos().x;
+            state[i++] = monster.getCenterPos().y;
+        }
+        return state;
+    }
+
+    @Test
+    // Tests that games played at the same time give the same results as games played one at a time.
+    void testConcurrentGamesMatchSequential() throws InterruptedException {
+        float[][] sequential = new float[GAMES][];
+        for (int i = 0; i < GAMES; i++) {
+            sequential[i] = play(i);
+        }
+
+        float[][] concurrent = new float[GAMES][];
+        Thread[] threads = new Thread[GAMES];
+        for (int i = 0; i < GAMES; i++) {
+            final int game = i;
+            threads[i] = new Thread(() -> { concurrent[game] = play(game); });
+            threads[i].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        for (int i = 0; i < GAMES; i++) {
+            assertArrayEquals(sequential[i], concurrent[i]);
+        }
+    }
+
+    @Test
+    // Tests that each context has its own random number generator.
+    void testContextsDoNotShareRandom() {
+        GameContext first = new GameContext(new Board("level1.txt"), 42);
+        GameContext second = new GameContext(new Board("level1.txt"), 42);
+
+        first.getRandom().nextInt();
+        first.getRandom().nextInt();
+        GameContext expected = new GameContext(new Board("level1.txt"), 42);
+        assertEquals(expected.getRandom().nextInt(), second.getRandom().nextInt());
+    }
+
+    @Test
+    // Tests that a context uses its board's assets unless it is given its own.
+    void testContextUsesBoardAssets() {
+        GameAssets assets = new GameAssets();
+        Board board = new Board("level1.txt", assets);
+
+        assertEquals(assets, new GameContext(board, 0).getAssets());
+    }
+
+    @Test
+    // Tests that an exception is thrown when the context is given null assets.
+    void testExceptionOnNullAssets() {
+        assertThrows(NullPointerException.class,
+                     () -> { new GameContext(new Board("level1.txt"), null, 0); });
+    }
+
+    @Test
+    // Tests that the context's monster pool is built with the capacity it is given.
+    void testMonsterPoolCapacity() {
+        Board board = new Board("level1.txt");
+
+        assertEquals(8, new GameContext(board, board.getAssets(), 0, 8).getMonsterPool().getCapacity());
+        assertThrows(IllegalArgumentException.class,
+                     () -> { new GameContext(board, board.getAssets(), 0, -1); });
+    }
+}
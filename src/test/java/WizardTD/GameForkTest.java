@@ -0,0 +1,202 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.Game;
+import WizardTD.Game.GameSnapshot;
+import WizardTD.Game.SimulationEngine;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Board.Path;
+import WizardTD.Game.Board.Tile;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Towers.Fireball;
+import WizardTD.Game.Entities.Towers.FireballTower;
+import WizardTD.Game.Entities.Towers.Tower;
+import WizardTD.Game.Player.InputManager.Keybindings;
+import processing.data.JSONObject;
+
+public class GameForkTest {
+    private static JSONObject config;
+    private static Tile firstTile;
+    private static Tile secondTile;
+    private static Tile tileNextToPath;
+
+    @BeforeAll
+    static void setup() {
+        config = SimulationEngine.loadConfig("config.json");
+
+        Board board = new Board(config.getString("layout"));
+        for (Tile t : board.getLevelTiles().values()) {
+            if (tileNextToPath != null || !t.isPlaceable()) {
+                continue;
+            }
+            for (Tile other : board.getLevelTiles().values()) {
+                if (other instanceof Path && t.getCenterPos().dist(other.getCenterPos()) <= App.CELLSIZE) {
+                    tileNextToPath = t;
+                    break;
+                }
+            }
+        }
+        for (Tile t : board.getLevelTiles().values()) {
+            if (!t.isPlaceable()) {
+                continue;
+            }
+            if (firstTile == null) {
+                firstTile = t;
+            } else {
+                secondTile = t;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Builds a tower on the tile and lets the game play on.
+     */
+    private static void buildTower(Game game, Tile tile, int ticks) {
+        float x = tile.getCenterPos().x;
+        float y = tile.getCenterPos().y;
+        game.pressKey(Keybindings.BUILD_TOWER_KEY.key());
+        game.mouseMoved(x, y);
+        game.mousePressed(App.LEFT, x, y);
+        new SimulationEngine(game).step(ticks);
+    }
+
+    /**
+     * Gets the parts of a game's state that forks are compared by.
+     */
+    private static float[] stateOf(Game game) {
+        float[] state = new float[4 + game.getMonsterStore().size() * 3];
+        state[0] = game.getManaPool().getCurrentMana();
+        state[1] = game.getLeakCount();
+        state[2] = game.getTowerManager().getTowers().size();
+        state[3] = game.getWaveManager().getWaves().size();
+        int i = 4;
+        for (Monster monster : game.getMonsterStore()) {
+            state[i++] = monster.getCenterPos().x;
+            state[i++] = monster.getCenterPos().y;
+            state[i++] = monster.getCurrentHP();
+        }
+        return state;
+    }
+
+    @Test
+    // Tests that a fork plays on exactly as the game it was forked from.
+    void testForkContinuesTheSame() {
+        Game game = new Game(config, 3);
+        buildTower(game, firstTile, 60 * 20);
+
+        Game fork = game.fork();
+        assertArrayEquals(stateOf(game), stateOf(fork));
+
+        new SimulationEngine(game).step(60 * 15);
+        new SimulationEngine(fork).step(60 * 15);
+        assertArrayEquals(stateOf(game), stateOf(fork));
+    }
+
+    @Test
+    // Tests that playing a fork does not change the game it was forked from.
+    void testForkIsIndependent() {
+        Game game = new Game(config, 4);
+        buildTower(game, firstTile, 60 * 20);
+        float[] expected = stateOf(game);
+
+        Game fork = game.fork();
+        buildTower(fork, secondTile, 60 * 10);
+
+        assertEquals(2, fork.getTowerManager().getTowers().size());
+        assertTrue(fork.getTowerManager().isTileOccupied(secondTile));
+        assertFalse(game.getTowerManager().isTileOccupied(secondTile));
+        assertArrayEquals(expected, stateOf(game));
+        for (Monster monster : fork.getMonsterStore()) {
+            assertFalse(game.getMonsterStore().contains(monster));
+        }
+    }
+
+    /**
+     * Counts the fireballs in flight whose impact has been scheduled.
+     */
+    private static int scheduledFireballs(Game game) {
+        int count = 0;
+        for (Tower tower : game.getTowerManager().getTowers()) {
+            for (Fireball fireball : ((FireballTower)tower).getFireballs()) {
+                if (fireball.isImpactScheduled() && !fireball.targetReached()) {
+                    ++count;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Test
+    // Tests that fireballs with scheduled impacts land, and that a fork taken while they are in flight plays on the same.
+    void testForkWithScheduledImpacts() {
+        Game game = new Game(config, 6);
+        game.getTowerManager().setImpactsScheduled(true);
+        buildTower(game, tileNextToPath, 1);
+
+        // Play on until a fireball is in flight
+        SimulationEngine engine = new SimulationEngine(game);
+        for (int i = 0; i < 60 * 60 && scheduledFireballs(game) == 0; i++) {
+            engine.step(1);
+        }
+        assertTrue(scheduledFireballs(game) > 0);
+
+        Game fork = game.fork();
+        assertEquals(game.getContext().getScheduler().getCurrentTick(),
+                     fork.getContext().getScheduler().getCurrentTick());
+        assertEquals(game.getContext().getScheduler().size(), fork.getContext().getScheduler().size());
+        assertEquals(scheduledFireballs(game), scheduledFireballs(fork));
+        assertArrayEquals(GameSnapshot.capture(game).toBytes(), GameSnapshot.capture(fork).toBytes());
+
+        // The first fireball lands on its target on its impact tick
+        Fireball fireball = null;
+        for (Tower tower : game.getTowerManager().getTowers()) {
+            for (Fireball f : ((FireballTower)tower).getFireballs()) {
+                if (fireball == null && f.isImpactScheduled() && f.getTarget() != null) {
+                    fireball = f;
+                }
+            }
+        }
+        Monster target = fireball.getTarget();
+        float hp = target.getCurrentHP();
+        long impactTick = fireball.getImpactTick();
+        while (game.getContext().getScheduler().getCurrentTick() < impactTick - 1) {
+            engine.step(1);
+        }
+        assertEquals(hp, target.getCurrentHP());
+        engine.step(1);
+        assertTrue(target.getCurrentHP() < hp);
+
+        // Catch the fork up with the game, then play both on
+        SimulationEngine forkEngine = new SimulationEngine(fork);
+        while (fork.getContext().getScheduler().getCurrentTick() < game.getContext().getScheduler().getCurrentTick()) {
+            forkEngine.step(1);
+        }
+        assertArrayEquals(stateOf(game), stateOf(fork));
+        engine.step(60 * 15);
+        forkEngine.step(60 * 15);
+        assertArrayEquals(stateOf(game), stateOf(fork));
+    }
+
+    @Test
+    // Tests that a fork shares the unchanging parts of the game.
+    void testForkSharesBoard() {
+        Game game = new Game(config, 5);
+        Game fork = game.fork();
+
+        assertSame(game.getBoard(), fork.getBoard());
+        assertSame(game.getContext().getFlowField(), fork.getContext().getFlowField());
+        assertNotSame(game.getContext().getRandom(), fork.getContext().getRandom());
+        assertNotSame(game.getManaPool(), fork.getManaPool());
+        assertEquals(game.getContext().getRandom().nextInt(1000), fork.getContext().getRandom().nextInt(1000));
+    }
+}
@@ -0,0 +1,66 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.GameRandom;
+
+public class GameRandomTest {
+    @Test
+    // Tests that two generators with the same seed give the same values.
+    void testSameSeedGivesSameValues() {
+        GameRandom first = new GameRandom(42);
+        GameRandom second = new GameRandom(42);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+    }
+
+    @Test
+    // Tests that a generator restored from another's state continues where it left off.
+    void testRestoreFromState() {
+        GameRandom random = new GameRandom(7);
+        random.nextInt();
+        GameRandom restored = new GameRandom(random.getState(), random.getGamma());
+        GameRandom copy = random.copy();
+
+        long expected = random.nextLong();
+        assertEquals(expected, restored.nextLong());
+        assertEquals(expected, copy.nextLong());
+    }
+
+    @Test
+    // Tests that splits are deterministic and give different values to their parent.
+    void testSplitIsDeterministic() {
+        GameRandom first = new GameRandom(1).split();
+        GameRandom second = new GameRandom(1).split();
+        GameRandom parent = new GameRandom(1);
+
+        long value = first.nextLong();
+        assertEquals(value, second.nextLong());
+        assertNotEquals(value, parent.nextLong());
+    }
+
+    @Test
+    // Tests that bounded ints and floats stay within their range.
+    void testValuesAreInRange() {
+        GameRandom random = new GameRandom(3);
+        for (int i = 0; i < 1000; i++) {
+            int n = random.nextInt(7);
+            assertTrue(n >= 0 && n < 7);
+            float f = random.nextFloat();
+            assertTrue(f >= 0 && f < 1);
+        }
+    }
+
+    @Test
+    // Tests that invalid arguments are rejected.
+    void testExceptionOnInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> { new GameRandom(0).nextInt(0); });
+        assertThrows(IllegalArgumentException.class, () -> { new GameRandom(0, 2); });
+    }
+}
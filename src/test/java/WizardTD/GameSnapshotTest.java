@@ -0,0 +1,165 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.Game;
+import WizardTD.Game.GameSnapshot;
+import WizardTD.Game.SimulationEngine;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Board.Tile;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Towers.FireballTower;
+import WizardTD.Game.Entities.Towers.Tower;
+import WizardTD.Game.Player.InputManager.Keybindings;
+import processing.data.JSONObject;
+
+public class GameSnapshotTest {
+    private static JSONObject config;
+    private static float towerX;
+    private static float towerY;
+
+    @BeforeAll
+    static void setup() {
+        config = SimulationEngine.loadConfig("config.json");
+
+        Board board = new Board(config.getString("layout"));
+        for (Tile t : board.getLevelTiles().values()) {
+            if (t.isPlaceable()) {
+                towerX = t.getCenterPos().x;
+                towerY = t.getCenterPos().y;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Plays a game until its tower is shooting at monsters.
+     */
+    private static Game playGame(long seed) {
+        Game game = new Game(config, seed);
+        SimulationEngine engine = new SimulationEngine(game);
+
+        game.pressKey(Keybindings.BUILD_TOWER_KEY.key());
+        game.pressKey(Keybindings.UPGRADE_RANGE_KEY.key());
+        game.mouseMoved(towerX, towerY);
+        game.mousePressed(App.LEFT, towerX, towerY);
+        game.pressKey(Keybindings.UPGRADE_RANGE_KEY.key());
+        engine.step(60 * 25);
+        return game;
+    }
+
+    /**
+     * Gets the parts of a game's state that snapshots are compared by.
+     */
+    private static float[] stateOf(Game game) {
+        float[] state = new float[6 + game.getMonsterStore().size() * 3];
+        state[0] = game.getManaPool().getCurrentMana();
+        state[1] = game.getManaPool().getManaCap();
+        state[2] = game.getLeakCount();
+        state[3] = game.getTowerManager().getTowers().size();
+        state[4] = game.getWaveManager().getWaves().size();
+        state[5] = game.getWaveManager().getCurrentWaveDuration();
+        int i = 6;
+        for (Monster monster : game.getMonsterStore()) {
+            state[i++] = monster.getCenterPos().x;
+            state[i++] = monster.getCenterPos().y;
+            state[i++] = monster.getCurrentHP();
+        }
+        return state;
+    }
+
+    @Test
+    // Tests that a restored game continues exactly as the captured game does.
+    void testRestoredGameContinuesTheSame() {
+        Game played = playGame(5);
+        GameSnapshot snapshot = played.snapshot();
+
+        Game restored = new Game(config, 99);
+        restored.restore(snapshot);
+        assertArrayEquals(stateOf(played), stateOf(restored));
+
+        new SimulationEngine(played).step(60 * 20);
+        new SimulationEngine(restored).step(60 * 20);
+        assertArrayEquals(stateOf(played), stateOf(restored));
+    }
+
+    @Test
+    // Tests that towers keep their upgrades and their in-flight fireballs keep their targets.
+    void testTowersAndFireballsAreRestored() {
+        Game played = playGame(8);
+        Game restored = new Game(config, 0);
+        restored.restore(played.snapshot());
+
+        FireballTower expected = (FireballTower)played.getTowerManager().getTowers().getFirst();
+        FireballTower actual = (FireballTower)restored.getTowerManager().getTowers().getFirst();
+        assertEquals(1, expected.getRangeLevel());
+        assertEquals(expected.getRangeLevel(), actual.getRangeLevel());
+        assertEquals(expected.getRange(), actual.getRange());
+        assertEquals(expected.getFireballs().size(), actual.getFireballs().size());
+        assertTrue(restored.getTowerManager().isTileOccupied(restored.getBoard().getTileAtPos(towerX, towerY)));
+
+        for (int i = 0; i < actual.getFireballs().size(); i++) {
+            Monster target = actual.getFireballs().get(i).getTarget();
+            int index = played.getMonsterStore().indexOf(expected.getFireballs().get(i).getTarget());
+            if (index >= 0) {
+                assertTrue(target == restored.getMonsterStore().get(index));
+            }
+        }
+    }
+
+    @Test
+    // Tests that a game can be rewound to an earlier snapshot of itself.
+    void testGameCanBeRewound() {
+        Game game = playGame(13);
+        GameSnapshot snapshot = game.snapshot();
+        float[] expected = stateOf(game);
+
+        new SimulationEngine(game).step(60 * 10);
+        game.restore(snapshot);
+        assertArrayEquals(expected, stateOf(game));
+        for (Tower t : game.getTowerManager().getTowers()) {
+            assertEquals(game.getTowerManager(), t.getTowerManager());
+        }
+    }
+
+    @Test
+    // Tests that a snapshot saved to a file loads back the same.
+    void testSaveAndLoad() throws IOException {
+        Game played = playGame(21);
+        GameSnapshot snapshot = played.snapshot();
+
+        Path file = Files.createTempFile("snapshot", ".wtds");
+        try {
+            snapshot.save(file);
+            GameSnapshot loaded = GameSnapshot.load(file);
+            assertEquals(snapshot.getSize(), loaded.getSize());
+            assertArrayEquals(snapshot.toBytes(), loaded.toBytes());
+
+            Game restored = new Game(config, 0);
+            restored.restore(loaded);
+            assertArrayEquals(stateOf(played), stateOf(restored));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    // Tests that bytes that are not a snapshot are rejected.
+    void testExceptionOnBadSnapshot() {
+        assertThrows(IOException.class, () -> { GameSnapshot.fromBytes(new byte[] { 1, 2, 3, 4, 5, 6 }); });
+
+        byte[] truncated = java.util.Arrays.copyOf(playGame(2).snapshot().toBytes(), 40);
+        assertThrows(IllegalArgumentException.class,
+                     () -> { GameSnapshot.fromBytes(truncated).restore(new Game(config, 0)); });
+    }
+}
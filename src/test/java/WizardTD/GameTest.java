@@ -1,16 +1,24 @@
 package WizardTD;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import WizardTD.Game.Game;
+import WizardTD.Game.TimingWheel;
+import WizardTD.Game.Entities.Monsters.Gremlin;
 import WizardTD.Game.Entities.Monsters.Moag;
 import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Player.ManaPool;
 import processing.core.PApplet;
 import processing.core.PVector;
 import processing.data.JSONObject;
@@ -54,15 +62,15 @@ public class GameTest {
 
     @Test
     void testGameTicksAliveMonsters() {
-        game.getActiveMonsters().clear();
-        game.getActiveMonsters().add(new Monster(100, 1, 1, 10));
+        game.getMonsterStore().clear();
+        game.getMonsterStore().add(new Monster(game.getContext(), 100, 1, 1, 10));
 
-        PVector startPos = game.getActiveMonsters().get(0).getPos().copy();
+        PVector startPos = game.getMonsterStore().get(0).getPos().copy();
         game.tickMonsters();
         game.tickMonsters();
         game.tickMonsters();
         game.tickMonsters();
-        PVector endPos = game.getActiveMonsters().get(0).getPos().copy();
+        PVector endPos = game.getMonsterStore().get(0).getPos().copy();
 
         assertNotEquals(startPos, endPos);
     }
@@ -70,31 +78,66 @@ public class GameTest {
     @Test
     // Tests that mana is removed and the monster respawns when it reaches the house.
     void testMonsterReachesHouse() {
-        game.getActiveMonsters().clear();
-        game.getActiveMonsters().add(new Monster(100, 1, 1, 10));
+        game.getMonsterStore().clear();
+        game.getMonsterStore().add(new Monster(game.getContext(), 100, 1, 1, 10));
 
-        PVector expectedPos = game.getActiveMonsters().get(0).getStartingTile().getCenterPos();
+        PVector expectedPos = game.getMonsterStore().get(0).getStartingTile().getCenterPos();
         PVector housePos = game.getBoard().getWizHouse().getCenterPos();
-        game.getActiveMonsters().get(0).setCenterPos(housePos.x, housePos.y);
+        game.getMonsterStore().get(0).setCenterPos(housePos.x, housePos.y);
 
         float initialMana = game.getManaPool().getCurrentMana();
 
         game.tickMonsters();
 
-        PVector actualPos = game.getActiveMonsters().get(0).getCenterPos();
+        PVector actualPos = game.getMonsterStore().get(0).getCenterPos();
         float actualMana = game.getManaPool().getCurrentMana();
 
         assertEquals(expectedPos, actualPos);
         assertTrue(actualMana < initialMana);
     }
 
+    @Test
+    // Tests that a regenerating mana pool only has a task on the timing wheel for the tick it fills up on.
+    void testManaPoolIdlesWhenFull() {
+        ManaPool manaPool = game.getManaPool();
+        TimingWheel scheduler = game.getContext().getScheduler();
+        manaPool.setCurrentMana(manaPool.getManaCap() - 1);
+        assertEquals(1, scheduler.size());
+
+        for (int i = 0; i < App.FPS * 60 && scheduler.size() > 0; i++) {
+            scheduler.advance();
+        }
+        assertEquals(manaPool.getManaCap(), manaPool.getCurrentMana());
+        assertEquals(0, scheduler.size());
+
+        manaPool.removeMana(10);
+        assertEquals(1, scheduler.size());
+    }
+
+    @Test
+    // Tests that a regenerating mana pool accrues its mana without scheduling anything on each tick.
+    void testManaPoolAccruesLazily() {
+        ManaPool manaPool = game.getManaPool();
+        TimingWheel scheduler = game.getContext().getScheduler();
+        manaPool.setCurrentMana(1);
+        long sequence = scheduler.getNextSequence();
+
+        for (int i = 0; i < App.FPS; i++) {
+            scheduler.advance();
+        }
+
+        assertEquals(1 + manaPool.getManaPerSec(), manaPool.getCurrentMana(), 0.01f);
+        assertEquals(sequence, scheduler.getNextSequence());
+        assertEquals(1, scheduler.size());
+    }
+
     @Test
     void testManaAddedOnMonsterDeath() {
-        game.getActiveMonsters().clear();
-        game.getActiveMonsters().add(new Monster(100, 1, 1, 10));
+        game.getMonsterStore().clear();
+        game.getMonsterStore().add(new Monster(game.getContext(), 100, 1, 1, 10));
         
         float initialMana = game.getManaPool().getCurrentMana();
-        game.getActiveMonsters().get(0).setDead(true);
+        game.getMonsterStore().get(0).setDead(true);
 
         game.tickMonsters();
 
@@ -104,14 +147,34 @@ public class GameTest {
 
     @Test
     void testMoagAddedToActiveMonstersOnDeath() {
-        game.getActiveMonsters().clear();
+        game.getMonsterStore().clear();
         int numOfMonstersInMoag = 10;
-        game.getActiveMonsters().add(new Moag(numOfMonstersInMoag, 100, 1, 1, 10));
-        game.getActiveMonsters().get(0).setDead(true);
+        game.getMonsterStore().add(new Moag(game.getContext(), numOfMonstersInMoag, 100, 1, 1, 10));
+        game.getMonsterStore().get(0).setDead(true);
 
         game.tickMonsters();
-        int numberOfActiveMonsters = game.getActiveMonsters().size();
+        int numberOfActiveMonsters = game.getMonsterStore().size();
 
         assertEquals(numOfMonstersInMoag, numberOfActiveMonsters);
     }
+
+    @Test
+    // Tests that a gremlin that died before a moag is not given back to the moag while it is still listed.
+    void testDeadGremlinNotRespawnedByMoagInSameTick() {
+        game.getMonsterStore().clear();
+        int numOfMonstersInMoag = 3;
+        Monster gremlin = new Gremlin(game.getContext(), 100, 1, 1, 10);
+        game.getMonsterStore().add(gremlin);
+        game.getMonsterStore().add(new Moag(game.getContext(), numOfMonstersInMoag, 100, 1, 1, 10));
+        gremlin.setDead(true);
+        game.getMonsterStore().get(1).setDead(true);
+
+        game.tickMonsters();
+
+        Set<Monster> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(game.getMonsterStore());
+        assertEquals(numOfMonstersInMoag, game.getMonsterStore().size());
+        assertEquals(numOfMonstersInMoag, distinct.size());
+        assertFalse(distinct.contains(gremlin));
+    }
 }
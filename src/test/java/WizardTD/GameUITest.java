@@ -0,0 +1,142 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.Game;
+import WizardTD.Game.Player.InputManager.Keybindings;
+import WizardTD.Game.UI.GameUI;
+import WizardTD.Game.UI.ManaBar;
+import WizardTD.Game.UI.UIRegion;
+import WizardTD.Game.UI.WaveTimer;
+import WizardTD.Game.UI.Buttons.Button;
+import processing.core.PApplet;
+import processing.core.PGraphics;
+import processing.data.JSONObject;
+
+public class GameUITest {
+    private static App app;
+    private static JSONObject config;
+    private Game game;
+    private GameUI ui;
+    private PGraphics layer;
+
+    @BeforeAll
+    static void setup() {
+        app = new App();
+        app.loop();
+        PApplet.runSketch(new String[] { "App" }, app);
+        app.setup();
+        app.delay(1000);
+        config = app.loadJSONObject(app.configPath);
+    }
+
+    @BeforeEach
+    void setupUI() {
+        this.game = new Game(config);
+        this.ui = this.game.getGameUI();
+        this.layer = app.createGraphics(App.WIDTH, App.HEIGHT);
+        this.layer.beginDraw();
+    }
+
+    @AfterEach
+    void finishDrawing() {
+        this.layer.endDraw();
+    }
+
+    @Test
+    // Tests that the bars are drawn in full the first time, and not redrawn when nothing has changed.
+    void testPanelsAreDrawnInFullOnce() {
+        List<UIRegion> first = this.ui.drawPanels(this.layer);
+        assertEquals(2, first.size());
+        assertSame(this.ui.getTopBarRegion(), first.get(0));
+        assertSame(this.ui.getSideBarRegion(), first.get(1));
+
+        assertTrue(this.ui.drawPanels(this.layer).isEmpty());
+    }
+
+    @Test
+    // Tests that only the mana bar's region is redrawn when the mana shown changes.
+    void testOnlyManaBarIsRedrawnWhenManaChanges() {
+        this.ui.drawPanels(this.layer);
+
+        this.game.getManaPool().addMana(50);
+        this.game.getManaPool().tick();
+        List<UIRegion> redrawn = this.ui.drawPanels(this.layer);
+
+        assertEquals(1, redrawn.size());
+        assertSame(this.ui.getManaBar(), redrawn.get(0).getElement());
+        assertEquals(0, redrawn.get(0).getY());
+        assertEquals(App.TOPBAR, redrawn.get(0).getHeight());
+    }
+
+    @Test
+    // Tests that only a button's region is redrawn when it is activated.
+    void testOnlyButtonIsRedrawnWhenActivated() {
+        this.ui.drawPanels(this.layer);
+        Button pauseButton = this.game.getInputManager().getBoundButtons().get(Keybindings.PAUSE_KEY);
+
+        this.game.getInputManager().onButtonPress(Keybindings.PAUSE_KEY.key());
+        List<UIRegion> redrawn = this.ui.drawPanels(this.layer);
+
+        assertEquals(1, redrawn.size());
+        assertSame(pauseButton, redrawn.get(0).getElement());
+        assertEquals(App.LEVEL_WIDTH, redrawn.get(0).getX());
+        assertFalse(pauseButton.isDirty());
+    }
+
+    @Test
+    // Tests that elements are only marked dirty when what they show changes.
+    void testElementsOnlyDirtyWhenShownValueChanges() {
+        WaveTimer timer = new WaveTimer(0, 0, 10, 10);
+        timer.setTime(5.2f);
+        timer.markClean();
+        timer.setTime(4.9f);
+        assertFalse(timer.isDirty());
+        timer.setTime(4.4f);
+        assertTrue(timer.isDirty());
+
+        ManaBar bar = new ManaBar(0, 0, 10, 10);
+        bar.setMaxMana(100);
+        bar.setCurrentMana(50);
+        bar.markClean();
+        bar.setCurrentMana(50.3f);
+        bar.setMaxMana(100);
+        assertFalse(bar.isDirty());
+        bar.setCurrentMana(51);
+        assertTrue(bar.isDirty());
+    }
+
+    @Test
+    // Tests that the panel regions of the top and side bars do not overlap.
+    void testPanelRegionsAreDisjoint() {
+        this.ui.drawPanels(this.layer);
+        this.game.getManaPool().addMana(50);
+        this.game.getManaPool().tick();
+        for (Button b : this.game.getInputManager().getBoundButtons().values()) {
+            b.markDirty();
+        }
+        this.ui.getWaveTimer().markDirty();
+
+        List<UIRegion> regions = this.ui.drawPanels(this.layer);
+        assertEquals(9, regions.size());
+        for (int i = 0; i < regions.size(); i++) {
+            for (int j = i + 1; j < regions.size(); j++) {
+                UIRegion a = regions.get(i);
+                UIRegion b = regions.get(j);
+                boolean overlaps = a.getX() < b.getX() + b.getWidth() && b.getX() < a.getX() + a.getWidth() &&
+                                   a.getY() < b.getY() + b.getHeight() && b.getY() < a.getY() + a.getHeight();
+                assertFalse(overlaps);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.UI.HealthBar;
+import WizardTD.Game.UI.HealthBarBatch;
+import processing.core.PGraphics;
+import processing.core.PVector;
+
+public class HealthBarBatchTest {
+    private static final float MAX_HP = 100;
+    private static final float WIDTH = 20;
+    private static final float HEIGHT = 2;
+
+    /**
+     * A layer that records the calls that a batch makes to it.
+     */
+    private static final class RecordingGraphics extends PGraphics {
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void fill(float r, float g, float b) {
+            this.calls.add(r > 0 ? "red" : "green");
+        }
+
+        @Override
+        public void fill(float gray) {
+            this.calls.add("default");
+        }
+
+        @Override
+        public void rect(float a, float b, float c, float d) {
+            this.calls.add("rect " + (int) c);
+        }
+    }
+
+    private HealthBarBatch batch;
+    private RecordingGraphics layer;
+
+    @BeforeEach
+    void setup() {
+        this.batch = new HealthBarBatch();
+        this.layer = new RecordingGraphics();
+    }
+
+    /**
+     * Creates a health bar with the given health points.
+     */
+    private static HealthBar createBar(float x, float hp) {
+        HealthBar bar = new HealthBar(new PVector(x, 100), WIDTH, HEIGHT, MAX_HP);
+        bar.setCurrentHP(hp);
+        return bar;
+    }
+
+    @Test
+    // Tests that every background is drawn before every green bar, with one fill change per pass.
+    void testBarsAreDrawnInTwoPasses() {
+        this.batch.add(createBar(10, 50));
+        this.batch.add(createBar(40, 25));
+
+        this.batch.flush(this.layer);
+
+        assertEquals(Arrays.asList("red", "rect 20", "rect 20", "green", "rect 10", "rect 5", "default"),
+                     this.layer.calls);
+        assertEquals(2, this.batch.getBarsDrawn());
+        assertEquals(0, this.batch.size());
+    }
+
+    @Test
+    // Tests that bars of monsters at full health are skipped, and empty bars have no green bar.
+    void testFullBarsAreSkippedAndEmptyBarsHaveNoGreen() {
+        this.batch.add(createBar(10, MAX_HP));
+        this.batch.add(createBar(40, 0));
+        this.batch.add(null);
+
+        this.batch.flush(this.layer);
+
+        assertEquals(Arrays.asList("red", "rect 20", "green", "default"), this.layer.calls);
+        assertEquals(1, this.batch.getBarsDrawn());
+        assertEquals(1, this.batch.getBarsSkipped());
+    }
+
+    @Test
+    // Tests that an empty batch draws nothing, and that the batch grows to hold many bars.
+    void testEmptyAndLargeBatches() {
+        this.batch.flush(this.layer);
+        assertTrue(this.layer.calls.isEmpty());
+
+        for (int i = 0; i < 500; i++) {
+            this.batch.add(createBar(i, 50));
+        }
+        this.batch.flush(this.layer);
+
+        assertEquals(500 * 2 + 3, this.layer.calls.size());
+        assertEquals(500, this.batch.getBarsDrawn());
+        this.batch.resetCounts();
+        assertEquals(0, this.batch.getBarsDrawn());
+    }
+}
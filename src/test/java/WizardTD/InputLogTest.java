@@ -0,0 +1,121 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.Game;
+import WizardTD.Game.InputLog;
+import WizardTD.Game.SimulationEngine;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Board.Tile;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Player.InputManager.Keybindings;
+import processing.data.JSONObject;
+
+public class InputLogTest {
+    private static final long TICKS = 60 * 40;
+    private static JSONObject config;
+    private static float towerX;
+    private static float towerY;
+
+    @BeforeAll
+    static void setup() {
+        config = SimulationEngine.loadConfig("config.json");
+
+        Board board = new Board(config.getString("layout"));
+        for (Tile t : board.getLevelTiles().values()) {
+            if (t.isPlaceable()) {
+                towerX = t.getCenterPos().x;
+                towerY = t.getCenterPos().y;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Records a game where a tower is built and upgraded.
+     */
+    private static byte[] recordGame(long seed, Game[] played) throws IOException {
+        Game game = new Game(config, seed);
+        SimulationEngine engine = new SimulationEngine(game);
+        InputLog.Recorder recorder = InputLog.record(engine, config);
+
+        game.pressKey(Keybindings.BUILD_TOWER_KEY.key());
+        engine.step(30);
+        game.mouseMoved(towerX, towerY);
+        game.mousePressed(App.LEFT, towerX, towerY);
+        game.pressKey(Keybindings.BUILD_TOWER_KEY.key());
+        engine.step(600);
+        game.pressKey(Keybindings.UPGRADE_DAMAGE_KEY.key());
+        game.mouseMoved(towerX, towerY);
+        game.mousePressed(App.LEFT, towerX, towerY);
+        engine.step(TICKS);
+
+        played[0] = game;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.write(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Gets the parts of a game's state that replays are compared by.
+     */
+    private static float[] stateOf(Game game) {
+        float[] state = new float[4 + game.getMonsterStore().size() * 3];
+        state[0] = game.getManaPool().getCurrentMana();
+        state[1] = game.getLeakCount();
+        state[2] = game.getTowerManager().getTowers().size();
+        state[3] = game.getWaveManager().getWaves().size();
+        int i = 4;
+        for (Monster monster : game.getMonsterStore()) {
+            state[i++] = monster.getCenterPos().x;
+            state[i++] = monster.getCenterPos().y;
+            state[i++] = monster.getCurrentHP();
+        }
+        return state;
+    }
+
+    @Test
+    // Tests that replaying a recorded game ends in the same state as the game.
+    void testReplayMatchesRecording() throws IOException {
+        Game[] played = new Game[1];
+        byte[] bytes = recordGame(3, played);
+        InputLog log = InputLog.read(new ByteArrayInputStream(bytes));
+
+        assertEquals(3, log.getSeed());
+        assertEquals(7, log.getEventCount());
+        assertEquals(1, played[0].getTowerManager().getTowers().size());
+        assertArrayEquals(stateOf(played[0]), stateOf(log.play()));
+    }
+
+    @Test
+    // Tests that a log can be replayed many times with the same result.
+    void testReplayIsRepeatable() throws IOException {
+        InputLog log = InputLog.read(new ByteArrayInputStream(recordGame(11, new Game[1])));
+        assertArrayEquals(stateOf(log.play()), stateOf(log.play()));
+    }
+
+    @Test
+    // Tests that a stream that is not an input log is rejected.
+    void testExceptionOnBadMagic() {
+        byte[] bytes = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 };
+        assertThrows(IOException.class, () -> { InputLog.read(new ByteArrayInputStream(bytes)); });
+    }
+
+    @Test
+    // Tests that a log without its end event is rejected.
+    void testExceptionOnTruncatedLog() throws IOException {
+        byte[] bytes = recordGame(5, new Game[1]);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 2);
+        assertThrows(IOException.class, () -> { InputLog.read(new ByteArrayInputStream(truncated)); });
+    }
+}
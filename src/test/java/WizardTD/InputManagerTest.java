@@ -83,7 +83,7 @@ public class InputManagerTest {
         HashMap<PVector, Tile> board = game.getBoard().getLevelTiles();
         Tile validTile = null;
         for (Map.Entry<PVector, Tile> entry : board.entrySet()) {
-            if (!entry.getValue().isOccupied() && entry.getValue().isPlaceable()) {
+            if (!game.getTowerManager().isTileOccupied(entry.getValue()) && entry.getValue().isPlaceable()) {
                 validTile = entry.getValue();
                 break;
             }
@@ -110,7 +110,7 @@ public class InputManagerTest {
         HashMap<PVector, Tile> board = game.getBoard().getLevelTiles();
         Tile validTile = null;
         for (Map.Entry<PVector, Tile> entry : board.entrySet()) {
-            if (!entry.getValue().isOccupied() && entry.getValue().isPlaceable()) {
+            if (!game.getTowerManager().isTileOccupied(entry.getValue()) && entry.getValue().isPlaceable()) {
                 validTile = entry.getValue();
                 break;
             }
@@ -147,7 +147,7 @@ public class InputManagerTest {
         HashMap<PVector, Tile> board = game.getBoard().getLevelTiles();
         Tile validTile = null;
         for (Map.Entry<PVector, Tile> entry : board.entrySet()) {
-            if (!entry.getValue().isOccupied() && entry.getValue().isPlaceable()) {
+            if (!game.getTowerManager().isTileOccupied(entry.getValue()) && entry.getValue().isPlaceable()) {
                 validTile = entry.getValue();
                 break;
             }
@@ -189,6 +189,18 @@ public class InputManagerTest {
                                 .isButtonActivated());
     }
 
+    @Test
+    // Tests that the profiler overlay is toggled on key press.
+    void testProfilerOverlayTogglesOnButtonPress() {
+        boolean initiallyVisible = game.getGameUI().getProfilerOverlay().isVisible();
+
+        inputManager.onButtonPress(Keybindings.TOGGLE_PROFILER_KEY.key());
+        assertNotEquals(initiallyVisible, game.getGameUI().getProfilerOverlay().isVisible());
+
+        inputManager.onButtonPress(Keybindings.TOGGLE_PROFILER_KEY.key());
+        assertEquals(initiallyVisible, game.getGameUI().getProfilerOverlay().isVisible());
+    }
+
     @Test
     void testCanRebindKey() {
         Button boundButton = inputManager.getBoundButtons().get(Keybindings.FF_KEY);
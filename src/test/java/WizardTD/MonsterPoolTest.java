@@ -0,0 +1,186 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.GameContext;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Entities.Monsters.Beetle;
+import WizardTD.Game.Entities.Monsters.Gremlin;
+import WizardTD.Game.Entities.Monsters.Moag;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.MonsterPool;
+import WizardTD.Game.Entities.Monsters.MonsterStore;
+
+public class MonsterPoolTest {
+    private static final int CAPACITY = 2;
+    private GameContext context;
+    private MonsterPool pool;
+
+    @BeforeEach
+    void setupPool() {
+        this.context = new GameContext(new Board("level1.txt"), 0);
+        this.pool = new MonsterPool(this.context, CAPACITY);
+    }
+
+    /**
+     * Kills a monster and plays its death animation to the end.
+     */
+    private static void killAndFinishDying(Monster monster) {
+        monster.kill();
+        while (!monster.isDead()) {
+            monster.tickDeathAnim();
+        }
+    }
+
+    @Test
+    void testExceptionOnInvalidConstruction() {
+        assertThrows(IllegalArgumentException.class, () -> { new MonsterPool(this.context, -1); });
+        assertThrows(NullPointerException.class, () -> { new MonsterPool(null, CAPACITY); });
+        assertThrows(IllegalArgumentException.class,
+                     () -> { this.pool.acquire(MonsterStore.TYPE_MONSTER, 10, 1, 0, 1, 0); });
+    }
+
+    @Test
+    // Tests that a dead monster is reused once it has been released, as if it were new.
+    void testReclaimedMonsterIsReusedAndReset() {
+        Monster beetle = this.pool.acquire(MonsterStore.TYPE_BEETLE, 100, 1, 0.5f, 10, 0);
+        assertTrue(beetle instanceof Beetle);
+        beetle.setMoveIter(4);
+        beetle.setSpeedMultiplier(2);
+        killAndFinishDying(beetle);
+
+        this.pool.release(beetle);
+        assertEquals(1, this.pool.getFreeCount(MonsterStore.TYPE_BEETLE));
+
+        Monster reused = this.pool.acquire(MonsterStore.TYPE_BEETLE, 60, 2, 0.25f, 5, 0);
+        assertSame(beetle, reused);
+        assertFalse(reused.isDead());
+        assertTrue(reused.isAlive());
+        assertEquals(60, reused.getCurrentHP());
+        assertEquals(2, reused.getSpeed());
+        assertEquals(0.25f, reused.getArmour());
+        assertEquals(5, reused.getManaOnDeath());
+        assertEquals(0, reused.getMoveIter());
+        assertEquals(0, reused.getDeathImageiter());
+        assertEquals(1, reused.getSpeedMultiplier());
+        assertFalse(reused.hasCustomPath());
+        assertEquals(60, reused.getHealthBar().getMaxHP());
+        assertTrue(reused.getHealthBar().isFull());
+        assertEquals(reused.getStartingTile(), reused.getCurrentDest());
+    }
+
+    @Test
+    // Tests that releasing a monster invalidates its handle, and reusing it gives it a new one.
+    void testReleaseInvalidatesHandle() {
+        Monster gremlin = this.pool.acquire(MonsterStore.TYPE_GREMLIN, 100, 1, 0, 10, 0);
+        int handle = gremlin.getHandle();
+        assertSame(gremlin, this.context.getMonsterRegistry().get(handle));
+
+        killAndFinishDying(gremlin);
+        this.pool.release(gremlin);
+        assertNull(this.context.getMonsterRegistry().get(handle));
+
+        Monster reused = this.pool.acquire(MonsterStore.TYPE_GREMLIN, 100, 1, 0, 10, 0);
+        assertSame(gremlin, reused);
+        assertNotEquals(handle, reused.getHandle());
+        assertNull(this.context.getMonsterRegistry().get(handle));
+        assertSame(reused, this.context.getMonsterRegistry().get(reused.getHandle()));
+    }
+
+    @Test
+    // Tests that monsters are only reused by the same species, and the pool never holds more than its capacity.
+    void testSpeciesAndCapacity() {
+        List<Monster> worms = new ArrayList<>();
+        for (int i = 0; i < CAPACITY + 1; i++) {
+            worms.add(this.pool.acquire(MonsterStore.TYPE_WORM, 100, 1, 0, 10, 0));
+        }
+        for (Monster worm : worms) {
+            this.pool.release(worm);
+        }
+
+        assertEquals(CAPACITY, this.pool.getFreeCount(MonsterStore.TYPE_WORM));
+        assertEquals(CAPACITY, this.pool.getHighWaterMark(MonsterStore.TYPE_WORM));
+        assertEquals(CAPACITY + 1, this.pool.getReleaseCount(MonsterStore.TYPE_WORM));
+
+        assertTrue(this.pool.acquire(MonsterStore.TYPE_GREMLIN, 100, 1, 0, 10, 0) instanceof Gremlin);
+        assertEquals(0, this.pool.getHitCount(MonsterStore.TYPE_GREMLIN));
+        assertEquals(CAPACITY, this.pool.getFreeCount(MonsterStore.TYPE_WORM));
+
+        // Monsters that are not one of the species are only unregistered
+        Monster monster = new Monster(this.context, 100, 1, 0, 10);
+        this.pool.release(monster);
+        this.pool.release(null);
+        assertFalse(this.context.getMonsterRegistry().isValid(monster.getHandle()));
+        assertEquals(0, this.pool.getReleaseCount(MonsterStore.TYPE_MONSTER));
+    }
+
+    @Test
+    // Tests that gremlins can be acquired in bulk, and that the pool's stats count them.
+    void testAcquireGremlinsInBulk() {
+        List<Monster> gremlins = new ArrayList<>();
+        this.pool.acquireGremlins(3, 50, 1, 0, 5, gremlins);
+        assertEquals(3, gremlins.size());
+        for (Monster gremlin : gremlins) {
+            this.pool.release(gremlin);
+        }
+
+        gremlins.clear();
+        this.pool.acquireGremlins(4, 50, 1, 0, 5, gremlins);
+        assertEquals(4, gremlins.size());
+        assertEquals(7, this.pool.getAcquireCount(MonsterStore.TYPE_GREMLIN));
+        assertEquals(CAPACITY, this.pool.getHitCount(MonsterStore.TYPE_GREMLIN));
+        assertEquals(CAPACITY / 7f, this.pool.getHitRate());
+    }
+
+    @Test
+    // Tests that a moag's gremlins come from the game's monster pool.
+    void testMoagSpawnsFromPool() {
+        MonsterPool contextPool = this.context.getMonsterPool();
+        Moag moag = (Moag)contextPool.acquire(MonsterStore.TYPE_MOAG, 500, 1, 0, 50, 3);
+        assertEquals(3, moag.getNumberOfMonstersToSpawn());
+
+        List<Monster> spawned = new ArrayList<>();
+        moag.spawnMonstersInMoag(spawned);
+        assertEquals(3, spawned.size());
+        assertEquals(3, contextPool.getAcquireCount(MonsterStore.TYPE_GREMLIN));
+        for (Monster gremlin : spawned) {
+            assertEquals(moag.getStartingTile(), gremlin.getStartingTile());
+        }
+
+        // A reused moag spawns the number of gremlins it was acquired with
+        contextPool.release(moag);
+        Moag reused = (Moag)contextPool.acquire(MonsterStore.TYPE_MOAG, 500, 1, 0, 50, 1);
+        assertSame(moag, reused);
+        assertEquals(1, reused.getNumberOfMonstersToSpawn());
+    }
+
+    @Test
+    // Tests that reusing a monster uses the random number generator exactly as creating one does.
+    void testReuseMatchesCreation() {
+        GameContext other = new GameContext(new Board("level1.txt"), 0);
+        MonsterPool otherPool = new MonsterPool(other, CAPACITY);
+
+        Monster first = this.pool.acquire(MonsterStore.TYPE_GREMLIN, 100, 1, 0, 10, 0);
+        this.pool.release(first);
+        Monster reused = this.pool.acquire(MonsterStore.TYPE_GREMLIN, 100, 1, 0, 10, 0);
+
+        otherPool.acquire(MonsterStore.TYPE_GREMLIN, 100, 1, 0, 10, 0);
+        Monster created = otherPool.acquire(MonsterStore.TYPE_GREMLIN, 100, 1, 0, 10, 0);
+
+        assertEquals(other.getRandom().getState(), this.context.getRandom().getState());
+        assertEquals(created.getStartingTile().getPos(), reused.getStartingTile().getPos());
+        assertEquals(created.getCenterPos(), reused.getCenterPos());
+    }
+}
@@ -0,0 +1,137 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.GameContext;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Entities.Monsters.Beetle;
+import WizardTD.Game.Entities.Monsters.Gremlin;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.MonsterStore;
+import WizardTD.Game.Entities.Monsters.SpatialGrid;
+
+public class MonsterStoreTest {
+    private static GameContext context;
+    private static MonsterStore store;
+
+    @BeforeAll
+    static void setup() {
+        context = new GameContext(new Board("level1.txt"), 0);
+    }
+
+    @BeforeEach
+    void setupStore() {
+        store = new MonsterStore();
+    }
+
+    @Test
+    void testExceptionOnNullMonster() {
+        assertThrows(NullPointerException.class, () -> { store.add(null); });
+    }
+
+    @Test
+    // Tests that a monster's hot fields are copied into the store.
+    void testAddCopiesFields() {
+        Monster monster = new Gremlin(context, 100, 2, 0.5f, 10);
+        monster.setCenterPos(50, 60);
+
+        store.add(monster);
+        int index = store.size() - 1;
+
+        assertSame(monster, store.get(index));
+        assertEquals(50, store.getX(index), 0.001f);
+        assertEquals(60, store.getY(index), 0.001f);
+        assertEquals(100, store.getHP(index), 0.001f);
+        assertEquals(MonsterStore.TYPE_GREMLIN, store.getTypeId(index));
+        assertTrue(store.isAlive(index));
+    }
+
+    @Test
+    // Tests that updating a slot picks up changes made to its monster.
+    void testUpdateTracksState() {
+        Monster monster = new Beetle(context, 100, 1, 0, 10);
+        store.add(monster);
+        int index = store.size() - 1;
+
+        monster.kill();
+        store.update(index);
+        assertEquals(MonsterStore.DYING, store.getState(index));
+
+        monster.setDead(true);
+        store.update(index);
+        assertEquals(MonsterStore.DEAD, store.getState(index));
+        assertFalse(store.isAlive(index));
+    }
+
+    @Test
+    // Tests that removing dead monsters keeps the order of the others, so towers still target the earliest.
+    void testRemoveDead() {
+        Monster first = new Monster(context, 100, 1, 0, 10);
+        Monster second = new Monster(context, 100, 1, 0, 10);
+        Monster third = new Monster(context, 100, 1, 0, 10);
+        Monster last = new Monster(context, 100, 1, 0, 10);
+        second.setCenterPos(310, 400);
+        last.setCenterPos(300, 400);
+        store.add(first);
+        store.add(second);
+        store.add(third);
+        store.add(last);
+
+        first.setDead(true);
+        store.update(0);
+        third.setDead(true);
+        store.update(2);
+
+        assertEquals(2, store.removeDead());
+        assertEquals(2, store.size());
+        assertSame(second, store.get(0));
+        assertSame(last, store.get(1));
+        assertEquals(300, store.getX(1), 0.001f);
+        assertEquals(400, store.getY(1), 0.001f);
+        assertEquals(0, store.removeDead());
+
+        SpatialGrid grid = new SpatialGrid();
+        grid.rebuild(store);
+        assertSame(second, grid.getFirstInRange(300, 400, 50));
+    }
+
+    @Test
+    // Tests that the store grows past its initial capacity and can be used as a list of its monsters.
+    void testAddManyMonsters() {
+        Monster[] monsters = new Monster[200];
+        for (int i = 0; i < monsters.length; i++) {
+            monsters[i] = new Monster(context, 100, 1, 0, 10);
+            store.add(monsters[i]);
+        }
+
+        assertEquals(200, store.size());
+        assertSame(monsters[150], store.get(150));
+        assertEquals(150, store.indexOf(monsters[150]));
+        assertTrue(store.contains(monsters[199]));
+
+        store.clear();
+        assertTrue(store.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> { store.get(0); });
+    }
+
+    @Test
+    // Tests that the spatial grid can be built from the store's arrays.
+    void testSpatialGridFromStore() {
+        Monster monster = new Monster(context, 100, 1, 0, 10);
+        monster.setCenterPos(200, 200);
+        store.add(monster);
+
+        SpatialGrid grid = new SpatialGrid();
+        grid.rebuild(store);
+
+        assertSame(monster, grid.getFirstInRange(210, 210, 50));
+    }
+}
@@ -10,15 +10,19 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import WizardTD.Game.GameContext;
+import WizardTD.Game.TimingWheel;
 import WizardTD.Game.Board.Board;
 import WizardTD.Game.Board.Path;
 import WizardTD.Game.Board.Tile;
 import WizardTD.Game.Entities.Monsters.Beetle;
 import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.PathPredictor;
 import processing.core.PApplet;
 import processing.core.PVector;
 
 public class MonsterTest {
+    private static GameContext context;
     private static App app;
     private static final int HP = 100;
     private static final float SPEED = 4f;
@@ -36,18 +40,18 @@ public class MonsterTest {
         app.delay(1000); // to give time to initialise stuff before drawing begins
         board = new Board("level1.txt");
         
-        Monster.findMonsterPaths(board);
+        context = new GameContext(board, 0);
     }
 
     @BeforeEach
     void setupMonster() {
-        monster = new Monster(HP, SPEED, ARMOUR, MANA_ON_DEATH);
+        monster = new Monster(context, HP, SPEED, ARMOUR, MANA_ON_DEATH);
     }
     
     @Test
     void testExceptionOnNegativeHealth() {
         Exception exception = assertThrows(IllegalArgumentException.class,
-                                           () -> {new Monster(-1, SPEED, ARMOUR, MANA_ON_DEATH); });
+                                           () -> {new Monster(context, -1, SPEED, ARMOUR, MANA_ON_DEATH); });
 
         String expectedMessage = "initial HP must be > 0.";
         String actualMessage = exception.getMessage();
@@ -58,7 +62,7 @@ public class MonsterTest {
     @Test
     void testExceptionOnNoHealth() {
         Exception exception = assertThrows(IllegalArgumentException.class,
-                                           () -> {new Monster(0, SPEED, ARMOUR, MANA_ON_DEATH); });
+                                           () -> {new Monster(context, 0, SPEED, ARMOUR, MANA_ON_DEATH); });
 
         String expectedMessage = "initial HP must be > 0.";
         String actualMessage = exception.getMessage();
@@ -69,7 +73,7 @@ public class MonsterTest {
     @Test
     void testExceptionOnNegativeSpeed() {
         Exception exception = assertThrows(IllegalArgumentException.class,
-                                           () -> {new Monster(HP, -1, ARMOUR, MANA_ON_DEATH); });
+                                           () -> {new Monster(context, HP, -1, ARMOUR, MANA_ON_DEATH); });
 
         String expectedMessage = "Initial speed must be > 0.";
         String actualMessage = exception.getMessage();
@@ -80,7 +84,7 @@ public class MonsterTest {
     @Test
     void testExceptionOnNoSpeed() {
         Exception exception = assertThrows(IllegalArgumentException.class,
-                                           () -> {new Monster(HP, 0, ARMOUR, MANA_ON_DEATH); });
+                                           () -> {new Monster(context, HP, 0, ARMOUR, MANA_ON_DEATH); });
 
         String expectedMessage = "Initial speed must be > 0.";
         String actualMessage = exception.getMessage();
@@ -91,7 +95,7 @@ public class MonsterTest {
     @Test
     void testExceptionOnNegativeArmour() {
         Exception exception = assertThrows(IllegalArgumentException.class,
-                                           () -> {new Monster(HP, SPEED, -1, MANA_ON_DEATH); });
+                                           () -> {new Monster(context, HP, SPEED, -1, MANA_ON_DEATH); });
 
         String expectedMessage = "Armour must be >= 0.";
         String actualMessage = exception.getMessage();
@@ -102,7 +106,7 @@ public class MonsterTest {
     @Test
     void testExceptionOnNegativeManaOnDeath() {
         Exception exception = assertThrows(IllegalArgumentException.class,
-                                           () -> {new Monster(HP, SPEED, ARMOUR, -1); });
+                                           () -> {new Monster(context, HP, SPEED, ARMOUR, -1); });
 
         String expectedMessage = "Mana on death must be >= 0.";
         String actualMessage = exception.getMessage();
@@ -117,7 +121,7 @@ public class MonsterTest {
 
     @Test
     void testMonsterMovesAlongPath() {
-        Monster test = new Monster(HP, SPEED, ARMOUR, MANA_ON_DEATH);
+        Monster test = new Monster(context, HP, SPEED, ARMOUR, MANA_ON_DEATH);
         PVector expectedEndPos = board.getWizHouse().getCenterPos();
 
         while (test.getMoveIter() < test.getPath().size()) {
@@ -128,12 +132,51 @@ public class MonsterTest {
         assertEquals(expectedEndPos, actualEndPos);
     }
 
+    @Test
+    // Tests that a path predictor follows the monster's path exactly, without moving the monster.
+    void testPathPredictorMatchesMovement() {
+        Monster test = new Monster(context, HP, 1.5f, ARMOUR, MANA_ON_DEATH);
+        for (int i = 0; i < 20; i++) {
+            test.tick();
+        }
+
+        PathPredictor predictor = new PathPredictor();
+        predictor.start(test);
+        PVector before = test.getCenterPos().copy();
+        for (int i = 0; i < 200; i++) {
+            predictor.step();
+        }
+        assertEquals(before, test.getCenterPos());
+        assertEquals(200, predictor.getTicks());
+
+        for (int i = 0; i < 200; i++) {
+            test.tick();
+        }
+        assertEquals(test.getCenterPos().x, predictor.getX());
+        assertEquals(test.getCenterPos().y, predictor.getY());
+    }
+
+    @Test
+    // Tests that a path predictor stops at the wizard's house.
+    void testPathPredictorStopsAtHouse() {
+        Monster test = new Monster(context, HP, SPEED, ARMOUR, MANA_ON_DEATH);
+        PathPredictor predictor = new PathPredictor();
+        predictor.start(test);
+        for (int i = 0; i < 10000; i++) {
+            predictor.step();
+        }
+
+        PVector house = board.getWizHouse().getCenterPos();
+        assertEquals(house.x, predictor.getX());
+        assertEquals(house.y, predictor.getY());
+    }
+
     @Test
     void testAbleToSetPath() {
-        Monster test = new Monster(HP, SPEED, ARMOUR, MANA_ON_DEATH);
+        Monster test = new Monster(context, HP, SPEED, ARMOUR, MANA_ON_DEATH);
         ArrayList<Tile> expectedPath = new ArrayList<>();
         for (int i = 0; i < 10; i++) {
-            expectedPath.add(new Path(i, i));
+            expectedPath.add(new Path(i, i, context.getAssets()));
         }
 
         test.setPath(expectedPath);
@@ -145,7 +188,7 @@ public class MonsterTest {
     @Test
     // Tests the beetle's ability to move along tiles.
     void testBeetleMovesTowardsDest() {
-        Beetle beetle = new Beetle(HP, SPEED, ARMOUR, MANA_ON_DEATH);
+        Beetle beetle = new Beetle(context, HP, SPEED, ARMOUR, MANA_ON_DEATH);
         beetle.move();
         
         while (beetle.getMoveIter() < beetle.getPath().size()) {
@@ -164,7 +207,7 @@ public class MonsterTest {
     @Test
     // Tests that the beetle correctly respawns.
     void testBeetleRespawns() {
-        Beetle beetle = new Beetle(HP, SPEED, ARMOUR, MANA_ON_DEATH);
+        Beetle beetle = new Beetle(context, HP, SPEED, ARMOUR, MANA_ON_DEATH);
         int expectedMoveIter = beetle.getMoveIter();
         PVector expectedPos = beetle.getStartingTile().getCenterPos();
 
@@ -183,7 +226,7 @@ public class MonsterTest {
     @Test
     // tests that beetle's death animation works.
     void testPlayDeathAnimation() {
-        Beetle beetle = new Beetle(HP, SPEED, ARMOUR, MANA_ON_DEATH);
+        Beetle beetle = new Beetle(context, HP, SPEED, ARMOUR, MANA_ON_DEATH);
         int lengthOfAnimation = beetle.getDeathAnimImages().length * 4;
 
         for (int i = 0; i < lengthOfAnimation; i++) {
@@ -194,4 +237,29 @@ public class MonsterTest {
         assertTrue(beetle.isDead());
     }
 
+    @Test
+    // Tests that the death animation plays on the timing wheel, at the speed multiplier.
+    void testDeathAnimationOnTimingWheel() {
+        TimingWheel scheduler = context.getScheduler();
+        int images = monster.getDeathAnimImages().length;
+        float[] speedMultipliers = { 1, 2 };
+        for (float speedMultiplier : speedMultipliers) {
+            Monster dying = new Monster(context, HP, SPEED, ARMOUR, MANA_ON_DEATH);
+            dying.setSpeedMultiplier(speedMultiplier);
+            dying.kill();
+            dying.startDeathAnim();
+            dying.startDeathAnim();
+            assertEquals(1, dying.getDeathImageiter());
+
+            // Each image after the first is shown four ticks after the last, divided by the speed multiplier
+            int ticks = 0;
+            while (!dying.isDead()) {
+                scheduler.advance();
+                ++ticks;
+            }
+            assertEquals(1 + (int)((images - 1) * 4 / speedMultiplier), ticks);
+            assertEquals(images, dying.getDeathImageiter());
+        }
+    }
+
 }
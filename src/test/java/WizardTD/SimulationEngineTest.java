@@ -0,0 +1,79 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.SimulationEngine;
+import processing.data.JSONObject;
+
+public class SimulationEngineTest {
+    private static final long MAX_TICKS = 60 * 60 * 10;
+    private static JSONObject config;
+    private static SimulationEngine engine;
+
+    @BeforeAll
+    static void setup() {
+        // No PApplet is created, the engine must run without a window or sprites.
+        config = SimulationEngine.loadConfig("config.json");
+    }
+
+    @BeforeEach
+    void setupEngine() {
+        engine = new SimulationEngine(config);
+    }
+
+    @Test
+    // Tests that a full game can be played headless until it ends.
+    void testRunsGameToCompletionHeadless() {
+        assertTrue(engine.run(MAX_TICKS));
+        assertTrue(engine.getGame().isGameWon() || engine.getGame().isGameLost());
+    }
+
+    @Test
+    // Tests that the engine stops ticking once the game is over.
+    void testStepReturnsFalseOnceGameIsOver() {
+        engine.run(MAX_TICKS);
+        long ticks = engine.getTickCount();
+
+        assertFalse(engine.step());
+        assertEquals(ticks, engine.getTickCount());
+    }
+
+    @Test
+    // Tests that observers are notified once per tick.
+    void testObserverNotifiedEveryTick() {
+        long[] notified = { 0 };
+        engine.addObserver((game, tick) -> notified[0] = tick);
+
+        long executed = engine.step(100);
+
+        assertEquals(executed, notified[0]);
+    }
+
+    @Test
+    // Tests that a faster game speed executes proportionally more fixed ticks per frame.
+    void testAdvanceScalesTicksWithGameSpeed() {
+        engine.getGame().changeGameSpeed(4);
+
+        int executed = 0;
+        for (int frame = 0; frame < 60; frame++) {
+            executed += engine.advance(1f / App.FPS);
+        }
+
+        assertTrue(executed >= 4 * 60 - 1 && executed <= 4 * 60);
+    }
+
+    @Test
+    // Tests that a long stall does not try to catch up on all of the missed time.
+    void testAdvanceClampsLongStalls() {
+        int executed = engine.advance(10);
+        int maxTicks = Math.round(SimulationEngine.MAX_FRAME_TIME * App.FPS);
+
+        assertTrue(executed <= maxTicks);
+    }
+}
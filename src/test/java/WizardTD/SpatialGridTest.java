@@ -0,0 +1,100 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.LinkedList;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.GameContext;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.SpatialGrid;
+
+public class SpatialGridTest {
+    private static GameContext context;
+    private static final float RANGE = 96;
+    private static LinkedList<Monster> monsters;
+    private static SpatialGrid grid;
+
+    @BeforeAll
+    static void setup() {
+        context = new GameContext(new Board("level1.txt"), 0);
+    }
+
+    @BeforeEach
+    void setupGrid() {
+        monsters = new LinkedList<>();
+        grid = new SpatialGrid();
+    }
+
+    private static Monster addMonsterAt(float x, float y) {
+        Monster monster = new Monster(context, 100, 1, 0, 10);
+        monster.setCenterPos(x, y);
+        monsters.add(monster);
+        return monster;
+    }
+
+    @Test
+    // Tests that a monster within range is found.
+    void testFindsMonsterInRange() {
+        Monster expected = addMonsterAt(200, 200);
+        grid.rebuild(monsters);
+
+        assertEquals(expected, grid.getFirstInRange(250, 250, RANGE));
+    }
+
+    @Test
+    // Tests that a monster in an overlapping cell but outside of the range circle is ignored.
+    void testIgnoresMonsterOutsideRangeCircle() {
+        addMonsterAt(200 + RANGE * 0.8f, 200 + RANGE * 0.8f);
+        grid.rebuild(monsters);
+
+        assertNull(grid.getFirstInRange(200, 200, RANGE));
+    }
+
+    @Test
+    // Tests that the first monster added is chosen, the same as iterating the monster list.
+    void testFindsFirstAddedMonster() {
+        addMonsterAt(500, 500);
+        Monster expected = addMonsterAt(300, 300);
+        addMonsterAt(250, 250);
+        grid.rebuild(monsters);
+
+        assertEquals(expected, grid.getFirstInRange(260, 260, RANGE));
+    }
+
+    @Test
+    // Tests that monsters with no health left are not targeted.
+    void testIgnoresDeadMonsters() {
+        addMonsterAt(200, 200).kill();
+        Monster expected = addMonsterAt(210, 210);
+        grid.rebuild(monsters);
+
+        assertEquals(expected, grid.getFirstInRange(200, 200, RANGE));
+    }
+
+    @Test
+    // Tests that monsters just outside of the board can still be targeted.
+    void testFindsMonsterOutsideBoard() {
+        Monster expected = addMonsterAt(-40, 300);
+        grid.rebuild(monsters);
+
+        assertEquals(expected, grid.getFirstInRange(20, 300, RANGE));
+    }
+
+    @Test
+    // Tests that rebuilding the grid forgets monsters that were removed.
+    void testRebuildForgetsRemovedMonsters() {
+        addMonsterAt(200, 200);
+        grid.rebuild(monsters);
+        monsters.clear();
+        grid.rebuild(monsters);
+
+        assertEquals(0, grid.size());
+        assertNull(grid.getFirstInRange(200, 200, RANGE));
+    }
+}
@@ -0,0 +1,91 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.SpriteAtlas;
+import processing.core.PConstants;
+import processing.core.PImage;
+
+public class SpriteAtlasTest {
+    /**
+     * Creates a sprite whose every pixel is the given colour.
+     */
+    private static PImage createSprite(int width, int height, int colour) {
+        PImage sprite = new PImage(width, height, PConstants.ARGB);
+        Arrays.fill(sprite.pixels, colour);
+        return sprite;
+    }
+
+    @Test
+    // Tests that each sprite's pixels are copied into its own region of the atlas.
+    void testSpritesArePackedIntoRegions() {
+        PImage small = createSprite(4, 3, 0xFF0000FF);
+        PImage tall = createSprite(5, 8, 0xFF00FF00);
+        SpriteAtlas atlas = new SpriteAtlas(Arrays.asList(small, tall));
+
+        assertEquals(2, atlas.size());
+        for (PImage sprite : new PImage[] { small, tall }) {
+            int region = atlas.getRegion(sprite);
+            assertEquals(sprite.width, atlas.getRegionWidth(region));
+            assertEquals(sprite.height, atlas.getRegionHeight(region));
+
+            PImage image = atlas.getImage();
+            for (int y = 0; y < sprite.height; y++) {
+                for (int x = 0; x < sprite.width; x++) {
+                    int pixel = image.pixels[(atlas.getRegionY(region) + y) * image.width + atlas.getRegionX(region) + x];
+                    assertEquals(sprite.pixels[y * sprite.width + x], pixel);
+                }
+            }
+        }
+    }
+
+    @Test
+    // Tests that sprites that do not fit in a row are moved to the next row without overlapping.
+    void testRegionsDoNotOverlap() {
+        PImage[] sprites = new PImage[20];
+        for (int i = 0; i < sprites.length; i++) {
+            sprites[i] = createSprite(32 + i, 32 - i, 0xFF000000 | i);
+        }
+        SpriteAtlas atlas = new SpriteAtlas(Arrays.asList(sprites));
+
+        for (int i = 0; i < sprites.length; i++) {
+            int a = atlas.getRegion(sprites[i]);
+            for (int j = i + 1; j < sprites.length; j++) {
+                int b = atlas.getRegion(sprites[j]);
+                boolean overlaps = atlas.getRegionX(a) < atlas.getRegionX(b) + atlas.getRegionWidth(b) &&
+                                   atlas.getRegionX(b) < atlas.getRegionX(a) + atlas.getRegionWidth(a) &&
+                                   atlas.getRegionY(a) < atlas.getRegionY(b) + atlas.getRegionHeight(b) &&
+                                   atlas.getRegionY(b) < atlas.getRegionY(a) + atlas.getRegionHeight(a);
+                assertFalse(overlaps);
+            }
+            assertTrue(atlas.getRegionX(a) + atlas.getRegionWidth(a) <= SpriteAtlas.WIDTH);
+            assertTrue(atlas.getRegionY(a) + atlas.getRegionHeight(a) <= atlas.getImage().height);
+        }
+    }
+
+    @Test
+    // Tests that null and repeated sprites are only skipped, and unknown sprites have no region.
+    void testNullRepeatedAndUnknownSprites() {
+        PImage sprite = createSprite(2, 2, 0xFFFFFFFF);
+        SpriteAtlas atlas = new SpriteAtlas(Arrays.asList(sprite, null, sprite));
+
+        assertEquals(1, atlas.size());
+        assertEquals(-1, atlas.getRegion(createSprite(2, 2, 0xFFFFFFFF)));
+    }
+
+    @Test
+    // Tests that an atlas cannot be made from no list or from a sprite wider than the atlas.
+    void testExceptionOnInvalidSprites() {
+        assertThrows(NullPointerException.class, () -> { new SpriteAtlas(null); });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new SpriteAtlas(Arrays.asList(createSprite(SpriteAtlas.WIDTH, 1, 0)));
+        });
+    }
+}
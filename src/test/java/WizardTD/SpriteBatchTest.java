@@ -0,0 +1,109 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.SpriteAtlas;
+import WizardTD.Game.SpriteBatch;
+import processing.core.PConstants;
+import processing.core.PGraphics;
+import processing.core.PImage;
+
+public class SpriteBatchTest {
+    private static final int TINT = 0xFFC80064;
+
+    /**
+     * A layer that records the calls that a batch makes to it.
+     */
+    private static final class RecordingGraphics extends PGraphics {
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void image(PImage img, float x, float y) {
+            this.calls.add("image " + (int) x);
+        }
+
+        @Override
+        public void image(PImage img, float a, float b, float c, float d, int u1, int v1, int u2, int v2) {
+            this.calls.add("atlas " + (int) a);
+        }
+
+        @Override
+        public void tint(int rgb) {
+            this.calls.add("tint");
+        }
+
+        @Override
+        public void noTint() {
+            this.calls.add("noTint");
+        }
+    }
+
+    private PImage first;
+    private PImage second;
+    private SpriteAtlas atlas;
+    private RecordingGraphics layer;
+
+    @BeforeEach
+    void setup() {
+        this.first = new PImage(2, 2, PConstants.ARGB);
+        this.second = new PImage(3, 3, PConstants.ARGB);
+        this.atlas = new SpriteAtlas(Arrays.asList(this.first, this.second));
+        this.layer = new RecordingGraphics();
+    }
+
+    @Test
+    // Tests that tinted sprites are drawn together after untinted ones, with one tint change per tint.
+    void testTintedSpritesAreGrouped() {
+        SpriteBatch batch = new SpriteBatch(this.atlas);
+        batch.add(this.first, 1, 0, TINT);
+        batch.add(this.second, 2, 0);
+        batch.add(this.first, 3, 0, TINT);
+        batch.add(this.second, 4, 0);
+
+        batch.flush(this.layer);
+
+        assertEquals(Arrays.asList("atlas 2", "atlas 4", "tint", "atlas 1", "atlas 3", "noTint"), this.layer.calls);
+        assertEquals(4, batch.getDrawCalls());
+        assertEquals(2, batch.getTintChanges());
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    // Tests that sprites outside of the atlas are drawn on their own, and null sprites are not drawn.
+    void testSpritesOutsideOfAtlas() {
+        SpriteBatch batch = new SpriteBatch(this.atlas);
+        batch.add(new PImage(1, 1, PConstants.ARGB), 1, 0);
+        batch.add(null, 2, 0);
+        batch.add(this.first, 3, 0);
+
+        batch.flush(this.layer);
+
+        assertEquals(Arrays.asList("image 1", "atlas 3"), this.layer.calls);
+        assertEquals(2, batch.getDrawCalls());
+        assertEquals(0, batch.getTintChanges());
+    }
+
+    @Test
+    // Tests that a batch without an atlas draws every sprite on its own, and that counts add up until reset.
+    void testBatchWithoutAtlas() {
+        SpriteBatch batch = new SpriteBatch(null);
+        for (int i = 0; i < 100; i++) {
+            batch.add(this.first, i, 0);
+        }
+        batch.flush(this.layer);
+        batch.add(this.second, 0, 0);
+        batch.flush(this.layer);
+
+        assertEquals(101, this.layer.calls.size());
+        assertEquals(101, batch.getDrawCalls());
+        batch.resetCounts();
+        assertEquals(0, batch.getDrawCalls());
+    }
+}
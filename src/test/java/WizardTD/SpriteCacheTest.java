@@ -0,0 +1,85 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.SpriteCache;
+import processing.core.PConstants;
+import processing.core.PImage;
+
+public class SpriteCacheTest {
+    private SpriteCache cache;
+    private PImage sprite;
+
+    /**
+     * Creates a 3 wide, 2 high sprite whose pixels are numbered
+     * <pre>
+     * 1 2 3
+     * 4 5 6
+     * </pre>
+     */
+    @BeforeEach
+    void setup() {
+        this.cache = new SpriteCache();
+        this.sprite = new PImage(3, 2, PConstants.ARGB);
+        for (int i = 0; i < 6; i++) {
+            this.sprite.pixels[i] = i + 1;
+        }
+    }
+
+    @Test
+    // Tests that a quarter turn clockwise swaps the sprite's width and height and moves its pixels.
+    void testRotateQuarterTurn() {
+        PImage rotated = this.cache.getRotated(this.sprite, 90);
+
+        assertEquals(2, rotated.width);
+        assertEquals(3, rotated.height);
+        assertArrayEquals(new int[] { 4, 1, 5, 2, 6, 3 }, rotated.pixels);
+    }
+
+    @Test
+    // Tests that half a turn reverses the sprite's pixels.
+    void testRotateHalfTurn() {
+        PImage rotated = this.cache.getRotated(this.sprite, 180);
+
+        assertEquals(3, rotated.width);
+        assertEquals(2, rotated.height);
+        assertArrayEquals(new int[] { 6, 5, 4, 3, 2, 1 }, rotated.pixels);
+    }
+
+    @Test
+    // Tests that three quarter turns clockwise is a quarter turn anticlockwise.
+    void testRotateThreeQuarterTurns() {
+        PImage rotated = this.cache.getRotated(this.sprite, 270);
+
+        assertEquals(2, rotated.width);
+        assertEquals(3, rotated.height);
+        assertArrayEquals(new int[] { 3, 6, 2, 5, 1, 4 }, rotated.pixels);
+        assertArrayEquals(rotated.pixels, this.cache.getRotated(this.sprite, -90).pixels);
+    }
+
+    @Test
+    // Tests that each rotation is only made once and is shared.
+    void testRotationsAreShared() {
+        PImage first = this.cache.getRotated(this.sprite, 90);
+
+        assertSame(first, this.cache.getRotated(this.sprite, 90));
+        assertSame(first, this.cache.getRotated(this.sprite, 450));
+        assertSame(this.sprite, this.cache.getRotated(this.sprite, 0));
+        assertSame(this.sprite, this.cache.getRotated(this.sprite, 360));
+        assertEquals(1, this.cache.size());
+    }
+
+    @Test
+    // Tests that games without sprites get no rotated sprites, and other angles are rejected.
+    void testNullSpriteAndInvalidAngle() {
+        assertNull(this.cache.getRotated(null, 90));
+        assertThrows(IllegalArgumentException.class, () -> { this.cache.getRotated(this.sprite, 45); });
+    }
+}
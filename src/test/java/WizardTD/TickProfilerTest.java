@@ -0,0 +1,120 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.TickProfiler;
+import WizardTD.Game.TickProfiler.Counter;
+import WizardTD.Game.TickProfiler.Section;
+
+public class TickProfilerTest {
+    private static final int CAPACITY = 100;
+    private static TickProfiler profiler;
+
+    @BeforeEach
+    void setupProfiler() {
+        profiler = new TickProfiler(CAPACITY);
+    }
+
+    @Test
+    void testExceptionOnInvalidCapacity() {
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                                           () -> {new TickProfiler(0); });
+
+        assertTrue(exception.getMessage().contains("must be >= 1"));
+    }
+
+    @Test
+    void testExceptionOnInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> { profiler.getPercentile(Section.WAVES, 1.5); });
+    }
+
+    @Test
+    // Tests that a section with no samples reports zero for every stat.
+    void testEmptySection() {
+        assertEquals(0, profiler.getSampleCount(Section.MONSTERS));
+        assertEquals(0, profiler.getPercentile(Section.MONSTERS, 0.5));
+        assertEquals(0, profiler.getMax(Section.MONSTERS));
+        assertEquals(0, profiler.getMean(Section.MONSTERS), 0.001);
+    }
+
+    @Test
+    // Tests the percentiles and max of a known set of samples.
+    void testPercentiles() {
+        for (int i = CAPACITY; i >= 1; i--) {
+            profiler.record(Section.TOWERS, i);
+        }
+
+        assertEquals(50, profiler.getPercentile(Section.TOWERS, 0.5));
+        assertEquals(99, profiler.getPercentile(Section.TOWERS, 0.99));
+        assertEquals(100, profiler.getMax(Section.TOWERS));
+        assertEquals(50.5, profiler.getMean(Section.TOWERS), 0.001);
+    }
+
+    @Test
+    // Tests that the oldest samples are overwritten once the ring buffer is full.
+    void testRingBufferOverwritesOldest() {
+        for (int i = 0; i < CAPACITY; i++) {
+            profiler.record(Section.SCHEDULED, 1000);
+        }
+        for (int i = 0; i < CAPACITY; i++) {
+            profiler.record(Section.SCHEDULED, 10);
+        }
+
+        assertEquals(CAPACITY, profiler.getSampleCount(Section.SCHEDULED));
+        assertEquals(CAPACITY * 2, profiler.getTotalCount(Section.SCHEDULED));
+        assertEquals(10, profiler.getMax(Section.SCHEDULED));
+    }
+
+    @Test
+    // Tests that sections are recorded independently of each other.
+    void testSectionsAreIndependent() {
+        long start = profiler.begin();
+        start = profiler.lap(Section.DRAW_BACKGROUND, start);
+        profiler.end(Section.DRAW_UI, start);
+
+        assertEquals(1, profiler.getSampleCount(Section.DRAW_BACKGROUND));
+        assertEquals(1, profiler.getSampleCount(Section.DRAW_UI));
+        assertEquals(0, profiler.getSampleCount(Section.DRAW_ENTITIES));
+    }
+
+    @Test
+    // Tests that the CSV has a header and one row per section.
+    void testCsvExport() throws IOException {
+        profiler.record(Section.WAVES, 2_000_000);
+        StringWriter out = new StringWriter();
+        profiler.writeCsv(out);
+
+        String[] rows = out.toString().split("\n");
+        assertEquals(Section.values().length + 1, rows.length);
+        assertTrue(rows[0].startsWith("section,samples"));
+        assertEquals("waves,1,1,2.0000,2.0000,2.0000,2.0000", rows[1]);
+    }
+
+    @Test
+    // Tests that counters are recorded separately from sections.
+    void testCountersAreRecordedSeparately() {
+        profiler.record(Counter.SPRITE_DRAWS, 10);
+        profiler.record(Counter.SPRITE_DRAWS, 30);
+        profiler.record(Counter.TINT_CHANGES, 2);
+
+        assertEquals(2, profiler.getSampleCount(Counter.SPRITE_DRAWS));
+        assertEquals(10, profiler.getPercentile(Counter.SPRITE_DRAWS, 0.5));
+        assertEquals(30, profiler.getMax(Counter.SPRITE_DRAWS));
+        assertEquals(20, profiler.getMean(Counter.SPRITE_DRAWS));
+        assertEquals(1, profiler.getTotalCount(Counter.TINT_CHANGES));
+        for (Section section : Section.values()) {
+            assertEquals(0, profiler.getSampleCount(section));
+        }
+
+        profiler.clear();
+        assertEquals(0, profiler.getSampleCount(Counter.SPRITE_DRAWS));
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
+import WizardTD.Game.GameAssets;
 import WizardTD.Game.Board.Grass;
 import WizardTD.Game.Board.Path;
 import WizardTD.Game.Board.Shrub;
@@ -14,11 +15,12 @@ import processing.core.PVector;
 
 public class TileTest {
     private static final PVector TEST_POS = new PVector(5, 5);
+    private static final GameAssets ASSETS = new GameAssets();
     
     @Test
     // Tests that the shrub's position is correctly set on instantiation.
     void testInstantiateShrubWithCorrectPos() {
-        Shrub shrub = new Shrub(TEST_POS.x, TEST_POS.y);
+        Shrub shrub = new Shrub(TEST_POS.x, TEST_POS.y, ASSETS);
         assertEquals(TEST_POS, shrub.getPos(), "Shrubs pos: " + shrub.getPos() + 
                      " does not equal: " + TEST_POS);
     }
@@ -26,7 +28,7 @@ public class TileTest {
     @Test
      // Tests that the WizHouse's position is correctly set on instantiation.
     void testInstantiateWizHouseWithCorrectPos() {
-        WizHouse house = new WizHouse(TEST_POS.x, TEST_POS.y);
+        WizHouse house = new WizHouse(TEST_POS.x, TEST_POS.y, ASSETS);
         assertEquals(TEST_POS, house.getPos(), "WizHouse pos: " + house.getPos() +
                    " does not equal: " + TEST_POS);
     }
@@ -34,7 +36,7 @@ public class TileTest {
     @Test
     // Tests that the grass's position is correctly set on instantiation.
     void testInstantiateGrassWithCorrectPos() {
-        Grass grass = new Grass(TEST_POS.x, TEST_POS.y);
+        Grass grass = new Grass(TEST_POS.x, TEST_POS.y, ASSETS);
         assertEquals(TEST_POS, grass.getPos(), "Grass pos: " + grass.getPos() +
                    " does not equal: " + TEST_POS);
     }
@@ -42,7 +44,7 @@ public class TileTest {
     @Test
     // Tests that the path's position is correctly set on instantiation.
     void testInstantiatePathWithCorrectPos() {
-        Path path = new Path(TEST_POS.x, TEST_POS.y);
+        Path path = new Path(TEST_POS.x, TEST_POS.y, ASSETS);
         assertEquals(TEST_POS, path.getPos(), "Path pos: " + path.getPos() +
                    " does not equal: " + TEST_POS);
     }
@@ -50,7 +52,7 @@ public class TileTest {
     @Test 
     // Tests if the shrub's walkability and placeability are correctly set on instantiation.
     void testInstantiateShrubWithCorrectStatus() {
-        Shrub shrub = new Shrub(0, 0);
+        Shrub shrub = new Shrub(0, 0, ASSETS);
         boolean expectedWalkable = false;
         boolean expectedPlaceable = false;
 
@@ -64,7 +66,7 @@ public class TileTest {
     @Test
     // Tests if the tile super class correctly sets the tile's new pos.
     void testSetPosOfTile() {
-        Tile t = new Path(0, 0);
+        Tile t = new Path(0, 0, ASSETS);
         PVector TEST_POS = new PVector(10, 24);
         t.setPos(TEST_POS.x, TEST_POS.y);
 
@@ -75,7 +77,7 @@ public class TileTest {
     @Test
     // Tests that the occupation, walkablitity, and placeability status of a tile is correctly set.
     void testAbleToSetStatusOfTile() {
-        Tile t = new Grass(0, 0);
+        Tile t = new Grass(0, 0, ASSETS);
 
         boolean expectedWalkableStatus = true;
         boolean expectedPlaceableStatus = true;
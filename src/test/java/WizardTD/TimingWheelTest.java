@@ -0,0 +1,172 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.TimingWheel;
+
+public class TimingWheelTest {
+    private TimingWheel wheel;
+    private List<String> ran;
+
+    @BeforeEach
+    void setupWheel() {
+        this.wheel = new TimingWheel();
+        this.ran = new ArrayList<>();
+    }
+
+    /**
+     * Creates a task that records its name and the tick it ran on.
+     */
+    private TimingWheel.Task task(String name) {
+        return tick -> this.ran.add(name + "@" + tick);
+    }
+
+    @Test
+    void testExceptionOnNullTask() {
+        assertThrows(NullPointerException.class, () -> this.wheel.schedule(null, 1));
+    }
+
+    @Test
+    // Tests that a task cannot be scheduled for the current tick or earlier.
+    void testExceptionOnPastTick() {
+        this.wheel.advance();
+        assertThrows(IllegalArgumentException.class, () -> this.wheel.schedule(this.task("a"), 1));
+        assertThrows(IllegalArgumentException.class, () -> this.wheel.schedule(this.task("a"), 0));
+    }
+
+    @Test
+    // Tests that a task only runs once the wheel reaches its tick.
+    void testTaskRunsOnDueTick() {
+        this.wheel.schedule(this.task("a"), 3);
+        assertEquals(0, this.wheel.advance());
+        assertEquals(0, this.wheel.advance());
+        assertTrue(this.ran.isEmpty());
+
+        assertEquals(1, this.wheel.advance());
+        assertEquals(List.of("a@3"), this.ran);
+        assertEquals(0, this.wheel.size());
+    }
+
+    @Test
+    // Tests that a task due after a full turn of the first level waits for its own tick.
+    void testTaskWaitsForLaterTurn() {
+        this.wheel.schedule(this.task("late"), TimingWheel.SLOTS_PER_LEVEL + 5);
+        this.wheel.schedule(this.task("early"), 5);
+        for (int i = 0; i < TimingWheel.SLOTS_PER_LEVEL + 5; i++) {
+            this.wheel.advance();
+        }
+        assertEquals(List.of("early@5", "late@" + (TimingWheel.SLOTS_PER_LEVEL + 5)), this.ran);
+    }
+
+    @Test
+    // Tests that tasks in every level, and beyond the horizon, are moved down and run on their own tick.
+    void testTasksCascadeThroughLevels() {
+        long[] dueTicks = { 3, TimingWheel.SLOTS_PER_LEVEL, TimingWheel.SLOTS_PER_LEVEL * 3 + 1,
+                            TimingWheel.SLOTS_PER_LEVEL * TimingWheel.SLOTS_PER_LEVEL + 7,
+                            TimingWheel.HORIZON + 2 };
+        List<String> expected = new ArrayList<>();
+        for (int i = dueTicks.length - 1; i >= 0; i--) {
+            this.wheel.schedule(this.task("t" + i), dueTicks[i]);
+        }
+        for (int i = 0; i < dueTicks.length; i++) {
+            expected.add("t" + i + "@" + dueTicks[i]);
+        }
+
+        for (long tick = 1; tick <= TimingWheel.HORIZON + 2; tick++) {
+            this.wheel.advance();
+        }
+        assertEquals(expected, this.ran);
+        assertEquals(0, this.wheel.size());
+    }
+
+    @Test
+    // Tests that a task can be cancelled after it has been moved down a level.
+    void testCancelAfterCascade() {
+        TimingWheel.Task a = this.task("a");
+        long dueTick = TimingWheel.SLOTS_PER_LEVEL * 2 + 10;
+        this.wheel.schedule(a, dueTick);
+        for (int i = 0; i < TimingWheel.SLOTS_PER_LEVEL * 2; i++) {
+            this.wheel.advance();
+        }
+
+        assertTrue(this.wheel.cancel(a, dueTick));
+        for (int i = 0; i < 20; i++) {
+            this.wheel.advance();
+        }
+        assertTrue(this.ran.isEmpty());
+    }
+
+    @Test
+    // Tests that tasks due on the same tick run in sequence order, whatever order they were added in.
+    void testSameTickRunsInSequenceOrder() {
+        this.wheel.schedule(this.task("c"), 2, 7);
+        this.wheel.schedule(this.task("a"), 2, 3);
+        this.wheel.schedule(this.task("b"), 2, 5);
+        assertEquals(8, this.wheel.getNextSequence());
+
+        this.wheel.advance();
+        this.wheel.advance();
+        assertEquals(List.of("a@2", "b@2", "c@2"), this.ran);
+    }
+
+    @Test
+    // Tests that a cancelled task does not run.
+    void testCancelledTaskDoesNotRun() {
+        TimingWheel.Task a = this.task("a");
+        this.wheel.schedule(a, 2);
+        this.wheel.schedule(this.task("b"), 2);
+
+        assertFalse(this.wheel.cancel(a, 3));
+        assertTrue(this.wheel.cancel(a, 2));
+        assertEquals(1, this.wheel.size());
+
+        this.wheel.advance();
+        this.wheel.advance();
+        assertEquals(List.of("b@2"), this.ran);
+    }
+
+    @Test
+    // Tests that a task can cancel a later task that is due on the same tick.
+    void testTaskCancelsTaskDueSameTick() {
+        TimingWheel.Task b = this.task("b");
+        this.wheel.schedule(tick -> this.wheel.cancel(b, tick), 1);
+        this.wheel.schedule(b, 1);
+
+        assertEquals(1, this.wheel.advance());
+        assertTrue(this.ran.isEmpty());
+        assertEquals(0, this.wheel.size());
+    }
+
+    @Test
+    // Tests that a task can schedule another task while it runs.
+    void testTaskSchedulesAnother() {
+        this.wheel.schedule(tick -> this.wheel.schedule(this.task("b"), tick + 2), 1);
+        for (int i = 0; i < 3; i++) {
+            this.wheel.advance();
+        }
+        assertEquals(List.of("b@3"), this.ran);
+    }
+
+    @Test
+    // Tests that resetting the wheel drops every task and moves it to the given tick.
+    void testReset() {
+        this.wheel.schedule(this.task("a"), 2);
+        this.wheel.reset(100, 40);
+
+        assertEquals(0, this.wheel.size());
+        assertEquals(100, this.wheel.getCurrentTick());
+        assertEquals(40, this.wheel.schedule(this.task("b"), 101));
+        this.wheel.advance();
+        assertEquals(List.of("b@101"), this.ran);
+        assertThrows(IllegalArgumentException.class, () -> this.wheel.reset(-1, 0));
+    }
+}
@@ -11,6 +11,10 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import WizardTD.Game.GameAssets;
+import WizardTD.Game.GameContext;
+import WizardTD.Game.TimingWheel;
+import WizardTD.Game.Board.Board;
 import WizardTD.Game.Entities.Monsters.Gremlin;
 import WizardTD.Game.Entities.Monsters.Monster;
 import WizardTD.Game.Entities.Towers.FireballTower;
@@ -43,6 +47,7 @@ public class TowerTest {
     private static PVector fireballTowerPos = new PVector(100, 100);
 
     private static App app;
+    private static GameContext context;
 
     @BeforeAll
     static void setup() {
@@ -53,15 +58,15 @@ public class TowerTest {
         app.delay(1500);
         
         testMonsters = new LinkedList<>();
-        Gremlin.loadSprites(app);
-        testMonsters.add(new Gremlin(100, 1, 0, 20));
+        context = new GameContext(new Board("level1.txt", GameAssets.load(app)), 0);
+        testMonsters.add(new Gremlin(context, 100, 1, 0, 20));
     }
 
     @BeforeEach
     void setupTower() {
         manaPool = new ManaPool(CONFIG_FILE);
         
-        towerManager = new TowerManager(CONFIG_FILE, manaPool, testMonsters);
+        towerManager = new TowerManager(CONFIG_FILE, context.getAssets(), manaPool, testMonsters);
         float initialRange = CONFIG_FILE.getFloat("initial_tower_range");
         float initialFiringSpeed = CONFIG_FILE.getFloat("initial_tower_firing_speed");
         float initialDamage = CONFIG_FILE.getFloat("initial_tower_damage");
@@ -103,6 +108,48 @@ public class TowerTest {
         assertEquals(expectedSpeed, fireballTower.getSpeedMultiplier());
     }
 
+    @Test
+    // Tests that the tower shoots at exactly its firing speed at a fractional speed multiplier.
+    void testTowerFiresAtExactRate() {
+        TimingWheel scheduler = new TimingWheel();
+        towerManager.setScheduler(scheduler);
+        testMonsters.get(0).setCenterPos(fireballTowerPos.x + 10, 
+                                         fireballTowerPos.y + 10);
+        fireballTower.setDamage(0);
+        fireballTower.setSpeedMultiplier(1.5f);
+
+        int shots = 0;
+        for (int i = 0; i < App.FPS * 10; i++) {
+            boolean loaded = fireballTower.isLoaded();
+            fireballTower.tick();
+            if (loaded && !fireballTower.isLoaded()) {
+                ++shots;
+            }
+            scheduler.advance();
+        }
+        // 1.5 shots per second, 1.5 times as fast, over 10 seconds, and the first shot is straight away
+        assertEquals(23, shots);
+    }
+
+    @Test
+    // Tests that the tower keeps reloading at its firing speed when there is no timing wheel.
+    void testTowerReloadsWithoutTimingWheel() {
+        testMonsters.get(0).setCenterPos(fireballTowerPos.x + 10, 
+                                         fireballTowerPos.y + 10);
+        fireballTower.setDamage(0);
+
+        int shots = 0;
+        for (int i = 0; i < App.FPS * 10; i++) {
+            boolean loaded = fireballTower.isLoaded();
+            fireballTower.tick();
+            if (loaded && !fireballTower.isLoaded()) {
+                ++shots;
+            }
+        }
+        // 1.5 shots per second over 10 seconds, starting with a shot straight away
+        assertEquals(15, shots);
+    }
+
     @Test
     // Basic test to check that the tower draws without crashing.
     void testTowerDrawsWithoutCrashing() {
@@ -8,7 +8,9 @@ import java.util.LinkedList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import WizardTD.Game.GameContext;
 import WizardTD.Game.WaveManager;
+import WizardTD.Game.Board.Board;
 import WizardTD.Game.Entities.Monsters.Monster;
 import processing.data.JSONArray;
 
@@ -31,7 +33,7 @@ public class WaveManagerTest {
 
     @BeforeEach
     void setupWave() {
-        waveManager = new WaveManager(CONFIG_FILE, monsters);
+        waveManager = new WaveManager(CONFIG_FILE, monsters, new GameContext(new Board("level1.txt"), 0));
     }
 
     @Test
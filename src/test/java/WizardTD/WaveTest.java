@@ -0,0 +1,140 @@
+package WizardTD;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import WizardTD.Game.GameContext;
+import WizardTD.Game.SpawnSpec;
+import WizardTD.Game.Wave;
+import WizardTD.Game.WaveManager;
+import WizardTD.Game.Board.Board;
+import WizardTD.Game.Entities.Monsters.Beetle;
+import WizardTD.Game.Entities.Monsters.Gremlin;
+import WizardTD.Game.Entities.Monsters.Moag;
+import WizardTD.Game.Entities.Monsters.Monster;
+import WizardTD.Game.Entities.Monsters.MonsterStore;
+import processing.data.JSONArray;
+import processing.data.JSONObject;
+
+public class WaveTest {
+    private static final String WAVE_TEXT = "{ \"duration\": 2, \"pre_wave_pause\": 0, \"monsters\": [" +
+            "{ \"type\": \"gremlin\", \"hp\": 100, \"speed\": 1, \"armour\": 0.5, \"mana_gained_on_kill\": 10, \"quantity\": 2 }," +
+            "{ \"type\": \"DNE\", \"hp\": 100, \"speed\": 1, \"armour\": 0.5, \"mana_gained_on_kill\": 10, \"quantity\": 4 }," +
+            "{ \"type\": \"beetle\", \"hp\": 50, \"speed\": 2, \"armour\": 0.2, \"mana_gained_on_kill\": 5, \"quantity\": 0 }," +
+            "{ \"type\": \"moag\", \"hp\": 500, \"speed\": 0.5, \"armour\": 0.1, \"mana_gained_on_kill\": 80, \"quantity\": 1," +
+            "  \"monsters_in_moag\": 3 } ] }";
+    private GameContext context;
+
+    @BeforeEach
+    void setupContext() {
+        this.context = new GameContext(new Board("level1.txt"), 0);
+    }
+
+    @Test
+    // Tests that a wave only keeps the groups of known monsters that it has any of.
+    void testWaveLoadsSpawnSpecs() {
+        Wave wave = new Wave(JSONObject.parse(WAVE_TEXT));
+
+        assertEquals(2, wave.getSpawnSpecs().size());
+        assertEquals(MonsterStore.TYPE_GREMLIN, wave.getSpawnSpecs().get(0).getType());
+        assertEquals(MonsterStore.TYPE_MOAG, wave.getSpawnSpecs().get(1).getType());
+        assertEquals(3, wave.getSpawnSpecs().get(1).getMonstersInMoag());
+        assertEquals(3, wave.getMonsterCount());
+        assertEquals(0, wave.getMonstersSpawned());
+        assertEquals(App.FPS * 2 / 3f, wave.getFramesBetweenEachMonsterSpawn());
+    }
+
+    @Test
+    // Tests that the wave creates its monsters in order, with the stats of their spec.
+    void testWaveCreatesMonstersInOrder() {
+        Wave wave = new Wave(JSONObject.parse(WAVE_TEXT));
+
+        Monster first = wave.spawnNext(this.context);
+        Monster second = wave.spawnNext(this.context);
+        Monster third = wave.spawnNext(this.context);
+
+        assertEquals(Gremlin.class, first.getClass());
+        assertEquals(Gremlin.class, second.getClass());
+        assertEquals(100, first.getCurrentHP());
+        assertEquals(0.5f, first.getArmour());
+
+        assertEquals(Moag.class, third.getClass());
+        assertEquals(3, ((Moag)third).getNumberOfMonstersToSpawn());
+        assertEquals(500, third.getCurrentHP());
+
+        assertFalse(wave.hasMonstersLeft());
+        assertNull(wave.spawnNext(this.context));
+        assertEquals(3, wave.getMonstersSpawned());
+    }
+
+    @Test
+    // Tests that a spawn spec creates a monster of its type.
+    void testSpawnSpecCreatesMonster() {
+        SpawnSpec spec = new SpawnSpec(MonsterStore.TYPE_BEETLE, 40, 2, 0.25f, 7, 1, 0);
+        Monster beetle = spec.create(this.context);
+
+        assertTrue(beetle instanceof Beetle);
+        assertEquals(40, beetle.getCurrentHP());
+        assertEquals(2, beetle.getSpeed());
+        assertEquals(7, beetle.getManaOnDeath());
+    }
+
+    @Test
+    // Tests that spawn specs are checked when constructed.
+    void testSpawnSpecExceptions() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> { new SpawnSpec(MonsterStore.TYPE_MONSTER, 40, 2, 0.25f, 7, 1, 0); });
+        assertThrows(IllegalArgumentException.class,
+                     () -> { new SpawnSpec(MonsterStore.TYPE_WORM, 40, 2, 0.25f, 7, -1, 0); });
+        assertThrows(IllegalArgumentException.class,
+                     () -> { new SpawnSpec(MonsterStore.TYPE_WORM, 0, 2, 0.25f, 7, 1, 0); });
+        assertThrows(IllegalArgumentException.class,
+                     () -> { new SpawnSpec(MonsterStore.TYPE_WORM, 40, 0, 0.25f, 7, 1, 0); });
+        assertThrows(IllegalArgumentException.class,
+                     () -> { new SpawnSpec(MonsterStore.TYPE_WORM, 40, 2, -1, 7, 1, 0); });
+        assertThrows(IllegalArgumentException.class,
+                     () -> { new SpawnSpec(MonsterStore.TYPE_WORM, 40, 2, 0.25f, -1, 1, 0); });
+    }
+
+    @Test
+    // Tests that a wave with invalid monster stats is rejected when it is loaded, rather than when it spawns.
+    void testInvalidStatsRejectedOnLoad() {
+        JSONArray waves = new JSONArray();
+        waves.append(JSONObject.parse(WAVE_TEXT.replace("\"hp\": 500", "\"hp\": -5")));
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> { new WaveManager(waves, new LinkedList<>(), this.context); });
+    }
+
+    @Test
+    // Tests that loading waves does not create any monsters, and spawning creates them one at a time.
+    void testMonstersAreOnlyCreatedWhenSpawned() {
+        LinkedList<Monster> activeMonsters = new LinkedList<>();
+        JSONArray waves = JSONArray.parse("[" + WAVE_TEXT + "]");
+        long stateBefore = this.context.getRandom().getState();
+        WaveManager waveManager = new WaveManager(waves, activeMonsters, this.context);
+
+        // Monsters pick their starting tile at random, so none have been created yet
+        assertEquals(stateBefore, this.context.getRandom().getState());
+        waveManager.startNextWave();
+        assertEquals(stateBefore, this.context.getRandom().getState());
+
+        this.context.getScheduler().advance();
+        assertEquals(1, activeMonsters.size());
+        assertFalse(waveManager.areWavesFinished());
+
+        for (int i = 0; i < App.FPS * 2 && !waveManager.areWavesFinished(); i++) {
+            this.context.getScheduler().advance();
+        }
+        assertEquals(3, activeMonsters.size());
+        assertTrue(waveManager.areWavesFinished());
+    }
+}
@@ -1,6 +1,8 @@
 package WizardTD;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -45,4 +47,24 @@ public class WaveTimerTest {
         timer.finalWave(finalWave);
         assertTrue(timer.isFinalWave() == finalWave);
     }
+
+    @Test
+    // Tests that the timer's text is only rebuilt when the whole number of seconds shown changes.
+    void testLabelOnlyRebuiltWhenSecondsChange() {
+        WaveTimer waveTimer = new WaveTimer(POS.x, POS.y, WIDTH, HEIGHT);
+        waveTimer.setTime(5.2f);
+        String label = waveTimer.getLabel();
+        assertEquals("Wave 1 starts in 5", label);
+
+        waveTimer.setTime(4.9f);
+        assertSame(label, waveTimer.getLabel());
+
+        waveTimer.setTime(4.4f);
+        assertNotSame(label, waveTimer.getLabel());
+        assertEquals("Wave 1 starts in 4", waveTimer.getLabel());
+
+        waveTimer.finalWave(true);
+        waveTimer.setTime(0);
+        assertEquals("Final wave!", waveTimer.getLabel());
+    }
 }